@@ -17,6 +17,8 @@ import java.util.Date;
 public interface Batch {
 
     String PROCESS_MIGRATION_TYPE = "processMigration";
+    String HISTORIC_PROCESS_DELETE_TYPE = "historicProcessDelete";
+    String HISTORIC_CASE_DELETE_TYPE = "historicCaseDelete";
 
     String getId();
 
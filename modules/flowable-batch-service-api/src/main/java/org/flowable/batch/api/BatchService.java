@@ -45,6 +45,10 @@ public interface BatchService {
     
     List<BatchPart> findBatchPartsByBatchIdAndStatus(String batchId, String status);
     
+    long findBatchPartCountByBatchId(String batchId);
+    
+    long findBatchPartCountByBatchIdAndStatus(String batchId, String status);
+    
     List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType);
     
     BatchPart createBatchPart(Batch batch, String status, String scopeId, String subScopeId, String scopeType);
@@ -95,6 +95,16 @@ public class BatchServiceImpl extends CommonServiceImpl<BatchServiceConfiguratio
         return getBatchPartEntityManager().findBatchPartsByBatchIdAndStatus(batchId, status);
     }
     
+    @Override
+    public long findBatchPartCountByBatchId(String batchId) {
+        return getBatchPartEntityManager().findBatchPartCountByBatchId(batchId);
+    }
+    
+    @Override
+    public long findBatchPartCountByBatchIdAndStatus(String batchId, String status) {
+        return getBatchPartEntityManager().findBatchPartCountByBatchIdAndStatus(batchId, status);
+    }
+    
     @Override
     public List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType) {
         return getBatchPartEntityManager().findBatchPartsByScopeIdAndType(scopeId, scopeType);
@@ -23,6 +23,10 @@ public interface BatchPartEntityManager extends EntityManager<BatchPartEntity> {
     
     List<BatchPart> findBatchPartsByBatchIdAndStatus(String batchId, String status);
     
+    long findBatchPartCountByBatchId(String batchId);
+    
+    long findBatchPartCountByBatchIdAndStatus(String batchId, String status);
+    
     List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType);
 
     BatchPartEntity createBatchPart(BatchEntity parentBatch, String status, String scopeId, String subScopeId, String scopeType);
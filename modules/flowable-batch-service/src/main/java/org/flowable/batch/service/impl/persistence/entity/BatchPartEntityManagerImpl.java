@@ -38,6 +38,16 @@ public class BatchPartEntityManagerImpl
         return dataManager.findBatchPartsByBatchIdAndStatus(batchId, status);
     }
     
+    @Override
+    public long findBatchPartCountByBatchId(String batchId) {
+        return dataManager.findBatchPartCountByBatchId(batchId);
+    }
+    
+    @Override
+    public long findBatchPartCountByBatchIdAndStatus(String batchId, String status) {
+        return dataManager.findBatchPartCountByBatchIdAndStatus(batchId, status);
+    }
+    
     @Override
     public List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType) {
         return dataManager.findBatchPartsByScopeIdAndType(scopeId, scopeType);
@@ -24,5 +24,9 @@ public interface BatchPartDataManager extends DataManager<BatchPartEntity> {
     
     List<BatchPart> findBatchPartsByBatchIdAndStatus(String batchId, String status);
     
+    long findBatchPartCountByBatchId(String batchId);
+    
+    long findBatchPartCountByBatchIdAndStatus(String batchId, String status);
+    
     List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType);
 }
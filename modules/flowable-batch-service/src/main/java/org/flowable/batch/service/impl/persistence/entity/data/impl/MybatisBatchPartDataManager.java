@@ -52,6 +52,23 @@ public class MybatisBatchPartDataManager extends AbstractDataManager<BatchPartEn
         return getDbSqlSession().selectList("selectBatchPartsByBatchIdAndStatus", params);
     }
     
+    @Override
+    public long findBatchPartCountByBatchId(String batchId) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("batchId", batchId);
+        
+        return (Long) getDbSqlSession().selectOne("selectBatchPartCountByBatchId", params);
+    }
+    
+    @Override
+    public long findBatchPartCountByBatchIdAndStatus(String batchId, String status) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("batchId", batchId);
+        params.put("status", status);
+        
+        return (Long) getDbSqlSession().selectOne("selectBatchPartCountByBatchIdAndStatus", params);
+    }
+    
     @Override
     @SuppressWarnings("unchecked")
     public List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType) {
@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the agenda loop of the {@link org.flowable.engine.impl.agenda.DefaultFlowableEngineAgenda} by starting a
+ * process instance that runs through a chain of pass-through tasks and an exclusive gateway to its end in a single
+ * command. Without history, the inserts and deletes of the executions cancel each other out before the flush,
+ * so the measurement is dominated by the operations planned on the agenda.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AgendaBenchmark {
+
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        processEngine = BenchmarkEngines.buildProcessEngine(BenchmarkEngines.createProcessEngineConfiguration("none"),
+                "taskChainProcess.bpmn20.xml");
+        runtimeService = processEngine.getRuntimeService();
+
+        variables = new HashMap<>();
+        variables.put("amount", 500);
+    }
+
+    @TearDown
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public ProcessInstance runTaskChain() {
+        return runtimeService.startProcessInstanceByKey("taskChainProcess", variables);
+    }
+
+}
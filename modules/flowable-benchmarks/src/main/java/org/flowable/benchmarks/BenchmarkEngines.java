@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.repository.DeploymentBuilder;
+
+/**
+ * Builds the in-memory H2 engines used by the benchmarks. Every engine gets its own database, so that state from one
+ * benchmark (or one fork) never influences the measurements of another.
+ */
+public final class BenchmarkEngines {
+
+    public static final String RESOURCE_PREFIX = "org/flowable/benchmarks/";
+
+    private static final AtomicInteger ENGINE_COUNTER = new AtomicInteger();
+
+    private BenchmarkEngines() {
+    }
+
+    public static ProcessEngineConfigurationImpl createProcessEngineConfiguration(String history) {
+        String engineName = "benchmark-" + ENGINE_COUNTER.incrementAndGet();
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName(engineName);
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:" + engineName);
+        processEngineConfiguration.setHistory(history);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        return processEngineConfiguration;
+    }
+
+    public static ProcessEngine buildProcessEngine(ProcessEngineConfigurationImpl processEngineConfiguration, String... resources) {
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        if (resources.length > 0) {
+            DeploymentBuilder deploymentBuilder = processEngine.getRepositoryService().createDeployment();
+            for (String resource : resources) {
+                deploymentBuilder.addClasspathResource(RESOURCE_PREFIX + resource);
+            }
+            deploymentBuilder.deploy();
+        }
+        return processEngine;
+    }
+
+    public static DmnEngine buildDmnEngine(boolean historyEnabled, String... resources) {
+        String engineName = "benchmark-dmn-" + ENGINE_COUNTER.incrementAndGet();
+        DmnEngineConfiguration dmnEngineConfiguration = DmnEngineConfiguration.createStandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setEngineName(engineName);
+        dmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:" + engineName);
+        dmnEngineConfiguration.setHistoryEnabled(historyEnabled);
+
+        DmnEngine dmnEngine = dmnEngineConfiguration.buildDmnEngine();
+        for (String resource : resources) {
+            dmnEngine.getDmnRepositoryService().createDeployment().addClasspathResource(RESOURCE_PREFIX + resource).deploy();
+        }
+        return dmnEngine;
+    }
+
+}
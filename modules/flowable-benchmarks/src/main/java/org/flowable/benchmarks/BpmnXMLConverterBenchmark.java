@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.common.engine.impl.util.ReflectUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parsing of BPMN XML into a {@link BpmnModel} by the {@link BpmnXMLConverter}, as done for every
+ * process definition on deployment and when the process definition cache is cold.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BpmnXMLConverterBenchmark {
+
+    @Param({ "oneTaskProcess.bpmn20.xml", "taskChainProcess.bpmn20.xml" })
+    public String resource;
+
+    @Param({ "false", "true" })
+    public boolean validateSchema;
+
+    protected byte[] bpmnBytes;
+
+    @Setup
+    public void setUp() {
+        String resourceName = BenchmarkEngines.RESOURCE_PREFIX + resource;
+        bpmnBytes = IoUtil.readInputStream(ReflectUtil.getResourceAsStream(resourceName), resourceName);
+    }
+
+    @Benchmark
+    public BpmnModel convertToBpmnModel() {
+        return new BpmnXMLConverter().convertToBpmnModel(() -> new ByteArrayInputStream(bpmnBytes), validateSchema, false);
+    }
+
+}
@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityImpl;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DbSqlSession#flush()} for a batch of inserted entities followed by a flush that deletes them again,
+ * with and without bulk inserts. Properties are used as entities since they have no references to other tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DbSqlSessionFlushBenchmark {
+
+    @Param({ "10", "100" })
+    public int entityCount;
+
+    @Param({ "true", "false" })
+    public boolean bulkInsertEnabled;
+
+    protected ProcessEngine processEngine;
+    protected ManagementService managementService;
+    protected long counter;
+
+    @Setup
+    public void setUp() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = BenchmarkEngines.createProcessEngineConfiguration("none");
+        processEngineConfiguration.setBulkInsertEnabled(bulkInsertEnabled);
+        processEngine = BenchmarkEngines.buildProcessEngine(processEngineConfiguration);
+        managementService = processEngine.getManagementService();
+    }
+
+    @TearDown
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public int insertAndDelete() {
+        return managementService.executeCommand(commandContext -> {
+            DbSqlSession dbSqlSession = commandContext.getSession(DbSqlSession.class);
+
+            List<PropertyEntityImpl> properties = new ArrayList<>(entityCount);
+            for (int i = 0; i < entityCount; i++) {
+                PropertyEntityImpl property = new PropertyEntityImpl();
+                property.setName("benchmark-" + counter++);
+                property.setValue("value");
+                dbSqlSession.insert(property);
+                properties.add(property);
+            }
+            dbSqlSession.flush();
+
+            for (PropertyEntityImpl property : properties) {
+                dbSqlSession.delete(property);
+            }
+            dbSqlSession.flush();
+
+            return properties.size();
+        });
+    }
+
+}
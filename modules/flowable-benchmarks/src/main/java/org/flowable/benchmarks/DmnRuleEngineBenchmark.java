@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the execution of a decision table by the {@link org.flowable.dmn.engine.impl.RuleEngineExecutorImpl},
+ * going through the rule service so that the decision is resolved from the deployment cache like it is at runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DmnRuleEngineBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean historyEnabled;
+
+    protected DmnEngine dmnEngine;
+    protected DmnRuleService ruleService;
+    protected Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        dmnEngine = BenchmarkEngines.buildDmnEngine(historyEnabled, "decisionTable.dmn");
+        ruleService = dmnEngine.getDmnRuleService();
+
+        variables = new HashMap<>();
+        variables.put("amount", 500);
+        variables.put("category", "travel");
+    }
+
+    @TearDown
+    public void tearDown() {
+        dmnEngine.close();
+    }
+
+    @Benchmark
+    public Map<String, Object> executeDecision() {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("benchmarkDecision")
+                .variables(variables)
+                .executeWithSingleResult();
+    }
+
+}
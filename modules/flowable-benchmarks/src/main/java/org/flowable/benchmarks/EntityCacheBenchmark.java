@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link EntityCacheImpl} operations done for every entity a command touches. The cache is filled with
+ * entities of several types, like the cache of a typical command, so that lookups by interface have to go through
+ * the check of all cached classes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityCacheBenchmark {
+
+    @Param({ "10", "1000" })
+    public int entitiesPerType;
+
+    protected EntityCacheImpl entityCache;
+    protected String[] executionIds;
+    protected int index;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        entityCache = new EntityCacheImpl();
+        executionIds = new String[entitiesPerType];
+        for (int i = 0; i < entitiesPerType; i++) {
+            executionIds[i] = "execution-" + i;
+            cache(new ExecutionEntityImpl(), executionIds[i]);
+            cache(new VariableInstanceEntityImpl(), "variable-" + i);
+            cache(new ByteArrayEntityImpl(), "byteArray-" + i);
+        }
+    }
+
+    protected void cache(Entity entity, String id) {
+        entity.setId(id);
+        entityCache.put(entity, false);
+    }
+
+    protected String nextExecutionId() {
+        index = (index + 1) % executionIds.length;
+        return executionIds[index];
+    }
+
+    @Benchmark
+    public ExecutionEntityImpl findByImplementationClass() {
+        return entityCache.findInCache(ExecutionEntityImpl.class, nextExecutionId());
+    }
+
+    @Benchmark
+    public ExecutionEntity findByInterface() {
+        return entityCache.findInCache(ExecutionEntity.class, nextExecutionId());
+    }
+
+    @Benchmark
+    public PropertyEntityImpl findMissingClass() {
+        return entityCache.findInCache(PropertyEntityImpl.class, "unknown");
+    }
+
+    @Benchmark
+    public CachedEntity putWithState() {
+        PropertyEntityImpl property = new PropertyEntityImpl();
+        property.setName(nextExecutionId());
+        property.setValue("value");
+        return entityCache.put(property, true);
+    }
+
+}
@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures JUEL expression evaluation through the {@link DefaultExpressionManager}, both for an expression that is
+ * already parsed and for one that is parsed and evaluated on every invocation, as happens for expressions that are
+ * not cached.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionManagerBenchmark {
+
+    protected static final String EXPRESSION_TEXT = "${amount > 1000 && customer.name == 'kermit'}";
+
+    @Param({ "false", "true" })
+    public boolean shareElResolvers;
+
+    protected DefaultExpressionManager expressionManager;
+    protected Expression expression;
+    protected VariableContainerWrapper variableContainer;
+
+    @Setup
+    public void setUp() {
+        expressionManager = new DefaultExpressionManager();
+        expressionManager.setShareElResolvers(shareElResolvers);
+        expression = expressionManager.createExpression(EXPRESSION_TEXT);
+
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("name", "kermit");
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 1500);
+        variables.put("customer", customer);
+        variableContainer = new VariableContainerWrapper(variables);
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        return expression.getValue(variableContainer);
+    }
+
+    @Benchmark
+    public Object parseAndEvaluate() {
+        return expressionManager.createExpression(EXPRESSION_TEXT).getValue(variableContainer);
+    }
+
+}
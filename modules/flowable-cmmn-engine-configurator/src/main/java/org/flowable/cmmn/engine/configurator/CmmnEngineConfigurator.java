@@ -117,6 +117,8 @@ public class CmmnEngineConfigurator extends AbstractEngineConfigurator {
             cmmnEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(processEngineConfiguration.isAsyncHistoryJsonGroupingEnabled());
             cmmnEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(processEngineConfiguration.getAsyncHistoryJsonGroupingThreshold());
             cmmnEngineConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(processEngineConfiguration.isAsyncHistoryJsonGzipCompressionEnabled());
+            cmmnEngineConfiguration.setAsyncHistorySmileEncodingEnabled(processEngineConfiguration.isAsyncHistorySmileEncodingEnabled());
+            cmmnEngineConfiguration.setAsyncHistoryEventCoalescingEnabled(processEngineConfiguration.isAsyncHistoryEventCoalescingEnabled());
             
             // See the beforeInit
             ((CmmnEngineConfiguration) cmmnEngineConfiguration).setHistoryJobExecutionScope(JobServiceConfiguration.JOB_EXECUTION_SCOPE_ALL);
@@ -26,6 +26,8 @@ import javax.sql.DataSource;
 
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.type.JdbcType;
+import org.flowable.batch.service.BatchServiceConfiguration;
+import org.flowable.batch.service.impl.db.BatchDbSchemaManager;
 import org.flowable.cmmn.api.CallbackTypes;
 import org.flowable.cmmn.api.CandidateManager;
 import org.flowable.cmmn.api.CmmnEngineConfigurationApi;
@@ -105,7 +107,10 @@ import org.flowable.cmmn.engine.impl.interceptor.CmmnCommandInvoker;
 import org.flowable.cmmn.engine.impl.interceptor.DefaultCmmnIdentityLinkInterceptor;
 import org.flowable.cmmn.engine.impl.job.AsyncActivatePlanItemInstanceJobHandler;
 import org.flowable.cmmn.engine.impl.job.AsyncInitializePlanModelJobHandler;
+import org.flowable.cmmn.engine.impl.job.AsyncTriggerPlanItemInstanceJobHandler;
 import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.cmmn.engine.impl.job.HistoricCaseInstanceDeleteJobHandler;
+import org.flowable.cmmn.engine.impl.job.HistoricCaseInstanceDeleteStatusJobHandler;
 import org.flowable.cmmn.engine.impl.job.TriggerTimerEventJobHandler;
 import org.flowable.cmmn.engine.impl.listener.CmmnListenerFactory;
 import org.flowable.cmmn.engine.impl.listener.CmmnListenerNotificationHelper;
@@ -279,6 +284,7 @@ import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.history.InternalHistoryTaskManager;
 import org.flowable.task.service.impl.DefaultTaskPostProcessor;
 import org.flowable.task.service.impl.db.TaskDbSchemaManager;
+import org.flowable.variable.api.types.VariableContentStore;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.VariableServiceConfiguration;
@@ -290,6 +296,7 @@ import org.flowable.variable.service.impl.types.ByteArrayType;
 import org.flowable.variable.service.impl.types.DateType;
 import org.flowable.variable.service.impl.types.DefaultVariableTypes;
 import org.flowable.variable.service.impl.types.DoubleType;
+import org.flowable.variable.service.impl.types.InputStreamType;
 import org.flowable.variable.service.impl.types.InstantType;
 import org.flowable.variable.service.impl.types.IntegerType;
 import org.flowable.variable.service.impl.types.JodaDateTimeType;
@@ -366,6 +373,14 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected boolean enableSafeCmmnXml;
     protected boolean disableCmmnXmlValidation;
+
+    /**
+     * When enabled, the sentry dependency index built when a case definition is parsed is used to skip the evaluation of entry and exit
+     * criteria which can only become satisfied by a lifecycle event of another plan item, when the current evaluation is not triggered
+     * by such an event. Criteria with an if-part or on repeating plan items are always evaluated.
+     */
+    protected boolean enableSentryDependencyIndex;
+
     protected CmmnActivityBehaviorFactory activityBehaviorFactory;
     protected CmmnClassDelegateFactory classDelegateFactory;
     protected CmmnDeployer cmmnDeployer;
@@ -396,9 +411,34 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    /**
+     * When enabled, the EL resolver chain of the default expression manager is created once and shared by all expression evaluations,
+     * instead of being created for every evaluation. Only the resolver of the variables is created per evaluation.
+     */
+    protected boolean shareExpressionElResolvers;
+
+    /**
+     * The maximum number of bean classes for which the properties and methods used in expressions are cached,
+     * the least recently used classes are evicted first. Negative value to have no limit.
+     * Only used when {@link #shareExpressionElResolvers} is enabled.
+     */
+    protected int expressionBeanCacheLimit = 1024;
+
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
+    /**
+     * The maximum number of compiled scripts that are cached, for script engines that are thread-safe and support compilation (e.g. Groovy).
+     * Scripts are then only compiled the first time they are executed. A value of zero or less (default) disables the cache.
+     */
+    protected int compiledScriptCacheSize;
+
+    /**
+     * The maximum number of idle script engine instances kept per language, for script engines that are not thread-safe (e.g. JavaScript).
+     * A value of zero or less (default) creates a new script engine for every script execution.
+     */
+    protected int scriptEnginePoolSize;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -413,6 +453,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected SchemaManager variableSchemaManager;
     protected SchemaManager taskSchemaManager;
     protected SchemaManager jobSchemaManager;
+    protected SchemaManager batchSchemaManager;
 
     /**
      * Case diagram generator. Default value is DefaultCaseDiagramGenerator
@@ -448,6 +489,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int caseQueryLimit = 20000;
     protected int historicCaseQueryLimit = 20000;
 
+    /**
+     * If true, case instance, historic case instance, task and historic task queries that include variables or identity links
+     * first fetch the requested page of instances and then load the related entities with batched IN queries,
+     * instead of outer joining them and paging the joined rows in memory.
+     */
+    protected boolean enableBatchedRelatedEntityFetching;
+
     // Variable support
     protected VariableTypes variableTypes;
     protected List<VariableType> customPreVariableTypes;
@@ -455,6 +503,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected VariableServiceConfiguration variableServiceConfiguration;
     protected InternalHistoryVariableManager internalHistoryVariableManager;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+    /**
+     * Store for the content of variables with an {@link java.io.InputStream} value. When not set, that content is stored as a byte array in the database.
+     */
+    protected VariableContentStore variableContentStore;
+    /**
+     * When true, the byte arrays of the variables of a case instance, plan item instance or task that are loaded together
+     * are fetched with one query, the first time one of them is needed, instead of with one query per variable.
+     */
+    protected boolean enableVariableByteArrayBatchLoading;
 
     // Set Http Client config defaults
     protected HttpClientConfig httpClientConfig = new HttpClientConfig();
@@ -474,6 +531,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     // Async executor
     protected JobServiceConfiguration jobServiceConfiguration;
+    protected BatchServiceConfiguration batchServiceConfiguration;
 
     protected AsyncExecutor asyncExecutor;
     protected JobManager jobManager;
@@ -567,6 +625,41 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected BlockingQueue<Runnable> asyncExecutorThreadPoolQueue;
 
+    /**
+     * Executes every async job on its own virtual thread instead of on the async executor thread pool. The pool and queue settings are then not used,
+     * the number of jobs executing at the same time is bounded by {@link #asyncExecutorMaxConcurrentJobs}. Needs Java 21 or later,
+     * on older runtimes a cached thread pool is used instead. Default value = false.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorUseVirtualThreads;
+
+    /**
+     * The maximum number of async jobs executed at the same time when {@link #asyncExecutorUseVirtualThreads} is enabled. Default value = 256.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorMaxConcurrentJobs = 256;
+
+    /**
+     * Claims the timer jobs that are due within {@link #asyncExecutorTimerWheelLookAheadInMillis} and fires them from a local timing wheel
+     * when they are due, instead of polling for due timer jobs. Timers then fire within {@link #asyncExecutorTimerWheelTickInMillis} of their due time,
+     * and the acquisition interval can be raised without delaying timers. Default value = false.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorTimerWheelEnabled;
+
+    /**
+     * The look-ahead window (in milliseconds) in which timer jobs are claimed when {@link #asyncExecutorTimerWheelEnabled} is enabled. Default value = 60000.
+     */
+    protected int asyncExecutorTimerWheelLookAheadInMillis = 60 * 1000;
+
+    /**
+     * The tick (in milliseconds) of the timing wheel when {@link #asyncExecutorTimerWheelEnabled} is enabled. Default value = 100.
+     */
+    protected int asyncExecutorTimerWheelTickInMillis = 100;
+
     /**
      * The time (in seconds) that is waited to gracefully shut down the threadpool used for job execution when
      * a shutdown on the executor (or engine) is requested. Default value = 60.
@@ -691,6 +784,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorResetExpiredJobsPageSize = 3;
 
+    /**
+     * When enabled, the async executor locks the acquired async, timer and history jobs with one conditional bulk update
+     * instead of an optimistic locking update per job. Jobs that were locked concurrently by another executor are then skipped,
+     * rather than failing the whole acquisition with a {@link org.flowable.common.engine.api.FlowableOptimisticLockingException}.
+     * <p>
+     * This is useful when many engine nodes are acquiring jobs at the same time. By default disabled.
+     */
+    protected boolean asyncExecutorBulkLockingEnabled;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -714,6 +816,16 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+    
+    /**
+     * Writes the async history job data in the binary Smile format instead of json.
+     */
+    protected boolean isAsyncHistorySmileEncodingEnabled;
+    
+    /**
+     * Merges the async history events of the same variable within one transaction.
+     */
+    protected boolean isAsyncHistoryEventCoalescingEnabled;
     protected AsyncHistoryListener asyncHistoryListener;
 
     // More info: see similar async executor properties.
@@ -730,6 +842,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int asyncHistoryExecutorAsyncJobLockTimeInMillis = 5 * 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsInterval = 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsPageSize = 3;
+
+    /**
+     * The number of history jobs that the async history executor applies together in one transaction.
+     * A value larger than 1 also makes the executor acquire at least that many jobs at once.
+     */
+    protected int asyncHistoryExecutorJobBatchSize = 1;
+
     protected boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorTimerJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
@@ -738,6 +857,16 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
     protected CmmnHistoryCleaningManager cmmnHistoryCleaningManager;
+
+    /**
+     * When enabled, the history cleanup deletes the historic case instances in chunks of {@link #cleanInstancesBatchSize} instances,
+     * each chunk being a part of a batch that is executed as a separate async job. At most {@link #cleanInstancesMaxBatchParts} chunks are created
+     * at once, the next chunks are created when all parts of the batch are completed.
+     */
+    protected boolean enableBatchHistoryCleaning = false;
+    protected int cleanInstancesBatchSize = 100;
+    protected int cleanInstancesMaxBatchParts = 50;
+    protected String batchStatusTimeCycleConfig = "30 * * * * ?";
     
     protected Map<String, HistoryJobHandler> historyJobHandlers;
     protected List<HistoryJobHandler> customHistoryJobHandlers;
@@ -861,6 +990,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initHistoryJobHandlers();
         initFailedJobCommandFactory();
         initJobServiceConfiguration();
+        initBatchServiceConfiguration();
         initAsyncExecutor();
         initAsyncHistoryExecutor();
         initScriptingEngines();
@@ -888,6 +1018,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             initVariableSchemaManager();
             initTaskSchemaManager();
             initJobSchemaManager();
+            initBatchSchemaManager();
         }
     }
     
@@ -945,6 +1076,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
 
+    protected void initBatchSchemaManager() {
+        if (this.batchSchemaManager == null) {
+            this.batchSchemaManager = new BatchDbSchemaManager();
+        }
+    }
+
     @Override
     public void initMybatisTypeHandlers(Configuration configuration) {
         configuration.getTypeHandlerRegistry().register(VariableType.class, JdbcType.VARCHAR, new IbatisVariableTypeHandler(variableTypes));
@@ -1008,6 +1145,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
+
+            if (shareExpressionElResolvers) {
+                cmmnExpressionManager.setShareElResolvers(true);
+                cmmnExpressionManager.setBeanElResolverCacheLimit(expressionBeanCacheLimit);
+            }
             
             expressionManager = cmmnExpressionManager;
         }
@@ -1364,6 +1506,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         if (scriptingEngines == null) {
 
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
+            scriptingEngines.setCompiledScriptCacheSize(compiledScriptCacheSize);
+            scriptingEngines.setScriptEnginePoolSize(scriptEnginePoolSize);
         }
     }
     
@@ -1431,6 +1575,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             variableTypes.addType(new UUIDType());
             variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
             variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
+            variableTypes.addType(new InputStreamType(variableContentStore));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             if (customPostVariableTypes != null) {
@@ -1459,6 +1604,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setByteArrayBatchLoadingEnabled(this.enableVariableByteArrayBatchLoading);
 
         this.variableServiceConfiguration.init();
 
@@ -1504,6 +1650,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.isEnableTaskRelationshipCounts);
         this.taskServiceConfiguration.setTaskQueryLimit(this.taskQueryLimit);
         this.taskServiceConfiguration.setHistoricTaskQueryLimit(this.historicTaskQueryLimit);
+        this.taskServiceConfiguration.setEnableBatchedRelatedEntityFetching(this.enableBatchedRelatedEntityFetching);
 
         this.taskServiceConfiguration.init();
 
@@ -1583,8 +1730,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         jobHandlers = new HashMap<>();
         jobHandlers.put(TriggerTimerEventJobHandler.TYPE, new TriggerTimerEventJobHandler());
         jobHandlers.put(AsyncActivatePlanItemInstanceJobHandler.TYPE, new AsyncActivatePlanItemInstanceJobHandler());
+        jobHandlers.put(AsyncTriggerPlanItemInstanceJobHandler.TYPE, new AsyncTriggerPlanItemInstanceJobHandler());
         jobHandlers.put(AsyncInitializePlanModelJobHandler.TYPE, new AsyncInitializePlanModelJobHandler());
         jobHandlers.put(CmmnHistoryCleanupJobHandler.TYPE, new CmmnHistoryCleanupJobHandler());
+        jobHandlers.put(HistoricCaseInstanceDeleteJobHandler.TYPE, new HistoricCaseInstanceDeleteJobHandler());
+        jobHandlers.put(HistoricCaseInstanceDeleteStatusJobHandler.TYPE, new HistoricCaseInstanceDeleteStatusJobHandler());
 
         // if we have custom job handlers, register them
         if (customJobHandlers != null) {
@@ -1706,6 +1856,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setAsyncExecutorBulkLockingEnabled(this.asyncExecutorBulkLockingEnabled);
     
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1723,6 +1874,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
+            jobServiceConfiguration.setAsyncHistorySmileEncodingEnabled(isAsyncHistorySmileEncodingEnabled);
             
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
@@ -1748,6 +1900,23 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected JobServiceConfiguration instantiateJobServiceConfiguration() {
         return new JobServiceConfiguration(ScopeTypes.CMMN);
     }
+
+    public void initBatchServiceConfiguration() {
+        if (batchServiceConfiguration == null) {
+            this.batchServiceConfiguration = instantiateBatchServiceConfiguration();
+            this.batchServiceConfiguration.setClock(this.clock);
+            this.batchServiceConfiguration.setObjectMapper(this.objectMapper);
+            this.batchServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+
+            this.batchServiceConfiguration.init();
+        }
+
+        addServiceConfiguration(EngineConfigurationConstants.KEY_BATCH_SERVICE_CONFIG, this.batchServiceConfiguration);
+    }
+
+    protected BatchServiceConfiguration instantiateBatchServiceConfiguration() {
+        return new BatchServiceConfiguration(ScopeTypes.CMMN);
+    }
     
     public void addJobHandler(JobHandler jobHandler) {
         this.jobHandlers.put(jobHandler.getType(), jobHandler);
@@ -1783,6 +1952,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 defaultAsyncExecutor.setThreadPoolQueue(asyncExecutorThreadPoolQueue);
             }
             defaultAsyncExecutor.setQueueSize(asyncExecutorThreadPoolQueueSize);
+
+            // Virtual threads
+            defaultAsyncExecutor.setUseVirtualThreads(asyncExecutorUseVirtualThreads);
+            defaultAsyncExecutor.setMaxConcurrentJobs(asyncExecutorMaxConcurrentJobs);
+
+            // Timer wheel
+            defaultAsyncExecutor.setTimerWheelEnabled(asyncExecutorTimerWheelEnabled);
+            defaultAsyncExecutor.setTimerWheelLookAheadInMillis(asyncExecutorTimerWheelLookAheadInMillis);
+            defaultAsyncExecutor.setTimerWheelTickInMillis(asyncExecutorTimerWheelTickInMillis);
             
             // Thread flags
             defaultAsyncExecutor.setAsyncJobAcquisitionEnabled(isAsyncExecutorAsyncJobAcquisitionEnabled);
@@ -1865,6 +2043,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 defaultAsyncHistoryExecutor.setResetExpiredJobsInterval(asyncHistoryExecutorResetExpiredJobsInterval);
                 defaultAsyncHistoryExecutor.setResetExpiredJobsPageSize(asyncHistoryExecutorResetExpiredJobsPageSize);
     
+                // Batch execution
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorJobBatchSize);
+                if (asyncHistoryExecutorJobBatchSize > defaultAsyncHistoryExecutor.getMaxAsyncJobsDuePerAcquisition()) {
+                    defaultAsyncHistoryExecutor.setMaxAsyncJobsDuePerAcquisition(asyncHistoryExecutorJobBatchSize);
+                }
+    
                 // Shutdown
                 defaultAsyncHistoryExecutor.setSecondsToWaitOnShutdown(asyncHistoryExecutorSecondsToWaitOnShutdown);
     
@@ -2236,6 +2420,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.disableCmmnXmlValidation = disableCmmnXmlValidation;
     }
 
+    public boolean isEnableSentryDependencyIndex() {
+        return enableSentryDependencyIndex;
+    }
+
+    public CmmnEngineConfiguration setEnableSentryDependencyIndex(boolean enableSentryDependencyIndex) {
+        this.enableSentryDependencyIndex = enableSentryDependencyIndex;
+        return this;
+    }
+
     public CmmnParser getCmmnParser() {
         return cmmnParser;
     }
@@ -2492,6 +2685,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isShareExpressionElResolvers() {
+        return shareExpressionElResolvers;
+    }
+
+    public CmmnEngineConfiguration setShareExpressionElResolvers(boolean shareExpressionElResolvers) {
+        this.shareExpressionElResolvers = shareExpressionElResolvers;
+        return this;
+    }
+
+    public int getExpressionBeanCacheLimit() {
+        return expressionBeanCacheLimit;
+    }
+
+    public CmmnEngineConfiguration setExpressionBeanCacheLimit(int expressionBeanCacheLimit) {
+        this.expressionBeanCacheLimit = expressionBeanCacheLimit;
+        return this;
+    }
+
     public DelegateExpressionFieldInjectionMode getDelegateExpressionFieldInjectionMode() {
         return delegateExpressionFieldInjectionMode;
     }
@@ -2600,6 +2811,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public SchemaManager getBatchSchemaManager() {
+        return batchSchemaManager;
+    }
+
+    public CmmnEngineConfiguration setBatchSchemaManager(SchemaManager batchSchemaManager) {
+        this.batchSchemaManager = batchSchemaManager;
+        return this;
+    }
+
     @Override
     public VariableTypes getVariableTypes() {
         return variableTypes;
@@ -2710,6 +2930,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableBatchedRelatedEntityFetching() {
+        return enableBatchedRelatedEntityFetching;
+    }
+
+    public CmmnEngineConfiguration setEnableBatchedRelatedEntityFetching(boolean enableBatchedRelatedEntityFetching) {
+        this.enableBatchedRelatedEntityFetching = enableBatchedRelatedEntityFetching;
+        return this;
+    }
+
     public InternalHistoryVariableManager getInternalHistoryVariableManager() {
         return internalHistoryVariableManager;
     }
@@ -2745,6 +2974,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public VariableContentStore getVariableContentStore() {
+        return variableContentStore;
+    }
+
+    public CmmnEngineConfiguration setVariableContentStore(VariableContentStore variableContentStore) {
+        this.variableContentStore = variableContentStore;
+        return this;
+    }
+
+    public boolean isEnableVariableByteArrayBatchLoading() {
+        return enableVariableByteArrayBatchLoading;
+    }
+
+    public CmmnEngineConfiguration setEnableVariableByteArrayBatchLoading(boolean enableVariableByteArrayBatchLoading) {
+        this.enableVariableByteArrayBatchLoading = enableVariableByteArrayBatchLoading;
+        return this;
+    }
+
     public CaseDiagramGenerator getCaseDiagramGenerator() {
         return caseDiagramGenerator;
     }
@@ -2817,6 +3064,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public BatchServiceConfiguration getBatchServiceConfiguration() {
+        return batchServiceConfiguration;
+    }
+
+    public CmmnEngineConfiguration setBatchServiceConfiguration(BatchServiceConfiguration batchServiceConfiguration) {
+        this.batchServiceConfiguration = batchServiceConfiguration;
+        return this;
+    }
+
     public JobManager getJobManager() {
         return jobManager;
     }
@@ -2998,6 +3254,51 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorUseVirtualThreads() {
+        return asyncExecutorUseVirtualThreads;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorUseVirtualThreads(boolean asyncExecutorUseVirtualThreads) {
+        this.asyncExecutorUseVirtualThreads = asyncExecutorUseVirtualThreads;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentJobs() {
+        return asyncExecutorMaxConcurrentJobs;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorMaxConcurrentJobs(int asyncExecutorMaxConcurrentJobs) {
+        this.asyncExecutorMaxConcurrentJobs = asyncExecutorMaxConcurrentJobs;
+        return this;
+    }
+
+    public boolean isAsyncExecutorTimerWheelEnabled() {
+        return asyncExecutorTimerWheelEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerWheelEnabled(boolean asyncExecutorTimerWheelEnabled) {
+        this.asyncExecutorTimerWheelEnabled = asyncExecutorTimerWheelEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerWheelLookAheadInMillis() {
+        return asyncExecutorTimerWheelLookAheadInMillis;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerWheelLookAheadInMillis(int asyncExecutorTimerWheelLookAheadInMillis) {
+        this.asyncExecutorTimerWheelLookAheadInMillis = asyncExecutorTimerWheelLookAheadInMillis;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerWheelTickInMillis() {
+        return asyncExecutorTimerWheelTickInMillis;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerWheelTickInMillis(int asyncExecutorTimerWheelTickInMillis) {
+        this.asyncExecutorTimerWheelTickInMillis = asyncExecutorTimerWheelTickInMillis;
+        return this;
+    }
+
     public long getAsyncExecutorSecondsToWaitOnShutdown() {
         return asyncExecutorSecondsToWaitOnShutdown;
     }
@@ -3106,6 +3407,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorBulkLockingEnabled() {
+        return asyncExecutorBulkLockingEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorBulkLockingEnabled(boolean asyncExecutorBulkLockingEnabled) {
+        this.asyncExecutorBulkLockingEnabled = asyncExecutorBulkLockingEnabled;
+        return this;
+    }
+
     public int getAsyncExecutorResetExpiredJobsPageSize() {
         return asyncExecutorResetExpiredJobsPageSize;
     }
@@ -3214,6 +3524,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
         return this;
     }
+
+    public boolean isAsyncHistorySmileEncodingEnabled() {
+        return isAsyncHistorySmileEncodingEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistorySmileEncodingEnabled(boolean isAsyncHistorySmileEncodingEnabled) {
+        this.isAsyncHistorySmileEncodingEnabled = isAsyncHistorySmileEncodingEnabled;
+        return this;
+    }
+
+    public boolean isAsyncHistoryEventCoalescingEnabled() {
+        return isAsyncHistoryEventCoalescingEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryEventCoalescingEnabled(boolean isAsyncHistoryEventCoalescingEnabled) {
+        this.isAsyncHistoryEventCoalescingEnabled = isAsyncHistoryEventCoalescingEnabled;
+        return this;
+    }
     
     public boolean isAsyncHistoryExecutorMessageQueueMode() {
         return asyncHistoryExecutorMessageQueueMode;
@@ -3349,6 +3677,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.asyncHistoryExecutorResetExpiredJobsPageSize = asyncHistoryExecutorResetExpiredJobsPageSize;
         return this;
     }
+
+    public int getAsyncHistoryExecutorJobBatchSize() {
+        return asyncHistoryExecutorJobBatchSize;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorJobBatchSize(int asyncHistoryExecutorJobBatchSize) {
+        this.asyncHistoryExecutorJobBatchSize = asyncHistoryExecutorJobBatchSize;
+        return this;
+    }
     
     public boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled() {
         return isAsyncHistoryExecutorAsyncJobAcquisitionEnabled;
@@ -3619,6 +3956,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
+    public int getScriptEnginePoolSize() {
+        return scriptEnginePoolSize;
+    }
+
+    public CmmnEngineConfiguration setScriptEnginePoolSize(int scriptEnginePoolSize) {
+        this.scriptEnginePoolSize = scriptEnginePoolSize;
+        return this;
+    }
+
     @Override
     public ScriptingEngines getScriptingEngines() {
         return scriptingEngines;
@@ -3680,6 +4035,42 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableBatchHistoryCleaning() {
+        return enableBatchHistoryCleaning;
+    }
+
+    public CmmnEngineConfiguration setEnableBatchHistoryCleaning(boolean enableBatchHistoryCleaning) {
+        this.enableBatchHistoryCleaning = enableBatchHistoryCleaning;
+        return this;
+    }
+
+    public int getCleanInstancesBatchSize() {
+        return cleanInstancesBatchSize;
+    }
+
+    public CmmnEngineConfiguration setCleanInstancesBatchSize(int cleanInstancesBatchSize) {
+        this.cleanInstancesBatchSize = cleanInstancesBatchSize;
+        return this;
+    }
+
+    public int getCleanInstancesMaxBatchParts() {
+        return cleanInstancesMaxBatchParts;
+    }
+
+    public CmmnEngineConfiguration setCleanInstancesMaxBatchParts(int cleanInstancesMaxBatchParts) {
+        this.cleanInstancesMaxBatchParts = cleanInstancesMaxBatchParts;
+        return this;
+    }
+
+    public String getBatchStatusTimeCycleConfig() {
+        return batchStatusTimeCycleConfig;
+    }
+
+    public CmmnEngineConfiguration setBatchStatusTimeCycleConfig(String batchStatusTimeCycleConfig) {
+        this.batchStatusTimeCycleConfig = batchStatusTimeCycleConfig;
+        return this;
+    }
+
     public boolean isHandleCmmnEngineExecutorsAfterEngineCreate() {
         return handleCmmnEngineExecutorsAfterEngineCreate;
     }
@@ -12,13 +12,21 @@
  */
 package org.flowable.cmmn.engine;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Harsha Teja Kanna
  */
 public class HttpClientConfig {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientConfig.class);
+
     // request settings
     protected int connectTimeout = 5000;
     protected int socketTimeout = 5000;
@@ -29,6 +37,31 @@ public class HttpClientConfig {
 
     protected boolean useSystemProperties = false;
 
+    // connection pool settings
+    /**
+     * When true, all http tasks share one http client with a connection pool,
+     * instead of creating a new client (and connection) for every request.
+     */
+    protected boolean useConnectionPool;
+    protected int maxConnections = 100;
+    protected int maxConnectionsPerRoute = 20;
+    /**
+     * The time in milliseconds that an idle pooled connection is kept alive, when the server doesn't specify it.
+     */
+    protected long connectionKeepAlive = 30000;
+
+    // asynchronous execution settings
+    /**
+     * When true, the http task sends the request after the transaction is committed, on a thread of a separate pool,
+     * instead of blocking the thread that executes the task. The task waits and is triggered when the response is received.
+     */
+    protected boolean asyncExecution;
+    protected int asyncExecutionPoolSize = 10;
+
+    // resources shared by the http tasks, created when needed and released when the engine is closed
+    protected Closeable httpClient;
+    protected ExecutorService asyncExecutorService;
+
     public int getConnectTimeout() {
         return connectTimeout;
     }
@@ -77,6 +110,89 @@ public class HttpClientConfig {
         return useSystemProperties;
     }
 
+    public boolean isUseConnectionPool() {
+        return useConnectionPool;
+    }
+
+    public void setUseConnectionPool(boolean useConnectionPool) {
+        this.useConnectionPool = useConnectionPool;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public long getConnectionKeepAlive() {
+        return connectionKeepAlive;
+    }
+
+    public void setConnectionKeepAlive(long connectionKeepAlive) {
+        this.connectionKeepAlive = connectionKeepAlive;
+    }
+
+    public boolean isAsyncExecution() {
+        return asyncExecution;
+    }
+
+    public void setAsyncExecution(boolean asyncExecution) {
+        this.asyncExecution = asyncExecution;
+    }
+
+    public int getAsyncExecutionPoolSize() {
+        return asyncExecutionPoolSize;
+    }
+
+    public void setAsyncExecutionPoolSize(int asyncExecutionPoolSize) {
+        this.asyncExecutionPoolSize = asyncExecutionPoolSize;
+    }
+
+    public Closeable getHttpClient() {
+        return httpClient;
+    }
+
+    public void setHttpClient(Closeable httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public ExecutorService getAsyncExecutorService() {
+        return asyncExecutorService;
+    }
+
+    public void setAsyncExecutorService(ExecutorService asyncExecutorService) {
+        this.asyncExecutorService = asyncExecutorService;
+    }
+
+    /**
+     * Releases the shared http client and the threads of the asynchronous execution.
+     */
+    public synchronized void close() {
+        if (asyncExecutorService != null) {
+            asyncExecutorService.shutdown();
+            asyncExecutorService = null;
+        }
+
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not close http client", e);
+            }
+            httpClient = null;
+        }
+    }
+
     public void merge(HttpClientConfig other) {
         if (this.connectTimeout != other.getConnectTimeout()) {
             setConnectTimeout(other.getConnectTimeout());
@@ -101,6 +217,30 @@ public class HttpClientConfig {
         if (this.useSystemProperties != other.isUseSystemProperties()) {
             setUseSystemProperties(other.isUseSystemProperties());
         }
+
+        if (this.useConnectionPool != other.isUseConnectionPool()) {
+            setUseConnectionPool(other.isUseConnectionPool());
+        }
+
+        if (this.maxConnections != other.getMaxConnections()) {
+            setMaxConnections(other.getMaxConnections());
+        }
+
+        if (this.maxConnectionsPerRoute != other.getMaxConnectionsPerRoute()) {
+            setMaxConnectionsPerRoute(other.getMaxConnectionsPerRoute());
+        }
+
+        if (this.connectionKeepAlive != other.getConnectionKeepAlive()) {
+            setConnectionKeepAlive(other.getConnectionKeepAlive());
+        }
+
+        if (this.asyncExecution != other.isAsyncExecution()) {
+            setAsyncExecution(other.isAsyncExecution());
+        }
+
+        if (this.asyncExecutionPoolSize != other.getAsyncExecutionPoolSize()) {
+            setAsyncExecutionPoolSize(other.getAsyncExecutionPoolSize());
+        }
     }
 
     public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
@@ -115,4 +255,8 @@ public class HttpClientConfig {
         setSocketTimeout(Math.toIntExact(socketTimeout.toMillis()));
     }
 
+    public void setConnectionKeepAlive(Duration connectionKeepAlive) {
+        setConnectionKeepAlive(connectionKeepAlive.toMillis());
+    }
+
 }
@@ -102,6 +102,9 @@ public class CmmnEngineImpl implements CmmnEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (cmmnEngineConfiguration.getHttpClientConfig() != null) {
+            cmmnEngineConfiguration.getHttpClientConfig().close();
+        }
         cmmnEngineConfiguration.close();
 
     }
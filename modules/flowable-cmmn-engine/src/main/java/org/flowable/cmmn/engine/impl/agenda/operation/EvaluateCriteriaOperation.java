@@ -28,6 +28,7 @@ import org.flowable.cmmn.converter.util.CriterionUtil;
 import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.impl.agenda.PlanItemEvaluationResult;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.listener.PlanItemLifeCycleListenerUtil;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
@@ -73,6 +74,9 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     // only the last evaluation planned on the agenda operation will have this true
     protected boolean evaluateCaseInstanceCompleted;
 
+    protected SentryDependencyIndex sentryDependencyIndex;
+    protected boolean sentryDependencyIndexResolved;
+
     public EvaluateCriteriaOperation(CommandContext commandContext, String caseInstanceEntityId) {
         super(commandContext, caseInstanceEntityId, null);
     }
@@ -346,7 +350,7 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
 
     protected Criterion evaluateEntryCriteria(PlanItemInstanceEntity planItemInstanceEntity, PlanItem planItem) {
         List<Criterion> criteria = planItem.getEntryCriteria();
-        if (criteria != null && !criteria.isEmpty()) {
+        if (criteria != null && !criteria.isEmpty() && isEntryCriteriaEvaluationNeeded(planItem)) {
             return evaluateCriteria(planItemInstanceEntity, criteria);
         }
         return null;
@@ -355,12 +359,36 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     // EntityWithSentryPartInstances -> can be used for both case instance and plan item instance
     protected Criterion evaluateExitCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, HasExitCriteria hasExitCriteria) {
         List<Criterion> criteria = hasExitCriteria.getExitCriteria();
-        if (criteria != null && !criteria.isEmpty()) {
+        if (criteria != null && !criteria.isEmpty() && isExitCriteriaEvaluationNeeded(hasExitCriteria)) {
             return evaluateCriteria(entityWithSentryPartInstances, criteria);
         }
         return null;
     }
 
+    protected boolean isEntryCriteriaEvaluationNeeded(PlanItem planItem) {
+        SentryDependencyIndex sentryDependencyIndex = getSentryDependencyIndex();
+        return sentryDependencyIndex == null || sentryDependencyIndex.isEntryCriteriaEvaluationNeeded(planItem.getId(), planItemLifeCycleEvent);
+    }
+
+    protected boolean isExitCriteriaEvaluationNeeded(HasExitCriteria hasExitCriteria) {
+        SentryDependencyIndex sentryDependencyIndex = getSentryDependencyIndex();
+        return sentryDependencyIndex == null || sentryDependencyIndex.isExitCriteriaEvaluationNeeded(hasExitCriteria.getId(), planItemLifeCycleEvent);
+    }
+
+    /**
+     * @return the sentry dependency index of the case definition, or null when it is not enabled or not available,
+     *          in which case all criteria are evaluated
+     */
+    protected SentryDependencyIndex getSentryDependencyIndex() {
+        if (!sentryDependencyIndexResolved) {
+            if (CommandContextUtil.getCmmnEngineConfiguration(commandContext).isEnableSentryDependencyIndex()) {
+                sentryDependencyIndex = CaseDefinitionUtil.getSentryDependencyIndex(caseInstanceEntity.getCaseDefinitionId());
+            }
+            sentryDependencyIndexResolved = true;
+        }
+        return sentryDependencyIndex;
+    }
+
     /**
      * @return Returns the criterion that is satisfied. If none is satisfied, null is returned.
      */
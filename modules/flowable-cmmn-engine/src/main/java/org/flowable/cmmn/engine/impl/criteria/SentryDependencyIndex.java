@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.PlanFragment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryOnPart;
+import org.flowable.cmmn.model.Stage;
+
+/**
+ * Index of the sentry on-parts of a case definition, built when the case definition is parsed.
+ * <p>
+ * For every plan item and lifecycle transition it holds the ids of the elements (plan items, or the plan model for its exit criteria)
+ * of which the entry or exit criteria have an on-part referencing it. Criteria are only part of the index when they can exclusively
+ * be satisfied by a lifecycle event: every sentry has at least one on-part and no if-part, as an if-part can depend on anything
+ * and needs to be evaluated on every evaluation. Entry criteria of repeating plan items are not indexed either, as satisfied on-parts
+ * of a repeating plan item can be kept until its repetition condition becomes true.
+ * <p>
+ * Criteria that are not indexed must always be evaluated, see {@link #isEntryCriteriaEvaluationNeeded(String, PlanItemLifeCycleEvent)}
+ * and {@link #isExitCriteriaEvaluationNeeded(String, PlanItemLifeCycleEvent)}.
+ */
+public class SentryDependencyIndex {
+
+    protected Map<String, Set<String>> entryCriteriaDependents = new HashMap<>();
+    protected Map<String, Set<String>> exitCriteriaDependents = new HashMap<>();
+    protected Set<String> indexedEntryCriteriaElementIds = new HashSet<>();
+    protected Set<String> indexedExitCriteriaElementIds = new HashSet<>();
+
+    public SentryDependencyIndex(Case caze) {
+        Stage planModel = caze.getPlanModel();
+        if (planModel != null) {
+            indexCriteria(planModel.getId(), planModel.getExitCriteria(), exitCriteriaDependents, indexedExitCriteriaElementIds);
+            indexPlanFragment(planModel);
+        }
+    }
+
+    protected void indexPlanFragment(PlanFragment planFragment) {
+        for (PlanItem planItem : planFragment.getPlanItems()) {
+            if (planItem.getItemControl() == null || planItem.getItemControl().getRepetitionRule() == null) {
+                indexCriteria(planItem.getId(), planItem.getEntryCriteria(), entryCriteriaDependents, indexedEntryCriteriaElementIds);
+            }
+            indexCriteria(planItem.getId(), planItem.getExitCriteria(), exitCriteriaDependents, indexedExitCriteriaElementIds);
+
+            if (planItem.getPlanItemDefinition() instanceof PlanFragment) {
+                indexPlanFragment((PlanFragment) planItem.getPlanItemDefinition());
+            }
+        }
+    }
+
+    protected void indexCriteria(String elementId, List<Criterion> criteria, Map<String, Set<String>> dependents, Set<String> indexedElementIds) {
+        if (criteria == null || criteria.isEmpty()) {
+            return;
+        }
+
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (sentry == null || sentry.getOnParts().isEmpty() || sentry.getSentryIfPart() != null) {
+                return;
+            }
+        }
+
+        for (Criterion criterion : criteria) {
+            for (SentryOnPart sentryOnPart : criterion.getSentry().getOnParts()) {
+                dependents.computeIfAbsent(getKey(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent()), key -> new HashSet<>()).add(elementId);
+            }
+        }
+        indexedElementIds.add(elementId);
+    }
+
+    /**
+     * @return false if the entry criteria of the element with the given id are indexed and none of them has an on-part for the given event,
+     *          meaning they can't become satisfied in this evaluation, true otherwise.
+     */
+    public boolean isEntryCriteriaEvaluationNeeded(String elementId, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        return isEvaluationNeeded(elementId, planItemLifeCycleEvent, entryCriteriaDependents, indexedEntryCriteriaElementIds);
+    }
+
+    /**
+     * @return false if the exit criteria of the element with the given id are indexed and none of them has an on-part for the given event,
+     *          meaning they can't become satisfied in this evaluation, true otherwise.
+     */
+    public boolean isExitCriteriaEvaluationNeeded(String elementId, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        return isEvaluationNeeded(elementId, planItemLifeCycleEvent, exitCriteriaDependents, indexedExitCriteriaElementIds);
+    }
+
+    protected boolean isEvaluationNeeded(String elementId, PlanItemLifeCycleEvent planItemLifeCycleEvent,
+            Map<String, Set<String>> dependents, Set<String> indexedElementIds) {
+
+        if (!indexedElementIds.contains(elementId)) {
+            return true;
+        }
+
+        if (planItemLifeCycleEvent == null || planItemLifeCycleEvent.getPlanItem() == null) {
+            return false;
+        }
+
+        return getDependents(dependents, planItemLifeCycleEvent.getPlanItem().getId(), planItemLifeCycleEvent.getTransition()).contains(elementId);
+    }
+
+    /**
+     * @return the ids of the elements with indexed entry criteria having an on-part for the given plan item and transition
+     */
+    public Set<String> getEntryCriteriaDependents(String planItemId, String transition) {
+        return getDependents(entryCriteriaDependents, planItemId, transition);
+    }
+
+    /**
+     * @return the ids of the elements with indexed exit criteria having an on-part for the given plan item and transition
+     */
+    public Set<String> getExitCriteriaDependents(String planItemId, String transition) {
+        return getDependents(exitCriteriaDependents, planItemId, transition);
+    }
+
+    protected Set<String> getDependents(Map<String, Set<String>> dependents, String planItemId, String transition) {
+        Set<String> elementIds = dependents.get(getKey(planItemId, transition));
+        return elementIds != null ? elementIds : Collections.emptySet();
+    }
+
+    protected String getKey(String planItemId, String transition) {
+        return planItemId + ':' + transition;
+    }
+
+}
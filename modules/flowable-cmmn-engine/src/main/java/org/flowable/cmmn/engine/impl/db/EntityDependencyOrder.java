@@ -16,6 +16,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.flowable.batch.service.impl.persistence.entity.BatchByteArrayEntityImpl;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntityImpl;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntityImpl;
@@ -63,6 +66,8 @@ public class EntityDependencyOrder {
         DELETE_ORDER.add(DeadLetterJobEntityImpl.class);
         DELETE_ORDER.add(JobByteArrayEntityImpl.class);
         DELETE_ORDER.add(HistoryJobEntityImpl.class);
+        DELETE_ORDER.add(BatchPartEntityImpl.class);
+        DELETE_ORDER.add(BatchEntityImpl.class);
         DELETE_ORDER.add(HistoricEntityLinkEntityImpl.class);
         DELETE_ORDER.add(HistoricIdentityLinkEntityImpl.class);
         DELETE_ORDER.add(HistoricMilestoneInstanceEntityImpl.class);
@@ -86,6 +91,7 @@ public class EntityDependencyOrder {
         DELETE_ORDER.add(CaseDefinitionEntityImpl.class);
         DELETE_ORDER.add(CmmnResourceEntityImpl.class);
         DELETE_ORDER.add(CmmnDeploymentEntityImpl.class);
+        DELETE_ORDER.add(BatchByteArrayEntityImpl.class);
         
         INSERT_ORDER = new ArrayList<>(DELETE_ORDER);
         Collections.reverse(INSERT_ORDER);
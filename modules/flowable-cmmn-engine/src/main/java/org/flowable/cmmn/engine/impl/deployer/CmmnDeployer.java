@@ -302,6 +302,7 @@ public class CmmnDeployer implements EngineDeployer {
             CmmnModel model = parseResult.getCmmnModelForCaseDefinition(caseDefinitionEntity);
             Case caze = parseResult.getCmmnCaseForCaseDefinition(caseDefinitionEntity);
             CaseDefinitionCacheEntry cacheEntry = new CaseDefinitionCacheEntry(caseDefinitionEntity, model, caze);
+            cacheEntry.setSentryDependencyIndex(parseResult.getSentryDependencyIndexForCaseDefinition(caseDefinitionEntity));
             caseDefinitionCache.add(caseDefinitionEntity.getId(), cacheEntry);
 
             deployment.addDeployedArtifact(caseDefinitionEntity);
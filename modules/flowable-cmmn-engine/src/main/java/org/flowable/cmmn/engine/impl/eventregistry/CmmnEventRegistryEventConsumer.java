@@ -74,6 +74,47 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
     }
 
+    @Override
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+        CmmnRuntimeService cmmnRuntimeService = cmmnEngineConfiguration.getCmmnRuntimeService();
+        eventsReceived(eventInstances, new BatchEventSubscriptionHandler<EventSubscription>() {
+
+            @Override
+            public List<EventSubscription> findEventSubscriptions(EventModel eventModel, Collection<String> correlationKeys) {
+                return findEventSubscriptionsByEventDefinitionKeyAndCorrelationKeysOrNoCorrelations(eventModel, correlationKeys);
+            }
+
+            @Override
+            public String getCorrelationKey(EventSubscription eventSubscription) {
+                return eventSubscription.getConfiguration();
+            }
+
+            @Override
+            public String getTriggeredElementId(EventSubscription eventSubscription) {
+                return eventSubscription.getSubScopeId();
+            }
+
+            @Override
+            public String getInstanceId(EventSubscription eventSubscription) {
+                return eventSubscription.getScopeId();
+            }
+
+            @Override
+            public void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<String> correlationKeys) {
+                CmmnEventRegistryEventConsumer.this.handleEventSubscription(cmmnRuntimeService, eventSubscription, eventInstance, correlationKeys);
+            }
+        });
+    }
+
+    protected List<EventSubscription> findEventSubscriptionsByEventDefinitionKeyAndCorrelationKeysOrNoCorrelations(EventModel eventDefinition,
+            Collection<String> correlationKeys) {
+
+        return commandExecutor.execute(commandContext ->
+            CommandContextUtil.getEventSubscriptionEntityManager(commandContext).findEventSubscriptionsByQueryCriteria(
+                new EventSubscriptionQueryImpl(commandContext).eventType(eventDefinition.getKey()).configurationsOrNoConfiguration(correlationKeys)
+                    .scopeType(ScopeTypes.CMMN)));
+    }
+
     protected List<EventSubscription> findEventSubscriptionsByEventDefinitionKeyAndCorrelationKeys(EventModel eventDefinition, Collection<String> correlationKeys) {
         return commandExecutor.execute(commandContext ->
             CommandContextUtil.getEventSubscriptionEntityManager(commandContext).findEventSubscriptionsByQueryCriteria(
@@ -15,6 +15,8 @@ package org.flowable.cmmn.engine.impl.history;
 import java.util.Date;
 
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.service.history.InternalHistoryVariableManager;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
@@ -45,4 +47,15 @@ public class CmmnHistoryVariableManager implements InternalHistoryVariableManage
         cmmnEngineConfiguration.getCmmnHistoryManager().recordVariableRemoved(variable);
     }
 
+    @Override
+    public boolean isHistoricVariableInstanceRecorded(ValueFields variable) {
+        return cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT);
+    }
+
+    @Override
+    public boolean isHistoricVariableUpdateRecorded(ValueFields variable) {
+        // The CmmnHistoryManager doesn't keep historic variable updates
+        return false;
+    }
+
 }
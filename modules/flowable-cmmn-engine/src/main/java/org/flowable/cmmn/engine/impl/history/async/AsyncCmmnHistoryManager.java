@@ -202,6 +202,27 @@ public class AsyncCmmnHistoryManager extends AbstractAsyncCmmnHistoryManager {
         if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) { 
             ObjectNode data = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
             addCommonVariableFields(variable, data, updateTime);
+            
+            if (cmmnEngineConfiguration.isAsyncHistoryEventCoalescingEnabled()) {
+                AsyncHistorySession.AsyncHistorySessionData asyncHistorySessionData = getAsyncHistorySessionData();
+                if (asyncHistorySessionData != null) {
+                    // A variable created in the same transaction gets the latest value in its created event,
+                    // otherwise only the last update needs to be kept
+                    ObjectNode variableCreatedData = asyncHistorySessionData.findJobData(CmmnAsyncHistoryConstants.TYPE_VARIABLE_CREATED,
+                            CmmnAsyncHistoryConstants.FIELD_ID, variable.getId());
+                    if (variableCreatedData != null) {
+                        if (variableCreatedData.has(CmmnAsyncHistoryConstants.FIELD_CREATE_TIME)) {
+                            data.set(CmmnAsyncHistoryConstants.FIELD_CREATE_TIME, variableCreatedData.get(CmmnAsyncHistoryConstants.FIELD_CREATE_TIME));
+                        }
+                        data.set(AsyncHistorySession.TIMESTAMP, variableCreatedData.get(AsyncHistorySession.TIMESTAMP));
+                        variableCreatedData.removeAll();
+                        variableCreatedData.setAll(data);
+                        return;
+                    }
+                    asyncHistorySessionData.removeJobData(CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED, CmmnAsyncHistoryConstants.FIELD_ID, variable.getId());
+                }
+            }
+            
             getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED, data);
         }
     }
@@ -212,6 +233,18 @@ public class AsyncCmmnHistoryManager extends AbstractAsyncCmmnHistoryManager {
             ObjectNode data = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
             putIfNotNull(data, CmmnAsyncHistoryConstants.FIELD_ID, variable.getId());
             putIfNotNull(data, CmmnAsyncHistoryConstants.FIELD_REVISION, variable.getRevision());
+            
+            if (cmmnEngineConfiguration.isAsyncHistoryEventCoalescingEnabled()) {
+                AsyncHistorySession.AsyncHistorySessionData asyncHistorySessionData = getAsyncHistorySessionData();
+                if (asyncHistorySessionData != null) {
+                    // A variable that is created and removed in the same transaction never reaches the history
+                    asyncHistorySessionData.removeJobData(CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED, CmmnAsyncHistoryConstants.FIELD_ID, variable.getId());
+                    if (asyncHistorySessionData.removeJobData(CmmnAsyncHistoryConstants.TYPE_VARIABLE_CREATED, CmmnAsyncHistoryConstants.FIELD_ID, variable.getId())) {
+                        return;
+                    }
+                }
+            }
+            
             getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), CmmnAsyncHistoryConstants.TYPE_VARIABLE_REMOVED, data);
         }
     }
@@ -231,6 +264,15 @@ public class AsyncCmmnHistoryManager extends AbstractAsyncCmmnHistoryManager {
             ObjectNode data = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
             addCommonTaskFields(task, data);
             putIfNotNull(data, CmmnAsyncHistoryConstants.FIELD_LAST_UPDATE_TIME, changeTime);
+            
+            if (cmmnEngineConfiguration.isAsyncHistoryEventCoalescingEnabled()) {
+                // The task updated event contains all task properties, so only the last one is needed
+                AsyncHistorySession.AsyncHistorySessionData asyncHistorySessionData = getAsyncHistorySessionData();
+                if (asyncHistorySessionData != null) {
+                    asyncHistorySessionData.removeJobData(CmmnAsyncHistoryConstants.TYPE_TASK_UPDATED, CmmnAsyncHistoryConstants.FIELD_ID, task.getId());
+                }
+            }
+            
             getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), CmmnAsyncHistoryConstants.TYPE_TASK_UPDATED, data, task.getTenantId());
         }
     }
@@ -341,6 +383,14 @@ public class AsyncCmmnHistoryManager extends AbstractAsyncCmmnHistoryManager {
 
     /* Helper methods */
 
+    protected AsyncHistorySession.AsyncHistorySessionData getAsyncHistorySessionData() {
+        Map<JobServiceConfiguration, AsyncHistorySession.AsyncHistorySessionData> sessionData = getAsyncHistorySession().getSessionData();
+        if (sessionData != null) {
+            return sessionData.get(getJobServiceConfiguration());
+        }
+        return null;
+    }
+
     protected void removePlanItemInstanceFull(String planItemInstanceId) {
         Map<JobServiceConfiguration, AsyncHistorySession.AsyncHistorySessionData> sessionData = getAsyncHistorySession().getSessionData();
         if (sessionData != null) {
@@ -0,0 +1,195 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.job;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.BatchQueryImpl;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Creates the batches used by the history cleanup when {@link CmmnEngineConfiguration#isEnableBatchHistoryCleaning()} is enabled.
+ * <p>
+ * Every batch part contains the ids of at most {@link CmmnEngineConfiguration#getCleanInstancesBatchSize()} historic case instances
+ * and is executed as a separate async job. As the batch parts and their jobs are stored in the database, the cleanup continues
+ * where it stopped when the engine is restarted.
+ */
+public class CmmnHistoryCleanupBatchHelper {
+
+    public static final String STATUS_IN_PROGRESS = "inProgress";
+    public static final String STATUS_WAITING = "waiting";
+    public static final String STATUS_COMPLETED = "completed";
+
+    public static final String RESULT_SUCCESS = "success";
+    public static final String RESULT_FAIL = "fail";
+
+    public static final String BATCH_RESULT_STATUS_LABEL = "resultStatus";
+    public static final String BATCH_RESULT_MESSAGE_LABEL = "resultMessage";
+    public static final String BATCH_DELETED_INSTANCES_LABEL = "deletedInstances";
+
+    protected static final String BATCH_HAS_MORE_INSTANCES_LABEL = "hasMoreInstances";
+    protected static final String BATCH_PART_INSTANCE_IDS_LABEL = "instanceIds";
+
+    /**
+     * Creates a new cleanup batch, unless a previous cleanup batch is still in progress.
+     *
+     * @return the created batch, or null if no batch was created
+     */
+    public static Batch createCleanupBatch(CommandContext commandContext) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+
+        List<Batch> batchesInProgress = batchService.findBatchesByQueryCriteria(new BatchQueryImpl()
+                .batchType(Batch.HISTORIC_CASE_DELETE_TYPE)
+                .status(STATUS_IN_PROGRESS));
+        for (Batch batchInProgress : batchesInProgress) {
+            // The status is checked again, as it could have been changed in the current transaction
+            if (STATUS_IN_PROGRESS.equals(batchInProgress.getStatus())) {
+                // The parts of the previous batch are still being executed, new parts are created when it completes
+                return null;
+            }
+        }
+
+        int batchSize = cmmnEngineConfiguration.getCleanInstancesBatchSize();
+        int maxInstances = batchSize * cmmnEngineConfiguration.getCleanInstancesMaxBatchParts();
+        List<HistoricCaseInstance> historicCaseInstances = cmmnEngineConfiguration.getCmmnHistoryCleaningManager()
+                .createHistoricCaseInstanceCleaningQuery()
+                .orderByCaseInstanceId().asc()
+                .listPage(0, maxInstances);
+
+        if (historicCaseInstances.isEmpty()) {
+            return null;
+        }
+
+        ObjectMapper objectMapper = cmmnEngineConfiguration.getObjectMapper();
+        ObjectNode batchDocument = objectMapper.createObjectNode();
+        batchDocument.put(BATCH_HAS_MORE_INSTANCES_LABEL, historicCaseInstances.size() == maxInstances);
+
+        Batch batch = batchService.createBatchBuilder().batchType(Batch.HISTORIC_CASE_DELETE_TYPE)
+                .status(STATUS_IN_PROGRESS)
+                .batchDocumentJson(batchDocument.toString())
+                .create();
+
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        for (int i = 0; i < historicCaseInstances.size(); i += batchSize) {
+            ObjectNode batchPartDocument = objectMapper.createObjectNode();
+            ArrayNode instanceIds = batchPartDocument.putArray(BATCH_PART_INSTANCE_IDS_LABEL);
+            for (HistoricCaseInstance historicCaseInstance : historicCaseInstances.subList(i, Math.min(i + batchSize, historicCaseInstances.size()))) {
+                instanceIds.add(historicCaseInstance.getId());
+            }
+
+            // The instance ids are stored in the document of the batch part, which is replaced by the result when the part is completed.
+            // The result of a failed part keeps them, so that the part can be executed again.
+            BatchPart batchPart = batchService.createBatchPart(batch, STATUS_WAITING, null, null, ScopeTypes.CMMN);
+            ((BatchPartEntity) batchPart).setResultDocumentJson(batchPartDocument.toString());
+
+            JobEntity job = jobService.createJob();
+            job.setJobHandlerType(HistoricCaseInstanceDeleteJobHandler.TYPE);
+            job.setJobHandlerConfiguration(batchPart.getId());
+            job.setScopeType(ScopeTypes.CMMN);
+            jobService.createAsyncJob(job, false);
+            jobService.scheduleAsyncJob(job);
+        }
+
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(HistoricCaseInstanceDeleteStatusJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(batch.getId());
+        timerJob.setScopeType(ScopeTypes.CMMN);
+
+        BusinessCalendar businessCalendar = cmmnEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(cmmnEngineConfiguration.getBatchStatusTimeCycleConfig()));
+        timerJob.setRepeat(cmmnEngineConfiguration.getBatchStatusTimeCycleConfig());
+
+        timerJobService.scheduleTimerJob(timerJob);
+
+        return batch;
+    }
+
+    public static boolean hasMoreInstances(Batch batch, ObjectMapper objectMapper) {
+        JsonNode batchDocument = readJson(batch.getBatchDocumentJson(), objectMapper);
+        return batchDocument.path(BATCH_HAS_MORE_INSTANCES_LABEL).asBoolean(false);
+    }
+
+    public static List<String> getInstanceIds(BatchPart batchPart, ObjectMapper objectMapper) {
+        JsonNode batchPartDocument = readJson(batchPart.getResultDocumentJson(), objectMapper);
+        List<String> instanceIds = new ArrayList<>();
+        for (JsonNode instanceIdNode : batchPartDocument.path(BATCH_PART_INSTANCE_IDS_LABEL)) {
+            instanceIds.add(instanceIdNode.asText());
+        }
+        return instanceIds;
+    }
+
+    /**
+     * Creates the result document of a batch part that failed with the given exception. The instance ids of the part are kept
+     * in the result, so that the part deletes them when its dead letter job is moved back to the executable jobs.
+     */
+    public static ObjectNode createFailedBatchPartResult(BatchPart batchPart, Throwable exception, ObjectMapper objectMapper) {
+        ObjectNode resultNode = objectMapper.createObjectNode();
+        resultNode.put(BATCH_DELETED_INSTANCES_LABEL, 0);
+        resultNode.put(BATCH_RESULT_STATUS_LABEL, RESULT_FAIL);
+        if (exception != null) {
+            resultNode.put(BATCH_RESULT_MESSAGE_LABEL, exception.getMessage());
+        }
+
+        JsonNode batchPartDocument;
+        try {
+            batchPartDocument = readJson(batchPart.getResultDocumentJson(), objectMapper);
+        } catch (FlowableException e) {
+            // a document that can't be read has no instance ids to keep
+            return resultNode;
+        }
+        JsonNode instanceIdsNode = batchPartDocument.path(BATCH_PART_INSTANCE_IDS_LABEL);
+        if (instanceIdsNode.isArray()) {
+            resultNode.set(BATCH_PART_INSTANCE_IDS_LABEL, instanceIdsNode);
+        }
+        return resultNode;
+    }
+
+    protected static JsonNode readJson(String json, ObjectMapper objectMapper) {
+        if (json == null) {
+            return objectMapper.createObjectNode();
+        }
+
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read batch document " + json, e);
+        }
+    }
+
+}
@@ -32,7 +32,11 @@ public class CmmnHistoryCleanupJobHandler implements JobHandler {
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
 
-        cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery().deleteWithRelatedData();
+        if (cmmnEngineConfiguration.isEnableBatchHistoryCleaning()) {
+            CmmnHistoryCleanupBatchHelper.createCleanupBatch(commandContext);
+        } else {
+            cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery().deleteWithRelatedData();
+        }
     }
     
 }
@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.job;
+
+import java.util.List;
+
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.history.CmmnHistoryHelper;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.task.service.HistoricTaskService;
+import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the historic case instances of one part of a history cleanup batch, together with their related historic data.
+ * The job handler configuration is the id of the batch part.
+ * <p>
+ * When the deletion fails, the exception is rethrown so that the job is retried. Only when the last retry fails,
+ * the batch part is completed as failed, in a separate transaction. The failed part keeps its instance ids, so it is executed again
+ * when its dead letter job is moved back to the executable jobs.
+ */
+public class HistoricCaseInstanceDeleteJobHandler implements JobHandler {
+
+    public static final String TYPE = "historic-case-delete";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+
+        BatchPart batchPart = batchService.getBatchPart(configuration);
+        if (batchPart == null || CmmnHistoryCleanupBatchHelper.RESULT_SUCCESS.equals(batchPart.getStatus())) {
+            return;
+        }
+
+        if (job.getRetries() <= 1) {
+            // The job is moved to the dead letter jobs when this attempt fails as well.
+            // The changes of this transaction are rolled back then, so the failure is recorded in a new one.
+            Context.getTransactionContext().addTransactionListener(TransactionState.ROLLED_BACK,
+                    transactionCommandContext -> completeFailedBatchPart(batchPart.getId(), commandContext.getException(), cmmnEngineConfiguration));
+        }
+
+        List<String> instanceIds = CmmnHistoryCleanupBatchHelper.getInstanceIds(batchPart, cmmnEngineConfiguration.getObjectMapper());
+
+        int deletedInstances = 0;
+        for (String instanceId : instanceIds) {
+            if (deleteHistoricCaseInstance(instanceId, cmmnEngineConfiguration, commandContext)) {
+                deletedInstances++;
+            }
+        }
+
+        ObjectNode resultNode = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
+        resultNode.put(CmmnHistoryCleanupBatchHelper.BATCH_DELETED_INSTANCES_LABEL, deletedInstances);
+        resultNode.put(CmmnHistoryCleanupBatchHelper.BATCH_RESULT_STATUS_LABEL, CmmnHistoryCleanupBatchHelper.RESULT_SUCCESS);
+        batchService.completeBatchPart(batchPart.getId(), CmmnHistoryCleanupBatchHelper.RESULT_SUCCESS, resultNode.toString());
+    }
+
+    protected void completeFailedBatchPart(String batchPartId, Throwable exception, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        CommandExecutor commandExecutor = cmmnEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = commandExecutor.getDefaultConfig().transactionRequiresNew();
+        commandExecutor.execute(commandConfig, commandContext -> {
+            BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+            BatchPart batchPart = batchService.getBatchPart(batchPartId);
+            ObjectNode resultNode = CmmnHistoryCleanupBatchHelper.createFailedBatchPartResult(batchPart, exception, cmmnEngineConfiguration.getObjectMapper());
+            batchService.completeBatchPart(batchPartId, CmmnHistoryCleanupBatchHelper.RESULT_FAIL, resultNode.toString());
+            return null;
+        });
+    }
+
+    protected boolean deleteHistoricCaseInstance(String caseInstanceId, CmmnEngineConfiguration cmmnEngineConfiguration, CommandContext commandContext) {
+        HistoricCaseInstanceEntityManager historicCaseInstanceEntityManager = CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext);
+        HistoricCaseInstanceEntity historicCaseInstance = historicCaseInstanceEntityManager.findById(caseInstanceId);
+        if (historicCaseInstance == null || historicCaseInstance.getEndTime() == null) {
+            // Already deleted (e.g. when the part is executed again after a crash) or not finished anymore
+            return false;
+        }
+
+        deleteHistoricTasks(caseInstanceId, historicCaseInstanceEntityManager, commandContext);
+        CmmnHistoryHelper.deleteHistoricCaseInstance(cmmnEngineConfiguration, caseInstanceId);
+
+        return true;
+    }
+
+    protected void deleteHistoricTasks(String caseInstanceId, HistoricCaseInstanceEntityManager historicCaseInstanceEntityManager, CommandContext commandContext) {
+        HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService(commandContext);
+        List<HistoricTaskInstance> historicTaskInstances = historicTaskService.findHistoricTaskInstancesByQueryCriteria(
+                new HistoricTaskInstanceQueryImpl().caseInstanceId(caseInstanceId));
+        for (HistoricTaskInstance historicTaskInstance : historicTaskInstances) {
+            historicTaskService.deleteHistoricTaskLogEntriesForTaskId(historicTaskInstance.getId());
+            CommandContextUtil.getHistoricIdentityLinkService().deleteHistoricIdentityLinksByTaskId(historicTaskInstance.getId());
+            CommandContextUtil.getHistoricVariableService(commandContext).deleteHistoricVariableInstancesByTaskId(historicTaskInstance.getId());
+            historicTaskService.deleteHistoricTask((HistoricTaskInstanceEntity) historicTaskInstance);
+        }
+
+        // The sub cases are deleted together with their parent case instance, so their tasks need to be deleted as well
+        for (HistoricCaseInstance childCaseInstance : historicCaseInstanceEntityManager.createHistoricCaseInstanceQuery().caseInstanceParentId(caseInstanceId).list()) {
+            deleteHistoricTasks(childCaseInstance.getId(), historicCaseInstanceEntityManager, commandContext);
+        }
+    }
+
+}
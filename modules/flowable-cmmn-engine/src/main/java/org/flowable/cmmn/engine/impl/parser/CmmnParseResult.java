@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntity;
 import org.flowable.cmmn.model.Case;
 import org.flowable.cmmn.model.CmmnModel;
@@ -35,6 +36,7 @@ public class CmmnParseResult {
     protected List<CaseDefinitionEntity> definitions = new ArrayList<>();
     protected Map<CaseDefinitionEntity, CmmnModel> mapDefinitionsToCmmnModel = new HashMap<>();
     protected Map<CaseDefinitionEntity, EngineResource> mapDefinitionsToResources = new HashMap<>();
+    protected Map<CaseDefinitionEntity, SentryDependencyIndex> mapDefinitionsToSentryDependencyIndex = new HashMap<>();
     
     public CmmnParseResult() {
         
@@ -86,6 +88,14 @@ public class CmmnParseResult {
         return mapDefinitionsToCmmnModel.get(caseDefinition);
     }
 
+    public void addSentryDependencyIndex(CaseDefinitionEntity caseDefinition, SentryDependencyIndex sentryDependencyIndex) {
+        mapDefinitionsToSentryDependencyIndex.put(caseDefinition, sentryDependencyIndex);
+    }
+
+    public SentryDependencyIndex getSentryDependencyIndexForCaseDefinition(CaseDefinitionEntity caseDefinition) {
+        return mapDefinitionsToSentryDependencyIndex.get(caseDefinition);
+    }
+
     public Case getCmmnCaseForCaseDefinition(CaseDefinitionEntity caseDefinition) {
         CmmnModel model = getCmmnModelForCaseDefinition(caseDefinition);
         return (model == null ? null : model.getCaseById(caseDefinition.getKey()));
@@ -102,6 +112,7 @@ public class CmmnParseResult {
             addCaseDefinition(caseDefinitionEntity,
                     cmmnParseResult.getResourceForCaseDefinition(caseDefinitionEntity),
                     cmmnParseResult.getCmmnModelForCaseDefinition(caseDefinitionEntity));
+            addSentryDependencyIndex(caseDefinitionEntity, cmmnParseResult.getSentryDependencyIndexForCaseDefinition(caseDefinitionEntity));
         }
     }
 
@@ -15,6 +15,7 @@ package org.flowable.cmmn.engine.impl.parser.handler;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.parser.CmmnParseResult;
 import org.flowable.cmmn.engine.impl.parser.CmmnParserImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntity;
@@ -45,6 +46,8 @@ public class CaseParseHandler extends AbstractCmmnParseHandler<Case> {
         cmmnParseResult.addCaseDefinition(caseDefinitionEntity, cmmnParseResult.getResourceEntity(), cmmnParseResult.getCmmnModel());
 
         processPlanFragment(cmmnParser, cmmnParseResult, caze.getPlanModel());
+
+        cmmnParseResult.addSentryDependencyIndex(caseDefinitionEntity, new SentryDependencyIndex(caze));
     }
 
 }
@@ -17,7 +17,9 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstanceQuery;
@@ -44,6 +46,8 @@ import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntityManage
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.flowable.task.service.impl.persistence.entity.TaskEntityManager;
+import org.flowable.variable.service.impl.persistence.entity.VariableInitializingList;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityManager;
 
 /**
@@ -74,9 +78,38 @@ public class CaseInstanceEntityManagerImpl
 
     @Override
     public List<CaseInstance> findWithVariablesByCriteria(CaseInstanceQuery query) {
+        if (engineConfiguration.isEnableBatchedRelatedEntityFetching()) {
+            List<CaseInstance> caseInstances = dataManager.findByCriteria((CaseInstanceQueryImpl) query);
+            fetchCaseVariables(caseInstances);
+            return caseInstances;
+        }
         return dataManager.findWithVariablesByCriteria((CaseInstanceQueryImpl) query);
     }
 
+    /**
+     * Loads the case variables for the given page of case instances with batched queries and adds them to the query variables of the case instances.
+     */
+    protected void fetchCaseVariables(List<CaseInstance> caseInstances) {
+        if (caseInstances.isEmpty()) {
+            return;
+        }
+
+        Map<String, CaseInstanceEntityImpl> caseInstancesById = new HashMap<>();
+        for (CaseInstance caseInstance : caseInstances) {
+            CaseInstanceEntityImpl caseInstanceEntity = (CaseInstanceEntityImpl) caseInstance;
+            caseInstanceEntity.setQueryVariables(new VariableInitializingList());
+            caseInstancesById.put(caseInstanceEntity.getId(), caseInstanceEntity);
+        }
+
+        List<VariableInstanceEntity> variables = CommandContextUtil.getVariableService().findVariableInstancesByScopeIdsAndScopeType(caseInstancesById.keySet(), ScopeTypes.CMMN);
+        for (VariableInstanceEntity variable : variables) {
+            CaseInstanceEntityImpl caseInstanceEntity = caseInstancesById.get(variable.getScopeId());
+            if (caseInstanceEntity != null) {
+                caseInstanceEntity.getQueryVariables().add(variable);
+            }
+        }
+    }
+
     @Override
     public long countByCriteria(CaseInstanceQuery query) {
         return dataManager.countByCriteria((CaseInstanceQueryImpl) query);
@@ -13,14 +13,20 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.HistoricCaseInstanceDataManager;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.AbstractEngineEntityManager;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInitializingList;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -51,9 +57,40 @@ public class HistoricCaseInstanceEntityManagerImpl
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQuery query) {
+        if (engineConfiguration.isEnableBatchedRelatedEntityFetching()) {
+            List<HistoricCaseInstance> historicCaseInstances = dataManager.findByCriteria((HistoricCaseInstanceQueryImpl) query);
+            fetchCaseVariables(historicCaseInstances);
+            return historicCaseInstances;
+        }
         return dataManager.findWithVariablesByQueryCriteria((HistoricCaseInstanceQueryImpl) query);
     }
 
+    /**
+     * Loads the historic case variables for the given page of historic case instances with batched queries and adds them
+     * to the query variables of the historic case instances.
+     */
+    protected void fetchCaseVariables(List<HistoricCaseInstance> historicCaseInstances) {
+        if (historicCaseInstances.isEmpty()) {
+            return;
+        }
+
+        Map<String, HistoricCaseInstanceEntityImpl> historicCaseInstancesById = new HashMap<>();
+        for (HistoricCaseInstance historicCaseInstance : historicCaseInstances) {
+            HistoricCaseInstanceEntityImpl historicCaseInstanceEntity = (HistoricCaseInstanceEntityImpl) historicCaseInstance;
+            historicCaseInstanceEntity.setQueryVariables(new HistoricVariableInitializingList());
+            historicCaseInstancesById.put(historicCaseInstanceEntity.getId(), historicCaseInstanceEntity);
+        }
+
+        List<HistoricVariableInstanceEntity> variables = CommandContextUtil.getHistoricVariableService()
+                .findHistoricVariableInstancesByScopeIdsAndScopeType(historicCaseInstancesById.keySet(), ScopeTypes.CMMN);
+        for (HistoricVariableInstanceEntity variable : variables) {
+            HistoricCaseInstanceEntityImpl historicCaseInstanceEntity = historicCaseInstancesById.get(variable.getScopeId());
+            if (historicCaseInstanceEntity != null) {
+                historicCaseInstanceEntity.getQueryVariables().add(variable);
+            }
+        }
+    }
+
     @Override
     public long countByCriteria(HistoricCaseInstanceQuery query) {
         return dataManager.countByCriteria((HistoricCaseInstanceQueryImpl) query);
@@ -14,6 +14,7 @@ package org.flowable.cmmn.engine.impl.repository;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.deployer.CmmnDeploymentManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
@@ -64,4 +65,17 @@ public class CaseDefinitionUtil {
         return getCmmnModel(caseDefinitionId).getPrimaryCase();
     }
 
+    /**
+     * @return the {@link SentryDependencyIndex} built when the case definition was parsed, or null if the cache entry doesn't have one
+     */
+    public static SentryDependencyIndex getSentryDependencyIndex(String caseDefinitionId) {
+        CmmnDeploymentManager deploymentManager = CommandContextUtil.getCmmnEngineConfiguration().getDeploymentManager();
+        CaseDefinitionCacheEntry cacheEntry = deploymentManager.getCaseDefinitionCache().get(caseDefinitionId);
+        if (cacheEntry == null) {
+            deploymentManager.findDeployedCaseDefinitionById(caseDefinitionId);
+            cacheEntry = deploymentManager.getCaseDefinitionCache().get(caseDefinitionId);
+        }
+        return cacheEntry != null ? cacheEntry.getSentryDependencyIndex() : null;
+    }
+
 }
@@ -15,9 +15,13 @@ package org.flowable.cmmn.test.eventregistry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.flowable.cmmn.api.repository.CaseDefinition;
@@ -30,6 +34,7 @@ import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRepositoryService;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.impl.BatchingInboundEventProcessor;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.junit.After;
 import org.junit.Before;
@@ -77,6 +82,25 @@ public class CmmnEventRegistryConsumerTest extends FlowableCmmnTestCase {
     }
 
 
+    /**
+     * Triggers the events on separate threads, as the batching inbound event processor waits until the batch of an event is processed.
+     */
+    protected void triggerConcurrently(Runnable... triggers) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(triggers.length);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable trigger : triggers) {
+                futures.add(executorService.submit(trigger));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     @After
     public void unregisterEventDefinition() {
         getEventRegistry().removeChannelDefinition("test-channel");
@@ -126,6 +150,42 @@ public class CmmnEventRegistryConsumerTest extends FlowableCmmnTestCase {
         assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(gonzoCase.getId()).list()).hasSize(2);
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerWithCorrelation.cmmn")
+    public void testGenericEventListenerWithCorrelationInBatch() throws Exception {
+        CaseInstance kermitCase = cmmnRuntimeService.createCaseInstanceBuilder()
+            .caseDefinitionKey("singleCorrelationCase")
+            .variable("customerIdVar", "kermit")
+            .start();
+        CaseInstance gonzoCase = cmmnRuntimeService.createCaseInstanceBuilder()
+            .caseDefinitionKey("singleCorrelationCase")
+            .variable("customerIdVar", "gonzo")
+            .start();
+        CaseInstance fozzieCase = cmmnRuntimeService.createCaseInstanceBuilder()
+            .caseDefinitionKey("singleCorrelationCase")
+            .variable("customerIdVar", "fozzie")
+            .start();
+
+        BatchingInboundEventProcessor inboundEventProcessor = new BatchingInboundEventProcessor(getEventRegistry(), 10, 500, 100);
+        getEventRegistry().setInboundEventProcessor(inboundEventProcessor);
+        try {
+            triggerConcurrently(
+                () -> inboundEventChannelAdapter.triggerTestEvent("kermit"),
+                () -> inboundEventChannelAdapter.triggerTestEvent("piggy"),
+                () -> inboundEventChannelAdapter.triggerTestEvent("gonzo"),
+                // matches the same plan item instance as the first event, the repeating event listener is triggered twice
+                () -> inboundEventChannelAdapter.triggerTestEvent("kermit"));
+
+        } finally {
+            inboundEventProcessor.shutdown();
+            getEventRegistry().setInboundEventProcessor(getEventRegistryEngineConfiguration().getInboundEventProcessor());
+        }
+
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list()).hasSize(3);
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(gonzoCase.getId()).list()).hasSize(2);
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(fozzieCase.getId()).list()).hasSize(1);
+    }
+
     @Test
     @CmmnDeployment(resources = {
         "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerNoCorrelation.cmmn",
@@ -12,25 +12,38 @@
  */
 package org.flowable.cmmn.test.history;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.Map;
 
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.BatchQueryImpl;
 import org.flowable.cmmn.api.CmmnHistoryService;
 import org.flowable.cmmn.api.CmmnManagementService;
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.CmmnTaskService;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupBatchHelper;
 import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.cmmn.engine.impl.job.HistoricCaseInstanceDeleteJobHandler;
+import org.flowable.cmmn.engine.impl.job.HistoricCaseInstanceDeleteStatusJobHandler;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.engine.test.CmmnConfigurationResource;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnTest;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.job.api.Job;
+import org.flowable.job.service.JobHandler;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
 
@@ -100,4 +113,175 @@ public class HistoricDataEngineDeleteTest {
             cmmnEngineConfiguration.resetClock();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @CmmnDeployment(resources="org/flowable/cmmn/test/human-task-milestone-model.cmmn")
+    public void testHistoryCleanupTimerJobWithBatch(CmmnEngineConfiguration cmmnEngineConfiguration, CmmnRuntimeService cmmnRuntimeService,
+                    CmmnHistoryService cmmnHistoryService, CmmnTaskService cmmnTaskService, CmmnManagementService cmmnManagementService) {
+
+        cmmnEngineConfiguration.setEnableBatchHistoryCleaning(true);
+        cmmnEngineConfiguration.setCleanInstancesBatchSize(3);
+        cmmnEngineConfiguration.setCleanInstancesMaxBatchParts(2);
+        try {
+            // the engine is shared by the tests of this class, so the cleanup timer job could already have been deleted
+            cmmnManagementService.handleHistoryCleanupTimerJob();
+
+            Clock clock = cmmnEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            List<String> caseInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+                caseInstanceIds.add(caseInstance.getId());
+                cmmnRuntimeService.setVariable(caseInstance.getId(), "testVar", "testValue" + (i + 1));
+            }
+
+            if (cmmnEngineConfiguration.getHistoryLevel() != HistoryLevel.NONE) {
+
+                for (int i = 0; i < 10; i++) {
+                    Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstanceIds.get(i)).singleResult();
+                    cmmnTaskService.complete(task.getId());
+                }
+
+                Job executableJob = cmmnManagementService.moveTimerToExecutableJob(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                cmmnManagementService.executeJob(executableJob.getId());
+
+                // The instances are deleted by the async jobs of the batch parts, at most 6 instances per batch
+                assertEquals(20, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+                assertEquals(2, cmmnManagementService.createJobQuery().handlerType(HistoricCaseInstanceDeleteJobHandler.TYPE).count());
+
+                int batches = 0;
+                while (cmmnManagementService.createTimerJobQuery().handlerType(HistoricCaseInstanceDeleteStatusJobHandler.TYPE).count() > 0) {
+                    batches++;
+                    for (Job job : cmmnManagementService.createJobQuery().handlerType(HistoricCaseInstanceDeleteJobHandler.TYPE).list()) {
+                        cmmnManagementService.executeJob(job.getId());
+                    }
+
+                    Job statusJob = cmmnManagementService.moveTimerToExecutableJob(
+                            cmmnManagementService.createTimerJobQuery().handlerType(HistoricCaseInstanceDeleteStatusJobHandler.TYPE).singleResult().getId());
+                    cmmnManagementService.executeJob(statusJob.getId());
+                }
+
+                assertEquals(2, batches);
+                assertEquals(10, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+                assertEquals(10, cmmnHistoryService.createHistoricTaskInstanceQuery().count());
+
+                for (int i = 0; i < 20; i++) {
+                    if (i < 10) {
+                        assertEquals(0, cmmnHistoryService.getHistoricIdentityLinksForCaseInstance(caseInstanceIds.get(i)).size());
+                        assertEquals(0, cmmnHistoryService.createHistoricTaskLogEntryQuery().caseInstanceId(caseInstanceIds.get(i)).count());
+                        assertEquals(0, cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstanceIds.get(i)).count());
+                        assertEquals(0, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstanceIds.get(i)).count());
+                    } else {
+                        assertEquals(1, cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstanceIds.get(i)).count());
+                    }
+                }
+
+                cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                    for (Batch batch : CommandContextUtil.getBatchService(commandContext).findBatchesByQueryCriteria(
+                            new BatchQueryImpl().batchType(Batch.HISTORIC_CASE_DELETE_TYPE))) {
+                        assertEquals(CmmnHistoryCleanupBatchHelper.STATUS_COMPLETED, batch.getStatus());
+                        CommandContextUtil.getBatchService(commandContext).deleteBatch(batch.getId());
+                    }
+                    return null;
+                });
+
+                cmmnManagementService.deleteTimerJob(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            cmmnEngineConfiguration.setEnableBatchHistoryCleaning(false);
+            cmmnEngineConfiguration.setCleanInstancesBatchSize(100);
+            cmmnEngineConfiguration.setCleanInstancesMaxBatchParts(50);
+            cmmnEngineConfiguration.resetClock();
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources="org/flowable/cmmn/test/human-task-milestone-model.cmmn")
+    public void testHistoryCleanupFailedBatchPartIsExecutedAgain(CmmnEngineConfiguration cmmnEngineConfiguration, CmmnRuntimeService cmmnRuntimeService,
+                    CmmnHistoryService cmmnHistoryService, CmmnTaskService cmmnTaskService, CmmnManagementService cmmnManagementService) {
+
+        cmmnEngineConfiguration.setEnableBatchHistoryCleaning(true);
+        Map<String, JobHandler> jobHandlers = cmmnEngineConfiguration.getJobServiceConfiguration().getJobHandlers();
+        JobHandler deleteJobHandler = jobHandlers.get(HistoricCaseInstanceDeleteJobHandler.TYPE);
+        try {
+            // the engine is shared by the tests of this class, so the cleanup timer job could already have been deleted
+            cmmnManagementService.handleHistoryCleanupTimerJob();
+
+            Clock clock = cmmnEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            for (int i = 0; i < 3; i++) {
+                CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+                Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+                cmmnTaskService.complete(task.getId());
+            }
+
+            if (cmmnEngineConfiguration.getHistoryLevel() != HistoryLevel.NONE) {
+
+                // every execution of the part fails after an instance has been deleted, so the deletion is rolled back
+                jobHandlers.put(HistoricCaseInstanceDeleteJobHandler.TYPE, new HistoricCaseInstanceDeleteJobHandler() {
+
+                    @Override
+                    protected boolean deleteHistoricCaseInstance(String caseInstanceId, CmmnEngineConfiguration cmmnEngineConfiguration, CommandContext commandContext) {
+                        super.deleteHistoricCaseInstance(caseInstanceId, cmmnEngineConfiguration, commandContext);
+                        throw new FlowableException("Deleting the historic case instance failed");
+                    }
+                });
+
+                Job executableJob = cmmnManagementService.moveTimerToExecutableJob(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                cmmnManagementService.executeJob(executableJob.getId());
+
+                String batchPartId = cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                    BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+                    Batch batch = batchService.findBatchesByQueryCriteria(new BatchQueryImpl().batchType(Batch.HISTORIC_CASE_DELETE_TYPE)).get(0);
+                    return batchService.findBatchPartsByBatchId(batch.getId()).get(0).getId();
+                });
+
+                Job job = cmmnManagementService.createJobQuery().handlerType(HistoricCaseInstanceDeleteJobHandler.TYPE).singleResult();
+                while (job != null) {
+                    String jobId = job.getId();
+                    assertThatThrownBy(() -> cmmnManagementService.executeJob(jobId)).isInstanceOf(FlowableException.class);
+
+                    Job timerJob = cmmnManagementService.createTimerJobQuery().handlerType(HistoricCaseInstanceDeleteJobHandler.TYPE).singleResult();
+                    job = timerJob != null ? cmmnManagementService.moveTimerToExecutableJob(timerJob.getId()) : null;
+                }
+
+                assertEquals(CmmnHistoryCleanupBatchHelper.RESULT_FAIL, getBatchPart(cmmnEngineConfiguration, batchPartId).getStatus());
+                assertEquals(3, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+
+                // the failed part still knows its instances when its dead letter job is executed again
+                jobHandlers.put(HistoricCaseInstanceDeleteJobHandler.TYPE, deleteJobHandler);
+                Job deadLetterJob = cmmnManagementService.createDeadLetterJobQuery().handlerType(HistoricCaseInstanceDeleteJobHandler.TYPE).singleResult();
+                cmmnManagementService.executeJob(cmmnManagementService.moveDeadLetterJobToExecutableJob(deadLetterJob.getId(), 1).getId());
+
+                assertEquals(0, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+                assertEquals(CmmnHistoryCleanupBatchHelper.RESULT_SUCCESS, getBatchPart(cmmnEngineConfiguration, batchPartId).getStatus());
+
+                cmmnManagementService.deleteTimerJob(cmmnManagementService.createTimerJobQuery().handlerType(HistoricCaseInstanceDeleteStatusJobHandler.TYPE).singleResult().getId());
+                cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                    for (Batch batch : CommandContextUtil.getBatchService(commandContext).findBatchesByQueryCriteria(
+                            new BatchQueryImpl().batchType(Batch.HISTORIC_CASE_DELETE_TYPE))) {
+                        CommandContextUtil.getBatchService(commandContext).deleteBatch(batch.getId());
+                    }
+                    return null;
+                });
+                cmmnManagementService.deleteTimerJob(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            jobHandlers.put(HistoricCaseInstanceDeleteJobHandler.TYPE, deleteJobHandler);
+            cmmnEngineConfiguration.setEnableBatchHistoryCleaning(false);
+            cmmnEngineConfiguration.resetClock();
+        }
+    }
+
+    protected BatchPart getBatchPart(CmmnEngineConfiguration cmmnEngineConfiguration, String batchPartId) {
+        return cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> CommandContextUtil.getBatchService(commandContext).getBatchPart(batchPartId));
+    }
+}
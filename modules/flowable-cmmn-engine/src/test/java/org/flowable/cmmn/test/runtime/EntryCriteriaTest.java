@@ -28,6 +28,7 @@ import org.flowable.cmmn.api.repository.CaseDefinition;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
 import org.flowable.task.api.Task;
@@ -91,6 +92,40 @@ public class EntryCriteriaTest extends FlowableCmmnTestCase {
         assertNotNull(historicCaseInstance);
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/EntryCriteriaTest.testThreeEntryCriteriaOnPartsForWaitStates.cmmn")
+    public void testThreeEntryCriteriaOnPartsWithSentryDependencyIndex() {
+        CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().singleResult();
+
+        SentryDependencyIndex sentryDependencyIndex = cmmnEngineConfiguration.getCaseDefinitionCache().get(caseDefinition.getId()).getSentryDependencyIndex();
+        assertThat(sentryDependencyIndex.getEntryCriteriaDependents("planItemTask1", "complete")).containsExactly("planItemMileStoneOne");
+        assertThat(sentryDependencyIndex.getEntryCriteriaDependents("planItemTask1", "start")).isEmpty();
+        assertThat(sentryDependencyIndex.isEntryCriteriaEvaluationNeeded("planItemMileStoneOne", null)).isFalse();
+        assertThat(sentryDependencyIndex.isEntryCriteriaEvaluationNeeded("planItemTask1", null)).isTrue();
+
+        cmmnEngineConfiguration.setEnableSentryDependencyIndex(true);
+        try {
+            CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionId(caseDefinition.getId()).start();
+            List<PlanItemInstance> planItemInstances = cmmnRuntimeService.createPlanItemInstanceQuery()
+                    .caseInstanceId(caseInstance.getId())
+                    .planItemInstanceState(PlanItemInstanceState.ACTIVE)
+                    .orderByName().asc()
+                    .list();
+            assertEquals(3, planItemInstances.size());
+
+            cmmnRuntimeService.triggerPlanItemInstance(planItemInstances.get(0).getId());
+            cmmnRuntimeService.triggerPlanItemInstance(planItemInstances.get(1).getId());
+            assertEquals(0, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).count());
+
+            cmmnRuntimeService.triggerPlanItemInstance(planItemInstances.get(2).getId());
+            assertEquals(1, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).count());
+            assertCaseInstanceEnded(caseInstance);
+
+        } finally {
+            cmmnEngineConfiguration.setEnableSentryDependencyIndex(false);
+        }
+    }
+
     @Test
     @CmmnDeployment
     public void testMultipleEntryCriteria() {
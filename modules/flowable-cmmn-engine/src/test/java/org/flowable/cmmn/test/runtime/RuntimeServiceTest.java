@@ -686,6 +686,42 @@ public class RuntimeServiceTest extends FlowableCmmnTestCase {
         testIncludeVariablesWithPagination(cmmnHistoryService.createHistoricCaseInstanceQuery().variableValueLessThanOrEqual("numberVar", 10).includeCaseVariables().orderByStartTime().asc());
     }
 
+    @Test
+    @CmmnDeployment(resources = {"org/flowable/cmmn/test/runtime/RuntimeServiceTest.testStartSimplePassthroughCaseWithBlockingTask.cmmn"})
+    public void includeVariablesWithPaginationQueriesAndBatchedRelatedEntityFetching() {
+        createCaseInstances();
+
+        // Local plan item variables are not case variables
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceQuery().orderByStartTime().asc().listPage(25, 1).get(0);
+        PlanItemInstance planItemInstance = cmmnRuntimeService.createPlanItemInstanceQuery()
+                .caseInstanceId(caseInstance.getId())
+                .planItemInstanceState(PlanItemInstanceState.ACTIVE)
+                .singleResult();
+        cmmnRuntimeService.setLocalVariable(planItemInstance.getId(), "localVar", "test");
+
+        cmmnEngineConfiguration.setEnableBatchedRelatedEntityFetching(true);
+        try {
+            assertPaginationQueryIncludeVariables(20, 10, cmmnRuntimeService.createCaseInstanceQuery().includeCaseVariables().orderByStartTime().asc().listPage(20, 10));
+            assertPaginationQueryIncludeVariables(90, 10, cmmnRuntimeService.createCaseInstanceQuery().includeCaseVariables().orderByStartTime().asc().listPage(90, 20));
+            assertPaginationQueryIncludeVariables(0, 100, cmmnRuntimeService.createCaseInstanceQuery().includeCaseVariables().orderByStartTime().asc().list());
+            assertPaginationQueryIncludeVariables(20, 10, cmmnRuntimeService.createCaseInstanceQuery().variableValueEquals("var", "test")
+                    .includeCaseVariables().orderByStartTime().asc().listPage(20, 10));
+            assertPaginationQueryIncludeVariables(0, 0, cmmnRuntimeService.createCaseInstanceQuery().variableValueEquals("var", "test2")
+                    .includeCaseVariables().orderByStartTime().asc().listPage(0, 10));
+
+            assertPaginationHistoricQueryIncludeVariables(20, 10, cmmnHistoryService.createHistoricCaseInstanceQuery().includeCaseVariables().orderByStartTime().asc().listPage(20, 10));
+            assertPaginationHistoricQueryIncludeVariables(90, 10, cmmnHistoryService.createHistoricCaseInstanceQuery().includeCaseVariables().orderByStartTime().asc().listPage(90, 20));
+            assertPaginationHistoricQueryIncludeVariables(0, 100, cmmnHistoryService.createHistoricCaseInstanceQuery().includeCaseVariables().orderByStartTime().asc().list());
+            assertPaginationHistoricQueryIncludeVariables(20, 10, cmmnHistoryService.createHistoricCaseInstanceQuery().variableValueEquals("var", "test")
+                    .includeCaseVariables().orderByStartTime().asc().listPage(20, 10));
+            assertPaginationHistoricQueryIncludeVariables(0, 0, cmmnHistoryService.createHistoricCaseInstanceQuery().variableValueEquals("var", "test2")
+                    .includeCaseVariables().orderByStartTime().asc().listPage(0, 10));
+
+        } finally {
+            cmmnEngineConfiguration.setEnableBatchedRelatedEntityFetching(false);
+        }
+    }
+
     @Test
     @CmmnDeployment(resources = {"org/flowable/cmmn/test/runtime/RuntimeServiceTest.testStartSimplePassthroughCaseWithBlockingTask.cmmn"})
     public void includeVariablesWithEmptyPaginationQueries() {
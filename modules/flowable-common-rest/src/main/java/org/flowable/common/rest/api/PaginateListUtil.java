@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPageable;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
 
@@ -26,6 +27,12 @@ import org.flowable.common.engine.api.query.QueryProperty;
  */
 public interface PaginateListUtil {
 
+    String TOTAL_MODE_EXACT = "exact";
+    String TOTAL_MODE_ESTIMATE = "estimate";
+    String TOTAL_MODE_NONE = "none";
+
+    String ID_COLUMN = "RES.ID_";
+
     /**
      * Uses the pagination parameters from the request and makes sure to order the result and set all pagination attributes for the response to render.
      *
@@ -77,6 +84,14 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getAfter() == null) {
+            paginateRequest.setAfter(requestParams.get("after"));
+        }
+
+        if (paginateRequest.getTotalMode() == null) {
+            paginateRequest.setTotalMode(requestParams.get("totalMode"));
+        }
+
         return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
     }
 
@@ -104,8 +119,23 @@ public interface PaginateListUtil {
             size = 10;
         }
 
+        String after = paginateRequest.getAfter();
+        String totalMode = paginateRequest.getTotalMode();
+        if (totalMode == null) {
+            totalMode = TOTAL_MODE_EXACT;
+        } else if (!TOTAL_MODE_EXACT.equals(totalMode) && !TOTAL_MODE_ESTIMATE.equals(totalMode) && !TOTAL_MODE_NONE.equals(totalMode)) {
+            throw new FlowableIllegalArgumentException("Value for param 'totalMode' is not valid : '" + totalMode + "', must be 'exact', 'estimate' or 'none'");
+        }
+
         String sort = paginateRequest.getSort();
-        if (sort == null) {
+        if (after != null) {
+            // Keyset pagination only knows the id of the last element, so the page is always ordered by id
+            if (sort != null) {
+                throw new FlowableIllegalArgumentException("Param 'sort' can not be combined with param 'after', results are ordered by id");
+            }
+            sort = findIdSortProperty(properties);
+            start = 0;
+        } else if (sort == null) {
             sort = defaultSort;
         }
         String order = paginateRequest.getOrder();
@@ -128,6 +158,9 @@ public interface PaginateListUtil {
             } else {
                 throw new FlowableIllegalArgumentException("Value for param 'order' is not valid : '" + order + "', must be 'asc' or 'desc'");
             }
+
+        } else if (after != null && !order.equals("asc")) {
+            throw new FlowableIllegalArgumentException("Param 'after' only supports ascending order for this resource");
         }
 
         DataResponse<RES> response = new DataResponse<>();
@@ -135,10 +168,34 @@ public interface PaginateListUtil {
         response.setSort(sort);
         response.setOrder(order);
 
+        // When estimating, one extra element is fetched to know whether there are more results
+        int fetchSize = TOTAL_MODE_ESTIMATE.equals(totalMode) && size < Integer.MAX_VALUE ? size + 1 : size;
+        List<REQ> queryResult;
+        if (after != null) {
+            if (!(query instanceof KeysetPageable)) {
+                throw new FlowableIllegalArgumentException("Param 'after' is not supported for this resource");
+            }
+
+            @SuppressWarnings("unchecked")
+            KeysetPageable<REQ> keysetPageableQuery = (KeysetPageable<REQ>) query;
+            queryResult = keysetPageableQuery.listPageAfter(null, after.isEmpty() ? null : after, fetchSize);
+        } else {
+            queryResult = query.listPage(start, fetchSize);
+        }
+
+        boolean hasMore = queryResult.size() > size;
+        if (hasMore) {
+            queryResult = queryResult.subList(0, size);
+        }
+
         // Get result and set pagination parameters
-        List<RES> list = listProcessor.processList(query.listPage(start, size));
-        if (start == 0 && list.size() < size) {
+        List<RES> list = listProcessor.processList(queryResult);
+        if (after == null && start == 0 && list.size() < size) {
             response.setTotal(list.size());
+        } else if (TOTAL_MODE_ESTIMATE.equals(totalMode)) {
+            response.setTotal(start + list.size() + (hasMore ? 1 : 0));
+        } else if (TOTAL_MODE_NONE.equals(totalMode)) {
+            response.setTotal(after == null && list.size() < size ? start + list.size() : -1);
         } else {
             response.setTotal(query.count());
         }
@@ -149,4 +206,18 @@ public interface PaginateListUtil {
         return response;
     }
 
+    /**
+     * Returns the rest attribute of the sort property that orders on the id, or null when there is none.
+     */
+    static String findIdSortProperty(Map<String, QueryProperty> properties) {
+        if (properties != null) {
+            for (Map.Entry<String, QueryProperty> property : properties.entrySet()) {
+                if (ID_COLUMN.equals(property.getValue().getName())) {
+                    return property.getKey();
+                }
+            }
+        }
+        return null;
+    }
+
 }
@@ -29,6 +29,10 @@ public class PaginateRequest {
 
     protected String order;
 
+    protected String after;
+
+    protected String totalMode;
+
     public Integer getStart() {
         return start;
     }
@@ -60,4 +64,28 @@ public class PaginateRequest {
     public void setOrder(String order) {
         this.order = order;
     }
+
+    public String getAfter() {
+        return after;
+    }
+
+    /**
+     * Id of the last element of the previous page. When set, the next page is fetched with keyset pagination ordered by id,
+     * instead of skipping {@code start} rows.
+     */
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    public String getTotalMode() {
+        return totalMode;
+    }
+
+    /**
+     * How the total of the response is calculated: {@code exact} (default) executes a count query,
+     * {@code estimate} returns a lower bound without counting and {@code none} skips the count (total is -1 when unknown).
+     */
+    public void setTotalMode(String totalMode) {
+        this.totalMode = totalMode;
+    }
 }
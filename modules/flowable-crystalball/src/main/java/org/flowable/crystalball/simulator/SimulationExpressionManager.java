@@ -17,7 +17,6 @@ import java.beans.FeatureDescriptor;
 import java.util.Iterator;
 import java.util.Map;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.javax.el.CompositeELResolver;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
@@ -37,10 +36,10 @@ public class SimulationExpressionManager extends ProcessExpressionManager {
     }
     
     @Override
-    protected ELResolver createElResolver(VariableContainer variableContainer) {
+    protected ELResolver createCompositeElResolver(ELResolver variableElResolver) {
         CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(new SimulationScopeElResolver(variableContainer));
-        compositeElResolver.add(super.createElResolver(variableContainer));
+        compositeElResolver.add(new SimulationScopeElResolver());
+        compositeElResolver.add(super.createCompositeElResolver(variableElResolver));
         return compositeElResolver;
     }
 
@@ -48,12 +47,6 @@ public class SimulationExpressionManager extends ProcessExpressionManager {
 
         public static final String EVENT_CALENDAR_KEY = "eventCalendar";
 
-        protected VariableContainer variableContainer;
-
-        public SimulationScopeElResolver(VariableContainer variableContainer) {
-            this.variableContainer = variableContainer;
-        }
-
         @Override
         public Object getValue(ELContext context, Object base, Object property) {
             if (base == null) {
@@ -181,6 +181,24 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to false to evaluate all input entries of decision tables with EL.
+     *
+     * When enabled, a decision table is compiled when it's deployed: the input expressions are evaluated once per execution
+     * and simple unary tests (e.g. <code>== 10</code>, <code>&lt; 5</code> or <code>"gold"</code>) are evaluated without EL.
+     * The results and the audit trail are the same as without compilation.
+     */
+    protected boolean enableDecisionTableCompilation = true;
+
+    /**
+     * Set this to true to skip the rules of a compiled decision table that can't match the input values, based on
+     * an index per input column (a hash index for equality tests, a sorted index for comparisons).
+     *
+     * This speeds up the execution of large decision tables. The decision results are the same, but the skipped rules
+     * are not part of the audit trail of the execution.
+     */
+    protected boolean enableDecisionTableRuleIndex;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -954,6 +972,24 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isEnableDecisionTableCompilation() {
+        return enableDecisionTableCompilation;
+    }
+
+    public DmnEngineConfiguration setEnableDecisionTableCompilation(boolean enableDecisionTableCompilation) {
+        this.enableDecisionTableCompilation = enableDecisionTableCompilation;
+        return this;
+    }
+
+    public boolean isEnableDecisionTableRuleIndex() {
+        return enableDecisionTableRuleIndex;
+    }
+
+    public DmnEngineConfiguration setEnableDecisionTableRuleIndex(boolean enableDecisionTableRuleIndex) {
+        this.enableDecisionTableRuleIndex = enableDecisionTableRuleIndex;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +24,7 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
@@ -32,6 +34,7 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
@@ -91,7 +94,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             sanityCheckDecisionTable(currentDecisionTable);
 
             // evaluate decision table
-            evaluateDecisionTable(currentDecisionTable, executionContext);
+            evaluateDecisionTable(currentDecisionTable, getCompiledDecisionTable(currentDecisionTable, executeDecisionInfo), executionContext);
 
         } catch (FlowableException fe) {
             LOGGER.error("decision table execution sanity check failed", fe);
@@ -134,7 +137,25 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return executionContext.getAuditContainer();
     }
 
+    protected CompiledDecisionTable getCompiledDecisionTable(DecisionTable decisionTable, ExecuteDecisionInfo executeDecisionInfo) {
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        if (!dmnEngineConfiguration.isEnableDecisionTableCompilation() || executeDecisionInfo.getDecisionDefinitionId() == null) {
+            return null;
+        }
+
+        DecisionTableCacheEntry cacheEntry = dmnEngineConfiguration.getDecisionCache().get(executeDecisionInfo.getDecisionDefinitionId());
+        if (cacheEntry == null || cacheEntry.getCompiledDecisionTable() == null || cacheEntry.getCompiledDecisionTable().getDecisionTable() != decisionTable) {
+            return null;
+        }
+
+        return cacheEntry.getCompiledDecisionTable();
+    }
+
     protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
+        evaluateDecisionTable(decisionTable, null, executionContext);
+    }
+
+    protected void evaluateDecisionTable(DecisionTable decisionTable, CompiledDecisionTable compiledDecisionTable, ELExecutionContext executionContext) {
         LOGGER.debug("Start table evaluation: {}", decisionTable.getId());
 
         if (decisionTable == null || decisionTable.getRules().isEmpty()) {
@@ -149,8 +170,24 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+            Object[] inputValues = null;
+            BitSet candidateRules = null;
+            if (compiledDecisionTable != null) {
+                inputValues = compiledDecisionTable.resolveInputValues(executionContext);
+                if (CommandContextUtil.getDmnEngineConfiguration().isEnableDecisionTableRuleIndex()) {
+                    candidateRules = compiledDecisionTable.findCandidateRules(inputValues);
+                }
+            }
+
+            List<DecisionRule> rules = decisionTable.getRules();
+            for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+                if (candidateRules != null && !candidateRules.get(ruleIndex)) {
+                    // the rule can't match the input values
+                    continue;
+                }
+
+                DecisionRule rule = rules.get(ruleIndex);
+                boolean ruleResult = executeRule(rule, ruleIndex, compiledDecisionTable, inputValues, executionContext);
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
@@ -192,6 +229,10 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     }
 
     protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
+        return executeRule(rule, -1, null, null, executionContext);
+    }
+
+    protected boolean executeRule(DecisionRule rule, int ruleIndex, CompiledDecisionTable compiledDecisionTable, Object[] inputValues, ELExecutionContext executionContext) {
         if (rule == null) {
             throw new FlowableException("rule cannot be null");
         }
@@ -204,7 +245,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         boolean conditionResult = false;
 
         // go through conditions
-        for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+        List<RuleInputClauseContainer> inputEntries = rule.getInputEntries();
+        for (int inputEntryIndex = 0; inputEntryIndex < inputEntries.size(); inputEntryIndex++) {
+            RuleInputClauseContainer conditionContainer = inputEntries.get(inputEntryIndex);
 
             // resetting value
             String inputEntryId = conditionContainer.getInputEntry().getId();
@@ -216,7 +259,16 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
                     conditionResult = true;
                 } else {
-                    conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    Boolean compiledResult = null;
+                    if (compiledDecisionTable != null) {
+                        compiledResult = compiledDecisionTable.evaluateInputEntry(ruleIndex, inputEntryIndex, inputValues);
+                    }
+
+                    if (compiledResult != null) {
+                        conditionResult = compiledResult;
+                    } else {
+                        conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    }
                 }
 
                 // add audit entry
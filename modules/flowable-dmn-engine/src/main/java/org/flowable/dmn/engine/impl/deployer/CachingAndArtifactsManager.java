@@ -14,11 +14,13 @@ package org.flowable.dmn.engine.impl.deployer;
 
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.el.DecisionTableCompiler;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 
 /**
@@ -38,6 +40,10 @@ public class CachingAndArtifactsManager {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecisionTable(decisionTable);
             Decision decision = parsedDeployment.getDecisionForDecisionTable(decisionTable);
             DecisionTableCacheEntry cacheEntry = new DecisionTableCacheEntry(decisionTable, dmnDefinition, decision);
+            if (dmnEngineConfiguration.isEnableDecisionTableCompilation() && decision.getExpression() instanceof DecisionTable) {
+                cacheEntry.setCompiledDecisionTable(DecisionTableCompiler.compile((DecisionTable) decision.getExpression(),
+                        dmnEngineConfiguration.getExpressionManager()));
+            }
             decisionTableCache.add(decisionTable.getId(), cacheEntry);
 
             // Add to deployment for further usage
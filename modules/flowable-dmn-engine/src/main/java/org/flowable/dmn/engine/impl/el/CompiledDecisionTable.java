@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.BitSet;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.flowable.dmn.model.DecisionTable;
+
+/**
+ * The compiled form of a decision table, created when the decision table is deployed.
+ * <p>
+ * The input expressions are evaluated once per execution instead of once per rule, and simple unary tests are
+ * evaluated without EL (see {@link CompiledInputEntry}). Optionally, the indexes of the input columns are used to
+ * skip the rules that can't match the input values.
+ *
+ * @see DecisionTableCompiler
+ */
+public class CompiledDecisionTable {
+
+    /**
+     * Marker for an input value that can't be evaluated separately from the input entries.
+     */
+    public static final Object UNRESOLVED = new Object();
+
+    protected DecisionTable decisionTable;
+
+    // per input column, null when the input expression is not a simple variable or property reference
+    protected Expression[] inputExpressions;
+
+    // per rule and input entry of the rule, null when the input entry is evaluated with EL
+    protected CompiledInputEntry[][] inputEntries;
+
+    // per input column
+    protected DecisionTableColumnIndex[] columnIndexes;
+
+    public CompiledDecisionTable(DecisionTable decisionTable, Expression[] inputExpressions, CompiledInputEntry[][] inputEntries,
+            DecisionTableColumnIndex[] columnIndexes) {
+
+        this.decisionTable = decisionTable;
+        this.inputExpressions = inputExpressions;
+        this.inputEntries = inputEntries;
+        this.columnIndexes = columnIndexes;
+    }
+
+    /**
+     * Evaluates the input expressions of the decision table once for the execution.
+     */
+    public Object[] resolveInputValues(ELExecutionContext executionContext) {
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(executionContext.getStackVariables());
+        variableContainer.setInstanceId(executionContext.getInstanceId());
+        variableContainer.setScopeType(executionContext.getScopeType());
+        variableContainer.setTenantId(executionContext.getTenantId());
+
+        Object[] inputValues = new Object[inputExpressions.length];
+        for (int i = 0; i < inputExpressions.length; i++) {
+            inputValues[i] = UNRESOLVED;
+            if (inputExpressions[i] != null) {
+                try {
+                    inputValues[i] = inputExpressions[i].getValue(variableContainer);
+                } catch (RuntimeException e) {
+                    // the input entries of this column are evaluated with EL, which reports the error
+                }
+            }
+        }
+        return inputValues;
+    }
+
+    /**
+     * @return the result of the input entry, or null when the input entry needs to be evaluated with EL
+     */
+    public Boolean evaluateInputEntry(int ruleIndex, int inputEntryIndex, Object[] inputValues) {
+        CompiledInputEntry[] ruleInputEntries = inputEntries[ruleIndex];
+        if (inputEntryIndex >= ruleInputEntries.length || ruleInputEntries[inputEntryIndex] == null) {
+            return null;
+        }
+
+        CompiledInputEntry inputEntry = ruleInputEntries[inputEntryIndex];
+        return inputEntry.evaluate(inputValues[inputEntry.getColumn()]);
+    }
+
+    /**
+     * @return the indexes of the rules that can match the input values, all other rules don't match
+     */
+    public BitSet findCandidateRules(Object[] inputValues) {
+        BitSet candidateRules = new BitSet(inputEntries.length);
+        candidateRules.set(0, inputEntries.length);
+
+        for (int i = 0; i < columnIndexes.length; i++) {
+            if (inputValues[i] == UNRESOLVED) {
+                continue;
+            }
+
+            BitSet columnCandidateRules = columnIndexes[i].findCandidateRules(inputValues[i]);
+            if (columnCandidateRules != null) {
+                candidateRules.and(columnCandidateRules);
+            }
+        }
+
+        return candidateRules;
+    }
+
+    public DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+    public Expression[] getInputExpressions() {
+        return inputExpressions;
+    }
+
+    public CompiledInputEntry[][] getInputEntries() {
+        return inputEntries;
+    }
+
+    public DecisionTableColumnIndex[] getColumnIndexes() {
+        return columnIndexes;
+    }
+}
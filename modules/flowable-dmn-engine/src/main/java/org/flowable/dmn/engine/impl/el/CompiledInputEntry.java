@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+
+/**
+ * A simple unary test of a decision table input entry (e.g. <code>== 10</code>, <code>&lt; 5</code> or <code>"gold"</code>)
+ * that is evaluated without creating an EL expression.
+ * <p>
+ * The comparison is done with the same operations as the EL implementation uses for the pre-parsed expression,
+ * so the outcome is identical. When the comparison can't be done (e.g. the input value can't be coerced to the type of the literal),
+ * no result is returned and the input entry is evaluated with the EL expression instead, which reports the error as before.
+ */
+public class CompiledInputEntry {
+
+    public enum Operator {
+
+        EQ("=="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">=");
+
+        protected final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+    }
+
+    protected final int column;
+    protected final Operator operator;
+    protected final Object literal;
+
+    public CompiledInputEntry(int column, Operator operator, Object literal) {
+        this.column = column;
+        this.operator = operator;
+        this.literal = literal;
+    }
+
+    /**
+     * @return the result of the unary test, or null when the input entry needs to be evaluated with the EL expression
+     */
+    public Boolean evaluate(Object inputValue) {
+        if (inputValue == null || inputValue == CompiledDecisionTable.UNRESOLVED) {
+            return null;
+        }
+
+        try {
+            switch (operator) {
+                case EQ:
+                    return BooleanOperations.eq(TypeConverter.DEFAULT, inputValue, literal);
+                case NE:
+                    return BooleanOperations.ne(TypeConverter.DEFAULT, inputValue, literal);
+                case LT:
+                    return BooleanOperations.lt(TypeConverter.DEFAULT, inputValue, literal);
+                case LE:
+                    return BooleanOperations.le(TypeConverter.DEFAULT, inputValue, literal);
+                case GT:
+                    return BooleanOperations.gt(TypeConverter.DEFAULT, inputValue, literal);
+                case GE:
+                    return BooleanOperations.ge(TypeConverter.DEFAULT, inputValue, literal);
+                default:
+                    return null;
+            }
+
+        } catch (RuntimeException e) {
+            // let the EL expression report the error
+            return null;
+        }
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public Object getLiteral() {
+        return literal;
+    }
+}
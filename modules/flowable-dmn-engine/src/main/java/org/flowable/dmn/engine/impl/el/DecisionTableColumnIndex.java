@@ -0,0 +1,232 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the input entries of one input column of a decision table, used to find the rules that can match an input value.
+ * <p>
+ * Equality tests on integer and string literals are kept in a hash index, comparisons with number literals are kept in arrays
+ * sorted on the bound. The lookup is conservative: it returns all rules that can match, possibly with some rules that don't match.
+ * The returned rules still need to be evaluated.
+ */
+public class DecisionTableColumnIndex {
+
+    // integers up to this value are represented exactly as a double
+    protected static final long MAX_EXACT_INTEGER = 1L << 53;
+
+    protected BitSet unindexedRules = new BitSet();
+    protected Map<Object, BitSet> equalityRules = new HashMap<>();
+    protected BitSet numberEqualityRules = new BitSet();
+    protected BitSet stringEqualityRules = new BitSet();
+    protected BitSet boundRules = new BitSet();
+
+    // rules with 'input < bound' or 'input <= bound', sorted on the bound
+    protected double[] upperBounds;
+    protected int[] upperBoundRules;
+
+    // rules with 'input > bound' or 'input >= bound', sorted on the bound
+    protected double[] lowerBounds;
+    protected int[] lowerBoundRules;
+
+    protected List<Bound> upperBoundList = new ArrayList<>();
+    protected List<Bound> lowerBoundList = new ArrayList<>();
+
+    /**
+     * Adds the input entry of a rule to the index.
+     *
+     * @param inputEntry the compiled input entry, or null when the input entry always matches or can only be evaluated with EL
+     */
+    public void addRule(int ruleIndex, CompiledInputEntry inputEntry) {
+        if (inputEntry == null) {
+            unindexedRules.set(ruleIndex);
+            return;
+        }
+
+        Object literal = inputEntry.getLiteral();
+        switch (inputEntry.getOperator()) {
+            case EQ:
+                if (literal instanceof Long && Math.abs((Long) literal) <= MAX_EXACT_INTEGER) {
+                    equalityRules.computeIfAbsent(literal, key -> new BitSet()).set(ruleIndex);
+                    numberEqualityRules.set(ruleIndex);
+                } else if (literal instanceof String) {
+                    equalityRules.computeIfAbsent(literal, key -> new BitSet()).set(ruleIndex);
+                    stringEqualityRules.set(ruleIndex);
+                } else {
+                    unindexedRules.set(ruleIndex);
+                }
+                break;
+
+            case LT:
+            case LE:
+                if (literal instanceof Number) {
+                    upperBoundList.add(new Bound(((Number) literal).doubleValue(), ruleIndex));
+                    boundRules.set(ruleIndex);
+                } else {
+                    unindexedRules.set(ruleIndex);
+                }
+                break;
+
+            case GT:
+            case GE:
+                if (literal instanceof Number) {
+                    lowerBoundList.add(new Bound(((Number) literal).doubleValue(), ruleIndex));
+                    boundRules.set(ruleIndex);
+                } else {
+                    unindexedRules.set(ruleIndex);
+                }
+                break;
+
+            default:
+                unindexedRules.set(ruleIndex);
+        }
+    }
+
+    /**
+     * Prepares the index for lookups, after all rules are added.
+     */
+    public void build() {
+        upperBoundList.sort((bound1, bound2) -> Double.compare(bound1.value, bound2.value));
+        upperBounds = new double[upperBoundList.size()];
+        upperBoundRules = new int[upperBoundList.size()];
+        for (int i = 0; i < upperBoundList.size(); i++) {
+            upperBounds[i] = upperBoundList.get(i).value;
+            upperBoundRules[i] = upperBoundList.get(i).ruleIndex;
+        }
+
+        lowerBoundList.sort((bound1, bound2) -> Double.compare(bound1.value, bound2.value));
+        lowerBounds = new double[lowerBoundList.size()];
+        lowerBoundRules = new int[lowerBoundList.size()];
+        for (int i = 0; i < lowerBoundList.size(); i++) {
+            lowerBounds[i] = lowerBoundList.get(i).value;
+            lowerBoundRules[i] = lowerBoundList.get(i).ruleIndex;
+        }
+
+        upperBoundList = null;
+        lowerBoundList = null;
+    }
+
+    /**
+     * @return the rules that can match the input value, or null when the index can't be used for the input value
+     */
+    public BitSet findCandidateRules(Object inputValue) {
+        if (inputValue instanceof String) {
+            BitSet candidateRules = (BitSet) unindexedRules.clone();
+            addRules(candidateRules, equalityRules.get(inputValue));
+
+            // a string is coerced to a number when it's compared with a number literal
+            candidateRules.or(numberEqualityRules);
+            candidateRules.or(boundRules);
+            return candidateRules;
+
+        } else if (isStandardNumber(inputValue)) {
+            BitSet candidateRules = (BitSet) unindexedRules.clone();
+            Long integerKey = getIntegerKey((Number) inputValue);
+            if (integerKey != null) {
+                addRules(candidateRules, equalityRules.get(integerKey));
+            }
+
+            // a string literal is coerced to a number when it's compared with a number
+            candidateRules.or(stringEqualityRules);
+
+            // the conversion of the input value to a double is monotonic, so every rule matching
+            // the exact value also matches the double value
+            double value = ((Number) inputValue).doubleValue();
+            if (Double.isNaN(value)) {
+                candidateRules.or(boundRules);
+            } else {
+                for (int i = findFirstBoundNotLessThan(upperBounds, value); i < upperBounds.length; i++) {
+                    candidateRules.set(upperBoundRules[i]);
+                }
+                for (int i = 0; i < lowerBounds.length && lowerBounds[i] <= value; i++) {
+                    candidateRules.set(lowerBoundRules[i]);
+                }
+            }
+            return candidateRules;
+        }
+
+        return null;
+    }
+
+    protected void addRules(BitSet candidateRules, BitSet rules) {
+        if (rules != null) {
+            candidateRules.or(rules);
+        }
+    }
+
+    protected int findFirstBoundNotLessThan(double[] bounds, double value) {
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (bounds[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    protected boolean isStandardNumber(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+                || value instanceof Double || value instanceof Float || value instanceof BigInteger || value instanceof BigDecimal;
+    }
+
+    /**
+     * @return the value as long when it's an integer that can be equal to an indexed integer literal, null otherwise
+     */
+    protected Long getIntegerKey(Number value) {
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = ((BigDecimal) value).stripTrailingZeros();
+            if (decimal.scale() <= 0 && decimal.abs().compareTo(BigDecimal.valueOf(MAX_EXACT_INTEGER)) <= 0) {
+                return decimal.longValue();
+            }
+            return null;
+
+        } else if (value instanceof Double || value instanceof Float) {
+            double doubleValue = value.doubleValue();
+            if (doubleValue == Math.rint(doubleValue) && Math.abs(doubleValue) <= MAX_EXACT_INTEGER) {
+                return (long) doubleValue;
+            }
+            return null;
+
+        } else if (value instanceof BigInteger) {
+            BigInteger integer = (BigInteger) value;
+            if (integer.bitLength() < 63) {
+                return integer.longValue();
+            }
+            return null;
+        }
+
+        return value.longValue();
+    }
+
+    protected static class Bound {
+
+        protected final double value;
+        protected final int ruleIndex;
+
+        public Bound(double value, int ruleIndex) {
+            this.value = value;
+            this.ruleIndex = ruleIndex;
+        }
+    }
+}
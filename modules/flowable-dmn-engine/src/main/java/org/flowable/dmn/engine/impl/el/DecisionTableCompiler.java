@@ -0,0 +1,199 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the {@link CompiledDecisionTable} of a decision table.
+ * <p>
+ * Only input entries that the {@link ELInputEntryExpressionPreParser} turns into a comparison of the input with a number,
+ * string or boolean literal are compiled. All other input entries are evaluated with EL, as before.
+ */
+public class DecisionTableCompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionTableCompiler.class);
+
+    protected static final Pattern SIMPLE_INPUT_EXPRESSION = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)*");
+    protected static final Pattern UNARY_TEST = Pattern.compile("\\s*(==|!=|<=|>=|<|>)\\s*(.*?)\\s*");
+    protected static final Pattern INTEGER_LITERAL = Pattern.compile("(-?)(\\d+)");
+    protected static final Pattern FLOATING_POINT_LITERAL = Pattern.compile("(-?)((\\d+\\.\\d*|\\.\\d+)([eE][+-]?\\d+)?|\\d+[eE][+-]?\\d+)");
+    protected static final Pattern STRING_LITERAL = Pattern.compile("\"([^\"\\\\]*)\"|'([^'\\\\]*)'");
+
+    protected static final Set<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge",
+            "true", "false", "null", "instanceof", "empty", "div", "mod"));
+
+    public static CompiledDecisionTable compile(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        List<InputClause> inputClauses = decisionTable.getInputs();
+        List<DecisionRule> rules = decisionTable.getRules();
+
+        Expression[] inputExpressions = new Expression[inputClauses.size()];
+        for (int i = 0; i < inputClauses.size(); i++) {
+            inputExpressions[i] = compileInputExpression(inputClauses.get(i), expressionManager);
+        }
+
+        CompiledInputEntry[][] inputEntries = new CompiledInputEntry[rules.size()][];
+        DecisionTableColumnIndex[] columnIndexes = new DecisionTableColumnIndex[inputClauses.size()];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            columnIndexes[i] = new DecisionTableColumnIndex();
+        }
+
+        int compiledInputEntries = 0;
+        for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+            List<RuleInputClauseContainer> ruleInputEntries = rules.get(ruleIndex).getInputEntries();
+            inputEntries[ruleIndex] = new CompiledInputEntry[ruleInputEntries.size()];
+
+            boolean[] indexedColumns = new boolean[inputClauses.size()];
+            for (int entryIndex = 0; entryIndex < ruleInputEntries.size(); entryIndex++) {
+                RuleInputClauseContainer ruleInputEntry = ruleInputEntries.get(entryIndex);
+                int column = inputClauses.indexOf(ruleInputEntry.getInputClause());
+                if (column < 0 || indexedColumns[column]) {
+                    continue;
+                }
+
+                CompiledInputEntry inputEntry = null;
+                if (inputExpressions[column] != null) {
+                    inputEntry = compileInputEntry(column, ruleInputEntry);
+                }
+
+                if (inputEntry != null) {
+                    inputEntries[ruleIndex][entryIndex] = inputEntry;
+                    compiledInputEntries++;
+                }
+
+                columnIndexes[column].addRule(ruleIndex, inputEntry);
+                indexedColumns[column] = true;
+            }
+
+            // rules without an input entry for a column always match that column
+            for (int column = 0; column < indexedColumns.length; column++) {
+                if (!indexedColumns[column]) {
+                    columnIndexes[column].addRule(ruleIndex, null);
+                }
+            }
+        }
+
+        for (DecisionTableColumnIndex columnIndex : columnIndexes) {
+            columnIndex.build();
+        }
+
+        LOGGER.debug("Compiled {} input entries of decision table {}", compiledInputEntries, decisionTable.getId());
+
+        return new CompiledDecisionTable(decisionTable, inputExpressions, inputEntries, columnIndexes);
+    }
+
+    protected static Expression compileInputExpression(InputClause inputClause, ExpressionManager expressionManager) {
+        if (inputClause.getInputExpression() == null) {
+            return null;
+        }
+
+        String inputExpression = inputClause.getInputExpression().getText();
+        if (StringUtils.isEmpty(inputExpression) || !SIMPLE_INPUT_EXPRESSION.matcher(inputExpression).matches()) {
+            return null;
+        }
+
+        for (String part : inputExpression.split("\\.")) {
+            if (RESERVED_WORDS.contains(part)) {
+                return null;
+            }
+        }
+
+        return expressionManager.createExpression("#{" + inputExpression + "}");
+    }
+
+    protected static CompiledInputEntry compileInputEntry(int column, RuleInputClauseContainer ruleInputEntry) {
+        String inputEntryText = ruleInputEntry.getInputEntry().getText();
+        if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText) || inputEntryText.startsWith("#{") || inputEntryText.startsWith("${")) {
+            return null;
+        }
+
+        String inputExpression = ruleInputEntry.getInputClause().getInputExpression().getText();
+        String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntryText, inputExpression,
+                ruleInputEntry.getInputClause().getInputExpression().getTypeRef());
+
+        String expressionPrefix = "#{" + inputExpression;
+        if (!parsedExpression.startsWith(expressionPrefix) || !parsedExpression.endsWith("}")) {
+            return null;
+        }
+
+        Matcher unaryTestMatcher = UNARY_TEST.matcher(parsedExpression.substring(expressionPrefix.length(), parsedExpression.length() - 1));
+        if (!unaryTestMatcher.matches()) {
+            return null;
+        }
+
+        Object literal = parseLiteral(unaryTestMatcher.group(2));
+        if (literal == null) {
+            return null;
+        }
+
+        for (CompiledInputEntry.Operator operator : CompiledInputEntry.Operator.values()) {
+            if (operator.getSymbol().equals(unaryTestMatcher.group(1))) {
+                return new CompiledInputEntry(column, operator, literal);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Parses the literal the same way as the EL parser does.
+     *
+     * @return the value of the literal, or null when it's not a literal that can be compiled
+     */
+    protected static Object parseLiteral(String literal) {
+        try {
+            Matcher integerMatcher = INTEGER_LITERAL.matcher(literal);
+            if (integerMatcher.matches()) {
+                long value = Long.parseLong(integerMatcher.group(2));
+                return integerMatcher.group(1).isEmpty() ? value : -value;
+            }
+
+            Matcher floatingPointMatcher = FLOATING_POINT_LITERAL.matcher(literal);
+            if (floatingPointMatcher.matches()) {
+                double value = Double.parseDouble(floatingPointMatcher.group(2));
+                return floatingPointMatcher.group(1).isEmpty() ? value : -value;
+            }
+
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        Matcher stringMatcher = STRING_LITERAL.matcher(literal);
+        if (stringMatcher.matches()) {
+            return stringMatcher.group(1) != null ? stringMatcher.group(1) : stringMatcher.group(2);
+        }
+
+        if ("true".equals(literal)) {
+            return Boolean.TRUE;
+        } else if ("false".equals(literal)) {
+            return Boolean.FALSE;
+        }
+
+        return null;
+    }
+}
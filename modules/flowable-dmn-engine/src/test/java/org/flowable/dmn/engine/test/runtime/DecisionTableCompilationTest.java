@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DecisionTableCompilationTest {
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @Test
+    @DmnDeployment
+    public void compiledDecisionTable() {
+        DmnEngine dmnEngine = flowableDmnRule.getDmnEngine();
+        DmnEngineConfiguration dmnEngineConfiguration = dmnEngine.getDmnEngineConfiguration();
+
+        List<Object> amounts = Arrays.asList(10, 10L, 10.0, new BigDecimal("10.00"), 5, 20, -5, -5.5, 10.5, 11, 0, "10", null);
+        List<Object> categories = Arrays.asList("gold", "silver", "bronze", "other", null);
+
+        try {
+            dmnEngineConfiguration.setEnableDecisionTableCompilation(false);
+            List<List<Map<String, Object>>> expectedResults = executeDecision(dmnEngine.getDmnRuleService(), amounts, categories);
+
+            dmnEngineConfiguration.setEnableDecisionTableCompilation(true);
+            assertEquals(expectedResults, executeDecision(dmnEngine.getDmnRuleService(), amounts, categories));
+
+            dmnEngineConfiguration.setEnableDecisionTableRuleIndex(true);
+            assertEquals(expectedResults, executeDecision(dmnEngine.getDmnRuleService(), amounts, categories));
+
+        } finally {
+            dmnEngineConfiguration.setEnableDecisionTableCompilation(true);
+            dmnEngineConfiguration.setEnableDecisionTableRuleIndex(false);
+        }
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/DecisionTableCompilationTest.compiledDecisionTable.dmn")
+    public void ruleIndex() {
+        DmnEngine dmnEngine = flowableDmnRule.getDmnEngine();
+        DmnEngineConfiguration dmnEngineConfiguration = dmnEngine.getDmnEngineConfiguration();
+
+        try {
+            dmnEngineConfiguration.setEnableDecisionTableRuleIndex(true);
+
+            List<Map<String, Object>> result = dmnEngine.getDmnRuleService().createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .variable("amount", 20)
+                    .variable("category", "silver")
+                    .execute();
+
+            assertEquals(3, result.size());
+            assertEquals("ge 10.5 not gold", result.get(0).get("outputVariable1"));
+            assertEquals("gt 0 silver or bronze", result.get(1).get("outputVariable1"));
+            assertEquals("eq 20 silver", result.get(2).get("outputVariable1"));
+
+            result = dmnEngine.getDmnRuleService().createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .variable("amount", 5)
+                    .variable("category", "gold")
+                    .execute();
+
+            assertEquals(1, result.size());
+            assertEquals("lt 10 gold", result.get(0).get("outputVariable1"));
+
+        } finally {
+            dmnEngineConfiguration.setEnableDecisionTableRuleIndex(false);
+        }
+    }
+
+    protected List<List<Map<String, Object>>> executeDecision(DmnRuleService dmnRuleService, List<Object> amounts, List<Object> categories) {
+        List<List<Map<String, Object>>> results = new ArrayList<>();
+        for (Object amount : amounts) {
+            for (Object category : categories) {
+                results.add(dmnRuleService.createExecuteDecisionBuilder()
+                        .decisionKey("decision1")
+                        .variable("amount", amount)
+                        .variable("category", category)
+                        .execute());
+            }
+        }
+        return results;
+    }
+}
@@ -15,12 +15,10 @@ package org.flowable.dmn.spring;
 
 import java.util.Map;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.JsonNodeELResolver;
 import org.flowable.common.engine.impl.el.ReadOnlyMapELResolver;
 import org.flowable.common.engine.impl.javax.el.ArrayELResolver;
-import org.flowable.common.engine.impl.javax.el.BeanELResolver;
 import org.flowable.common.engine.impl.javax.el.CompositeELResolver;
 import org.flowable.common.engine.impl.javax.el.CouldNotResolvePropertyELResolver;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
@@ -49,9 +47,9 @@ public class SpringDmnExpressionManager extends DefaultExpressionManager {
     }
     
     @Override
-    protected ELResolver createElResolver(VariableContainer variableContainer) {
+    protected ELResolver createCompositeElResolver(ELResolver variableElResolver) {
         CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(createVariableElResolver(variableContainer));
+        compositeElResolver.add(variableElResolver);
 
         if (beans != null) {
             // Only expose limited set of beans in expressions
@@ -65,7 +63,7 @@ public class SpringDmnExpressionManager extends DefaultExpressionManager {
         compositeElResolver.add(new ListELResolver());
         compositeElResolver.add(new MapELResolver());
         compositeElResolver.add(new JsonNodeELResolver());
-        compositeElResolver.add(new BeanELResolver());
+        compositeElResolver.add(createBeanElResolver());
         compositeElResolver.add(new CouldNotResolvePropertyELResolver());
         return compositeElResolver;
     }
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+import java.util.List;
+
+/**
+ * Describes methods for Queries that support keyset pagination.
+ */
+public interface KeysetPageable<U> {
+
+    /**
+     * Executes the query and gets the page of results that comes after the given last result of the previous page (keyset pagination).
+     * Contrary to {@link Query#listPage(int, int)}, no rows need to be skipped by the database, which keeps deep pages on large tables cheap.
+     * <p>
+     * The query can be ordered by at most one property next to the id. The id is always added as a tie-breaker, in the same direction.
+     * Null values of the order by property are ordered as the largest value. Pass {@code null} as {@code lastId} to get the first page.
+     *
+     * @param lastSortValue the value of the order by property of the last result of the previous page (which can be null), ignored when only ordered by id
+     * @param lastId the id of the last result of the previous page
+     * @param maxResults the maximum number of results to return
+     */
+    List<U> listPageAfter(Object lastSortValue, String lastId, int maxResults);
+
+}
@@ -82,6 +82,7 @@ import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.DirtyTrackingEntityCacheImpl;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
@@ -196,6 +197,22 @@ public abstract class AbstractEngineConfiguration {
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, the updates and deletes of entities are sent to the database as jdbc batches when flushing a session,
+     * instead of executing one statement per entity. The row count of every statement is still checked for optimistic locking.
+     * Default false.
+     * <p>
+     * Note that the jdbc driver needs to report the row count per batched statement for the optimistic locking checks.
+     */
+    protected boolean isBatchedFlushEnabled;
+
+    /**
+     * If set to true, entities that track changes to their own fields (execution, task, variable and job entities) aren't
+     * snapshotted when loaded and are only compared at flush time when one of their fields was changed.
+     * Default false.
+     */
+    protected boolean isEntityDirtyTrackingEnabled;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 60; // currently Execution has most params (31). 2000 / 31 = 64.
 
     protected String mybatisMappingFile;
@@ -686,7 +703,8 @@ public abstract class AbstractEngineConfiguration {
                 initDbSqlSessionFactory();
             }
 
-            addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            addSessionFactory(new GenericManagerFactory(EntityCache.class,
+                    isEntityDirtyTrackingEnabled ? DirtyTrackingEntityCacheImpl.class : EntityCacheImpl.class));
             
             if (isLoggingSessionEnabled()) {
                 if (!sessionFactories.containsKey(LoggingSession.class)) {
@@ -719,6 +737,7 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchedFlushEnabled(isBatchedFlushEnabled);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -1406,6 +1425,24 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchedFlushEnabled() {
+        return isBatchedFlushEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchedFlushEnabled(boolean isBatchedFlushEnabled) {
+        this.isBatchedFlushEnabled = isBatchedFlushEnabled;
+        return this;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return isEntityDirtyTrackingEnabled;
+    }
+
+    public AbstractEngineConfiguration setEntityDirtyTrackingEnabled(boolean isEntityDirtyTrackingEnabled) {
+        this.isEntityDirtyTrackingEnabled = isEntityDirtyTrackingEnabled;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
@@ -41,7 +41,13 @@ public class Context {
     }
 
     public static void removeCommandContext() {
-        getStack(commandContextThreadLocal).pop();
+        Stack<CommandContext> stack = getStack(commandContextThreadLocal);
+        stack.pop();
+
+        // Don't keep an empty stack around, as a thread (e.g. a virtual thread executing a job) might never execute another command
+        if (stack.isEmpty()) {
+            commandContextThreadLocal.remove();
+        }
     }
 
     public static TransactionContext getTransactionContext() {
@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -32,6 +33,11 @@ import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
  */
 public abstract class AbstractDataManager<EntityImpl extends Entity> implements DataManager<EntityImpl> {
 
+    /**
+     * Maximum number of values passed to a single IN clause (e.g. Oracle doesn't allow more than 1000).
+     */
+    public static final int MAX_IN_CLAUSE_SIZE = 1000;
+
     public abstract Class<? extends EntityImpl> getManagedEntityClass();
 
     public List<Class<? extends EntityImpl>> getManagedEntitySubClasses() {
@@ -103,6 +109,47 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         return new ArrayList<>(result);
     }
     
+    protected List<EntityImpl> getListInBatches(String dbQueryName, Collection<String> ids) {
+        return getListInBatches(dbQueryName, ids, batch -> batch);
+    }
+
+    /**
+     * Executes the given select once for every batch of at most {@link #MAX_IN_CLAUSE_SIZE} ids.
+     * The parameter creator gets the ids of one batch and returns the parameter object for the select.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<EntityImpl> getListInBatches(String dbQueryName, Collection<String> ids, Function<Collection<String>, Object> parameterCreator) {
+        if (ids.size() <= MAX_IN_CLAUSE_SIZE) {
+            return getDbSqlSession().selectList(dbQueryName, parameterCreator.apply(ids));
+        }
+
+        List<EntityImpl> result = new ArrayList<>();
+        List<String> idList = new ArrayList<>(ids);
+        for (int i = 0; i < idList.size(); i += MAX_IN_CLAUSE_SIZE) {
+            List<String> batch = idList.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, idList.size()));
+            result.addAll(getDbSqlSession().selectList(dbQueryName, parameterCreator.apply(batch)));
+        }
+        return result;
+    }
+
+    protected void bulkDeleteInBatches(String deleteStatement, Collection<String> ids, Class<? extends Entity> entityClass) {
+        bulkDeleteInBatches(deleteStatement, ids, entityClass, batch -> batch);
+    }
+
+    /**
+     * Schedules the given bulk delete once for every batch of at most {@link #MAX_IN_CLAUSE_SIZE} ids.
+     * The parameter creator gets the ids of one batch (as a list) and returns the parameter object for the delete.
+     */
+    protected void bulkDeleteInBatches(String deleteStatement, Collection<String> ids, Class<? extends Entity> entityClass,
+            Function<List<String>, Object> parameterCreator) {
+
+        List<String> idList = new ArrayList<>(ids);
+        for (int i = 0; i < idList.size(); i += MAX_IN_CLAUSE_SIZE) {
+            List<String> batch = new ArrayList<>(idList.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, idList.size())));
+            getDbSqlSession().delete(deleteStatement, parameterCreator.apply(batch), entityClass);
+        }
+    }
+    
     @SuppressWarnings("unchecked")
     protected EntityImpl getEntity(String selectQuery, Object parameter, SingleCachedEntityMatcher<EntityImpl> cachedEntityMatcher, boolean checkDatabase) {
         // Cache
@@ -24,7 +24,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.Transaction;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.QueryCacheValues;
@@ -557,6 +563,11 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && updatedObjects.size() > 1) {
+            flushBatchedUpdates();
+            return;
+        }
+
         for (Entity updatedObject : updatedObjects) {
             String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
             updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
@@ -581,6 +592,70 @@ public class DbSqlSession implements Session {
         updatedObjects.clear();
     }
 
+    /**
+     * Sends the updates grouped per statement as jdbc batches. The update count of every row is still checked,
+     * so a concurrent modification results in the same {@link FlowableOptimisticLockingException} as a regular update.
+     */
+    protected void flushBatchedUpdates() {
+        Map<String, List<Entity>> updatedObjectsPerStatement = new LinkedHashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+            if (updateStatement == null) {
+                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+            }
+
+            updatedObjectsPerStatement.computeIfAbsent(updateStatement, key -> new ArrayList<>()).add(updatedObject);
+        }
+
+        SqlSession batchSqlSession = openBatchSqlSession();
+        try {
+            for (Map.Entry<String, List<Entity>> entry : updatedObjectsPerStatement.entrySet()) {
+                for (Entity updatedObject : entry.getValue()) {
+                    LOGGER.debug("updating (batched): {}", updatedObject);
+                    batchSqlSession.update(entry.getKey(), updatedObject);
+                }
+            }
+            checkBatchResults(batchSqlSession.flushStatements());
+
+        } finally {
+            batchSqlSession.close();
+            sqlSession.clearCache();
+        }
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        for (Entity updatedObject : updatedObjects) {
+            if (updatedObject instanceof HasRevision) {
+                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            }
+        }
+        updatedObjects.clear();
+    }
+
+    /**
+     * Opens a {@link SqlSession} with a batch executor on the connection of the current session.
+     * The transaction is managed by the current session, closing the batch session doesn't close nor commit the connection.
+     */
+    protected SqlSession openBatchSqlSession() {
+        Configuration configuration = dbSqlSessionFactory.getSqlSessionFactory().getConfiguration();
+        Transaction transaction = new ManagedTransaction(sqlSession.getConnection(), false);
+        return new DefaultSqlSession(configuration, configuration.newExecutor(transaction, ExecutorType.BATCH));
+    }
+
+    protected void checkBatchResults(List<BatchResult> batchResults) {
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                // Drivers that can't report the row count per statement return Statement.SUCCESS_NO_INFO (-2), which can't be checked
+                if (updateCounts[i] == 0) {
+                    throw new FlowableOptimisticLockingException(parameterObjects.get(i) + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -623,6 +698,11 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchedDeleteEntities(entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
             String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
             deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
@@ -643,6 +723,46 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected void flushBatchedDeleteEntities(Collection<Entity> entitiesToDelete) {
+        SqlSession batchSqlSession = openBatchSqlSession();
+        try {
+            String previousDeleteStatement = null;
+            for (Entity entity : entitiesToDelete) {
+                String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+                deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+                if (deleteStatement == null) {
+                    throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+                }
+                
+                if (previousDeleteStatement != null && !previousDeleteStatement.equals(deleteStatement)) {
+                    checkBatchDeleteResults(batchSqlSession.flushStatements());
+                }
+
+                batchSqlSession.delete(deleteStatement, entity);
+                previousDeleteStatement = deleteStatement;
+            }
+            checkBatchDeleteResults(batchSqlSession.flushStatements());
+
+        } finally {
+            batchSqlSession.close();
+            sqlSession.clearCache();
+        }
+    }
+
+    protected void checkBatchDeleteResults(List<BatchResult> batchResults) {
+        // It only makes sense to check for optimistic locking exceptions
+        // for objects that actually have a revision
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == 0 && parameterObjects.get(i) instanceof HasRevision) {
+                    throw new FlowableOptimisticLockingException(parameterObjects.get(i) + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
     @Override
     public void close() {
         sqlSession.close();
@@ -63,6 +63,8 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     protected int maxNrOfStatementsInBulkInsert = 100;
     
+    protected boolean batchedFlushEnabled;
+    
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
     protected boolean usePrefixId;
@@ -202,6 +204,14 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isBatchedFlushEnabled() {
+        return batchedFlushEnabled;
+    }
+
+    public void setBatchedFlushEnabled(boolean batchedFlushEnabled) {
+        this.batchedFlushEnabled = batchedFlushEnabled;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
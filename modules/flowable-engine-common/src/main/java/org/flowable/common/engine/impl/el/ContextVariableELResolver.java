@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import java.beans.FeatureDescriptor;
+import java.util.Iterator;
+
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.ELResolver;
+
+/**
+ * {@link ELResolver} that delegates to the variable resolver of the {@link FlowableElContext} that is being evaluated.
+ * Used as the first resolver of a shared resolver chain, so that the chain itself doesn't depend on a variable container
+ * and can be created once and reused for every evaluation.
+ *
+ * @see DefaultExpressionManager#setShareElResolvers(boolean)
+ */
+public class ContextVariableELResolver extends ELResolver {
+
+    protected ELResolver getVariableElResolver(ELContext context) {
+        if (context instanceof FlowableElContext) {
+            return ((FlowableElContext) context).getVariableElResolver();
+        }
+        return null;
+    }
+
+    @Override
+    public Object getValue(ELContext context, Object base, Object property) {
+        ELResolver variableElResolver = getVariableElResolver(context);
+        if (variableElResolver != null) {
+            return variableElResolver.getValue(context, base, property);
+        }
+        return null;
+    }
+
+    @Override
+    public Class<?> getType(ELContext context, Object base, Object property) {
+        ELResolver variableElResolver = getVariableElResolver(context);
+        if (variableElResolver != null) {
+            return variableElResolver.getType(context, base, property);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isReadOnly(ELContext context, Object base, Object property) {
+        ELResolver variableElResolver = getVariableElResolver(context);
+        if (variableElResolver != null) {
+            return variableElResolver.isReadOnly(context, base, property);
+        }
+        return true;
+    }
+
+    @Override
+    public void setValue(ELContext context, Object base, Object property, Object value) {
+        ELResolver variableElResolver = getVariableElResolver(context);
+        if (variableElResolver != null) {
+            variableElResolver.setValue(context, base, property, value);
+        }
+    }
+
+    @Override
+    public Object invoke(ELContext context, Object base, Object method, Class<?>[] paramTypes, Object[] params) {
+        ELResolver variableElResolver = getVariableElResolver(context);
+        if (variableElResolver != null) {
+            return variableElResolver.invoke(context, base, method, paramTypes, params);
+        }
+        return null;
+    }
+
+    @Override
+    public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+        ELResolver variableElResolver = getVariableElResolver(context);
+        if (variableElResolver != null) {
+            return variableElResolver.getFeatureDescriptors(context, base);
+        }
+        return null;
+    }
+
+    @Override
+    public Class<?> getCommonPropertyType(ELContext context, Object base) {
+        ELResolver variableElResolver = getVariableElResolver(context);
+        if (variableElResolver != null) {
+            return variableElResolver.getCommonPropertyType(context, base);
+        }
+        return null;
+    }
+
+}
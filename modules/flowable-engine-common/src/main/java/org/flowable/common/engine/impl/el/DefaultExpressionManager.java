@@ -52,6 +52,20 @@ public class DefaultExpressionManager implements ExpressionManager {
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
+
+    /**
+     * When true, the resolver chain is created once and shared by all evaluations. Only the variable resolver
+     * is created per evaluation, and it's handed to the shared chain through the {@link FlowableElContext}.
+     */
+    protected boolean shareElResolvers;
+    protected volatile ELResolver sharedElResolver;
+
+    /**
+     * The maximum number of bean classes of which the properties and methods are cached by the bean resolver
+     * of the shared resolver chain, the least recently used classes are evicted first. Negative value to have no limit.
+     * Only used when {@link #shareElResolvers} is true.
+     */
+    protected int beanElResolverCacheLimit = -1;
     
     public DefaultExpressionManager() {
         this(null);
@@ -109,13 +123,38 @@ public class DefaultExpressionManager implements ExpressionManager {
     
     @Override
     public ELContext getElContext(VariableContainer variableContainer) {
+        if (shareElResolvers) {
+            return new FlowableElContext(getSharedElResolver(), createVariableElResolver(variableContainer), functionDelegates);
+        }
         ELResolver elResolver = createElResolver(variableContainer);
         return new FlowableElContext(elResolver, functionDelegates);
     }
+
+    protected ELResolver getSharedElResolver() {
+        ELResolver elResolver = sharedElResolver;
+        if (elResolver == null) {
+            synchronized (this) {
+                elResolver = sharedElResolver;
+                if (elResolver == null) {
+                    elResolver = createCompositeElResolver(new ContextVariableELResolver());
+                    sharedElResolver = elResolver;
+                }
+            }
+        }
+        return elResolver;
+    }
     
     protected ELResolver createElResolver(VariableContainer variableContainer) {
+        return createCompositeElResolver(createVariableElResolver(variableContainer));
+    }
+
+    /**
+     * Creates the resolver chain around the given variable resolver. When the resolvers are shared, this is only called once
+     * with a {@link ContextVariableELResolver}, so the other resolvers must not depend on the variable container.
+     */
+    protected ELResolver createCompositeElResolver(ELResolver variableElResolver) {
         List<ELResolver> elResolvers = new ArrayList<>();
-        elResolvers.add(createVariableElResolver(variableContainer));
+        elResolvers.add(variableElResolver);
         if (beans != null) {
             elResolvers.add(new ReadOnlyMapELResolver(beans));
         }
@@ -147,6 +186,9 @@ public class DefaultExpressionManager implements ExpressionManager {
     }
     
     protected ELResolver createBeanElResolver() {
+        if (shareElResolvers) {
+            return new BeanELResolver(false, beanElResolverCacheLimit);
+        }
         return new BeanELResolver();
     }
 
@@ -195,5 +237,23 @@ public class DefaultExpressionManager implements ExpressionManager {
     public void setExpressionTextLengthCacheLimit(int expressionTextLengthCacheLimit) {
         this.expressionTextLengthCacheLimit = expressionTextLengthCacheLimit;
     }
+
+    public boolean isShareElResolvers() {
+        return shareElResolvers;
+    }
+
+    public void setShareElResolvers(boolean shareElResolvers) {
+        this.shareElResolvers = shareElResolvers;
+        this.sharedElResolver = null;
+    }
+
+    public int getBeanElResolverCacheLimit() {
+        return beanElResolverCacheLimit;
+    }
+
+    public void setBeanElResolverCacheLimit(int beanElResolverCacheLimit) {
+        this.beanElResolverCacheLimit = beanElResolverCacheLimit;
+        this.sharedElResolver = null;
+    }
     
 }
@@ -27,10 +27,21 @@ import org.flowable.common.engine.impl.javax.el.VariableMapper;
 public class FlowableElContext extends ELContext {
 
     protected ELResolver elResolver;
+    protected ELResolver variableElResolver;
     protected List<FlowableFunctionDelegate> functionDelegates;
+    protected FunctionMapper functionMapper;
 
     public FlowableElContext(ELResolver elResolver, List<FlowableFunctionDelegate> functionDelegates) {
+        this(elResolver, null, functionDelegates);
+    }
+
+    /**
+     * @param elResolver the (possibly shared) resolver chain
+     * @param variableElResolver the resolver for the variables of this context, used by the {@link ContextVariableELResolver} of a shared resolver chain
+     */
+    public FlowableElContext(ELResolver elResolver, ELResolver variableElResolver, List<FlowableFunctionDelegate> functionDelegates) {
         this.elResolver = elResolver;
+        this.variableElResolver = variableElResolver;
         this.functionDelegates = functionDelegates;
     }
 
@@ -41,7 +52,14 @@ public class FlowableElContext extends ELContext {
 
     @Override
     public FunctionMapper getFunctionMapper() {
-        return new FlowableFunctionMapper(functionDelegates);
+        if (functionMapper == null) {
+            functionMapper = new FlowableFunctionMapper(functionDelegates);
+        }
+        return functionMapper;
+    }
+
+    public ELResolver getVariableElResolver() {
+        return variableElResolver;
     }
 
     @Override
@@ -26,6 +26,7 @@ import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -48,6 +49,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class BeanELResolver extends ELResolver {
 	protected static final class BeanProperties {
 		private final Map<String, BeanProperty> map = new HashMap<>();
+		private final ConcurrentHashMap<String, Method> methods = new ConcurrentHashMap<>();
 
 		public BeanProperties(Class<?> baseClass) {
 			PropertyDescriptor[] descriptors;
@@ -64,6 +66,14 @@ public class BeanELResolver extends ELResolver {
 		public BeanProperty getBeanProperty(String property) {
 			return map.get(property);
 		}
+
+		public Method getMethod(String name, int paramCount) {
+			return methods.get(name + '/' + paramCount);
+		}
+
+		public void putMethod(String name, int paramCount, Method method) {
+			methods.put(name + '/' + paramCount, method);
+		}
 	}
 
 	protected static final class BeanProperty {
@@ -146,7 +156,7 @@ public class BeanELResolver extends ELResolver {
 	}
 
 	private final boolean readOnly;
-	private final ConcurrentHashMap<Class<?>, BeanProperties> cache;
+	private final Map<Class<?>, BeanProperties> cache;
 	
 	private ExpressionFactory defaultFactory;
 
@@ -161,8 +171,32 @@ public class BeanELResolver extends ELResolver {
 	 * Creates a new BeanELResolver whose read-only status is determined by the given parameter.
 	 */
 	public BeanELResolver(boolean readOnly) {
+		this(readOnly, -1);
+	}
+
+	/**
+	 * Creates a new BeanELResolver whose read-only status is determined by the given parameter and
+	 * which keeps the properties and methods of at most the given number of bean classes.
+	 * When the limit is reached the least recently used class is evicted, so classes that are no longer used
+	 * (e.g. of an undeployed application) are eventually released.
+	 * 
+	 * @param maxCacheSize
+	 *            The maximum number of cached bean classes, a negative value for no limit.
+	 */
+	public BeanELResolver(boolean readOnly, int maxCacheSize) {
 		this.readOnly = readOnly;
-		this.cache = new ConcurrentHashMap<>();
+		if (maxCacheSize >= 0) {
+			this.cache = Collections.synchronizedMap(new LinkedHashMap<Class<?>, BeanProperties>(maxCacheSize + 1, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Class<?>, BeanProperties> eldest) {
+					return size() > maxCacheSize;
+				}
+			});
+		} else {
+			this.cache = new ConcurrentHashMap<>();
+		}
 	}
 
 	/**
@@ -532,6 +566,11 @@ public class BeanELResolver extends ELResolver {
 				return null;
 			}
 		}
+		BeanProperties beanProperties = getBeanProperties(base.getClass());
+		Method cachedMethod = beanProperties.getMethod(name, paramCount);
+		if (cachedMethod != null) {
+			return cachedMethod;
+		}
 		Method varArgsMethod = null;
 		for (Method method : base.getClass().getMethods()) {
 			if (method.getName().equals(name)) {
@@ -539,11 +578,18 @@ public class BeanELResolver extends ELResolver {
 				if (method.isVarArgs() && paramCount >= formalParamCount - 1) {
 					varArgsMethod = method;
 				} else if (paramCount == formalParamCount) {
-					return findAccessibleMethod(method);
+					return cacheMethod(beanProperties, name, paramCount, findAccessibleMethod(method));
 				}
 			}
 		}
-		return varArgsMethod == null ? null : findAccessibleMethod(varArgsMethod);
+		return varArgsMethod == null ? null : cacheMethod(beanProperties, name, paramCount, findAccessibleMethod(varArgsMethod));
+	}
+
+	private Method cacheMethod(BeanProperties beanProperties, String name, int paramCount, Method method) {
+		if (method != null) {
+			beanProperties.putMethod(name, paramCount, method);
+		}
+		return method;
 	}
 
 	/**
@@ -645,16 +691,28 @@ public class BeanELResolver extends ELResolver {
 	 *             if no BeanProperty can be found.
 	 */
 	private final BeanProperty toBeanProperty(Object base, Object property) {
-		BeanProperties beanProperties = cache.get(base.getClass());
+		BeanProperties beanProperties = getBeanProperties(base.getClass());
+		BeanProperty beanProperty = property == null ? null : beanProperties.getBeanProperty(property.toString());
+		return beanProperty;
+	}
+
+	/**
+	 * Lookup the cached BeanProperties for the given class, introspecting the class if needed.
+	 * 
+	 * @param baseClass
+	 *            The class to analyze.
+	 * @return The BeanProperties of the class.
+	 */
+	private final BeanProperties getBeanProperties(Class<?> baseClass) {
+		BeanProperties beanProperties = cache.get(baseClass);
 		if (beanProperties == null) {
-			BeanProperties newBeanProperties = new BeanProperties(base.getClass());
-			beanProperties = cache.putIfAbsent(base.getClass(), newBeanProperties);
+			BeanProperties newBeanProperties = new BeanProperties(baseClass);
+			beanProperties = cache.putIfAbsent(baseClass, newBeanProperties);
 			if (beanProperties == null) { // put succeeded, use new value
 				beanProperties = newBeanProperties;
 			}
 		}
-		BeanProperty beanProperty = property == null ? null : beanProperties.getBeanProperty(property.toString());
-		return beanProperty;
+		return beanProperties;
 	}
 
 	/**
@@ -669,11 +727,6 @@ public class BeanELResolver extends ELResolver {
 	 */
 	@SuppressWarnings("unused")
 	private final void purgeBeanClasses(ClassLoader loader) {
-		Iterator<Class<?>> classes = cache.keySet().iterator();
-		while (classes.hasNext()) {
-			if (loader == classes.next().getClassLoader()) {
-				classes.remove();
-			}
-		}
+		cache.keySet().removeIf(beanClass -> loader == beanClass.getClassLoader());
 	}
 }
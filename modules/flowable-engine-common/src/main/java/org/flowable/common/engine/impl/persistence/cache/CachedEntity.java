@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -32,9 +33,21 @@ public class CachedEntity {
      */
     protected Object originalPersistentState;
 
+    /**
+     * Whether the {@link Entity} tracks its own changes, in which case no 'persistent state' snapshot is taken when this instance is created.
+     */
+    protected boolean dirtyTracked;
+
     public CachedEntity(Entity entity, boolean storeState) {
+        this(entity, storeState, false);
+    }
+
+    public CachedEntity(Entity entity, boolean storeState, boolean dirtyTracking) {
         this.entity = entity;
-        if (storeState) {
+        if (storeState && dirtyTracking && entity instanceof DirtyTrackedEntity) {
+            this.dirtyTracked = true;
+            ((DirtyTrackedEntity) entity).startDirtyTracking();
+        } else if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
         } else if (entity.getOriginalPersistentState() == null){
@@ -51,6 +64,9 @@ public class CachedEntity {
     }
 
     public Object getOriginalPersistentState() {
+        if (dirtyTracked) {
+            return entity.getOriginalPersistentState();
+        }
         return originalPersistentState;
     }
 
@@ -58,8 +74,20 @@ public class CachedEntity {
         this.originalPersistentState = originalPersistentState;
     }
 
+    public boolean isDirtyTracked() {
+        return dirtyTracked;
+    }
+
     public boolean hasChanged() {
-        return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
+        Object originalState = originalPersistentState;
+        if (dirtyTracked) {
+            if (!((DirtyTrackedEntity) entity).isDirty()) {
+                return false;
+            }
+            originalState = entity.getOriginalPersistentState();
+        }
+        Object persistentState = entity.getPersistentState();
+        return persistentState != null && !persistentState.equals(originalState);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * {@link EntityCache} that lets {@link DirtyTrackedEntity} instances track their own changes,
+ * instead of storing and comparing a copy of their persistent state.
+ */
+public class DirtyTrackingEntityCacheImpl extends EntityCacheImpl {
+
+    @Override
+    protected CachedEntity createCachedEntity(Entity entity, boolean storeState) {
+        return new CachedEntity(entity, storeState, true);
+    }
+
+}
@@ -30,6 +30,9 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     
     protected Object originalPersistentState;
 
+    protected boolean isDirtyTrackingStarted;
+    protected boolean isDirty;
+
     @Override
     public String getId() {
         return id;
@@ -87,6 +90,10 @@ public abstract class AbstractEntity implements Entity, HasRevision {
 
     @Override
     public Object getOriginalPersistentState() {
+        if (isDirtyTrackingStarted && !isDirty) {
+            // Nothing has been changed yet, so the current state is the original state
+            return getPersistentState();
+        }
         return originalPersistentState;
     }
 
@@ -94,4 +101,30 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     public void setOriginalPersistentState(Object persistentState) {
         this.originalPersistentState = persistentState;
     }
+
+    public void startDirtyTracking() {
+        this.isDirtyTrackingStarted = true;
+        this.isDirty = false;
+        this.originalPersistentState = null;
+    }
+
+    public boolean isDirtyTrackingStarted() {
+        return isDirtyTrackingStarted;
+    }
+
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    /**
+     * Called by setters of persistent fields before the field is changed. When dirty tracking has been started,
+     * the first call captures the persistent state as it was before any change, which is used at flush time
+     * to determine the changed columns.
+     */
+    protected void markDirty() {
+        if (isDirtyTrackingStarted && !isDirty) {
+            this.originalPersistentState = getPersistentState();
+            this.isDirty = true;
+        }
+    }
 }
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that marks itself as dirty whenever one of its persistent fields is changed.
+ * 
+ * For such entities, the persistent state doesn't need to be stored when the entity is put in the cache
+ * and doesn't need to be compared at flush time when the entity wasn't changed.
+ */
+public interface DirtyTrackedEntity extends Entity {
+
+    /**
+     * Starts tracking changes from this point on. Any previously tracked changes are forgotten.
+     */
+    void startDirtyTracking();
+
+    boolean isDirtyTrackingStarted();
+
+    /**
+     * @return true when a persistent field was changed after {@link #startDirtyTracking()} was called.
+     */
+    boolean isDirty();
+
+}
@@ -14,13 +14,16 @@ package org.flowable.common.engine.impl.query;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPageable;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.impl.Direction;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -35,9 +38,18 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
 
     private static final long serialVersionUID = 1L;
 
+    protected static final String ID_COLUMN = "RES.ID_";
+
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
 
+    protected boolean keysetPaging;
+    protected boolean keysetAscending;
+    protected String keysetId;
+    protected String keysetColumn;
+    protected Object keysetValue;
+    protected String keysetOperator;
+
     protected AbstractQuery() {
         parameter = this;
     }
@@ -112,6 +124,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     @Override
     @SuppressWarnings("unchecked")
     public List<U> list() {
+        clearKeyset();
         this.resultType = ResultType.LIST;
         if (commandExecutor != null) {
             return (List<U>) commandExecutor.execute(this);
@@ -122,8 +135,79 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<U> listPage(int firstResult, int maxResults) {
+        clearKeyset();
+        return executeListPage(firstResult, maxResults);
+    }
+
+    /**
+     * Implementation of {@link KeysetPageable#listPageAfter(Object, String, int)} for the queries of which the mapper adds the keyset condition
+     * (see {@link #getKeysetId()}). Those queries implement {@link KeysetPageable} and delegate to this method.
+     * <p>
+     * Rows with a null value for the order by property are ordered as if null is larger than any value, so after all other rows when ordering ascending
+     * and before them when ordering descending. A null lastSortValue therefore means the last row of the previous page had a null value.
+     */
+    protected List<U> executeListPageAfter(Object lastSortValue, String lastId, int maxResults) {
+        checkQueryOk();
+
+        String sortColumn = null;
+        boolean ascending = true;
+        for (Map.Entry<String, Boolean> orderByColumn : orderByColumnMap.entrySet()) {
+            if (!ID_COLUMN.equals(orderByColumn.getKey())) {
+                if (sortColumn != null) {
+                    throw new FlowableIllegalArgumentException("Keyset pagination supports at most one order by property next to the id");
+                }
+                sortColumn = orderByColumn.getKey();
+                ascending = orderByColumn.getValue();
+            }
+        }
+
+        Boolean idAscending = orderByColumnMap.get(ID_COLUMN);
+        if (idAscending != null && sortColumn != null && idAscending != ascending) {
+            throw new FlowableIllegalArgumentException("Keyset pagination requires the id to be ordered in the same direction as the order by property");
+        } else if (idAscending != null) {
+            ascending = idAscending;
+        }
+
+        clearKeyset();
+        this.keysetPaging = true;
+        this.keysetAscending = ascending;
+        this.keysetColumn = sortColumn;
+        this.keysetOperator = ascending ? ">" : "<";
+        if (lastId != null) {
+            this.keysetId = lastId;
+            this.keysetValue = lastSortValue;
+        }
+
+        return executeListPage(0, maxResults);
+    }
+
+    /**
+     * Replaces the order of a keyset paged query with the order the keyset condition relies on: the order by property with nulls ordered as the
+     * largest value, followed by the id as tie-breaker in the same direction. Done when executing, as the null ordering depends on the database type.
+     */
+    protected void applyKeysetOrder(CommandContext commandContext) {
+        if (!keysetPaging) {
+            return;
+        }
+
+        if (databaseType == null) {
+            databaseType = commandContext.getSession(DbSqlSession.class).getDbSqlSessionFactory().getDatabaseType();
+        }
+
+        orderByColumns = null;
+        orderByColumnMap.clear();
+        nullHandlingColumn = null;
+
+        String direction = keysetAscending ? Direction.ASCENDING.getName() : Direction.DESCENDING.getName();
+        if (keysetColumn != null) {
+            addOrder(keysetColumn, direction, keysetAscending ? NullHandlingOnOrder.NULLS_LAST : NullHandlingOnOrder.NULLS_FIRST);
+        }
+        addOrder(ID_COLUMN, direction, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<U> executeListPage(int firstResult, int maxResults) {
         this.firstResult = firstResult;
         this.maxResults = maxResults;
         this.resultType = ResultType.LIST_PAGE;
@@ -132,11 +216,13 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
+        applyKeysetOrder(Context.getCommandContext());
         return executeList(Context.getCommandContext());
     }
 
     @Override
     public long count() {
+        clearKeyset();
         this.resultType = ResultType.COUNT;
         if (commandExecutor != null) {
             return (Long) commandExecutor.execute(this);
@@ -154,12 +240,42 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         } else if (resultType == ResultType.SINGLE_RESULT) {
             return executeSingleResult(commandContext);
         } else if (resultType == ResultType.LIST_PAGE) {
+            applyKeysetOrder(commandContext);
             return executeList(commandContext);
         } else {
             return executeCount(commandContext);
         }
     }
 
+    protected void clearKeyset() {
+        this.keysetPaging = false;
+        this.keysetAscending = false;
+        this.keysetId = null;
+        this.keysetColumn = null;
+        this.keysetValue = null;
+        this.keysetOperator = null;
+    }
+
+    public String getKeysetId() {
+        return keysetId;
+    }
+
+    public String getKeysetColumn() {
+        return keysetColumn;
+    }
+
+    public Object getKeysetValue() {
+        return keysetValue;
+    }
+
+    public String getKeysetOperator() {
+        return keysetOperator;
+    }
+
+    public boolean isKeysetAscending() {
+        return keysetAscending;
+    }
+
     public abstract long executeCount(CommandContext commandContext);
 
     /**
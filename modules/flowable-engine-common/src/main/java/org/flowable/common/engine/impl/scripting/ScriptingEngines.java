@@ -12,11 +12,17 @@
  */
 package org.flowable.common.engine.impl.scripting;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -24,6 +30,8 @@ import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.variable.api.delegate.VariableScope;
 
 /**
@@ -42,6 +50,23 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * Compiled scripts, keyed by language and script text. Only used for cached (thread-safe) engines that implement {@link Compilable},
+     * as a compiled script is bound to the engine that compiled it. Null when compiled scripts are not cached.
+     */
+    protected DeploymentCache<CompiledScript> compiledScriptCache;
+    protected AtomicLong compiledScriptCacheHits = new AtomicLong();
+    protected AtomicLong compiledScriptCacheMisses = new AtomicLong();
+    protected AtomicLong scriptCompileTimeNanos = new AtomicLong();
+
+    /**
+     * The maximum number of idle engine instances that are kept per language for engines that are not thread-safe
+     * (i.e. the "THREADING" parameter is null). When zero (default), a new engine is created for every evaluation.
+     */
+    protected int scriptEnginePoolSize;
+    protected Map<String, Queue<ScriptEngine>> pooledEngines = new ConcurrentHashMap<>();
+    protected Map<String, AtomicInteger> pooledEngineCounts = new ConcurrentHashMap<>();
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -49,7 +74,7 @@ public class ScriptingEngines {
 
     public ScriptingEngines(ScriptEngineManager scriptEngineManager) {
         this.scriptEngineManager = scriptEngineManager;
-        cachedEngines = new HashMap<>();
+        cachedEngines = new ConcurrentHashMap<>();
     }
 
     public ScriptingEngines addScriptEngineFactory(ScriptEngineFactory scriptEngineFactory) {
@@ -84,15 +109,65 @@ public class ScriptingEngines {
     protected Object evaluate(String script, String language, Bindings bindings) {
         ScriptEngine scriptEngine = getEngineByName(language);
         try {
+            if (compiledScriptCache != null && scriptEngine instanceof Compilable && cachedEngines.get(language) == scriptEngine) {
+                return getCompiledScript(script, language, (Compilable) scriptEngine).eval(bindings);
+            }
             return scriptEngine.eval(script, bindings);
+
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
+
+        } finally {
+            releaseEngine(language, scriptEngine);
+        }
+    }
+
+    protected CompiledScript getCompiledScript(String script, String language, Compilable scriptEngine) throws ScriptException {
+        String cacheKey = language + ":" + script;
+        CompiledScript compiledScript = compiledScriptCache.get(cacheKey);
+        if (compiledScript != null) {
+            compiledScriptCacheHits.incrementAndGet();
+            return compiledScript;
+        }
+
+        compiledScriptCacheMisses.incrementAndGet();
+        long start = System.nanoTime();
+        compiledScript = scriptEngine.compile(script);
+        scriptCompileTimeNanos.addAndGet(System.nanoTime() - start);
+
+        compiledScriptCache.add(cacheKey, compiledScript);
+        return compiledScript;
+    }
+
+    /**
+     * Gives an engine that is not thread-safe back to the pool, so it can be reused by a next evaluation.
+     * Cached (thread-safe) engines are not pooled.
+     */
+    protected void releaseEngine(String language, ScriptEngine scriptEngine) {
+        if (scriptEnginePoolSize <= 0 || cachedEngines.get(language) == scriptEngine) {
+            return;
+        }
+
+        AtomicInteger pooledEngineCount = pooledEngineCounts.computeIfAbsent(language, key -> new AtomicInteger());
+        if (pooledEngineCount.incrementAndGet() <= scriptEnginePoolSize) {
+            pooledEngines.computeIfAbsent(language, key -> new ConcurrentLinkedQueue<>()).offer(scriptEngine);
+        } else {
+            pooledEngineCount.decrementAndGet();
         }
     }
 
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
+        if (scriptEnginePoolSize > 0) {
+            Queue<ScriptEngine> pool = pooledEngines.get(language);
+            scriptEngine = pool != null ? pool.poll() : null;
+            if (scriptEngine != null) {
+                pooledEngineCounts.get(language).decrementAndGet();
+                return scriptEngine;
+            }
+        }
+
         if (cacheScriptingEngines) {
             scriptEngine = cachedEngines.get(language);
             if (scriptEngine == null) {
@@ -139,6 +214,44 @@ public class ScriptingEngines {
         return scriptBindingsFactory.createBindings(variableScope, storeScriptVariables);
     }
 
+    /**
+     * Enables caching of compiled scripts, holding at most the given number of scripts. A size of zero or less disables the cache.
+     */
+    public void setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCache = compiledScriptCacheSize > 0 ? new DefaultDeploymentCache<>(compiledScriptCacheSize) : null;
+    }
+
+    public DeploymentCache<CompiledScript> getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    public void setCompiledScriptCache(DeploymentCache<CompiledScript> compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+    }
+
+    public long getCompiledScriptCacheHits() {
+        return compiledScriptCacheHits.get();
+    }
+
+    public long getCompiledScriptCacheMisses() {
+        return compiledScriptCacheMisses.get();
+    }
+
+    /**
+     * The total time, in milliseconds, spent compiling scripts for the compiled script cache.
+     */
+    public long getScriptCompileTimeInMillis() {
+        return scriptCompileTimeNanos.get() / 1000000L;
+    }
+
+    public int getScriptEnginePoolSize() {
+        return scriptEnginePoolSize;
+    }
+
+    public void setScriptEnginePoolSize(int scriptEnginePoolSize) {
+        this.scriptEnginePoolSize = scriptEnginePoolSize;
+    }
+
     public ScriptBindingsFactory getScriptBindingsFactory() {
         return scriptBindingsFactory;
     }
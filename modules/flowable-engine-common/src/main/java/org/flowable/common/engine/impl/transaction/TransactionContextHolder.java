@@ -39,11 +39,17 @@ public class TransactionContextHolder {
     }
 
     public static void removeTransactionContext() {
-        getStack(transactionContextThreadLocal).pop();
+        Stack<TransactionContext> stack = getStack(transactionContextThreadLocal);
+        stack.pop();
+
+        if (stack.isEmpty()) {
+            transactionContextThreadLocal.remove();
+        }
     }
 
     public static boolean isTransactionContextActive() {
-        return !getStack(transactionContextThreadLocal).isEmpty();
+        Stack<TransactionContext> stack = transactionContextThreadLocal.get();
+        return stack != null && !stack.isEmpty();
     }
 
     protected static <T> Stack<T> getStack(ThreadLocal<Stack<T>> threadLocal) {
@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.junit.jupiter.api.Test;
+
+class DefaultExpressionManagerTest {
+
+    @Test
+    void sharedElResolversResolveVariablesOfEachContainer() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(Collections.singletonMap("greeter", new Greeter()));
+        expressionManager.setShareElResolvers(true);
+
+        Expression expression = expressionManager.createExpression("${person.name == 'Kermit' && amount > 10}");
+        assertThat(expression.getValue(createVariableContainer("Kermit", 20))).isEqualTo(true);
+        assertThat(expression.getValue(createVariableContainer("Gonzo", 20))).isEqualTo(false);
+        assertThat(expression.getValue(createVariableContainer("Kermit", 5))).isEqualTo(false);
+
+        Expression methodExpression = expressionManager.createExpression("${greeter.greet(person.name)}");
+        assertThat(methodExpression.getValue(createVariableContainer("Kermit", 20))).isEqualTo("Hello Kermit");
+        assertThat(methodExpression.getValue(createVariableContainer("Gonzo", 20))).isEqualTo("Hello Gonzo");
+
+        VariableContainerWrapper variableContainer = createVariableContainer("Kermit", 20);
+        expressionManager.createExpression("${amount}").setValue(30, variableContainer);
+        assertThat(variableContainer.getVariable("amount")).isEqualTo(30);
+
+        assertThatThrownBy(() -> expressionManager.createExpression("${unknown}").getValue(createVariableContainer("Kermit", 20)))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("Unknown property used in expression: ${unknown}");
+    }
+
+    @Test
+    void beanElResolverCacheLimit() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(Collections.singletonMap("greeter", new Greeter()));
+        expressionManager.setShareElResolvers(true);
+        expressionManager.setBeanElResolverCacheLimit(1);
+
+        Expression expression = expressionManager.createExpression("${person.name}-${greeter.greet(person.name)}");
+        for (int i = 0; i < 3; i++) {
+            assertThat(expression.getValue(createVariableContainer("Kermit", 20))).isEqualTo("Kermit-Hello Kermit");
+        }
+    }
+
+    protected VariableContainerWrapper createVariableContainer(String name, int amount) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("person", new Person(name));
+        variables.put("amount", amount);
+        return new VariableContainerWrapper(variables);
+    }
+
+    public static class Person {
+
+        protected String name;
+
+        public Person(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class Greeter {
+
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+}
@@ -149,6 +149,15 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
     protected HistoryCleaningManager historyCleaningManager;
 
+    /**
+     * When enabled, the history cleanup deletes the historic process instances in chunks of {@link #cleanInstancesBatchSize} instances,
+     * each chunk being a part of a batch that is executed as a separate async job. At most {@link #cleanInstancesMaxBatchParts} chunks are created
+     * at once, the next chunks are created when all parts of the batch are completed.
+     */
+    protected boolean enableBatchHistoryCleaning = false;
+    protected int cleanInstancesBatchSize = 100;
+    protected int cleanInstancesMaxBatchParts = 50;
+
 
     /** postprocessor for a task builder */
     protected TaskPostProcessor taskPostProcessor = null;
@@ -753,4 +762,31 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         this.historyCleaningManager = historyCleaningManager;
         return this;
     }
+
+    public boolean isEnableBatchHistoryCleaning() {
+        return enableBatchHistoryCleaning;
+    }
+
+    public ProcessEngineConfiguration setEnableBatchHistoryCleaning(boolean enableBatchHistoryCleaning) {
+        this.enableBatchHistoryCleaning = enableBatchHistoryCleaning;
+        return this;
+    }
+
+    public int getCleanInstancesBatchSize() {
+        return cleanInstancesBatchSize;
+    }
+
+    public ProcessEngineConfiguration setCleanInstancesBatchSize(int cleanInstancesBatchSize) {
+        this.cleanInstancesBatchSize = cleanInstancesBatchSize;
+        return this;
+    }
+
+    public int getCleanInstancesMaxBatchParts() {
+        return cleanInstancesMaxBatchParts;
+    }
+
+    public ProcessEngineConfiguration setCleanInstancesMaxBatchParts(int cleanInstancesMaxBatchParts) {
+        this.cleanInstancesMaxBatchParts = cleanInstancesMaxBatchParts;
+        return this;
+    }
 }
@@ -696,6 +696,11 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return specialOrderBy;
     }
 
+    @Override
+    public List<HistoricProcessInstance> listPageAfter(Object lastSortValue, String lastId, int maxResults) {
+        return executeListPageAfter(lastSortValue, lastId, maxResults);
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
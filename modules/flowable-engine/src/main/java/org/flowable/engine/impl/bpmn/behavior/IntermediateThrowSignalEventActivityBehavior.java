@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.bpmn.behavior;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
@@ -99,6 +100,12 @@ public class IntermediateThrowSignalEventActivityBehavior extends AbstractBpmnAc
                 }
             }
             
+        } else if (CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableSignalBroadcastFanOut()) {
+            // The subscriptions are handled in chunks by the signal broadcast job, each chunk in its own transaction
+            EventSubscriptionUtil.scheduleSignalBroadcast(eventSubscriptionName, execution.getTenantId(), signalEventDefinition.isAsync(), false,
+                    CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime(), null);
+            subscriptionEntities = Collections.emptyList();
+
         } else {
             subscriptionEntities = eventSubscriptionService
                     .findSignalEventSubscriptionsByEventName(eventSubscriptionName, execution.getTenantId());
@@ -29,9 +29,12 @@ import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceCompletionJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
 /**
  * @author Joram Barrez
@@ -117,7 +120,8 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         int nrOfActiveInstances = getLoopVariable(execution, NUMBER_OF_ACTIVE_INSTANCES) - 1;
         
         DelegateExecution miRootExecution = getMultiInstanceRootExecution(execution);
-        if (miRootExecution != null) { // will be null in case of empty collection
+        boolean asyncCompletion = miRootExecution != null && CommandContextUtil.getProcessEngineConfiguration().isEnableParallelMultiInstanceAsyncCompletion();
+        if (miRootExecution != null && !asyncCompletion) { // will be null in case of empty collection
             setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
             setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
         }
@@ -135,6 +139,13 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         if (executionEntity.getParent() != null) {
 
             executionEntity.inactivate();
+
+            if (asyncCompletion) {
+                // The instance only marks itself as completed, the counters on the multi instance root are updated by an exclusive job
+                scheduleAsyncCompletion(executionEntity);
+                return;
+            }
+
             lockFirstParentScope(executionEntity);
 
             boolean isCompletionConditionSatisfied = completionConditionSatisfied(execution.getParent());
@@ -148,30 +159,7 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
                     leavingExecution = executionEntity;
                 }
 
-                Activity activity = (Activity) execution.getCurrentFlowElement();
-                verifyCompensation(execution, leavingExecution, activity);
-                verifyCallActivity(leavingExecution, activity);
-                
-                if (isCompletionConditionSatisfied) {
-                    LinkedList<DelegateExecution> toVerify = new LinkedList<>(miRootExecution.getExecutions());
-                    while (!toVerify.isEmpty()) {
-                        DelegateExecution childExecution = toVerify.pop();
-                        if (((ExecutionEntity) childExecution).isInserted()) {
-                            childExecution.inactivate();
-                        }
-                        
-                        List<DelegateExecution> childExecutions = (List<DelegateExecution>) childExecution.getExecutions();
-                        if (childExecutions != null && !childExecutions.isEmpty()) {
-                            toVerify.addAll(childExecutions);
-                        }
-                    }
-                    sendCompletedWithConditionEvent(leavingExecution);
-                }
-                else {
-                    sendCompletedEvent(leavingExecution);
-                }
-
-                super.leave(leavingExecution);
+                completeMultiInstance(execution, leavingExecution, miRootExecution, isCompletionConditionSatisfied);
               }
 
         } else {
@@ -180,6 +168,84 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         }
     }
 
+    protected void completeMultiInstance(DelegateExecution execution, ExecutionEntity leavingExecution,
+            DelegateExecution miRootExecution, boolean isCompletionConditionSatisfied) {
+
+        Activity activity = (Activity) execution.getCurrentFlowElement();
+        verifyCompensation(execution, leavingExecution, activity);
+        verifyCallActivity(leavingExecution, activity);
+
+        if (isCompletionConditionSatisfied) {
+            LinkedList<DelegateExecution> toVerify = new LinkedList<>(miRootExecution.getExecutions());
+            while (!toVerify.isEmpty()) {
+                DelegateExecution childExecution = toVerify.pop();
+                if (((ExecutionEntity) childExecution).isInserted()) {
+                    childExecution.inactivate();
+                }
+
+                List<DelegateExecution> childExecutions = (List<DelegateExecution>) childExecution.getExecutions();
+                if (childExecutions != null && !childExecutions.isEmpty()) {
+                    toVerify.addAll(childExecutions);
+                }
+            }
+            sendCompletedWithConditionEvent(leavingExecution);
+        }
+        else {
+            sendCompletedEvent(leavingExecution);
+        }
+
+        super.leave(leavingExecution);
+    }
+
+    /**
+     * Schedules an exclusive job, which will aggregate the completed instances of the multi instance root execution.
+     * The job is scheduled in context of the process instance, so the aggregations for one multi instance activity never run concurrently.
+     * The job is linked to the completed instance and not to the multi instance root execution, as linking it to the root
+     * would update the job count of the root when execution relationship counts are enabled.
+     */
+    protected void scheduleAsyncCompletion(ExecutionEntity completedExecution) {
+        JobService jobService = CommandContextUtil.getJobService();
+
+        JobEntity job = jobService.createJob();
+        job.setExecutionId(completedExecution.getId());
+        job.setProcessInstanceId(completedExecution.getProcessInstanceId());
+        job.setProcessDefinitionId(completedExecution.getProcessDefinitionId());
+        job.setElementId(activity.getId());
+        job.setElementName(activity.getName());
+        job.setTenantId(completedExecution.getTenantId());
+        job.setJobHandlerType(ParallelMultiInstanceCompletionJobHandler.TYPE);
+
+        jobService.createAsyncJob(job, true); // Always exclusive, only one aggregation can run at the same time
+        jobService.scheduleAsyncJob(job);
+    }
+
+    /**
+     * Counts the completed (inactive) instances of the multi instance root execution and leaves the multi instance activity
+     * when all instances are completed or the completion condition is satisfied.
+     * Called from the {@link ParallelMultiInstanceCompletionJobHandler}, when the instances are completed asynchronously.
+     */
+    public void aggregateCompletedInstances(ExecutionEntity miRootExecution) {
+        int nrOfInstances = getLoopVariable(miRootExecution, NUMBER_OF_INSTANCES);
+
+        int nrOfCompletedInstances = 0;
+        for (ExecutionEntity childExecution : miRootExecution.getExecutions()) {
+            if (!childExecution.isActive() && activity.getId().equals(childExecution.getCurrentActivityId())) {
+                nrOfCompletedInstances++;
+            }
+        }
+        int nrOfActiveInstances = nrOfInstances - nrOfCompletedInstances;
+
+        setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+        setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+
+        logLoopDetails(miRootExecution, "instances aggregated", 0, nrOfCompletedInstances, nrOfActiveInstances, nrOfInstances);
+
+        boolean isCompletionConditionSatisfied = completionConditionSatisfied(miRootExecution);
+        if (nrOfCompletedInstances >= nrOfInstances || isCompletionConditionSatisfied) {
+            completeMultiInstance(miRootExecution, miRootExecution, miRootExecution, isCompletionConditionSatisfied);
+        }
+    }
+
     protected Activity verifyCompensation(DelegateExecution execution, ExecutionEntity executionToUse, Activity activity) {
         boolean hasCompensation = false;
         if (activity instanceof Transaction) {
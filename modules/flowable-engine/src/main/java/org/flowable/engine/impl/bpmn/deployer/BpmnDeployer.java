@@ -116,6 +116,34 @@ public class BpmnDeployer implements EngineDeployer {
         }
     }
 
+    /**
+     * Resolves the process definitions of a single BPMN resource of an already persisted deployment and puts them in the cache,
+     * without parsing the other resources of the deployment.
+     */
+    public void deployResource(EngineDeployment deployment, EngineResource resource) {
+        LOGGER.debug("Resolving resource {} of deployment {}", resource.getName(), deployment.getName());
+
+        ParsedDeployment parsedDeployment = parsedDeploymentBuilderFactory
+                .getBuilderForDeploymentAndSettings(deployment, null)
+                .buildForResource(resource);
+
+        bpmnDeploymentHelper.verifyProcessDefinitionsDoNotShareKeys(parsedDeployment.getAllProcessDefinitions());
+
+        bpmnDeploymentHelper.copyDeploymentValuesToProcessDefinitions(
+                parsedDeployment.getDeployment(), parsedDeployment.getAllProcessDefinitions());
+        bpmnDeploymentHelper.setResourceNamesOnProcessDefinitions(parsedDeployment);
+
+        // The diagram resource name is taken from the persisted version, so the other resources of the deployment aren't loaded
+        makeProcessDefinitionsConsistentWithPersistedVersions(parsedDeployment);
+
+        cachingAndArtifactsManager.updateCachingAndArtifacts(parsedDeployment);
+
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            BpmnModel bpmnModel = parsedDeployment.getBpmnModelForProcessDefinition(processDefinition);
+            createLocalizationValues(processDefinition.getId(), bpmnModel.getProcessById(processDefinition.getKey()));
+        }
+    }
+
     /**
      * Creates new diagrams for process definitions if the deployment is new, the process definition in question supports it, and the engine is configured to make new diagrams.
      *
@@ -341,6 +369,9 @@ public class BpmnDeployer implements EngineDeployer {
                 processDefinition.setSuspensionState(persistedProcessDefinition.getSuspensionState());
                 processDefinition.setHasStartFormKey(persistedProcessDefinition.hasStartFormKey());
                 processDefinition.setGraphicalNotationDefined(persistedProcessDefinition.isGraphicalNotationDefined());
+                if (processDefinition.getDiagramResourceName() == null) {
+                    processDefinition.setDiagramResourceName(persistedProcessDefinition.getDiagramResourceName());
+                }
             }
         }
     }
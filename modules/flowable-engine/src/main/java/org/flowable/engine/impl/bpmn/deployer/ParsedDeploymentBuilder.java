@@ -65,6 +65,27 @@ public class ParsedDeploymentBuilder {
                 processDefinitionsToBpmnParseMap, processDefinitionsToResourceMap);
     }
 
+    /**
+     * Builds a {@link ParsedDeployment} that only contains the process definitions of the given resource of the deployment,
+     * without loading or parsing the other resources of the deployment.
+     */
+    public ParsedDeployment buildForResource(EngineResource resource) {
+        List<ProcessDefinitionEntity> processDefinitions = new ArrayList<>();
+        Map<ProcessDefinitionEntity, BpmnParse> processDefinitionsToBpmnParseMap = new LinkedHashMap<>();
+        Map<ProcessDefinitionEntity, EngineResource> processDefinitionsToResourceMap = new LinkedHashMap<>();
+
+        LOGGER.debug("Processing BPMN resource {}", resource.getName());
+        BpmnParse parse = createBpmnParseFromResource(resource);
+        for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
+            processDefinitions.add(processDefinition);
+            processDefinitionsToBpmnParseMap.put(processDefinition, parse);
+            processDefinitionsToResourceMap.put(processDefinition, resource);
+        }
+
+        return new ParsedDeployment((DeploymentEntity) deployment, processDefinitions,
+                processDefinitionsToBpmnParseMap, processDefinitionsToResourceMap);
+    }
+
     protected BpmnParse createBpmnParseFromResource(EngineResource resource) {
         String resourceName = resource.getName();
         ByteArrayInputStream inputStream = new ByteArrayInputStream(resource.getBytes());
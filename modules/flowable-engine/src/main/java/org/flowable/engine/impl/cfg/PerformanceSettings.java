@@ -61,6 +61,19 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * If true, queries that include variables or identity links (e.g. task, historic task and process instance queries) first fetch
+     * the requested page of instances and then load the related entities with batched IN queries, instead of
+     * outer joining them and paging the joined rows in memory.
+     */
+    protected boolean enableBatchedRelatedEntityFetching = false;
+
+    /**
+     * If true, the byte arrays of the variables of an execution or task that are loaded together are fetched with one query,
+     * the first time one of them is needed, instead of with one query per variable.
+     */
+    protected boolean enableVariableByteArrayBatchLoading = false;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -109,4 +122,20 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableBatchedRelatedEntityFetching() {
+        return enableBatchedRelatedEntityFetching;
+    }
+
+    public void setEnableBatchedRelatedEntityFetching(boolean enableBatchedRelatedEntityFetching) {
+        this.enableBatchedRelatedEntityFetching = enableBatchedRelatedEntityFetching;
+    }
+
+    public boolean isEnableVariableByteArrayBatchLoading() {
+        return enableVariableByteArrayBatchLoading;
+    }
+
+    public void setEnableVariableByteArrayBatchLoading(boolean enableVariableByteArrayBatchLoading) {
+        this.enableVariableByteArrayBatchLoading = enableVariableByteArrayBatchLoading;
+    }
+
 }
@@ -85,6 +85,7 @@ import org.flowable.common.engine.impl.logging.LoggingSession;
 import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.DirtyTrackingEntityCacheImpl;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
@@ -197,6 +198,7 @@ import org.flowable.engine.impl.cmd.ValidateTaskRelatedEntityCountCfgCmd;
 import org.flowable.engine.impl.cmd.ValidateV5EntitiesCmd;
 import org.flowable.engine.impl.cmmn.CaseInstanceService;
 import org.flowable.engine.impl.db.DbIdGenerator;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
 import org.flowable.engine.impl.db.EntityDependencyOrder;
 import org.flowable.engine.impl.db.ProcessDbSchemaManager;
 import org.flowable.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
@@ -264,9 +266,14 @@ import org.flowable.engine.impl.jobexecutor.AsyncSendEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
+import org.flowable.engine.impl.jobexecutor.HistoricProcessInstanceDeleteJobHandler;
+import org.flowable.engine.impl.jobexecutor.HistoricProcessInstanceDeleteStatusJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceCompletionJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationSeedingJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
@@ -396,6 +403,7 @@ import org.flowable.task.service.impl.DefaultTaskPostProcessor;
 import org.flowable.task.service.impl.db.TaskDbSchemaManager;
 import org.flowable.validation.ProcessValidator;
 import org.flowable.validation.ProcessValidatorFactory;
+import org.flowable.variable.api.types.VariableContentStore;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.VariableServiceConfiguration;
@@ -409,6 +417,7 @@ import org.flowable.variable.service.impl.types.DefaultVariableTypes;
 import org.flowable.variable.service.impl.types.DoubleType;
 import org.flowable.variable.service.impl.types.EntityManagerSession;
 import org.flowable.variable.service.impl.types.EntityManagerSessionFactory;
+import org.flowable.variable.service.impl.types.InputStreamType;
 import org.flowable.variable.service.impl.types.InstantType;
 import org.flowable.variable.service.impl.types.IntegerType;
 import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
@@ -503,6 +512,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+    
+    /**
+     * Writes the async history job data in the binary Smile format instead of json.
+     */
+    protected boolean isAsyncHistorySmileEncodingEnabled;
+    
+    /**
+     * Merges the async history events of the same variable or task within one transaction,
+     * e.g. a variable that is created and updated results in one created event with the latest value.
+     */
+    protected boolean isAsyncHistoryEventCoalescingEnabled;
     protected AsyncHistoryListener asyncHistoryListener;
 
     // Job Manager
@@ -545,7 +565,29 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * When a process definition isn't cached, only the BPMN resource it was deployed from is parsed,
+     * instead of all resources of its deployment. Other deployers (e.g. for .app resources) aren't invoked in that case.
+     */
+    protected boolean enableSingleResourceProcessDefinitionResolution;
+
+    /**
+     * Resolves the latest version of every process definition into the process definition cache when the engine boots.
+     */
+    protected boolean enableProcessDefinitionCacheWarmUp;
+
+    /**
+     * The number of threads used to warm up the process definition cache in parallel.
+     */
+    protected int processDefinitionCacheWarmUpThreads = 4;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
+
+    /**
+     * The time in milliseconds during which a cached process definition info object is used without checking its revision in the database.
+     * By default (a value of zero or less), the revision is checked on every lookup.
+     */
+    protected long processDefinitionInfoCacheTimeToLive = -1;
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
 
     protected int knowledgeBaseCacheLimit = -1;
@@ -616,6 +658,41 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected BlockingQueue<Runnable> asyncExecutorThreadPoolQueue;
 
+    /**
+     * Executes every async job on its own virtual thread instead of on the async executor thread pool. The pool and queue settings are then not used,
+     * the number of jobs executing at the same time is bounded by {@link #asyncExecutorMaxConcurrentJobs}. Needs Java 21 or later,
+     * on older runtimes a cached thread pool is used instead. Default value = false.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorUseVirtualThreads;
+
+    /**
+     * The maximum number of async jobs executed at the same time when {@link #asyncExecutorUseVirtualThreads} is enabled. Default value = 256.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorMaxConcurrentJobs = 256;
+
+    /**
+     * Claims the timer jobs that are due within {@link #asyncExecutorTimerWheelLookAheadInMillis} and fires them from a local timing wheel
+     * when they are due, instead of polling for due timer jobs. Timers then fire within {@link #asyncExecutorTimerWheelTickInMillis} of their due time,
+     * and the acquisition interval can be raised without delaying timers. Default value = false.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorTimerWheelEnabled;
+
+    /**
+     * The look-ahead window (in milliseconds) in which timer jobs are claimed when {@link #asyncExecutorTimerWheelEnabled} is enabled. Default value = 60000.
+     */
+    protected int asyncExecutorTimerWheelLookAheadInMillis = 60 * 1000;
+
+    /**
+     * The tick (in milliseconds) of the timing wheel when {@link #asyncExecutorTimerWheelEnabled} is enabled. Default value = 100.
+     */
+    protected int asyncExecutorTimerWheelTickInMillis = 100;
+
     /**
      * The time (in seconds) that is waited to gracefully shut down the threadpool used for job execution when the a shutdown on the executor (or process engine) is requested. Default value = 60.
      * <p>
@@ -726,6 +803,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorResetExpiredJobsPageSize = 3;
 
+    /**
+     * When enabled, the async executor locks the acquired async, timer and history jobs with one conditional bulk update
+     * instead of an optimistic locking update per job. Jobs that were locked concurrently by another executor are then skipped,
+     * rather than failing the whole acquisition with a {@link org.flowable.common.engine.api.FlowableOptimisticLockingException}.
+     * <p>
+     * This is useful when many engine nodes are acquiring jobs at the same time. By default disabled.
+     */
+    protected boolean asyncExecutorBulkLockingEnabled;
+
     /**
      * Flags to control which threads (when using the default threadpool-based async executor) are started.
      * This can be used to boot up engine instances that still execute jobs originating from this instance itself,
@@ -757,6 +843,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryExecutorAsyncJobLockTimeInMillis = 5 * 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsInterval = 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsPageSize = 3;
+
+    /**
+     * The number of history jobs that the async history executor applies together in one transaction.
+     * A value larger than 1 also makes the executor acquire at least that many jobs at once.
+     */
+    protected int asyncHistoryExecutorJobBatchSize = 1;
+
     protected boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorTimerJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
@@ -768,6 +861,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     protected String batchStatusTimeCycleConfig = "30 * * * * ?";
 
+    /**
+     * When enabled, a batch migration of the process instances of a process definition only creates the batch and a seeding job.
+     * The seeding job creates the batch parts and migration jobs for one page of process instances (see {@link #batchMigrationSeedingPageSize})
+     * and schedules a new seeding job for the next page, so every page is created in its own transaction. By default disabled.
+     */
+    protected boolean enableBatchMigrationPagedSeeding;
+
+    /**
+     * The number of process instances for which batch parts and migration jobs are created in one transaction when {@link #enableBatchMigrationPagedSeeding} is enabled.
+     */
+    protected int batchMigrationSeedingPageSize = 1000;
+
+    /**
+     * The maximum number of migration jobs created per second when {@link #enableBatchMigrationPagedSeeding} is enabled.
+     * The seeding job for the next page is then scheduled as a timer job, due when the page would be within this rate. 0 or less means no limit.
+     */
+    protected int batchMigrationSeedingMaxJobsPerSecond;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -832,15 +943,45 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * Store for the content of variables with an {@link java.io.InputStream} value. When not set, that content is stored as a byte array in the database.
+     */
+    protected VariableContentStore variableContentStore;
+
     protected ExpressionManager expressionManager;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
+    /**
+     * The maximum number of compiled scripts that are cached, for script engines that are thread-safe and support compilation (e.g. Groovy).
+     * Scripts are then only compiled the first time they are executed. A value of zero or less (default) disables the cache.
+     */
+    protected int compiledScriptCacheSize;
+
+    /**
+     * The maximum number of idle script engine instances kept per language, for script engines that are not thread-safe (e.g. JavaScript).
+     * A value of zero or less (default) creates a new script engine for every script execution.
+     */
+    protected int scriptEnginePoolSize;
+
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    /**
+     * When enabled, the EL resolver chain of the default expression manager is created once and shared by all expression evaluations,
+     * instead of being created for every evaluation. Only the resolver of the variables is created per evaluation.
+     */
+    protected boolean shareExpressionElResolvers;
+
+    /**
+     * The maximum number of bean classes for which the properties and methods used in expressions are cached,
+     * the least recently used classes are evicted first. Negative value to have no limit.
+     * Only used when {@link #shareExpressionElResolvers} is enabled.
+     */
+    protected int expressionBeanCacheLimit = 1024;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected StartProcessInstanceInterceptor startProcessInstanceInterceptor;
@@ -910,6 +1051,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean enableVerboseExecutionTreeLogging;
 
+    /**
+     * When enabled (and no custom {@link IdGenerator} is set), a {@link PrefetchingDbIdGenerator} is used, which hands out ids without locking
+     * and fetches the next id block in the background when the current block is mostly used, instead of the {@link DbIdGenerator}
+     * that fetches the next block while holding a lock on the generator. By default disabled.
+     */
+    protected boolean idGeneratorPrefetchEnabled;
+
+    /**
+     * When enabled, the instances of a parallel multi instance activity only mark their own execution as completed when they end,
+     * instead of updating the counters on the multi instance root execution. An exclusive job then counts the completed instances
+     * and evaluates the completion condition, which avoids optimistic locking exceptions when many instances complete at the same time.
+     * The multi instance activity is therefore always left asynchronously. By default disabled.
+     */
+    protected boolean enableParallelMultiInstanceAsyncCompletion;
+
+    /**
+     * When enabled, a global signal that is thrown without payload only records a signal broadcast job, instead of delivering the signal
+     * to all subscriptions in the throwing transaction. The job delivers the signal to a chunk of subscriptions (see {@link #signalBroadcastChunkSize})
+     * and schedules a new job for the next chunk, so every chunk runs in its own transaction and is retried on its own. By default disabled.
+     */
+    protected boolean enableSignalBroadcastFanOut;
+
+    /**
+     * The number of signal event subscriptions handled in one transaction when {@link #enableSignalBroadcastFanOut} is enabled.
+     */
+    protected int signalBroadcastChunkSize = 100;
+
     protected PerformanceSettings performanceSettings = new PerformanceSettings();
 
     // agenda factory
@@ -1384,7 +1552,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 addSessionFactory(new AgendaSessionFactory(agendaFactory));
             }
 
-            addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            addSessionFactory(new GenericManagerFactory(EntityCache.class,
+                    isEntityDirtyTrackingEnabled ? DirtyTrackingEntityCacheImpl.class : EntityCacheImpl.class));
 
             commandContextFactory.setSessionFactories(sessionFactories);
 
@@ -1464,6 +1633,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
         this.variableServiceConfiguration.setLoggingSessionEnabled(isLoggingSessionEnabled());
+        this.variableServiceConfiguration.setByteArrayBatchLoadingEnabled(this.performanceSettings.isEnableVariableByteArrayBatchLoading());
 
         this.variableServiceConfiguration.init();
 
@@ -1564,6 +1734,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.performanceSettings.isEnableTaskRelationshipCounts());
         this.taskServiceConfiguration.setEnableLocalization(this.performanceSettings.isEnableLocalization());
+        this.taskServiceConfiguration.setEnableBatchedRelatedEntityFetching(this.performanceSettings.isEnableBatchedRelatedEntityFetching());
         this.taskServiceConfiguration.setTaskQueryInterceptor(this.taskQueryInterceptor);
         this.taskServiceConfiguration.setHistoricTaskQueryInterceptor(this.historicTaskQueryInterceptor);
         this.taskServiceConfiguration.setTaskQueryLimit(this.taskQueryLimit);
@@ -1613,6 +1784,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setAsyncExecutorBulkLockingEnabled(this.asyncExecutorBulkLockingEnabled);
 
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1636,6 +1808,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
+            jobServiceConfiguration.setAsyncHistorySmileEncodingEnabled(isAsyncHistorySmileEncodingEnabled);
 
             // set the job processors
             this.jobServiceConfiguration.setJobProcessors(this.jobProcessors);
@@ -1754,11 +1927,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionInfoCache() {
         if (processDefinitionInfoCache == null) {
+            ProcessDefinitionInfoCache infoCache;
             if (processDefinitionInfoCacheLimit <= 0) {
-                processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor);
+                infoCache = new ProcessDefinitionInfoCache(commandExecutor);
             } else {
-                processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
+                infoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+            infoCache.setTimeToLive(processDefinitionInfoCacheTimeToLive);
+            processDefinitionInfoCache = infoCache;
         }
     }
 
@@ -2036,6 +2212,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         AsyncCompleteCallActivityJobHandler asyncCompleteCallActivityJobHandler = new AsyncCompleteCallActivityJobHandler();
         jobHandlers.put(asyncCompleteCallActivityJobHandler.getType(), asyncCompleteCallActivityJobHandler);
         
+        ParallelMultiInstanceCompletionJobHandler parallelMultiInstanceCompletionJobHandler = new ParallelMultiInstanceCompletionJobHandler();
+        jobHandlers.put(parallelMultiInstanceCompletionJobHandler.getType(), parallelMultiInstanceCompletionJobHandler);
+
+        SignalBroadcastJobHandler signalBroadcastJobHandler = new SignalBroadcastJobHandler();
+        jobHandlers.put(signalBroadcastJobHandler.getType(), signalBroadcastJobHandler);
+
         AsyncSendEventJobHandler asyncSendEventJobHandler = new AsyncSendEventJobHandler();
         jobHandlers.put(asyncSendEventJobHandler.getType(), asyncSendEventJobHandler);
         
@@ -2048,6 +2230,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ProcessInstanceMigrationStatusJobHandler processInstanceMigrationStatusJobHandler = new ProcessInstanceMigrationStatusJobHandler();
         jobHandlers.put(processInstanceMigrationStatusJobHandler.getType(), processInstanceMigrationStatusJobHandler);
 
+        ProcessInstanceMigrationSeedingJobHandler processInstanceMigrationSeedingJobHandler = new ProcessInstanceMigrationSeedingJobHandler();
+        jobHandlers.put(processInstanceMigrationSeedingJobHandler.getType(), processInstanceMigrationSeedingJobHandler);
+
+        HistoricProcessInstanceDeleteJobHandler historicProcessInstanceDeleteJobHandler = new HistoricProcessInstanceDeleteJobHandler();
+        jobHandlers.put(historicProcessInstanceDeleteJobHandler.getType(), historicProcessInstanceDeleteJobHandler);
+
+        HistoricProcessInstanceDeleteStatusJobHandler historicProcessInstanceDeleteStatusJobHandler = new HistoricProcessInstanceDeleteStatusJobHandler();
+        jobHandlers.put(historicProcessInstanceDeleteStatusJobHandler.getType(), historicProcessInstanceDeleteStatusJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -2147,6 +2338,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             }
             defaultAsyncExecutor.setQueueSize(asyncExecutorThreadPoolQueueSize);
 
+            // Virtual threads
+            defaultAsyncExecutor.setUseVirtualThreads(asyncExecutorUseVirtualThreads);
+            defaultAsyncExecutor.setMaxConcurrentJobs(asyncExecutorMaxConcurrentJobs);
+
+            // Timer wheel
+            defaultAsyncExecutor.setTimerWheelEnabled(asyncExecutorTimerWheelEnabled);
+            defaultAsyncExecutor.setTimerWheelLookAheadInMillis(asyncExecutorTimerWheelLookAheadInMillis);
+            defaultAsyncExecutor.setTimerWheelTickInMillis(asyncExecutorTimerWheelTickInMillis);
+
             // Thread flags
             defaultAsyncExecutor.setAsyncJobAcquisitionEnabled(isAsyncExecutorAsyncJobAcquisitionEnabled);
             defaultAsyncExecutor.setTimerJobAcquisitionEnabled(isAsyncExecutorTimerJobAcquisitionEnabled);
@@ -2227,6 +2427,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 defaultAsyncHistoryExecutor.setResetExpiredJobsInterval(asyncHistoryExecutorResetExpiredJobsInterval);
                 defaultAsyncHistoryExecutor.setResetExpiredJobsPageSize(asyncHistoryExecutorResetExpiredJobsPageSize);
 
+                // Batch execution
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorJobBatchSize);
+                if (asyncHistoryExecutorJobBatchSize > defaultAsyncHistoryExecutor.getMaxAsyncJobsDuePerAcquisition()) {
+                    defaultAsyncHistoryExecutor.setMaxAsyncJobsDuePerAcquisition(asyncHistoryExecutorJobBatchSize);
+                }
+
                 // Shutdown
                 defaultAsyncHistoryExecutor.setSecondsToWaitOnShutdown(asyncHistoryExecutorSecondsToWaitOnShutdown);
 
@@ -2274,7 +2480,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     @Override
     public void initIdGenerator() {
         if (idGenerator == null) {
-            DbIdGenerator dbIdGenerator = new DbIdGenerator();
+            DbIdGenerator dbIdGenerator = idGeneratorPrefetchEnabled ? new PrefetchingDbIdGenerator() : new DbIdGenerator();
             dbIdGenerator.setIdBlockSize(idBlockSize);
             idGenerator = dbIdGenerator;
         }
@@ -2342,6 +2548,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new UUIDType());
             variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
             variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
+            variableTypes.addType(new InputStreamType(variableContentStore));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             if (customPostVariableTypes != null) {
@@ -2391,6 +2598,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
+            scriptingEngines.setCompiledScriptCacheSize(compiledScriptCacheSize);
+            scriptingEngines.setScriptEnginePoolSize(scriptEnginePoolSize);
         }
     }
 
@@ -2403,6 +2612,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
+            if (shareExpressionElResolvers) {
+                processExpressionManager.setShareElResolvers(true);
+                processExpressionManager.setBeanElResolverCacheLimit(expressionBeanCacheLimit);
+            }
+
             expressionManager = processExpressionManager;
         }
         expressionManager.setFunctionDelegates(flowableFunctionDelegates);
@@ -2604,6 +2818,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             commandExecutor.execute(new ValidateTaskRelatedEntityCountCfgCmd());
         }
 
+        if (enableProcessDefinitionCacheWarmUp) {
+            deploymentManager.warmUpProcessDefinitionCache();
+        }
+
         // if Flowable 5 support is needed configure the Flowable 5 job processors via the compatibility handler
         if (flowable5CompatibilityEnabled) {
             flowable5CompatibilityHandler.setJobProcessor(this.flowable5JobProcessors);
@@ -2988,6 +3206,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
+    public int getScriptEnginePoolSize() {
+        return scriptEnginePoolSize;
+    }
+
+    public ProcessEngineConfigurationImpl setScriptEnginePoolSize(int scriptEnginePoolSize) {
+        this.scriptEnginePoolSize = scriptEnginePoolSize;
+        return this;
+    }
+
     @Override
     public ScriptingEngines getScriptingEngines() {
         return scriptingEngines;
@@ -3108,6 +3344,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public VariableContentStore getVariableContentStore() {
+        return variableContentStore;
+    }
+
+    public ProcessEngineConfigurationImpl setVariableContentStore(VariableContentStore variableContentStore) {
+        this.variableContentStore = variableContentStore;
+        return this;
+    }
+
     @Override
     public ExpressionManager getExpressionManager() {
         return expressionManager;
@@ -3146,6 +3391,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isShareExpressionElResolvers() {
+        return shareExpressionElResolvers;
+    }
+
+    public ProcessEngineConfigurationImpl setShareExpressionElResolvers(boolean shareExpressionElResolvers) {
+        this.shareExpressionElResolvers = shareExpressionElResolvers;
+        return this;
+    }
+
+    public int getExpressionBeanCacheLimit() {
+        return expressionBeanCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setExpressionBeanCacheLimit(int expressionBeanCacheLimit) {
+        this.expressionBeanCacheLimit = expressionBeanCacheLimit;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3560,6 +3823,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableSingleResourceProcessDefinitionResolution() {
+        return enableSingleResourceProcessDefinitionResolution;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableSingleResourceProcessDefinitionResolution(boolean enableSingleResourceProcessDefinitionResolution) {
+        this.enableSingleResourceProcessDefinitionResolution = enableSingleResourceProcessDefinitionResolution;
+        return this;
+    }
+
+    public boolean isEnableProcessDefinitionCacheWarmUp() {
+        return enableProcessDefinitionCacheWarmUp;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessDefinitionCacheWarmUp(boolean enableProcessDefinitionCacheWarmUp) {
+        this.enableProcessDefinitionCacheWarmUp = enableProcessDefinitionCacheWarmUp;
+        return this;
+    }
+
+    public int getProcessDefinitionCacheWarmUpThreads() {
+        return processDefinitionCacheWarmUpThreads;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWarmUpThreads(int processDefinitionCacheWarmUpThreads) {
+        this.processDefinitionCacheWarmUpThreads = processDefinitionCacheWarmUpThreads;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3578,6 +3868,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return processDefinitionInfoCache;
     }
 
+    public long getProcessDefinitionInfoCacheTimeToLive() {
+        return processDefinitionInfoCacheTimeToLive;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheTimeToLive(long processDefinitionInfoCacheTimeToLive) {
+        this.processDefinitionInfoCacheTimeToLive = processDefinitionInfoCacheTimeToLive;
+        return this;
+    }
+
     public int getKnowledgeBaseCacheLimit() {
         return knowledgeBaseCacheLimit;
     }
@@ -3761,6 +4060,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableParallelMultiInstanceAsyncCompletion() {
+        return enableParallelMultiInstanceAsyncCompletion;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableParallelMultiInstanceAsyncCompletion(boolean enableParallelMultiInstanceAsyncCompletion) {
+        this.enableParallelMultiInstanceAsyncCompletion = enableParallelMultiInstanceAsyncCompletion;
+        return this;
+    }
+
+    public boolean isEnableSignalBroadcastFanOut() {
+        return enableSignalBroadcastFanOut;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableSignalBroadcastFanOut(boolean enableSignalBroadcastFanOut) {
+        this.enableSignalBroadcastFanOut = enableSignalBroadcastFanOut;
+        return this;
+    }
+
+    public int getSignalBroadcastChunkSize() {
+        return signalBroadcastChunkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setSignalBroadcastChunkSize(int signalBroadcastChunkSize) {
+        this.signalBroadcastChunkSize = signalBroadcastChunkSize;
+        return this;
+    }
+
+    public boolean isIdGeneratorPrefetchEnabled() {
+        return idGeneratorPrefetchEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setIdGeneratorPrefetchEnabled(boolean idGeneratorPrefetchEnabled) {
+        this.idGeneratorPrefetchEnabled = idGeneratorPrefetchEnabled;
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setEnableEagerExecutionTreeFetching(boolean enableEagerExecutionTreeFetching) {
         this.performanceSettings.setEnableEagerExecutionTreeFetching(enableEagerExecutionTreeFetching);
         return this;
@@ -3789,6 +4124,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableBatchedRelatedEntityFetching(boolean enableBatchedRelatedEntityFetching) {
+        this.performanceSettings.setEnableBatchedRelatedEntityFetching(enableBatchedRelatedEntityFetching);
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableVariableByteArrayBatchLoading(boolean enableVariableByteArrayBatchLoading) {
+        this.performanceSettings.setEnableVariableByteArrayBatchLoading(enableVariableByteArrayBatchLoading);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -4134,6 +4479,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
 
+    public boolean isAsyncHistorySmileEncodingEnabled() {
+        return isAsyncHistorySmileEncodingEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistorySmileEncodingEnabled(boolean isAsyncHistorySmileEncodingEnabled) {
+        this.isAsyncHistorySmileEncodingEnabled = isAsyncHistorySmileEncodingEnabled;
+        return this;
+    }
+
+    public boolean isAsyncHistoryEventCoalescingEnabled() {
+        return isAsyncHistoryEventCoalescingEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryEventCoalescingEnabled(boolean isAsyncHistoryEventCoalescingEnabled) {
+        this.isAsyncHistoryEventCoalescingEnabled = isAsyncHistoryEventCoalescingEnabled;
+        return this;
+    }
+
     public AsyncHistoryListener getAsyncHistoryListener() {
         return asyncHistoryListener;
     }
@@ -4524,6 +4887,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorUseVirtualThreads() {
+        return asyncExecutorUseVirtualThreads;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorUseVirtualThreads(boolean asyncExecutorUseVirtualThreads) {
+        this.asyncExecutorUseVirtualThreads = asyncExecutorUseVirtualThreads;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentJobs() {
+        return asyncExecutorMaxConcurrentJobs;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxConcurrentJobs(int asyncExecutorMaxConcurrentJobs) {
+        this.asyncExecutorMaxConcurrentJobs = asyncExecutorMaxConcurrentJobs;
+        return this;
+    }
+
+    public boolean isAsyncExecutorTimerWheelEnabled() {
+        return asyncExecutorTimerWheelEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerWheelEnabled(boolean asyncExecutorTimerWheelEnabled) {
+        this.asyncExecutorTimerWheelEnabled = asyncExecutorTimerWheelEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerWheelLookAheadInMillis() {
+        return asyncExecutorTimerWheelLookAheadInMillis;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerWheelLookAheadInMillis(int asyncExecutorTimerWheelLookAheadInMillis) {
+        this.asyncExecutorTimerWheelLookAheadInMillis = asyncExecutorTimerWheelLookAheadInMillis;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerWheelTickInMillis() {
+        return asyncExecutorTimerWheelTickInMillis;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerWheelTickInMillis(int asyncExecutorTimerWheelTickInMillis) {
+        this.asyncExecutorTimerWheelTickInMillis = asyncExecutorTimerWheelTickInMillis;
+        return this;
+    }
+
     public long getAsyncExecutorSecondsToWaitOnShutdown() {
         return asyncExecutorSecondsToWaitOnShutdown;
     }
@@ -4632,6 +5040,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorBulkLockingEnabled() {
+        return asyncExecutorBulkLockingEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorBulkLockingEnabled(boolean asyncExecutorBulkLockingEnabled) {
+        this.asyncExecutorBulkLockingEnabled = asyncExecutorBulkLockingEnabled;
+        return this;
+    }
+
     public ExecuteAsyncRunnableFactory getAsyncExecutorExecuteAsyncRunnableFactory() {
         return asyncExecutorExecuteAsyncRunnableFactory;
     }
@@ -4794,6 +5211,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncHistoryExecutorJobBatchSize() {
+        return asyncHistoryExecutorJobBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorJobBatchSize(int asyncHistoryExecutorJobBatchSize) {
+        this.asyncHistoryExecutorJobBatchSize = asyncHistoryExecutorJobBatchSize;
+        return this;
+    }
+
     public boolean isAsyncExecutorMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -4856,6 +5282,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public VariableServiceConfiguration getVariableServiceConfiguration() {
+        return variableServiceConfiguration;
+    }
+
+    public TaskServiceConfiguration getTaskServiceConfiguration() {
+        return taskServiceConfiguration;
+    }
+
     public JobServiceConfiguration getJobServiceConfiguration() {
         return jobServiceConfiguration;
     }
@@ -4881,4 +5315,31 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.batchStatusTimeCycleConfig = batchStatusTimeCycleConfig;
     }
 
+    public boolean isEnableBatchMigrationPagedSeeding() {
+        return enableBatchMigrationPagedSeeding;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableBatchMigrationPagedSeeding(boolean enableBatchMigrationPagedSeeding) {
+        this.enableBatchMigrationPagedSeeding = enableBatchMigrationPagedSeeding;
+        return this;
+    }
+
+    public int getBatchMigrationSeedingPageSize() {
+        return batchMigrationSeedingPageSize;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchMigrationSeedingPageSize(int batchMigrationSeedingPageSize) {
+        this.batchMigrationSeedingPageSize = batchMigrationSeedingPageSize;
+        return this;
+    }
+
+    public int getBatchMigrationSeedingMaxJobsPerSecond() {
+        return batchMigrationSeedingMaxJobsPerSecond;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchMigrationSeedingMaxJobsPerSecond(int batchMigrationSeedingMaxJobsPerSecond) {
+        this.batchMigrationSeedingMaxJobsPerSecond = batchMigrationSeedingMaxJobsPerSecond;
+        return this;
+    }
+
 }
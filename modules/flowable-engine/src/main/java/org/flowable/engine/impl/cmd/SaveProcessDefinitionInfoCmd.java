@@ -16,8 +16,14 @@ import java.io.Serializable;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -65,6 +71,23 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             throw new FlowableException("Unable to serialize info node " + infoNode, e);
         }
 
+        // the cached info object may be trusted for some time without checking its revision,
+        // so it's invalidated right away and again when the new revision is visible to other transactions
+        DeploymentCache<ProcessDefinitionInfoCacheObject> infoCache = CommandContextUtil.getProcessEngineConfiguration(commandContext).getProcessDefinitionInfoCache();
+        if (infoCache != null) {
+            infoCache.remove(processDefinitionId);
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                    @Override
+                    public void execute(CommandContext commandContext) {
+                        infoCache.remove(processDefinitionId);
+                    }
+                });
+            }
+        }
+
         return null;
     }
 
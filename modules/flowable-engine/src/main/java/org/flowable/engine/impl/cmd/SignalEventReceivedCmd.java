@@ -72,6 +72,13 @@ public class SignalEventReceivedCmd implements Command<Void> {
 
         EventSubscriptionService eventSubscriptionService = CommandContextUtil.getEventSubscriptionService(commandContext);
         if (executionId == null) {
+            if ((payload == null || payload.isEmpty()) && CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableSignalBroadcastFanOut()) {
+                // The subscriptions are handled in chunks by the signal broadcast job, each chunk in its own transaction
+                EventSubscriptionUtil.scheduleSignalBroadcast(eventName, tenantId, async, true,
+                        CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime(), null);
+                return null;
+            }
+
             signalEvents = eventSubscriptionService.findSignalEventSubscriptionsByEventName(eventName, tenantId);
         } else {
 
@@ -0,0 +1,224 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DbIdGenerator} that hands out ids without locking and fetches the next id block in the background
+ * when the current block is mostly used.
+ * <p>
+ * Ids are taken from the active block with an {@link AtomicLong}. When a configurable fraction of the block
+ * has been handed out, the next block is fetched by a background thread, so that threads normally don't need
+ * to wait for the database round trip when the active block runs out.
+ * Only when the prefetched block isn't available yet (or fetching it failed), a thread fetches the block itself.
+ * <p>
+ * Note that prefetching means that at most one block of ids more is reserved than with the {@link DbIdGenerator},
+ * so there can be larger gaps in the ids when the engine is restarted.
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    /**
+     * The fraction of the active block that needs to be handed out before the next block is prefetched.
+     */
+    protected double prefetchThreshold = 0.75;
+
+    protected final AtomicReference<ActiveIdBlock> activeBlock = new AtomicReference<>(new ActiveIdBlock(0, -1, 0));
+    protected final Object blockSwitchLock = new Object();
+    protected volatile CompletableFuture<IdBlock> prefetchedBlock;
+    protected ExecutorService prefetchExecutorService;
+    protected volatile boolean shutdown;
+
+    // Metrics
+    protected final AtomicLong blockFetchCount = new AtomicLong();
+    protected final AtomicLong blockFetchTotalTime = new AtomicLong();
+    protected final AtomicLong blockFetchMaxTime = new AtomicLong();
+    protected final AtomicLong blockFetchFailureCount = new AtomicLong();
+    protected final AtomicLong blockingBlockFetchCount = new AtomicLong();
+
+    @Override
+    public String getNextId() {
+        while (true) {
+            ActiveIdBlock block = activeBlock.get();
+            long id = block.nextId.getAndIncrement();
+            if (id <= block.lastId) {
+                if (id == block.prefetchId) {
+                    startPrefetch();
+                }
+                return Long.toString(id);
+            }
+            switchBlock(block);
+        }
+    }
+
+    @Override
+    protected void getNewBlock() {
+        switchBlock(activeBlock.get());
+    }
+
+    protected void switchBlock(ActiveIdBlock exhaustedBlock) {
+        synchronized (blockSwitchLock) {
+            if (activeBlock.get() != exhaustedBlock) {
+                // Another thread already switched to a new block
+                return;
+            }
+
+            IdBlock idBlock = takePrefetchedBlock();
+            if (idBlock == null) {
+                blockingBlockFetchCount.incrementAndGet();
+                idBlock = fetchBlock();
+            }
+
+            long blockSize = idBlock.getLastId() - idBlock.getNextId() + 1;
+            long prefetchId = idBlock.getNextId() + (long) (blockSize * prefetchThreshold);
+            activeBlock.set(new ActiveIdBlock(idBlock.getNextId(), idBlock.getLastId(), prefetchId));
+        }
+    }
+
+    protected IdBlock takePrefetchedBlock() {
+        CompletableFuture<IdBlock> future = prefetchedBlock;
+        prefetchedBlock = null;
+        if (future == null) {
+            return null;
+        }
+
+        try {
+            return future.join();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Prefetching the next id block failed, fetching it again", e);
+            return null;
+        }
+    }
+
+    protected void startPrefetch() {
+        synchronized (blockSwitchLock) {
+            if (prefetchedBlock == null && !shutdown) {
+                prefetchedBlock = CompletableFuture.supplyAsync(this::fetchBlock, getPrefetchExecutorService());
+            }
+        }
+    }
+
+    protected IdBlock fetchBlock() {
+        long start = System.nanoTime();
+        try {
+            return commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
+
+        } catch (RuntimeException e) {
+            blockFetchFailureCount.incrementAndGet();
+            throw e;
+
+        } finally {
+            long duration = (System.nanoTime() - start) / 1_000_000L;
+            blockFetchCount.incrementAndGet();
+            blockFetchTotalTime.addAndGet(duration);
+            blockFetchMaxTime.accumulateAndGet(duration, Math::max);
+        }
+    }
+
+    protected synchronized ExecutorService getPrefetchExecutorService() {
+        if (prefetchExecutorService == null) {
+            prefetchExecutorService = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "flowable-id-block-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return prefetchExecutorService;
+    }
+
+    public synchronized void shutdown() {
+        shutdown = true;
+
+        // A cancelled prefetch is fetched again by the next thread needing a new block
+        CompletableFuture<IdBlock> future = prefetchedBlock;
+        if (future != null) {
+            future.cancel(false);
+        }
+
+        if (prefetchExecutorService != null) {
+            prefetchExecutorService.shutdownNow();
+            prefetchExecutorService = null;
+        }
+    }
+
+    public double getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    public void setPrefetchThreshold(double prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
+    /**
+     * @return the number of id blocks fetched from the database, both in the background and by threads waiting for ids.
+     */
+    public long getBlockFetchCount() {
+        return blockFetchCount.get();
+    }
+
+    /**
+     * @return the total time in milliseconds spent fetching id blocks from the database.
+     */
+    public long getBlockFetchTotalTime() {
+        return blockFetchTotalTime.get();
+    }
+
+    /**
+     * @return the longest time in milliseconds it took to fetch an id block from the database.
+     */
+    public long getBlockFetchMaxTime() {
+        return blockFetchMaxTime.get();
+    }
+
+    public double getBlockFetchAverageTime() {
+        long count = blockFetchCount.get();
+        return count > 0 ? (double) blockFetchTotalTime.get() / count : 0;
+    }
+
+    public long getBlockFetchFailureCount() {
+        return blockFetchFailureCount.get();
+    }
+
+    /**
+     * @return the number of times a thread needing an id had to fetch the next block itself, because no prefetched block was available.
+     */
+    public long getBlockingBlockFetchCount() {
+        return blockingBlockFetchCount.get();
+    }
+
+    protected static class ActiveIdBlock {
+
+        protected final AtomicLong nextId;
+        protected final long lastId;
+        protected final long prefetchId;
+
+        protected ActiveIdBlock(long nextId, long lastId, long prefetchId) {
+            this.nextId = new AtomicLong(nextId);
+            this.lastId = lastId;
+            this.prefetchId = prefetchId;
+        }
+    }
+
+}
@@ -66,6 +66,47 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         }
     }
 
+    @Override
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+        RuntimeService runtimeService = processEngineConfiguration.getRuntimeService();
+        eventsReceived(eventInstances, new BatchEventSubscriptionHandler<EventSubscription>() {
+
+            @Override
+            public List<EventSubscription> findEventSubscriptions(EventModel eventModel, Collection<String> correlationKeys) {
+                return findEventSubscriptionsByEventDefinitionKeyAndCorrelationKeysOrNoCorrelations(eventModel, correlationKeys);
+            }
+
+            @Override
+            public String getCorrelationKey(EventSubscription eventSubscription) {
+                return eventSubscription.getConfiguration();
+            }
+
+            @Override
+            public String getTriggeredElementId(EventSubscription eventSubscription) {
+                return eventSubscription.getExecutionId();
+            }
+
+            @Override
+            public String getInstanceId(EventSubscription eventSubscription) {
+                return eventSubscription.getProcessInstanceId();
+            }
+
+            @Override
+            public void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<String> correlationKeys) {
+                BpmnEventRegistryEventConsumer.this.handleEventSubscription(runtimeService, eventSubscription, eventInstance);
+            }
+        });
+    }
+
+    protected List<EventSubscription> findEventSubscriptionsByEventDefinitionKeyAndCorrelationKeysOrNoCorrelations(EventModel eventDefinition,
+            Collection<String> correlationKeys) {
+
+        return commandExecutor.execute(commandContext ->
+            CommandContextUtil.getEventSubscriptionEntityManager(commandContext).findEventSubscriptionsByQueryCriteria(
+                new EventSubscriptionQueryImpl(commandContext).eventType(eventDefinition.getKey()).configurationsOrNoConfiguration(correlationKeys)
+                    .scopeType(ScopeTypes.BPMN)));
+    }
+
     protected List<EventSubscription> findEventSubscriptionsByEventDefinitionKeyAndCorrelationKeys(EventModel eventDefinition, Collection<String> correlationKeys) {
         return commandExecutor.execute(commandContext ->
             CommandContextUtil.getEventSubscriptionEntityManager(commandContext).findEventSubscriptionsByQueryCriteria(
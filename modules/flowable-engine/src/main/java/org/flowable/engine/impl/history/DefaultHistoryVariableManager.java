@@ -15,7 +15,12 @@ package org.flowable.engine.impl.history;
 
 import java.util.Date;
 
+import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.service.history.InternalHistoryVariableManager;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
@@ -51,6 +56,33 @@ public class DefaultHistoryVariableManager implements InternalHistoryVariableMan
         }
     }
     
+    @Override
+    public boolean isHistoricVariableInstanceRecorded(ValueFields variable) {
+        return getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, getProcessDefinitionId(variable));
+    }
+
+    @Override
+    public boolean isHistoricVariableUpdateRecorded(ValueFields variable) {
+        if (variable.getProcessInstanceId() == null && variable.getExecutionId() == null && variable.getTaskId() == null) {
+            return false;
+        }
+        return getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.FULL, getProcessDefinitionId(variable));
+    }
+
+    protected String getProcessDefinitionId(ValueFields variable) {
+        if (!processEngineConfiguration.isEnableProcessDefinitionHistoryLevel() || variable.getProcessInstanceId() == null) {
+            return null;
+        }
+
+        // the process instance can already be ended when its variables are deleted
+        ExecutionEntity processInstance = CommandContextUtil.getExecutionEntityManager().findById(variable.getProcessInstanceId());
+        if (processInstance != null) {
+            return processInstance.getProcessDefinitionId();
+        }
+        HistoricProcessInstanceEntity historicProcessInstance = CommandContextUtil.getHistoricProcessInstanceEntityManager().findById(variable.getProcessInstanceId());
+        return historicProcessInstance != null ? historicProcessInstance.getProcessDefinitionId() : null;
+    }
+
     protected HistoryManager getHistoryManager() {
         return processEngineConfiguration.getHistoryManager();
     }
@@ -229,6 +229,15 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
         if (isHistoryLevelAtLeast(HistoryLevel.AUDIT, taskEntity.getProcessDefinitionId())) {
             ObjectNode data = processEngineConfiguration.getObjectMapper().createObjectNode();
             addCommonTaskFields(taskEntity, null, data);
+            
+            if (processEngineConfiguration.isAsyncHistoryEventCoalescingEnabled()) {
+                // The property changed event contains all task properties, so only the last one is needed
+                AsyncHistorySessionData asyncHistorySessionData = getAsyncHistorySessionData();
+                if (asyncHistorySessionData != null) {
+                    asyncHistorySessionData.removeJobData(HistoryJsonConstants.TYPE_TASK_PROPERTY_CHANGED, HistoryJsonConstants.ID, taskEntity.getId());
+                }
+            }
+            
             getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_TASK_PROPERTY_CHANGED, data);
         }
             
@@ -352,6 +361,25 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
             
             putIfNotNull(data, HistoryJsonConstants.LAST_UPDATED_TIME, updateTime);
             
+            if (processEngineConfiguration.isAsyncHistoryEventCoalescingEnabled()) {
+                AsyncHistorySessionData asyncHistorySessionData = getAsyncHistorySessionData();
+                if (asyncHistorySessionData != null) {
+                    // A variable created in the same transaction gets the latest value in its created event,
+                    // otherwise only the last update needs to be kept
+                    ObjectNode variableCreatedData = asyncHistorySessionData.findJobData(HistoryJsonConstants.TYPE_VARIABLE_CREATED, HistoryJsonConstants.ID, variable.getId());
+                    if (variableCreatedData != null) {
+                        if (variableCreatedData.has(HistoryJsonConstants.CREATE_TIME)) {
+                            data.set(HistoryJsonConstants.CREATE_TIME, variableCreatedData.get(HistoryJsonConstants.CREATE_TIME));
+                        }
+                        data.set(AsyncHistorySession.TIMESTAMP, variableCreatedData.get(AsyncHistorySession.TIMESTAMP));
+                        variableCreatedData.removeAll();
+                        variableCreatedData.setAll(data);
+                        return;
+                    }
+                    asyncHistorySessionData.removeJobData(HistoryJsonConstants.TYPE_VARIABLE_UPDATED, HistoryJsonConstants.ID, variable.getId());
+                }
+            }
+            
             getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_VARIABLE_UPDATED, data);
         }
     }
@@ -369,6 +397,17 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
             putIfNotNull(data, HistoryJsonConstants.ID, variable.getId());
             putIfNotNull(data, HistoryJsonConstants.REVISION, variable.getRevision());
             
+            if (processEngineConfiguration.isAsyncHistoryEventCoalescingEnabled()) {
+                AsyncHistorySessionData asyncHistorySessionData = getAsyncHistorySessionData();
+                if (asyncHistorySessionData != null) {
+                    // A variable that is created and removed in the same transaction never reaches the history
+                    asyncHistorySessionData.removeJobData(HistoryJsonConstants.TYPE_VARIABLE_UPDATED, HistoryJsonConstants.ID, variable.getId());
+                    if (asyncHistorySessionData.removeJobData(HistoryJsonConstants.TYPE_VARIABLE_CREATED, HistoryJsonConstants.ID, variable.getId())) {
+                        return;
+                    }
+                }
+            }
+            
             getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_VARIABLE_REMOVED, data);
         }
     }
@@ -519,6 +558,14 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
 
     /* Helper methods */
 
+    protected AsyncHistorySessionData getAsyncHistorySessionData() {
+        Map<JobServiceConfiguration, AsyncHistorySessionData> sessionData = getAsyncHistorySession().getSessionData();
+        if (sessionData != null) {
+            return sessionData.get(getJobServiceConfiguration());
+        }
+        return null;
+    }
+
     protected ObjectNode getActivityStart(String executionId, String activityId, boolean removeFromAsyncHistorySession) {
         Map<JobServiceConfiguration, AsyncHistorySessionData> sessionData = getAsyncHistorySession().getSessionData();
         if (sessionData != null) {
@@ -78,7 +78,10 @@ public class VariableCreatedHistoryJsonTransformer extends AbstractHistoryJsonTr
         
         Date time = getDateFromJson(historicalData, HistoryJsonConstants.CREATE_TIME);
         historicVariableInstanceEntity.setCreateTime(time);
-        historicVariableInstanceEntity.setLastUpdatedTime(time);
+        
+        // Set when later updates of the variable in the same transaction were merged into this event
+        Date lastUpdatedTime = getDateFromJson(historicalData, HistoryJsonConstants.LAST_UPDATED_TIME);
+        historicVariableInstanceEntity.setLastUpdatedTime(lastUpdatedTime != null ? lastUpdatedTime : time);
 
         historicVariableService.insertHistoricVariableInstance(historicVariableInstanceEntity);
     }
@@ -32,7 +32,11 @@ public class BpmnHistoryCleanupJobHandler implements JobHandler {
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
 
-        processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery().deleteWithRelatedData();
+        if (processEngineConfiguration.isEnableBatchHistoryCleaning()) {
+            BpmnHistoryCleanupBatchHelper.createCleanupBatch(commandContext);
+        } else {
+            processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery().deleteWithRelatedData();
+        }
     }
     
 }
@@ -0,0 +1,134 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.task.service.HistoricTaskService;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the historic process instances of one part of a history cleanup batch, together with their related historic data.
+ * The job handler configuration is the id of the batch part.
+ * <p>
+ * The data of all instances of the part is removed with bulk deletes. When the deletion fails, the exception is rethrown so that
+ * the job is retried. Only when the last retry fails, the batch part is completed as failed, in a separate transaction.
+ * The failed part keeps its instance ids, so it is executed again when its dead letter job is moved back to the executable jobs.
+ */
+public class HistoricProcessInstanceDeleteJobHandler implements JobHandler {
+
+    public static final String TYPE = "historic-process-delete";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+
+        BatchPart batchPart = batchService.getBatchPart(configuration);
+        if (batchPart == null || BpmnHistoryCleanupBatchHelper.RESULT_SUCCESS.equals(batchPart.getStatus())) {
+            return;
+        }
+
+        if (job.getRetries() <= 1) {
+            // The job is moved to the dead letter jobs when this attempt fails as well.
+            // The changes of this transaction are rolled back then, so the failure is recorded in a new one.
+            Context.getTransactionContext().addTransactionListener(TransactionState.ROLLED_BACK,
+                    transactionCommandContext -> completeFailedBatchPart(batchPart.getId(), commandContext.getException(), processEngineConfiguration));
+        }
+
+        List<String> instanceIds = BpmnHistoryCleanupBatchHelper.getInstanceIds(batchPart, processEngineConfiguration.getObjectMapper());
+        int deletedInstances = deleteHistoricProcessInstances(instanceIds, processEngineConfiguration, commandContext);
+
+        ObjectNode resultNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        resultNode.put(BpmnHistoryCleanupBatchHelper.BATCH_DELETED_INSTANCES_LABEL, deletedInstances);
+        resultNode.put(BpmnHistoryCleanupBatchHelper.BATCH_RESULT_STATUS_LABEL, BpmnHistoryCleanupBatchHelper.RESULT_SUCCESS);
+        batchService.completeBatchPart(batchPart.getId(), BpmnHistoryCleanupBatchHelper.RESULT_SUCCESS, resultNode.toString());
+    }
+
+    protected int deleteHistoricProcessInstances(List<String> instanceIds, ProcessEngineConfigurationImpl processEngineConfiguration, CommandContext commandContext) {
+        if (instanceIds.isEmpty()) {
+            return 0;
+        }
+
+        // Instances that are already deleted (e.g. when the part is executed again after a crash) or not finished anymore are skipped
+        HistoricProcessInstanceEntityManager historicProcessInstanceEntityManager = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext);
+        HistoricProcessInstanceQueryImpl historicProcessInstanceQuery = new HistoricProcessInstanceQueryImpl();
+        historicProcessInstanceQuery.processInstanceIds(new HashSet<>(instanceIds)).finished();
+        Set<String> processInstanceIds = new HashSet<>();
+        for (HistoricProcessInstance historicProcessInstance : historicProcessInstanceEntityManager.findHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery)) {
+            processInstanceIds.add(historicProcessInstance.getId());
+        }
+
+        if (processInstanceIds.isEmpty()) {
+            return 0;
+        }
+
+        CommandContextUtil.getHistoricDetailEntityManager(commandContext).deleteHistoricDetailsByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricVariableService().deleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).deleteHistoricActivityInstancesByProcessInstanceIds(processInstanceIds);
+
+        HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService(commandContext);
+        historicTaskService.deleteHistoricTaskLogEntriesForProcessInstanceIds(processInstanceIds);
+        // the identity links of the tasks are found through the historic tasks, so they are deleted before the tasks
+        CommandContextUtil.getHistoricIdentityLinkService().deleteHistoricTaskIdentityLinksByProcessInstanceIds(processInstanceIds);
+        historicTaskService.deleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricIdentityLinkService().deleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+
+        if (processEngineConfiguration.isEnableEntityLinks()) {
+            CommandContextUtil.getHistoricEntityLinkService().deleteHistoricEntityLinksByScopeIdsAndScopeType(processInstanceIds, ScopeTypes.BPMN);
+        }
+
+        CommandContextUtil.getCommentEntityManager(commandContext).deleteCommentsByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getAttachmentEntityManager(commandContext).deleteAttachmentsByProcessInstanceIds(processInstanceIds);
+        historicProcessInstanceEntityManager.deleteHistoricProcessInstancesByIds(processInstanceIds);
+
+        return processInstanceIds.size();
+    }
+
+    protected void completeFailedBatchPart(String batchPartId, Throwable exception, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = commandExecutor.getDefaultConfig().transactionRequiresNew();
+        commandExecutor.execute(commandConfig, commandContext -> {
+            BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+            BatchPart batchPart = batchService.getBatchPart(batchPartId);
+            ObjectNode resultNode = BpmnHistoryCleanupBatchHelper.createFailedBatchPartResult(batchPart, exception, processEngineConfiguration.getObjectMapper());
+            batchService.completeBatchPart(batchPartId, BpmnHistoryCleanupBatchHelper.RESULT_FAIL, resultNode.toString());
+            return null;
+        });
+    }
+
+}
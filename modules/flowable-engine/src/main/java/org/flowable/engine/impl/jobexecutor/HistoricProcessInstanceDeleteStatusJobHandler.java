@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * Repeating timer job that completes a history cleanup batch when all of its parts are completed.
+ * When the batch didn't contain all instances that need to be cleaned up, the next batch is created.
+ * The job handler configuration is the id of the batch.
+ */
+public class HistoricProcessInstanceDeleteStatusJobHandler implements JobHandler {
+
+    public static final String TYPE = "historic-process-delete-status";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+
+        Batch batch = batchService.getBatch(configuration);
+        if (batch == null) {
+            job.setRepeat(null);
+            return;
+        }
+
+        List<BatchPart> batchParts = batchService.findBatchPartsByBatchId(batch.getId());
+        for (BatchPart batchPart : batchParts) {
+            if (batchPart.getCompleteTime() == null) {
+                return;
+            }
+        }
+
+        ((BatchEntity) batch).setStatus(BpmnHistoryCleanupBatchHelper.STATUS_COMPLETED);
+        batchService.updateBatch(batch);
+        job.setRepeat(null);
+
+        if (BpmnHistoryCleanupBatchHelper.hasMoreInstances(batch, CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper())) {
+            BpmnHistoryCleanupBatchHelper.createCleanupBatch(commandContext);
+        }
+    }
+
+}
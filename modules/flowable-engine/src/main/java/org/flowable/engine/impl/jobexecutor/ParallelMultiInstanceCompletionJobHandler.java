@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * A {@link JobHandler} implementation that evaluates the completion of a parallel multi instance activity.
+ *
+ * Used when the parallel multi instance completion is done asynchronously: every instance only marks its own execution
+ * as completed and schedules this job, linked to its own execution, for the multi instance root execution. As the job is exclusive, the aggregation
+ * of the completed instances never runs concurrently for the same process instance, which avoids the optimistic locking
+ * exceptions on the multi instance root execution when many instances complete at the same time.
+ */
+public class ParallelMultiInstanceCompletionJobHandler implements JobHandler {
+
+    public static final String TYPE = "parallel-multi-instance-complete";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) { // the executionId of the job = the completed instance
+        ExecutionEntity completedExecution = (ExecutionEntity) variableScope;
+        if (completedExecution == null || completedExecution.isEnded()) {
+            return; // already completed by a previous aggregation
+        }
+
+        ExecutionEntity miRootExecution = completedExecution.getParent();
+        while (miRootExecution != null && !miRootExecution.isMultiInstanceRoot()) {
+            miRootExecution = miRootExecution.getParent();
+        }
+        if (miRootExecution == null || miRootExecution.isEnded()) {
+            return;
+        }
+
+        FlowElement flowElement = miRootExecution.getCurrentFlowElement();
+        if (flowElement instanceof Activity && ((Activity) flowElement).getBehavior() instanceof ParallelMultiInstanceBehavior) {
+            ParallelMultiInstanceBehavior multiInstanceBehavior = (ParallelMultiInstanceBehavior) ((Activity) flowElement).getBehavior();
+            multiInstanceBehavior.aggregateCompletedInstances(miRootExecution);
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationManager;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Creates the batch parts and migration jobs of a batch process instance migration for one page of process instances.
+ *
+ * The process instances are handled ordered by id. When a full page was handled, a new seeding job is scheduled for the process instances
+ * after the last handled id, so every page is created in its own transaction. The status job of the batch is scheduled after the last page.
+ */
+public class ProcessInstanceMigrationSeedingJobHandler extends AbstractProcessInstanceMigrationJobHandler {
+
+    public static final String TYPE = "process-migration-seeding";
+
+    protected static final String CFG_LABEL_AFTER_PROCESS_INSTANCE_ID = "afterProcessInstanceId";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessInstanceMigrationManager processInstanceMigrationManager = CommandContextUtil.getProcessEngineConfiguration(commandContext)
+                .getProcessInstanceMigrationManager();
+
+        processInstanceMigrationManager.seedBatchMigrationPage(getBatchIdFromHandlerCfg(configuration), 
+                getAfterProcessInstanceIdFromHandlerCfg(configuration), commandContext);
+    }
+
+    protected static String getAfterProcessInstanceIdFromHandlerCfg(String handlerCfg) {
+        try {
+            JsonNode cfgAsJson = getObjectMapper().readTree(handlerCfg);
+            if (cfgAsJson.hasNonNull(CFG_LABEL_AFTER_PROCESS_INSTANCE_ID)) {
+                return cfgAsJson.get(CFG_LABEL_AFTER_PROCESS_INSTANCE_ID).asText();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public static String getHandlerCfgForBatchSeeding(String batchId, String afterProcessInstanceId) {
+        ObjectNode handlerCfg = getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_ID, batchId);
+        if (afterProcessInstanceId != null) {
+            handlerCfg.put(CFG_LABEL_AFTER_PROCESS_INSTANCE_ID, afterProcessInstanceId);
+        }
+        return handlerCfg.toString();
+    }
+
+}
@@ -12,10 +12,7 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
-import java.util.List;
-
 import org.flowable.batch.api.Batch;
-import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
 import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -40,30 +37,23 @@ public class ProcessInstanceMigrationStatusJobHandler extends AbstractProcessIns
         String batchId = getBatchIdFromHandlerCfg(configuration);
         Batch batch = batchService.getBatch(batchId);
         
-        List<BatchPart> batchParts = batchService.findBatchPartsByBatchId(batchId);
-        int completedBatchParts = 0;
-        int failedBatchParts = 0;
-        for (BatchPart batchPart : batchParts) {
-            if (batchPart.getCompleteTime() != null) {
-                completedBatchParts++;
-                
-                if (ProcessInstanceBatchMigrationResult.RESULT_FAIL.equals(batchPart.getStatus())) {
-                    failedBatchParts++;
-                }
-            }
-        }
+        // Counting instead of fetching the batch parts, as a batch can contain a batch part for every process instance of a process definition
+        long batchParts = batchService.findBatchPartCountByBatchId(batchId);
+        long waitingBatchParts = batchService.findBatchPartCountByBatchIdAndStatus(batchId, ProcessInstanceBatchMigrationResult.STATUS_WAITING);
+        long failedBatchParts = batchService.findBatchPartCountByBatchIdAndStatus(batchId, ProcessInstanceBatchMigrationResult.RESULT_FAIL);
+        long completedBatchParts = batchParts - waitingBatchParts;
         
-        if (completedBatchParts == batchParts.size()) {
+        if (completedBatchParts == batchParts) {
             updateBatchStatus(batch, ProcessInstanceBatchMigrationResult.STATUS_COMPLETED, batchService);
             job.setRepeat(null);
         
         } else {
-            if (batchParts.size() == 0) {
+            if (batchParts == 0) {
                 updateBatchStatus(batch, "No batch parts", batchService);
                 job.setRepeat(null);
             
             } else {
-                int completedPercentage = completedBatchParts / batchParts.size() * 100;
+                long completedPercentage = completedBatchParts * 100 / batchParts;
                 updateBatchStatus(batch, completedPercentage + "% completed, " + failedBatchParts + " failed", batchService);
             }
         }
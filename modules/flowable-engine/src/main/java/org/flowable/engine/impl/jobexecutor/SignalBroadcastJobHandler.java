@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.EventSubscriptionUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A {@link JobHandler} that delivers a broadcasted signal to one chunk of the signal event subscriptions.
+ *
+ * The subscriptions are handled ordered by id. When a full chunk was handled, a new job is scheduled for the subscriptions
+ * after the last handled id, in the same transaction. Every chunk is thereby handled (and retried) in its own transaction,
+ * and the job configuration holds the progress of the broadcast. Only the subscriptions created at or before the time the signal
+ * was thrown are handled, so the broadcast ends even when signaled process instances create new subscriptions for the same signal.
+ */
+public class SignalBroadcastJobHandler implements JobHandler {
+
+    public static final String TYPE = "signal-broadcast";
+
+    public static final String PROPERTY_EVENT_NAME = "eventName";
+    public static final String PROPERTY_ASYNC = "async";
+    public static final String PROPERTY_GLOBAL_SCOPED_ONLY = "globalScopedOnly";
+    public static final String PROPERTY_LAST_SUBSCRIPTION_ID = "lastSubscriptionId";
+    public static final String PROPERTY_SIGNAL_TIME = "signalTime";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+
+        JsonNode configNode;
+        try {
+            configNode = processEngineConfiguration.getObjectMapper().readTree(configuration);
+        } catch (Exception e) {
+            throw new FlowableException("Error reading json value " + configuration, e);
+        }
+
+        String eventName = configNode.path(PROPERTY_EVENT_NAME).asText();
+        boolean async = configNode.path(PROPERTY_ASYNC).asBoolean();
+        boolean globalScopedOnly = configNode.path(PROPERTY_GLOBAL_SCOPED_ONLY).asBoolean();
+        String lastSubscriptionId = configNode.hasNonNull(PROPERTY_LAST_SUBSCRIPTION_ID) ? configNode.get(PROPERTY_LAST_SUBSCRIPTION_ID).asText() : null;
+        Date signalTime = configNode.hasNonNull(PROPERTY_SIGNAL_TIME) ? new Date(configNode.get(PROPERTY_SIGNAL_TIME).asLong()) : null;
+
+        int chunkSize = processEngineConfiguration.getSignalBroadcastChunkSize();
+        List<SignalEventSubscriptionEntity> subscriptions = CommandContextUtil.getEventSubscriptionService(commandContext)
+                .findSignalEventSubscriptionsByEventName(eventName, job.getTenantId(), lastSubscriptionId, signalTime, chunkSize);
+
+        for (SignalEventSubscriptionEntity subscription : subscriptions) {
+            if (globalScopedOnly && !subscription.isGlobalScoped()) {
+                continue;
+            }
+
+            if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, subscription.getProcessDefinitionId())) {
+                Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+                compatibilityHandler.signalEventReceived(subscription, null, async);
+
+            } else {
+                processEngineConfiguration.getEventDispatcher().dispatchEvent(
+                        FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, subscription.getActivityId(), eventName,
+                                null, subscription.getExecutionId(), subscription.getProcessInstanceId(), subscription.getProcessDefinitionId()));
+
+                EventSubscriptionUtil.eventReceived(subscription, null, async);
+            }
+        }
+
+        if (subscriptions.size() == chunkSize) {
+            String nextSubscriptionId = subscriptions.get(subscriptions.size() - 1).getId();
+            EventSubscriptionUtil.scheduleSignalBroadcast(eventName, job.getTenantId(), async, globalScopedOnly,
+                    signalTime != null ? signalTime : processEngineConfiguration.getClock().getCurrentTime(), nextSubscriptionId);
+        }
+    }
+
+}
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,7 @@ import org.flowable.engine.impl.dynamic.MoveExecutionEntityContainer;
 import org.flowable.engine.impl.dynamic.ProcessInstanceChangeState;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationSeedingJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
@@ -301,9 +303,6 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
         // Check of the target definition exists before submitting the batch
         ProcessDefinition targetProcessDefinition = resolveProcessDefinition(document, commandContext);
 
-        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
-        List<ProcessInstance> processInstances = executionEntityManager.findProcessInstanceByQueryCriteria( new ProcessInstanceQueryImpl().processDefinitionId(sourceProcDefId));
-
         BatchService batchService = CommandContextUtil.getBatchService(commandContext);
         Batch batch = batchService.createBatchBuilder().batchType(Batch.PROCESS_MIGRATION_TYPE)
             .searchKey(sourceProcDefId)
@@ -311,37 +310,112 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
             .status(ProcessInstanceBatchMigrationResult.STATUS_IN_PROGRESS)
             .batchDocumentJson(document.asJsonString())
             .create();
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (processEngineConfiguration.isEnableBatchMigrationPagedSeeding()) {
+            // The batch parts and migration jobs are created page by page by the seeding job, each page in its own transaction
+            scheduleBatchMigrationSeedingJob(batch, null, commandContext);
+            return batch;
+        }
+
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+        List<ProcessInstance> processInstances = executionEntityManager.findProcessInstanceByQueryCriteria( new ProcessInstanceQueryImpl().processDefinitionId(sourceProcDefId));
         
-        JobService jobService = CommandContextUtil.getJobService(commandContext);
         for (ProcessInstance processInstance : processInstances) {
-            BatchPart batchPart = batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
-                            processInstance.getId(), null, ScopeTypes.BPMN);
-            
-            JobEntity job = jobService.createJob();
-            job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
-            job.setProcessInstanceId(processInstance.getId());
-            job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
-            jobService.createAsyncJob(job, false);
-            jobService.scheduleAsyncJob(job);
+            createBatchMigrationPart(batch, processInstance.getId(), commandContext);
         }
         
         if (!processInstances.isEmpty()) {
+            scheduleBatchMigrationStatusJob(batch, commandContext);
+        }
+
+        return batch;
+    }
+
+    @Override
+    public void seedBatchMigrationPage(String batchId, String afterProcessInstanceId, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        Batch batch = batchService.getBatch(batchId);
+        if (batch == null) {
+            // The batch was deleted while it was being seeded
+            return;
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        int pageSize = processEngineConfiguration.getBatchMigrationSeedingPageSize();
+        
+        // Paging on the process instance id, as migrated process instances no longer match the source process definition
+        List<String> processInstanceIds = CommandContextUtil.getExecutionEntityManager(commandContext)
+                .findProcessInstanceIdsByProcessDefinitionId(batch.getBatchSearchKey(), afterProcessInstanceId, pageSize);
+
+        for (String processInstanceId : processInstanceIds) {
+            createBatchMigrationPart(batch, processInstanceId, commandContext);
+        }
+
+        if (processInstanceIds.size() == pageSize) {
+            scheduleBatchMigrationSeedingJob(batch, processInstanceIds.get(processInstanceIds.size() - 1), commandContext);
+        
+        } else if (afterProcessInstanceId != null || !processInstanceIds.isEmpty()) {
+            scheduleBatchMigrationStatusJob(batch, commandContext);
+        }
+    }
+
+    protected void createBatchMigrationPart(Batch batch, String processInstanceId, CommandContext commandContext) {
+        BatchPart batchPart = CommandContextUtil.getBatchService(commandContext).createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
+                        processInstanceId, null, ScopeTypes.BPMN);
+        
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
+        job.setProcessInstanceId(processInstanceId);
+        job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    protected void scheduleBatchMigrationSeedingJob(Batch batch, String afterProcessInstanceId, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        String handlerCfg = ProcessInstanceMigrationSeedingJobHandler.getHandlerCfgForBatchSeeding(batch.getId(), afterProcessInstanceId);
+        
+        int maxJobsPerSecond = processEngineConfiguration.getBatchMigrationSeedingMaxJobsPerSecond();
+        if (afterProcessInstanceId != null && maxJobsPerSecond > 0) {
+            // The next page is due once the migration jobs of the previous page are within the configured rate
+            long delay = processEngineConfiguration.getBatchMigrationSeedingPageSize() * 1000L / maxJobsPerSecond;
+            
             TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
             TimerJobEntity timerJob = timerJobService.createTimerJob();
             timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
             timerJob.setRevision(1);
-            timerJob.setJobHandlerType(ProcessInstanceMigrationStatusJobHandler.TYPE);
-            timerJob.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchId(batch.getId()));
-            
-            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
-            BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
-            timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
-            timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
+            timerJob.setJobHandlerType(ProcessInstanceMigrationSeedingJobHandler.TYPE);
+            timerJob.setJobHandlerConfiguration(handlerCfg);
+            timerJob.setDuedate(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + delay));
             
             timerJobService.scheduleTimerJob(timerJob);
+            
+        } else {
+            JobService jobService = CommandContextUtil.getJobService(commandContext);
+            JobEntity job = jobService.createJob();
+            job.setJobHandlerType(ProcessInstanceMigrationSeedingJobHandler.TYPE);
+            job.setJobHandlerConfiguration(handlerCfg);
+            jobService.createAsyncJob(job, false);
+            jobService.scheduleAsyncJob(job);
         }
+    }
 
-        return batch;
+    protected void scheduleBatchMigrationStatusJob(Batch batch, CommandContext commandContext) {
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(ProcessInstanceMigrationStatusJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchId(batch.getId()));
+        
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
+        timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
+        
+        timerJobService.scheduleTimerJob(timerJob);
     }
 
     @Override
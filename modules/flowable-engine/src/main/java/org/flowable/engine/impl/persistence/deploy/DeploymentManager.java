@@ -13,8 +13,13 @@
 
 package org.flowable.engine.impl.persistence.deploy;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.FlowableException;
@@ -27,14 +32,19 @@ import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.app.AppModel;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.GetDeploymentProcessDefinitionCmd;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -43,6 +53,8 @@ import org.flowable.engine.repository.ProcessDefinition;
  */
 public class DeploymentManager {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeploymentManager.class);
+
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
     protected DeploymentCache<Object> appResourceCache;
@@ -127,8 +139,16 @@ public class DeploymentManager {
 
             DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
-            deploy(deployment, null);
-            cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+
+            if (processEngineConfiguration.isEnableSingleResourceProcessDefinitionResolution()) {
+                resolveProcessDefinitionResource(deployment, processDefinition);
+                cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+            }
+
+            if (cachedProcessDefinition == null) {
+                deploy(deployment, null);
+                cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+            }
 
             if (cachedProcessDefinition == null) {
                 throw new FlowableException("deployment '" + deploymentId + "' didn't put process definition '" + processDefinitionId + "' in the cache");
@@ -137,6 +157,75 @@ public class DeploymentManager {
         return cachedProcessDefinition;
     }
 
+    /**
+     * Parses only the BPMN resource the process definition was deployed from, instead of all resources of the deployment.
+     * Nothing is cached when the resource can't be found, in which case the caller falls back to redeploying the whole deployment.
+     */
+    protected void resolveProcessDefinitionResource(DeploymentEntity deployment, ProcessDefinition processDefinition) {
+        BpmnDeployer bpmnDeployer = processEngineConfiguration.getBpmnDeployer();
+        String resourceName = processDefinition.getResourceName();
+        if (bpmnDeployer == null || resourceName == null) {
+            return;
+        }
+
+        ResourceEntity resource = processEngineConfiguration.getResourceEntityManager()
+                .findResourceByDeploymentIdAndResourceName(deployment.getId(), resourceName);
+        if (resource != null) {
+            bpmnDeployer.deployResource(deployment, resource);
+        }
+    }
+
+    /**
+     * Resolves the latest version of every process definition in parallel, so that the first process instances after a boot
+     * don't pay the cost of parsing the BPMN resources. When the process definition cache has a limit, at most that many
+     * process definitions are resolved.
+     */
+    public void warmUpProcessDefinitionCache() {
+        List<ProcessDefinition> processDefinitions = processEngineConfiguration.getRepositoryService()
+                .createProcessDefinitionQuery()
+                .latestVersion()
+                .list();
+
+        int cacheLimit = processEngineConfiguration.getProcessDefinitionCacheLimit();
+        if (cacheLimit > 0 && processDefinitions.size() > cacheLimit) {
+            processDefinitions = processDefinitions.subList(0, cacheLimit);
+        }
+
+        if (processDefinitions.isEmpty()) {
+            return;
+        }
+
+        int threads = Math.max(1, Math.min(processEngineConfiguration.getProcessDefinitionCacheWarmUpThreads(), processDefinitions.size()));
+        LOGGER.info("Warming up the process definition cache with {} process definitions using {} threads", processDefinitions.size(), threads);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ProcessDefinition>> futures = new ArrayList<>(processDefinitions.size());
+            for (ProcessDefinition processDefinition : processDefinitions) {
+                futures.add(executorService.submit(() -> processEngineConfiguration.getCommandExecutor()
+                        .execute(new GetDeploymentProcessDefinitionCmd(processDefinition.getId()))));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+
+                } catch (ExecutionException e) {
+                    LOGGER.warn("Could not resolve process definition {} while warming up the process definition cache",
+                            processDefinitions.get(i).getId(), e.getCause());
+
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.warn("Interrupted while warming up the process definition cache");
+                    return;
+                }
+            }
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     public Object getAppResourceObject(String deploymentId) {
         Object appResourceObject = appResourceCache.get(deploymentId);
 
@@ -23,6 +23,7 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -34,6 +35,11 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Default cache: keep everything in memory, unless a limit is set.
+ * <p>
+ * By default the revision of a cached object is checked in the database on every lookup.
+ * When a time to live is set, the cached object is used without checking its revision until the time to live has passed.
+ * Changes saved through this engine invalidate the cached object immediately, changes saved by other engines
+ * are picked up after the time to live.
  * 
  * @author Tijs Rademakers
  */
@@ -44,6 +50,12 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
+    /**
+     * The time in milliseconds during which a cached object is used without checking its revision in the database.
+     * A value of zero or less checks the revision on every lookup.
+     */
+    protected long timeToLive = -1;
+
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
@@ -114,15 +126,22 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
 
     protected ProcessDefinitionInfoCacheObject retrieveProcessDefinitionInfoCacheObject(String processDefinitionId, CommandContext commandContext) {
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
-        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        long now = processEngineConfiguration.getClock().getCurrentTime().getTime();
+        if (cacheObject != null && timeToLive > 0 && now - cacheObject.getRevisionCheckTime() < timeToLive) {
+            return cacheObject;
+        }
+
+        if (cacheObject == null) {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
+            if (timeToLive > 0) {
+                cache.put(processDefinitionId, cacheObject);
+            }
         }
 
         ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
@@ -142,7 +161,16 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
             cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
 
+        cacheObject.setRevisionCheckTime(now);
         return cacheObject;
     }
 
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
 }
@@ -26,6 +26,7 @@ public class ProcessDefinitionInfoCacheObject implements Serializable {
     protected String id;
     protected int revision;
     protected ObjectNode infoNode;
+    protected long revisionCheckTime;
 
     public String getId() {
         return id;
@@ -50,4 +51,12 @@ public class ProcessDefinitionInfoCacheObject implements Serializable {
     public void setInfoNode(ObjectNode infoNode) {
         this.infoNode = infoNode;
     }
+
+    public long getRevisionCheckTime() {
+        return revisionCheckTime;
+    }
+
+    public void setRevisionCheckTime(long revisionCheckTime) {
+        this.revisionCheckTime = revisionCheckTime;
+    }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -27,4 +28,6 @@ public interface AttachmentEntityManager extends EntityManager<AttachmentEntity>
 
     void deleteAttachmentsByTaskId(String taskId);
 
+    void deleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
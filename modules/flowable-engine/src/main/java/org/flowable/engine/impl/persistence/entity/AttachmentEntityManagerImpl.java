@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -87,6 +88,12 @@ public class AttachmentEntityManagerImpl
         }
     }
 
+    @Override
+    public void deleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        checkHistoryEnabled();
+        dataManager.deleteAttachmentsByProcessInstanceIds(processInstanceIds);
+    }
+
     protected void checkHistoryEnabled() {
         if (!getHistoryManager().isHistoryEnabled()) {
             throw new FlowableException("In order to use attachments, history should be enabled");
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -127,6 +128,12 @@ public class CommentEntityManagerImpl
         dataManager.deleteCommentsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void deleteCommentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        checkHistoryEnabled();
+        dataManager.deleteCommentsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public List<Comment> findCommentsByProcessInstanceId(String processInstanceId) {
         checkHistoryEnabled();
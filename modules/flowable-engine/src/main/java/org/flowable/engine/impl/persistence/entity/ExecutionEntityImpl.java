@@ -27,6 +27,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
@@ -53,7 +54,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity, DirtyTrackedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -306,6 +307,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
         this.currentFlowElement = currentFlowElement;
+        markDirty();
         if (currentFlowElement != null) {
             this.activityId = currentFlowElement.getId();
             this.activityName = currentFlowElement.getName();
@@ -367,6 +369,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setBusinessKey(String businessKey) {
+        markDirty();
         this.businessKey = businessKey;
     }
 
@@ -379,6 +382,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty();
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -474,6 +478,8 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     public void setParent(ExecutionEntity parent) {
         this.parent = (ExecutionEntityImpl) parent;
 
+        markDirty();
+
         if (parent != null) {
             this.parentId = parent.getId();
         } else {
@@ -489,6 +495,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setSuperExecutionId(String superExecutionId) {
+        markDirty();
         this.superExecutionId = superExecutionId;
     }
 
@@ -505,6 +512,8 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
             superExecution.setSubProcessInstance(null);
         }
 
+        markDirty();
+
         if (superExecution != null) {
             this.superExecutionId = ((ExecutionEntityImpl) superExecution).getId();
         } else {
@@ -551,6 +560,8 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     public void setRootProcessInstance(ExecutionEntity rootProcessInstance) {
         this.rootProcessInstance = (ExecutionEntityImpl) rootProcessInstance;
 
+        markDirty();
+
         if (rootProcessInstance != null) {
             this.rootProcessInstanceId = rootProcessInstance.getId();
         } else {
@@ -565,6 +576,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
+        markDirty();
         this.rootProcessInstanceId = rootProcessInstanceId;
     }
 
@@ -577,11 +589,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setScope(boolean isScope) {
+        markDirty();
         this.isScope = isScope;
     }
 
     @Override
     public void forceUpdate() {
+        markDirty();
         this.forcedUpdate = true;
     }
 
@@ -925,6 +939,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setParentId(String parentId) {
+        markDirty();
         this.parentId = parentId;
     }
 
@@ -934,6 +949,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setActivityId(String activityId) {
+        markDirty();
         this.activityId = activityId;
     }
 
@@ -944,6 +960,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setConcurrent(boolean isConcurrent) {
+        markDirty();
         this.isConcurrent = isConcurrent;
     }
 
@@ -954,11 +971,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setActive(boolean isActive) {
+        markDirty();
         this.isActive = isActive;
     }
 
     @Override
     public void inactivate() {
+        markDirty();
         this.isActive = false;
     }
 
@@ -999,6 +1018,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        markDirty();
         this.suspensionState = suspensionState;
     }
 
@@ -1014,6 +1034,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventScope(boolean isEventScope) {
+        markDirty();
         this.isEventScope = isEventScope;
     }
 
@@ -1024,6 +1045,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
+        markDirty();
         this.isMultiInstanceRoot = isMultiInstanceRoot;
     }
 
@@ -1034,6 +1056,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markDirty();
         this.isCountEnabled = isCountEnabled;
     }
 
@@ -1053,6 +1076,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setName(String name) {
+        markDirty();
         this.name = name;
     }
 
@@ -1107,6 +1131,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setLockTime(Date lockTime) {
+        markDirty();
         this.lockTime = lockTime;
     }
 
@@ -1159,6 +1184,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartActivityId(String startActivityId) {
+        markDirty();
         this.startActivityId = startActivityId;
     }
 
@@ -1169,6 +1195,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartUserId(String startUserId) {
+        markDirty();
         this.startUserId = startUserId;
     }
 
@@ -1179,6 +1206,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartTime(Date startTime) {
+        markDirty();
         this.startTime = startTime;
     }
 
@@ -1189,6 +1217,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
+        markDirty();
         this.eventSubscriptionCount = eventSubscriptionCount;
     }
 
@@ -1199,6 +1228,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTaskCount(int taskCount) {
+        markDirty();
         this.taskCount = taskCount;
     }
 
@@ -1209,6 +1239,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setJobCount(int jobCount) {
+        markDirty();
         this.jobCount = jobCount;
     }
 
@@ -1219,6 +1250,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTimerJobCount(int timerJobCount) {
+        markDirty();
         this.timerJobCount = timerJobCount;
     }
 
@@ -1229,6 +1261,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspendedJobCount(int suspendedJobCount) {
+        markDirty();
         this.suspendedJobCount = suspendedJobCount;
     }
 
@@ -1239,6 +1272,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setDeadLetterJobCount(int deadLetterJobCount) {
+        markDirty();
         this.deadLetterJobCount = deadLetterJobCount;
     }
 
@@ -1249,6 +1283,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setVariableCount(int variableCount) {
+        markDirty();
         this.variableCount = variableCount;
     }
 
@@ -1259,6 +1294,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        markDirty();
         this.identityLinkCount = identityLinkCount;
     }
     
@@ -1269,6 +1305,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackId(String callbackId) {
+        markDirty();
         this.callbackId = callbackId;
     }
 
@@ -1279,6 +1316,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackType(String callbackType) {
+        markDirty();
         this.callbackType = callbackType;
     }
 
@@ -1289,6 +1327,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setReferenceId(String referenceId) {
+        markDirty();
         this.referenceId = referenceId;
     }
 
@@ -1299,11 +1338,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setReferenceType(String referenceType) {
+        markDirty();
         this.referenceType = referenceType;
     }
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
+        markDirty();
         this.propagatedStageInstanceId = propagatedStageInstanceId;
     }
 
@@ -61,6 +61,12 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+    /**
+     * Returns at most maxResults ids of process instances of the given process definition, ordered by id and only those with an id after the given one
+     * (or starting from the first one when null), so that a large set of process instances can be walked through page by page.
+     */
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults);
+
     Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(String processInstanceId);
 
     Collection<ExecutionEntity> findInactiveExecutionsByActivityIdAndProcessInstanceId(String activityId, String processInstanceId);
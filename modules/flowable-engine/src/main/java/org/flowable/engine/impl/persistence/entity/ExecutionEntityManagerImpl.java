@@ -72,7 +72,9 @@ import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayRef;
+import org.flowable.variable.service.impl.persistence.entity.VariableInitializingList;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.InputStreamType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -145,6 +147,11 @@ public class ExecutionEntityManagerImpl
         return dataManager.findProcessInstanceByQueryCriteria(executionQuery);
     }
 
+    @Override
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults) {
+        return dataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId, afterProcessInstanceId, maxResults);
+    }
+
     @Override
     public ExecutionEntity findByRootProcessInstanceId(String rootProcessInstanceId) {
         List<ExecutionEntity> executions = dataManager.findExecutionsByRootProcessInstanceId(rootProcessInstanceId);
@@ -201,9 +208,37 @@ public class ExecutionEntityManagerImpl
 
     @Override
     public List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery) {
+        if (engineConfiguration.getPerformanceSettings().isEnableBatchedRelatedEntityFetching()) {
+            List<ProcessInstance> processInstances = dataManager.findProcessInstanceByQueryCriteria(executionQuery);
+            fetchProcessVariables(processInstances);
+            return processInstances;
+        }
         return dataManager.findProcessInstanceAndVariablesByQueryCriteria(executionQuery);
     }
 
+    /**
+     * Loads the process variables for the given page of process instances with batched queries and adds them to the query variables of the process instances.
+     */
+    protected void fetchProcessVariables(List<ProcessInstance> processInstances) {
+        if (processInstances.isEmpty()) {
+            return;
+        }
+
+        Map<String, ExecutionEntityImpl> processInstancesById = new HashMap<>();
+        for (ProcessInstance processInstance : processInstances) {
+            ExecutionEntityImpl processInstanceEntity = (ExecutionEntityImpl) processInstance;
+            processInstanceEntity.setQueryVariables(new VariableInitializingList());
+            processInstancesById.put(processInstanceEntity.getId(), processInstanceEntity);
+        }
+
+        for (VariableInstanceEntity variable : CommandContextUtil.getVariableService().findVariableInstancesByExecutionIds(processInstancesById.keySet())) {
+            ExecutionEntityImpl processInstanceEntity = processInstancesById.get(variable.getExecutionId());
+            if (processInstanceEntity != null) {
+                processInstanceEntity.getQueryVariables().add(variable);
+            }
+        }
+    }
+
     @Override
     public Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(final String processInstanceId) {
         return dataManager.findInactiveExecutionsByProcessInstanceId(processInstanceId);
@@ -873,6 +908,9 @@ public class ExecutionEntityManagerImpl
                         if (variableInstanceEntity.getByteArrayRef() != null && variableInstanceEntity.getByteArrayRef().getId() != null) {
                             variableByteArrayRefs.add(variableInstanceEntity.getByteArrayRef());
                         }
+                        if (variableInstanceEntity.getType() instanceof InputStreamType) {
+                            ((InputStreamType) variableInstanceEntity.getType()).deleteVariableContent(variableInstanceEntity);
+                        }
                         
                         if (eventDispatcherEnabled) {
                             FlowableEventDispatcher eventDispatcher = CommandContextUtil.getEventDispatcher(commandContext);
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -39,6 +40,8 @@ public interface HistoricActivityInstanceEntityManager extends EntityManager<His
     long findHistoricActivityInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
     void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId);
+
+    void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> historicProcessInstanceIds);
     
     void deleteHistoricActivityInstances(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
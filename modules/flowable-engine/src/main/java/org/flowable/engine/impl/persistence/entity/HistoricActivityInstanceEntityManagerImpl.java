@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -82,6 +83,13 @@ public class HistoricActivityInstanceEntityManagerImpl
         dataManager.deleteHistoricActivityInstances(historicActivityInstanceQuery);
     }
     
+    @Override
+    public void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        if (getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            dataManager.deleteHistoricActivityInstancesByProcessInstanceIds(historicProcessInstanceIds);
+        }
+    }
+    
     @Override
     public void deleteHistoricActivityInstancesForNonExistingProcessInstances() {
         dataManager.deleteHistoricActivityInstancesForNonExistingProcessInstances();
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -44,5 +45,7 @@ public interface HistoricDetailEntityManager extends EntityManager<HistoricDetai
 
     void deleteHistoricDetailsByProcessInstanceId(String historicProcessInstanceId);
 
+    void deleteHistoricDetailsByProcessInstanceIds(Collection<String> historicProcessInstanceIds);
+
     void deleteHistoricDetailForNonExistingProcessInstances();
 }
\ No newline at end of file
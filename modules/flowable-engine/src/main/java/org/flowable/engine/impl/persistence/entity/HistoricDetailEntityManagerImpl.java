@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,7 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.persistence.entity.data.HistoricDetailDataManager;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.InputStreamType;
 
 /**
  * @author Tom Baeyens
@@ -96,6 +98,9 @@ public class HistoricDetailEntityManagerImpl
             if (historicDetailVariableInstanceUpdateEntity.getByteArrayRef() != null) {
                 historicDetailVariableInstanceUpdateEntity.getByteArrayRef().delete();
             }
+            if (historicDetailVariableInstanceUpdateEntity.getVariableType() instanceof InputStreamType) {
+                ((InputStreamType) historicDetailVariableInstanceUpdateEntity.getVariableType()).deleteHistoricVariableUpdateContent(historicDetailVariableInstanceUpdateEntity);
+            }
         }
     }
 
@@ -110,6 +115,13 @@ public class HistoricDetailEntityManagerImpl
         }
     }
 
+    @Override
+    public void deleteHistoricDetailsByProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        if (getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.AUDIT)) {
+            dataManager.deleteHistoricDetailsByProcessInstanceIds(historicProcessInstanceIds);
+        }
+    }
+
     @Override
     public long findHistoricDetailCountByQueryCriteria(HistoricDetailQueryImpl historicVariableUpdateQuery) {
         return dataManager.findHistoricDetailCountByQueryCriteria(historicVariableUpdateQuery);
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -45,4 +46,6 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
     
     void deleteHistoricProcessInstances(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    void deleteHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds);
+
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -91,6 +92,11 @@ public class HistoricProcessInstanceEntityManagerImpl
         dataManager.deleteHistoricProcessInstances(historicProcessInstanceQuery);
     }
 
+    @Override
+    public void deleteHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds) {
+        dataManager.deleteHistoricProcessInstancesByIds(historicProcessInstanceIds);
+    }
+
     protected HistoryManager getHistoryManager() {
         return engineConfiguration.getHistoryManager();
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -26,4 +27,6 @@ public interface AttachmentDataManager extends DataManager<AttachmentEntity> {
 
     List<AttachmentEntity> findAttachmentsByTaskId(String taskId);
 
+    void deleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
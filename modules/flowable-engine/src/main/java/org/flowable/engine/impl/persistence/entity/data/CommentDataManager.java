@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -38,6 +39,8 @@ public interface CommentDataManager extends DataManager<CommentEntity> {
 
     void deleteCommentsByProcessInstanceId(String processInstanceId);
 
+    void deleteCommentsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     List<Comment> findCommentsByProcessInstanceId(String processInstanceId);
 
     List<Comment> findCommentsByProcessInstanceId(String processInstanceId, String type);
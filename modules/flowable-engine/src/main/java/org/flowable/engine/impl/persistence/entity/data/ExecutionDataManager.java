@@ -57,6 +57,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
 
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults);
+
     List<Execution> findExecutionsByNativeQuery(Map<String, Object> parameterMap);
 
     List<ProcessInstance> findProcessInstanceByNativeQuery(Map<String, Object> parameterMap);
@@ -12,11 +12,14 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntity;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractProcessDataManager;
 import org.flowable.engine.impl.persistence.entity.data.AttachmentDataManager;
 
@@ -51,4 +54,24 @@ public class MybatisAttachmentDataManager extends AbstractProcessDataManager<Att
         return getDbSqlSession().selectList("selectAttachmentsByTaskId", taskId);
     }
 
+    @Override
+    public void deleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        // the bulk deletes of the attachments are flushed before the ones of the byte arrays,
+        // so the ids of the content byte arrays are selected before any of them is deleted
+        List<String> contentIds = findAttachmentContentIdsByProcessInstanceIds(processInstanceIds);
+        bulkDeleteInBatches("bulkDeleteByteArraysByIds", contentIds, ByteArrayEntityImpl.class);
+        bulkDeleteInBatches("bulkDeleteAttachmentsByProcessInstanceIds", processInstanceIds, AttachmentEntityImpl.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<String> findAttachmentContentIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        List<String> contentIds = new ArrayList<>();
+        List<String> processInstanceIdList = new ArrayList<>(processInstanceIds);
+        for (int i = 0; i < processInstanceIdList.size(); i += MAX_IN_CLAUSE_SIZE) {
+            List<String> batch = new ArrayList<>(processInstanceIdList.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, processInstanceIdList.size())));
+            contentIds.addAll(getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectAttachmentContentIdsByProcessInstanceIds", batch));
+        }
+        return contentIds;
+    }
+
 }
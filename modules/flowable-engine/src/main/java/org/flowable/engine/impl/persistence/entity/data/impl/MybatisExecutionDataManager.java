@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.engine.impl.ExecutionQueryImpl;
@@ -221,6 +222,16 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         return getDbSqlSession().selectListNoCacheLoadAndStore("selectProcessInstanceIdsByProcessDefinitionId", processDefinitionId);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults) {
+        Map<String, String> params = new HashMap<>();
+        params.put("processDefinitionId", processDefinitionId);
+        params.put("afterId", afterProcessInstanceId);
+        return getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectProcessInstanceIdsByProcessDefinitionIdAfterId",
+                new ListQueryParameterObject(params, 0, maxResults));
+    }
+
     @Override
     public long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery) {
         return (Long) getDbSqlSession().selectOne("selectExecutionCountByQueryCriteria", executionQuery);
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -104,6 +105,11 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
         getDbSqlSession().delete("bulkDeleteHistoricActivityInstances", historicActivityInstanceQuery, HistoricActivityInstanceEntityImpl.class);
     }
     
+    @Override
+    public void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        bulkDeleteInBatches("bulkDeleteHistoricActivityInstancesByProcessInstanceIds", historicProcessInstanceIds, HistoricActivityInstanceEntityImpl.class);
+    }
+    
     @Override
     public void deleteHistoricActivityInstancesForNonExistingProcessInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricActivityInstancesForNonExistingProcessInstances", null, HistoricActivityInstanceEntityImpl.class);
@@ -12,12 +12,14 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.history.HistoricDetail;
 import org.flowable.engine.impl.HistoricDetailQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntityImpl;
 import org.flowable.engine.impl.persistence.entity.HistoricDetailAssignmentEntity;
 import org.flowable.engine.impl.persistence.entity.HistoricDetailAssignmentEntityImpl;
 import org.flowable.engine.impl.persistence.entity.HistoricDetailEntity;
@@ -98,6 +100,13 @@ public class MybatisHistoricDetailDataManager extends AbstractProcessDataManager
         return (Long) getDbSqlSession().selectOne("selectHistoricDetailCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void deleteHistoricDetailsByProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        // the byte arrays are deleted first, as they are found through the historic details
+        bulkDeleteInBatches("bulkDeleteHistoricDetailByteArraysByProcessInstanceIds", historicProcessInstanceIds, ByteArrayEntityImpl.class);
+        bulkDeleteInBatches("bulkDeleteHistoricDetailsByProcessInstanceIds", historicProcessInstanceIds, HistoricDetailEntityImpl.class);
+    }
+
     @Override
     public void deleteHistoricDetailForNonExistingProcessInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricDetailForNonExistingProcessInstances", null, HistoricDetailEntity.class);
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -125,4 +126,9 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         getDbSqlSession().delete("bulkDeleteHistoricProcessInstances", historicProcessInstanceQuery, HistoricProcessInstanceEntityImpl.class);
     }
 
+    @Override
+    public void deleteHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds) {
+        bulkDeleteInBatches("bulkDeleteHistoricProcessInstancesByIds", historicProcessInstanceIds, HistoricProcessInstanceEntityImpl.class);
+    }
+
 }
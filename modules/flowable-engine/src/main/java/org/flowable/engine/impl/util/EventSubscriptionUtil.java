@@ -12,14 +12,19 @@
  */
 package org.flowable.engine.impl.util;
 
+import java.util.Date;
+
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.engine.impl.event.EventHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.flowable.eventsubscription.service.impl.persistence.entity.CompensateEventSubscriptionEntity;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
 import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 public class EventSubscriptionUtil {
 
     public static void eventReceived(EventSubscriptionEntity eventSubscriptionEntity, Object payload, boolean processASync) {
@@ -61,4 +66,33 @@ public class EventSubscriptionUtil {
 
         jobService.scheduleAsyncJob(message);
     }
+
+    /**
+     * Schedules a job that delivers the signal to the signal event subscriptions with an id after the given one (or all of them when null),
+     * one chunk per transaction. Used for global signals when the signal broadcast fan-out is enabled.
+     * Only the subscriptions that were created at or before the signal time receive the signal, so subscriptions that are created
+     * while the broadcast is in progress (e.g. by the process instances that received the signal) are not signaled.
+     */
+    public static void scheduleSignalBroadcast(String eventName, String tenantId, boolean processASync, boolean globalScopedOnly,
+            Date signalTime, String lastSubscriptionId) {
+
+        ObjectNode configuration = CommandContextUtil.getProcessEngineConfiguration().getObjectMapper().createObjectNode();
+        configuration.put(SignalBroadcastJobHandler.PROPERTY_EVENT_NAME, eventName);
+        configuration.put(SignalBroadcastJobHandler.PROPERTY_ASYNC, processASync);
+        configuration.put(SignalBroadcastJobHandler.PROPERTY_GLOBAL_SCOPED_ONLY, globalScopedOnly);
+        configuration.put(SignalBroadcastJobHandler.PROPERTY_SIGNAL_TIME, signalTime.getTime());
+        if (lastSubscriptionId != null) {
+            configuration.put(SignalBroadcastJobHandler.PROPERTY_LAST_SUBSCRIPTION_ID, lastSubscriptionId);
+        }
+
+        JobService jobService = CommandContextUtil.getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+        job.setJobHandlerType(SignalBroadcastJobHandler.TYPE);
+        job.setElementName(eventName);
+        job.setJobHandlerConfiguration(configuration.toString());
+        job.setTenantId(tenantId);
+
+        jobService.scheduleAsyncJob(job);
+    }
 }
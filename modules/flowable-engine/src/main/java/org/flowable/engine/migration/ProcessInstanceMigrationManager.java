@@ -33,4 +33,6 @@ public interface ProcessInstanceMigrationManager {
     Batch batchMigrateProcessInstancesOfProcessDefinition(String procDefKey, int procDefVer, String procDefTenantId, ProcessInstanceMigrationDocument document, CommandContext commandContext);
 
     Batch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionId, ProcessInstanceMigrationDocument document, CommandContext commandContext);
+
+    void seedBatchMigrationPage(String batchId, String afterProcessInstanceId, CommandContext commandContext);
 }
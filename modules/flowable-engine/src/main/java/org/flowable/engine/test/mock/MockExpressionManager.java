@@ -13,28 +13,25 @@
 
 package org.flowable.engine.test.mock;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.javax.el.ArrayELResolver;
-import org.flowable.common.engine.impl.javax.el.BeanELResolver;
 import org.flowable.common.engine.impl.javax.el.CompositeELResolver;
 import org.flowable.common.engine.impl.javax.el.CouldNotResolvePropertyELResolver;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
 import org.flowable.common.engine.impl.javax.el.ListELResolver;
 import org.flowable.common.engine.impl.javax.el.MapELResolver;
 import org.flowable.engine.impl.el.ProcessExpressionManager;
-import org.flowable.engine.impl.el.ProcessVariableScopeELResolver;
 
 public class MockExpressionManager extends ProcessExpressionManager {
 
     @Override
-    protected ELResolver createElResolver(VariableContainer variableContainer) {
+    protected ELResolver createCompositeElResolver(ELResolver variableElResolver) {
         CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(new ProcessVariableScopeELResolver(variableContainer));
+        compositeElResolver.add(variableElResolver);
         compositeElResolver.add(new MockElResolver());
         compositeElResolver.add(new ArrayELResolver());
         compositeElResolver.add(new ListELResolver());
         compositeElResolver.add(new MapELResolver());
-        compositeElResolver.add(new BeanELResolver());
+        compositeElResolver.add(createBeanElResolver());
         compositeElResolver.add(new CouldNotResolvePropertyELResolver());
         return compositeElResolver;
     }
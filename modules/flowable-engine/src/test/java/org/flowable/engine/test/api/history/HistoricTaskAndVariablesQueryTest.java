@@ -605,6 +605,58 @@ public class HistoricTaskAndVariablesQueryTest extends PluggableFlowableTestCase
         }
     }
     
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/history/HistoricTaskAndVariablesQueryTest.testQuery.bpmn20.xml" })
+    public void testQueryWithBatchedRelatedEntityFetching() {
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            Map<String, Object> startMap = new HashMap<>();
+            startMap.put("processVar", true);
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", startMap);
+            String taskId = taskService.createTaskQuery().taskAssignee("kermit").singleResult().getId();
+            taskService.setVariableLocal(taskId, "localVar", "test");
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+            processEngineConfiguration.getTaskServiceConfiguration().setEnableBatchedRelatedEntityFetching(true);
+            try {
+                HistoricTaskInstance task = historyService.createHistoricTaskInstanceQuery().includeProcessVariables().includeTaskLocalVariables()
+                        .includeIdentityLinks().taskAssignee("kermit").singleResult();
+                assertEquals(1, task.getProcessVariables().size());
+                assertEquals(true, task.getProcessVariables().get("processVar"));
+                assertEquals(1, task.getTaskLocalVariables().size());
+                assertEquals("test", task.getTaskLocalVariables().get("localVar"));
+                assertEquals(1, task.getIdentityLinks().size());
+                assertEquals("assignee", task.getIdentityLinks().get(0).getType());
+                assertEquals("kermit", task.getIdentityLinks().get(0).getUserId());
+
+                task = historyService.createHistoricTaskInstanceQuery().includeProcessVariables().taskAssignee("kermit").singleResult();
+                assertEquals(1, task.getProcessVariables().size());
+                assertEquals(0, task.getTaskLocalVariables().size());
+
+                List<HistoricTaskInstance> tasks = historyService.createHistoricTaskInstanceQuery().includeProcessVariables().includeTaskLocalVariables()
+                        .includeIdentityLinks().orderByTaskPriority().asc().orderByTaskName().asc().listPage(0, 2);
+                assertEquals(2, tasks.size());
+                for (HistoricTaskInstance pagedTask : tasks) {
+                    assertEquals("testTask", pagedTask.getName());
+                    assertEquals(1, pagedTask.getTaskLocalVariables().size());
+                    assertEquals("test", pagedTask.getTaskLocalVariables().get("test"));
+                    assertEquals(0, pagedTask.getProcessVariables().size());
+                    assertEquals(1, pagedTask.getIdentityLinks().size());
+                    assertEquals("kermit", pagedTask.getIdentityLinks().get(0).getUserId());
+                }
+
+                tasks = historyService.createHistoricTaskInstanceQuery().includeTaskLocalVariables().orderByTaskPriority().asc().listPage(2, 1);
+                assertEquals(1, tasks.size());
+                assertEquals("gonzoTask", tasks.get(0).getName());
+                assertEquals(2, tasks.get(0).getTaskLocalVariables().size());
+                assertEquals("someVariable", tasks.get(0).getTaskLocalVariables().get("testVar"));
+                assertEquals(123, tasks.get(0).getTaskLocalVariables().get("testVar2"));
+
+            } finally {
+                processEngineConfiguration.getTaskServiceConfiguration().setEnableBatchedRelatedEntityFetching(false);
+            }
+        }
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/api/history/HistoricTaskAndVariablesQueryTest.testCandidate.bpmn20.xml" })
     public void testQueryVariableExists() {
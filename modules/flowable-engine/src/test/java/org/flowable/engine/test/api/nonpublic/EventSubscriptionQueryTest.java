@@ -13,6 +13,7 @@
 
 package org.flowable.engine.test.api.nonpublic;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -26,6 +27,7 @@ import org.flowable.engine.test.Deployment;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
 import org.flowable.eventsubscription.service.EventSubscriptionService;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
 import org.flowable.eventsubscription.service.impl.persistence.entity.MessageEventSubscriptionEntity;
 import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
@@ -196,6 +198,39 @@ public class EventSubscriptionQueryTest extends PluggableFlowableTestCase {
 
     }
 
+    @Test
+    public void testQueryByConfigurationsAboveInClauseLimit() {
+
+        processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+            @Override
+            public Void execute(CommandContext commandContext) {
+
+                for (String configuration : new String[] { "config-0", "config-1500", "other", null }) {
+                    MessageEventSubscriptionEntity messageEventSubscriptionEntity = CommandContextUtil.getEventSubscriptionService(commandContext).createMessageEventSubscription();
+                    messageEventSubscriptionEntity.setEventName("messageName");
+                    messageEventSubscriptionEntity.setConfiguration(configuration);
+                    CommandContextUtil.getEventSubscriptionService(commandContext).insertEventSubscription(messageEventSubscriptionEntity);
+                }
+
+                return null;
+            }
+        });
+
+        List<String> configurations = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            configurations.add("config-" + i);
+        }
+
+        List<EventSubscription> list = newEventSubscriptionQuery().configurations(configurations).list();
+        assertEquals(2, list.size());
+
+        list = ((EventSubscriptionQueryImpl) newEventSubscriptionQuery()).configurationsOrNoConfiguration(configurations).list();
+        assertEquals(3, list.size());
+
+        cleanDb();
+
+    }
+
     protected EventSubscriptionQuery newEventSubscriptionQuery() {
         return runtimeService.createEventSubscriptionQuery();
     }
@@ -154,6 +154,33 @@ public class RepositoryServiceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testResolveProcessDefinitionFromSingleResource() {
+        org.flowable.engine.repository.Deployment deployment = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml").deploy();
+
+        ProcessDefinition oneTaskProcess = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+        ProcessDefinition twoTasksProcess = repositoryService.createProcessDefinitionQuery().processDefinitionKey("twoTasksProcess").singleResult();
+
+        processEngineConfiguration.setEnableSingleResourceProcessDefinitionResolution(true);
+        try {
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertNotNull(processEngineConfiguration.getProcessDefinitionCache().get(oneTaskProcess.getId()));
+            assertNull(processEngineConfiguration.getProcessDefinitionCache().get(twoTasksProcess.getId()));
+
+            BpmnModel bpmnModel = repositoryService.getBpmnModel(twoTasksProcess.getId());
+            assertNotNull(bpmnModel.getProcessById("twoTasksProcess"));
+            assertNotNull(processEngineConfiguration.getProcessDefinitionCache().get(twoTasksProcess.getId()));
+            assertEquals(twoTasksProcess.getVersion(), repositoryService.getProcessDefinition(twoTasksProcess.getId()).getVersion());
+
+        } finally {
+            processEngineConfiguration.setEnableSingleResourceProcessDefinitionResolution(false);
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
     @Test
     public void testDeploymentWithDelayedProcessDefinitionActivation() {
 
@@ -145,6 +145,66 @@ public class ProcessInstanceAndVariablesQueryTest extends PluggableFlowableTestC
         assertEquals("test4", variableMap.get("test4"));
     }
 
+    @Test
+    public void testQueryWithBatchedRelatedEntityFetching() {
+        processEngineConfiguration.getPerformanceSettings().setEnableBatchedRelatedEntityFetching(true);
+        try {
+            ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().includeProcessVariables().variableValueEquals("anothertest", 123).singleResult();
+            Map<String, Object> variableMap = processInstance.getProcessVariables();
+            assertEquals(1, variableMap.size());
+            assertEquals(123, variableMap.get("anothertest"));
+
+            List<ProcessInstance> instanceList = runtimeService.createProcessInstanceQuery().includeProcessVariables().list();
+            assertEquals(7, instanceList.size());
+
+            instanceList = runtimeService.createProcessInstanceQuery().includeProcessVariables().processDefinitionKey(PROCESS_DEFINITION_KEY)
+                    .orderByProcessInstanceId().asc().listPage(1, 2);
+            assertEquals(2, instanceList.size());
+            for (ProcessInstance pagedProcessInstance : instanceList) {
+                variableMap = pagedProcessInstance.getProcessVariables();
+                assertEquals(2, variableMap.size());
+                assertEquals("test", variableMap.get("test"));
+                assertEquals("test2", variableMap.get("test2"));
+            }
+
+            instanceList = runtimeService.createProcessInstanceQuery().includeProcessVariables().processDefinitionKey(PROCESS_DEFINITION_KEY).listPage(4, 5);
+            assertEquals(0, instanceList.size());
+
+            // The task variable set by the task listener is not a process variable
+            processInstance = runtimeService.createProcessInstanceQuery().includeProcessVariables().processDefinitionKey(PROCESS_DEFINITION_KEY_4).singleResult();
+            variableMap = processInstance.getProcessVariables();
+            assertEquals(1, variableMap.size());
+            assertEquals("test4", variableMap.get("test4"));
+
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableBatchedRelatedEntityFetching(false);
+        }
+    }
+
+    @Test
+    public void testQueryWithBatchedRelatedEntityFetchingForMoreThanThousandProcessInstances() {
+        Map<String, Object> startMap = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            startMap.put("anothertest", i);
+            runtimeService.startProcessInstanceByKey(PROCESS_DEFINITION_KEY_2, String.valueOf(i), startMap);
+        }
+
+        processEngineConfiguration.getPerformanceSettings().setEnableBatchedRelatedEntityFetching(true);
+        try {
+            // The variables of the 1001 process instances are fetched with more than one IN select
+            List<ProcessInstance> instanceList = runtimeService.createProcessInstanceQuery().includeProcessVariables().processDefinitionKey(PROCESS_DEFINITION_KEY_2).list();
+            assertEquals(1001, instanceList.size());
+            for (ProcessInstance processInstance : instanceList) {
+                Map<String, Object> variableMap = processInstance.getProcessVariables();
+                assertEquals(1, variableMap.size());
+                assertNotNull(variableMap.get("anothertest"));
+            }
+
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableBatchedRelatedEntityFetching(false);
+        }
+    }
+
     @Test
     public void testOrQuery() {
         ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().includeProcessVariables()
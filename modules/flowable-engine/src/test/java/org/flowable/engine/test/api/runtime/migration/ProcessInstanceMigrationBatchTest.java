@@ -23,6 +23,7 @@ import java.util.List;
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationSeedingJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -412,4 +413,64 @@ public class ProcessInstanceMigrationBatchTest extends PluggableFlowableTestCase
         managementService.deleteBatch(migrationBatch.getId());
     }
 
+    @Test
+    public void testProcessMigrationBatchWithPagedSeeding() {
+        int originalPageSize = processEngineConfiguration.getBatchMigrationSeedingPageSize();
+        processEngineConfiguration.setEnableBatchMigrationPagedSeeding(true);
+        processEngineConfiguration.setBatchMigrationSeedingPageSize(3);
+
+        try {
+            ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                processInstanceIds.add(runtimeService.startProcessInstanceByKey("MP").getId());
+            }
+
+            ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+
+            Batch migrationBatch = processMigrationService.createProcessInstanceMigrationBuilder()
+                    .migrateToProcessDefinition(version2ProcessDef.getId())
+                    .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+            // Only the seeding job is created together with the batch
+            assertThat(managementService.findBatchPartsByBatchId(migrationBatch.getId())).isEmpty();
+            Job seedingJob = managementService.createJobQuery().handlerType(ProcessInstanceMigrationSeedingJobHandler.TYPE).singleResult();
+            assertThat(seedingJob).isNotNull();
+
+            // The seeding job creates the first page and a seeding job for the next page
+            managementService.executeJob(seedingJob.getId());
+            assertThat(managementService.findBatchPartsByBatchId(migrationBatch.getId())).hasSize(3);
+            assertThat(managementService.createJobQuery().handlerType(ProcessInstanceMigrationSeedingJobHandler.TYPE).count()).isEqualTo(1);
+            assertThat(managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).count()).isZero();
+
+            JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 10000L, 500L, true);
+            assertFalse(JobTestHelper.areJobsAvailable(managementService));
+
+            assertThat(managementService.findBatchPartsByBatchId(migrationBatch.getId()))
+                    .extracting(BatchPart::getScopeId)
+                    .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+
+            List<Job> timerJobs = managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).list();
+            assertThat(timerJobs).hasSize(1);
+            Job executableJob = managementService.moveTimerToExecutableJob(timerJobs.get(0).getId());
+            managementService.executeJob(executableJob.getId());
+
+            ProcessInstanceBatchMigrationResult migrationResult = processMigrationService.getResultsOfBatchProcessInstanceMigration(migrationBatch.getId());
+            assertThat(migrationResult.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+            assertThat(migrationResult.getSuccessfulMigrationParts()).hasSize(processInstanceIds.size());
+            assertThat(migrationResult.getFailedMigrationParts()).isEmpty();
+
+            for (String processInstanceId : processInstanceIds) {
+                Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+                assertThat(task.getTaskDefinitionKey()).isEqualTo("userTask1Id");
+                assertThat(task.getProcessDefinitionId()).isEqualTo(version2ProcessDef.getId());
+            }
+
+        } finally {
+            processEngineConfiguration.setEnableBatchMigrationPagedSeeding(false);
+            processEngineConfiguration.setBatchMigrationSeedingPageSize(originalPageSize);
+        }
+    }
+
 }
\ No newline at end of file
@@ -231,6 +231,36 @@ public class TaskAndVariablesQueryTest extends PluggableFlowableTestCase {
         assertEquals(0, tasks.size());
     }
 
+    @Test
+    public void testQueryWithBatchedRelatedEntityFetching() {
+        processEngineConfiguration.getTaskServiceConfiguration().setEnableBatchedRelatedEntityFetching(true);
+        try {
+            org.flowable.task.api.Task task = taskService.createTaskQuery().includeTaskLocalVariables().taskAssignee("gonzo").singleResult();
+            Map<String, Object> variableMap = task.getTaskLocalVariables();
+            assertEquals(3, variableMap.size());
+            assertEquals("someVariable", variableMap.get("testVar"));
+            assertEquals(123, variableMap.get("testVar2"));
+            assertEquals("This is a binary variable", new String((byte[]) variableMap.get("testVarBinary")));
+            assertEquals(0, task.getProcessVariables().size());
+
+            List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().includeTaskLocalVariables().includeIdentityLinks()
+                    .taskCandidateUser("kermit").orderByTaskPriority().asc().listPage(0, 1);
+            assertEquals(1, tasks.size());
+            task = tasks.get(0);
+            variableMap = task.getTaskLocalVariables();
+            assertEquals(2, variableMap.size());
+            assertEquals("test", variableMap.get("test"));
+            assertEquals(1, task.getIdentityLinks().size());
+            assertEquals("kermit", task.getIdentityLinks().get(0).getUserId());
+
+            tasks = taskService.createTaskQuery().includeProcessVariables().includeTaskLocalVariables().orderByTaskPriority().asc().listPage(1, 2);
+            assertEquals(2, tasks.size());
+            assertEquals(3, tasks.get(1).getTaskLocalVariables().size());
+        } finally {
+            processEngineConfiguration.getTaskServiceConfiguration().setEnableBatchedRelatedEntityFetching(false);
+        }
+    }
+
     // Unit test for https://activiti.atlassian.net/browse/ACT-4152
     @Test
     public void testQueryWithIncludeTaskVariableAndTaskCategory() {
@@ -28,12 +28,15 @@ import java.util.Map;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.identitylink.api.IdentityLinkInfo;
 import org.flowable.identitylink.api.IdentityLinkType;
+import org.flowable.idm.engine.IdmEngineConfiguration;
+import org.flowable.idm.engine.impl.DefaultGroupMembershipCache;
 import org.flowable.task.api.DelegationState;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskInfo;
@@ -1424,6 +1427,40 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testQueryByCandidateUserWithGroupMembershipCache() {
+        IdmEngineConfiguration idmEngineConfiguration = (IdmEngineConfiguration) processEngineConfiguration.getEngineConfigurations()
+                .get(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG);
+        DefaultGroupMembershipCache groupMembershipCache = new DefaultGroupMembershipCache(10, 60000L, idmEngineConfiguration::getClock);
+        idmEngineConfiguration.setGroupMembershipCache(groupMembershipCache);
+        try {
+            // The cached groups are used instead of the memberships of fozzie in the database
+            groupMembershipCache.put("fozzie", Collections.emptyList());
+            assertEquals(0, taskService.createTaskQuery().taskCandidateUser("fozzie").count());
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+                assertEquals(0, historyService.createHistoricTaskInstanceQuery().taskCandidateUser("fozzie").count());
+            }
+
+            // A membership change invalidates the cached groups, which are then loaded again
+            identityService.createMembership("fozzie", "accountancy");
+            assertNull(groupMembershipCache.get("fozzie"));
+            assertEquals(5, taskService.createTaskQuery().taskCandidateUser("fozzie").count());
+            assertEquals(2, groupMembershipCache.get("fozzie").size());
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+                assertEquals(5, historyService.createHistoricTaskInstanceQuery().taskCandidateUser("fozzie").count());
+            }
+
+            identityService.deleteMembership("fozzie", "accountancy");
+            assertEquals(3, taskService.createTaskQuery().taskCandidateUser("fozzie").count());
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+                assertEquals(3, historyService.createHistoricTaskInstanceQuery().taskCandidateUser("fozzie").count());
+            }
+
+        } finally {
+            idmEngineConfiguration.setGroupMembershipCache(null);
+        }
+    }
+
     @Test
     public void testQueryByNullCandidateUser() {
         try {
@@ -3128,6 +3165,102 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
                                                         // tasks
     }
 
+    @Test
+    public void testQueryKeysetPaging() {
+        List<String> expectedIds = new ArrayList<>();
+        for (org.flowable.task.api.Task task : taskService.createTaskQuery().taskCandidateUser("kermit").orderByTaskId().asc().list()) {
+            expectedIds.add(task.getId());
+        }
+
+        List<String> pagedIds = new ArrayList<>();
+        List<org.flowable.task.api.Task> page = taskService.createTaskQuery().taskCandidateUser("kermit").listPageAfter(null, null, 4);
+        while (!page.isEmpty()) {
+            assertTrue(page.size() <= 4);
+            for (org.flowable.task.api.Task task : page) {
+                pagedIds.add(task.getId());
+            }
+            String lastId = page.get(page.size() - 1).getId();
+            page = taskService.createTaskQuery().taskCandidateUser("kermit").listPageAfter(null, lastId, 4);
+        }
+        assertEquals(expectedIds, pagedIds);
+
+        // Ordered by a property next to the id
+        List<String> expectedPriorityIds = new ArrayList<>();
+        for (org.flowable.task.api.Task task : taskService.createTaskQuery().taskCandidateUser("kermit").orderByTaskPriority().desc().orderByTaskId().desc().list()) {
+            expectedPriorityIds.add(task.getId());
+        }
+
+        List<String> pagedPriorityIds = new ArrayList<>();
+        page = taskService.createTaskQuery().taskCandidateUser("kermit").orderByTaskPriority().desc().listPageAfter(null, null, 3);
+        while (!page.isEmpty()) {
+            for (org.flowable.task.api.Task task : page) {
+                pagedPriorityIds.add(task.getId());
+            }
+            org.flowable.task.api.Task last = page.get(page.size() - 1);
+            page = taskService.createTaskQuery().taskCandidateUser("kermit").orderByTaskPriority().desc().listPageAfter(last.getPriority(), last.getId(), 3);
+        }
+        assertEquals(expectedPriorityIds, pagedPriorityIds);
+    }
+
+    @Test
+    public void testQueryKeysetPagingWithNullSortValues() {
+        Date dueDate = new Date(1000000000000L);
+        Date laterDueDate = new Date(1000000600000L);
+        Date[] dueDates = { null, dueDate, null, laterDueDate, dueDate, null, laterDueDate };
+        List<String> keysetTaskIds = new ArrayList<>();
+        try {
+            for (Date taskDueDate : dueDates) {
+                org.flowable.task.api.Task task = taskService.newTask();
+                task.setCategory("keysetNulls");
+                task.setDueDate(taskDueDate);
+                taskService.saveTask(task);
+                keysetTaskIds.add(task.getId());
+            }
+
+            // Null due dates are ordered as the largest value: last when ascending, first when descending
+            List<org.flowable.task.api.Task> allTasks = taskService.createTaskQuery().taskCategory("keysetNulls").list();
+            List<String> expectedAscending = new ArrayList<>();
+            allTasks.stream()
+                    .sorted((t1, t2) -> compareDueDateNullsLargest(t1, t2) != 0 ? compareDueDateNullsLargest(t1, t2) : t1.getId().compareTo(t2.getId()))
+                    .forEach(task -> expectedAscending.add(task.getId()));
+            List<String> expectedDescending = new ArrayList<>(expectedAscending);
+            Collections.reverse(expectedDescending);
+
+            assertEquals(expectedAscending, pageByDueDate(true));
+            assertEquals(expectedDescending, pageByDueDate(false));
+
+        } finally {
+            taskService.deleteTasks(keysetTaskIds, true);
+        }
+    }
+
+    protected List<String> pageByDueDate(boolean ascending) {
+        List<String> pagedIds = new ArrayList<>();
+        Date lastDueDate = null;
+        String lastId = null;
+        List<org.flowable.task.api.Task> page;
+        do {
+            TaskQuery query = taskService.createTaskQuery().taskCategory("keysetNulls").orderByTaskDueDate();
+            query = ascending ? query.asc() : query.desc();
+            page = query.listPageAfter(lastDueDate, lastId, 2);
+            for (org.flowable.task.api.Task task : page) {
+                pagedIds.add(task.getId());
+            }
+            if (!page.isEmpty()) {
+                lastDueDate = page.get(page.size() - 1).getDueDate();
+                lastId = page.get(page.size() - 1).getId();
+            }
+        } while (!page.isEmpty());
+        return pagedIds;
+    }
+
+    protected int compareDueDateNullsLargest(org.flowable.task.api.Task task1, org.flowable.task.api.Task task2) {
+        if (task1.getDueDate() == null) {
+            return task2.getDueDate() == null ? 0 : 1;
+        }
+        return task2.getDueDate() == null ? -1 : task1.getDueDate().compareTo(task2.getDueDate());
+    }
+
     @Test
     public void testQuerySorting() {
         assertEquals(12, taskService.createTaskQuery().orderByTaskId().asc().list().size());
@@ -12,7 +12,14 @@
  */
 package org.flowable.engine.test.api.variables;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -22,11 +29,19 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.FileSystemVariableContentStore;
+import org.flowable.variable.service.impl.types.InputStreamType;
 import org.joda.time.DateTime;
 import org.joda.time.LocalDate;
 import org.junit.jupiter.api.AfterEach;
@@ -602,6 +617,135 @@ public class VariablesTest extends PluggableFlowableTestCase {
         assertEquals(processInstanceId, processInstance.getId());
     }
 
+    @Test
+    public void testInputStreamVariable() {
+        runtimeService.setVariable(processInstanceId, "streamVar", new ByteArrayInputStream("stream content".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(InputStreamType.TYPE_NAME, runtimeService.getVariableInstance(processInstanceId, "streamVar").getTypeName());
+        InputStream inputStream = (InputStream) runtimeService.getVariable(processInstanceId, "streamVar");
+        assertEquals("stream content", new String(IoUtil.readInputStream(inputStream, "streamVar"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testInputStreamVariableWithContentStore() throws Exception {
+        Path contentFolder = Files.createTempDirectory("flowable-variable-content");
+        VariableType defaultInputStreamType = useVariableContentStore(contentFolder);
+        try {
+            runtimeService.setVariable(processInstanceId, "streamVar", new ByteArrayInputStream("stream content".getBytes(StandardCharsets.UTF_8)));
+            assertEquals(1, contentFolder.toFile().list().length);
+
+            // the content is only opened when the stream is read
+            InputStream inputStream = (InputStream) runtimeService.getVariable(processInstanceId, "streamVar");
+            assertEquals("stream content", new String(IoUtil.readInputStream(inputStream, "streamVar"), StandardCharsets.UTF_8));
+
+            runtimeService.setVariable(processInstanceId, "streamVar", new ByteArrayInputStream("updated content".getBytes(StandardCharsets.UTF_8)));
+            inputStream = (InputStream) runtimeService.getVariable(processInstanceId, "streamVar");
+            assertEquals("updated content", new String(IoUtil.readInputStream(inputStream, "streamVar"), StandardCharsets.UTF_8));
+
+            // with full history, the historic variable updates keep referencing the content of every value
+            boolean fullHistory = processEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.FULL);
+            waitForJobExecutorToProcessAllHistoryJobs(7000, 100);
+            assertEquals(fullHistory ? 2 : 1, contentFolder.toFile().list().length);
+
+            runtimeService.removeVariable(processInstanceId, "streamVar");
+            waitForJobExecutorToProcessAllHistoryJobs(7000, 100);
+            assertEquals(fullHistory ? 2 : 0, contentFolder.toFile().list().length);
+        } finally {
+            restoreInputStreamType(defaultInputStreamType, contentFolder);
+        }
+    }
+
+    @Test
+    public void testInputStreamVariableContentDeletedWithHistory() throws Exception {
+        repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+        Path contentFolder = Files.createTempDirectory("flowable-variable-content");
+        VariableType defaultInputStreamType = useVariableContentStore(contentFolder);
+        try {
+            String oneTaskProcessInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+            runtimeService.setVariable(oneTaskProcessInstanceId, "streamVar", new ByteArrayInputStream("stream content".getBytes(StandardCharsets.UTF_8)));
+            runtimeService.setVariable(oneTaskProcessInstanceId, "streamVar", new ByteArrayInputStream("updated content".getBytes(StandardCharsets.UTF_8)));
+            taskService.complete(taskService.createTaskQuery().processInstanceId(oneTaskProcessInstanceId).singleResult().getId());
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                // the history of the ended process instance still references the content
+                assertTrue(contentFolder.toFile().list().length > 0);
+
+                historyService.deleteHistoricProcessInstance(oneTaskProcessInstanceId);
+                waitForJobExecutorToProcessAllHistoryJobs(7000, 100);
+            }
+            assertEquals(0, contentFolder.toFile().list().length);
+        } finally {
+            restoreInputStreamType(defaultInputStreamType, contentFolder);
+        }
+    }
+
+    @Test
+    public void testInputStreamVariableContentWithoutProcessDefinitionHistory() throws Exception {
+        repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/history/oneTaskHistoryLevelNoneProcess.bpmn20.xml").deploy();
+        Path contentFolder = Files.createTempDirectory("flowable-variable-content");
+        VariableType defaultInputStreamType = useVariableContentStore(contentFolder);
+        try {
+            String oneTaskProcessInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+            runtimeService.setVariable(oneTaskProcessInstanceId, "streamVar", new ByteArrayInputStream("stream content".getBytes(StandardCharsets.UTF_8)));
+            runtimeService.setVariable(oneTaskProcessInstanceId, "streamVar", new ByteArrayInputStream("updated content".getBytes(StandardCharsets.UTF_8)));
+
+            // no history is kept for the process definition, so only the runtime variable references its content
+            assertEquals(1, contentFolder.toFile().list().length);
+
+            taskService.complete(taskService.createTaskQuery().processInstanceId(oneTaskProcessInstanceId).singleResult().getId());
+            assertEquals(0, contentFolder.toFile().list().length);
+        } finally {
+            restoreInputStreamType(defaultInputStreamType, contentFolder);
+        }
+    }
+
+    protected VariableType useVariableContentStore(Path contentFolder) {
+        DefaultVariableTypes variableTypes = (DefaultVariableTypes) processEngineConfiguration.getVariableTypes();
+        VariableType defaultInputStreamType = variableTypes.getVariableType(InputStreamType.TYPE_NAME);
+        int typeIndex = variableTypes.getTypeIndex(defaultInputStreamType);
+        variableTypes.removeType(defaultInputStreamType);
+        variableTypes.addType(new InputStreamType(new FileSystemVariableContentStore(contentFolder)), typeIndex);
+        return defaultInputStreamType;
+    }
+
+    protected void restoreInputStreamType(VariableType defaultInputStreamType, Path contentFolder) throws IOException {
+        DefaultVariableTypes variableTypes = (DefaultVariableTypes) processEngineConfiguration.getVariableTypes();
+        VariableType inputStreamType = variableTypes.getVariableType(InputStreamType.TYPE_NAME);
+        int typeIndex = variableTypes.getTypeIndex(inputStreamType);
+        variableTypes.removeType(inputStreamType);
+        variableTypes.addType(defaultInputStreamType, typeIndex);
+        for (File file : contentFolder.toFile().listFiles()) {
+            file.delete();
+        }
+        Files.delete(contentFolder);
+    }
+
+    @Test
+    public void testByteArrayVariablesWithBatchLoading() {
+        VariableServiceConfiguration variableServiceConfiguration = processEngineConfiguration.getVariableServiceConfiguration();
+        variableServiceConfiguration.setByteArrayBatchLoadingEnabled(true);
+        try {
+            Map<String, Object> vars = new HashMap<>();
+            for (int i = 0; i < 5; i++) {
+                vars.put("bytesVar" + i, ("bytes-" + i).getBytes(StandardCharsets.UTF_8));
+            }
+            vars.put("serializableVar", new TestSerializableVariable(42));
+            runtimeService.setVariables(processInstanceId, vars);
+
+            Map<String, Object> variables = runtimeService.getVariables(processInstanceId);
+            for (int i = 0; i < 5; i++) {
+                assertEquals("bytes-" + i, new String((byte[]) variables.get("bytesVar" + i), StandardCharsets.UTF_8));
+            }
+            assertEquals(42, ((TestSerializableVariable) variables.get("serializableVar")).getNumber());
+
+            // updating a single byte array variable of a batch loaded scope
+            runtimeService.setVariable(processInstanceId, "bytesVar2", "updated".getBytes(StandardCharsets.UTF_8));
+            assertEquals("updated", new String((byte[]) runtimeService.getVariable(processInstanceId, "bytesVar2"), StandardCharsets.UTF_8));
+        } finally {
+            variableServiceConfiguration.setByteArrayBatchLoadingEnabled(false);
+        }
+    }
+
     // Class to test variable serialization
     public static class TestSerializableVariable implements Serializable {
 
@@ -12,18 +12,36 @@
  */
 package org.flowable.engine.test.bpmn;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.Map;
 
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupBatchHelper;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.jobexecutor.HistoricProcessInstanceDeleteJobHandler;
+import org.flowable.engine.impl.jobexecutor.HistoricProcessInstanceDeleteStatusJobHandler;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntity;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.job.api.Job;
+import org.flowable.job.service.JobHandler;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
 
@@ -93,4 +111,234 @@ public class HistoricDataEngineDeleteTest extends ResourceFlowableTestCase {
             processEngineConfiguration.resetClock();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupTimerJobWithBatch() {
+        processEngineConfiguration.setEnableBatchHistoryCleaning(true);
+        processEngineConfiguration.setCleanInstancesBatchSize(3);
+        processEngineConfiguration.setCleanInstancesMaxBatchParts(2);
+        try {
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                processInstanceIds.add(processInstance.getId());
+                runtimeService.setVariable(processInstance.getId(), "testVar", "testValue" + (i + 1));
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+
+                // data stored in byte arrays, which are removed together with the instance
+                String byteArrayTable = managementService.getTableName(ByteArrayEntity.class);
+                long byteArrayCount = managementService.getTableCount().get(byteArrayTable);
+                runtimeService.setVariable(processInstanceIds.get(0), "bytesVar", "bytes".getBytes(StandardCharsets.UTF_8));
+                Task firstTask = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(0)).singleResult();
+                taskService.addComment(firstTask.getId(), processInstanceIds.get(0), "comment");
+                taskService.createAttachment("text", firstTask.getId(), processInstanceIds.get(0), "attachment", null,
+                        new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)));
+
+                for (int i = 0; i < 10; i++) {
+                    Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult();
+                    taskService.complete(task.getId());
+                }
+
+                Job executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+
+                // The instances are deleted by the async jobs of the batch parts, at most 6 instances per batch
+                assertEquals(20, historyService.createHistoricProcessInstanceQuery().count());
+                assertEquals(2, managementService.createJobQuery().handlerType(HistoricProcessInstanceDeleteJobHandler.TYPE).count());
+
+                int batches = 0;
+                while (managementService.createTimerJobQuery().handlerType(HistoricProcessInstanceDeleteStatusJobHandler.TYPE).count() > 0) {
+                    batches++;
+                    for (Job job : managementService.createJobQuery().handlerType(HistoricProcessInstanceDeleteJobHandler.TYPE).list()) {
+                        managementService.executeJob(job.getId());
+                    }
+
+                    Job statusJob = managementService.moveTimerToExecutableJob(
+                            managementService.createTimerJobQuery().handlerType(HistoricProcessInstanceDeleteStatusJobHandler.TYPE).singleResult().getId());
+                    managementService.executeJob(statusJob.getId());
+                }
+
+                assertEquals(2, batches);
+                assertEquals(10, historyService.createHistoricProcessInstanceQuery().count());
+                assertEquals(10, historyService.createHistoricTaskInstanceQuery().count());
+
+                for (int i = 0; i < 20; i++) {
+                    if (i < 10) {
+                        assertEquals(0, historyService.getHistoricIdentityLinksForProcessInstance(processInstanceIds.get(i)).size());
+                        assertEquals(0, historyService.createHistoricTaskLogEntryQuery().processInstanceId(processInstanceIds.get(i)).count());
+                        assertEquals(0, historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceIds.get(i)).count());
+                        assertEquals(0, historyService.createHistoricDetailQuery().processInstanceId(processInstanceIds.get(i)).count());
+                        assertEquals(0, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceIds.get(i)).count());
+                        assertEquals(0, taskService.getProcessInstanceComments(processInstanceIds.get(i)).size());
+                        assertEquals(0, taskService.getProcessInstanceAttachments(processInstanceIds.get(i)).size());
+                    } else {
+                        assertEquals(1, historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceIds.get(i)).count());
+                    }
+                }
+
+                for (Batch batch : managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).list()) {
+                    assertEquals(BpmnHistoryCleanupBatchHelper.STATUS_COMPLETED, batch.getStatus());
+                    managementService.deleteBatch(batch.getId());
+                }
+                // the documents of the batches are byte arrays as well
+                assertEquals(byteArrayCount, managementService.getTableCount().get(byteArrayTable).longValue());
+
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            processEngineConfiguration.setEnableBatchHistoryCleaning(false);
+            processEngineConfiguration.setCleanInstancesBatchSize(100);
+            processEngineConfiguration.setCleanInstancesMaxBatchParts(50);
+            processEngineConfiguration.resetClock();
+        }
+    }
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupBatchPartFailsAfterLastRetry() {
+        processEngineConfiguration.setEnableBatchHistoryCleaning(true);
+        try {
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            for (int i = 0; i < 3; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+                taskService.complete(task.getId());
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+
+                Job executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                BatchPart batchPart = managementService.findBatchPartsByBatchId(batch.getId()).get(0);
+
+                // a batch part document that can't be read makes every execution of the part fail
+                managementService.executeCommand(commandContext -> {
+                    BatchPartEntity batchPartEntity = (BatchPartEntity) CommandContextUtil.getBatchService(commandContext).getBatchPart(batchPart.getId());
+                    batchPartEntity.setResultDocumentJson("invalid");
+                    return null;
+                });
+
+                Job job = managementService.createJobQuery().handlerType(HistoricProcessInstanceDeleteJobHandler.TYPE).singleResult();
+                int executions = 0;
+                while (job != null) {
+                    executions++;
+                    String jobId = job.getId();
+                    assertThatThrownBy(() -> managementService.executeJob(jobId)).isInstanceOf(FlowableException.class);
+
+                    Job timerJob = managementService.createTimerJobQuery().handlerType(HistoricProcessInstanceDeleteJobHandler.TYPE).singleResult();
+                    if (timerJob != null) {
+                        // the failure is not recorded as long as the job is retried
+                        assertEquals(BpmnHistoryCleanupBatchHelper.STATUS_WAITING, managementService.getBatchPart(batchPart.getId()).getStatus());
+                        assertNull(managementService.getBatchPart(batchPart.getId()).getCompleteTime());
+                        job = managementService.moveTimerToExecutableJob(timerJob.getId());
+                    } else {
+                        job = null;
+                    }
+                }
+
+                assertEquals(processEngineConfiguration.getAsyncExecutorNumberOfRetries(), executions);
+                assertEquals(1, managementService.createDeadLetterJobQuery().handlerType(HistoricProcessInstanceDeleteJobHandler.TYPE).count());
+
+                BatchPart failedBatchPart = managementService.getBatchPart(batchPart.getId());
+                assertEquals(BpmnHistoryCleanupBatchHelper.RESULT_FAIL, failedBatchPart.getStatus());
+                assertNotNull(failedBatchPart.getCompleteTime());
+                assertThat(managementService.getBatchPartDocument(batchPart.getId())).contains(BpmnHistoryCleanupBatchHelper.RESULT_FAIL);
+                assertEquals(3, historyService.createHistoricProcessInstanceQuery().count());
+
+                managementService.deleteDeadLetterJob(managementService.createDeadLetterJobQuery().handlerType(HistoricProcessInstanceDeleteJobHandler.TYPE).singleResult().getId());
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(HistoricProcessInstanceDeleteStatusJobHandler.TYPE).singleResult().getId());
+                managementService.deleteBatch(batch.getId());
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            processEngineConfiguration.setEnableBatchHistoryCleaning(false);
+            processEngineConfiguration.resetClock();
+        }
+    }
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupFailedBatchPartIsExecutedAgain() {
+        processEngineConfiguration.setEnableBatchHistoryCleaning(true);
+        Map<String, JobHandler> jobHandlers = processEngineConfiguration.getJobServiceConfiguration().getJobHandlers();
+        JobHandler deleteJobHandler = jobHandlers.get(HistoricProcessInstanceDeleteJobHandler.TYPE);
+        try {
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            for (int i = 0; i < 3; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+                taskService.complete(task.getId());
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+
+                // every execution of the part fails after the instances have been deleted, so the deletion is rolled back
+                jobHandlers.put(HistoricProcessInstanceDeleteJobHandler.TYPE, new HistoricProcessInstanceDeleteJobHandler() {
+
+                    @Override
+                    protected int deleteHistoricProcessInstances(List<String> instanceIds, ProcessEngineConfigurationImpl processEngineConfiguration,
+                            CommandContext commandContext) {
+                        super.deleteHistoricProcessInstances(instanceIds, processEngineConfiguration, commandContext);
+                        throw new FlowableException("Deleting the historic process instances failed");
+                    }
+                });
+
+                Job executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                BatchPart batchPart = managementService.findBatchPartsByBatchId(batch.getId()).get(0);
+
+                Job job = managementService.createJobQuery().handlerType(HistoricProcessInstanceDeleteJobHandler.TYPE).singleResult();
+                while (job != null) {
+                    String jobId = job.getId();
+                    assertThatThrownBy(() -> managementService.executeJob(jobId)).isInstanceOf(FlowableException.class);
+
+                    Job timerJob = managementService.createTimerJobQuery().handlerType(HistoricProcessInstanceDeleteJobHandler.TYPE).singleResult();
+                    job = timerJob != null ? managementService.moveTimerToExecutableJob(timerJob.getId()) : null;
+                }
+
+                assertEquals(BpmnHistoryCleanupBatchHelper.RESULT_FAIL, managementService.getBatchPart(batchPart.getId()).getStatus());
+                assertEquals(3, historyService.createHistoricProcessInstanceQuery().count());
+
+                // the failed part still knows its instances when its dead letter job is executed again
+                jobHandlers.put(HistoricProcessInstanceDeleteJobHandler.TYPE, deleteJobHandler);
+                Job deadLetterJob = managementService.createDeadLetterJobQuery().handlerType(HistoricProcessInstanceDeleteJobHandler.TYPE).singleResult();
+                managementService.executeJob(managementService.moveDeadLetterJobToExecutableJob(deadLetterJob.getId(), 1).getId());
+
+                assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+                assertEquals(BpmnHistoryCleanupBatchHelper.RESULT_SUCCESS, managementService.getBatchPart(batchPart.getId()).getStatus());
+                assertThat(managementService.getBatchPartDocument(batchPart.getId())).contains("\"" + BpmnHistoryCleanupBatchHelper.BATCH_DELETED_INSTANCES_LABEL + "\":3");
+
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(HistoricProcessInstanceDeleteStatusJobHandler.TYPE).singleResult().getId());
+                managementService.deleteBatch(batch.getId());
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            jobHandlers.put(HistoricProcessInstanceDeleteJobHandler.TYPE, deleteJobHandler);
+            processEngineConfiguration.setEnableBatchHistoryCleaning(false);
+            processEngineConfiguration.resetClock();
+        }
+    }
+}
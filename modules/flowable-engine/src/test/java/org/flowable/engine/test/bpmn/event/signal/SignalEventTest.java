@@ -22,6 +22,7 @@ import java.util.Map;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.Execution;
@@ -131,6 +132,102 @@ public class SignalEventTest extends PluggableFlowableTestCase {
 
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignal.bpmn20.xml" })
+    public void testSignalBroadcastFanOut() {
+        processEngineConfiguration.setEnableSignalBroadcastFanOut(true);
+        processEngineConfiguration.setSignalBroadcastChunkSize(2);
+        try {
+            for (int i = 0; i < 5; i++) {
+                runtimeService.startProcessInstanceByKey("catchSignal");
+            }
+            assertEquals(5, createEventSubscriptionQuery().count());
+
+            // Throwing the signal only records the broadcast job
+            runtimeService.startProcessInstanceByKey("throwSignal");
+            assertEquals(5, createEventSubscriptionQuery().count());
+            assertEquals(5, runtimeService.createProcessInstanceQuery().count());
+            assertEquals(1, managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count());
+
+            // Every job handles one chunk and schedules the job for the next chunk
+            int executedJobs = 0;
+            Job job = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult();
+            while (job != null) {
+                managementService.executeJob(job.getId());
+                executedJobs++;
+                job = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult();
+            }
+
+            assertEquals(3, executedJobs);
+            assertEquals(0, createEventSubscriptionQuery().count());
+            assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+
+            // Same for the signal thrown through the runtime service
+            for (int i = 0; i < 3; i++) {
+                runtimeService.startProcessInstanceByKey("catchSignal");
+            }
+            runtimeService.signalEventReceived("alert");
+            assertEquals(3, runtimeService.createProcessInstanceQuery().count());
+
+            executedJobs = 0;
+            job = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult();
+            while (job != null) {
+                managementService.executeJob(job.getId());
+                executedJobs++;
+                job = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult();
+            }
+
+            assertEquals(2, executedJobs);
+            assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+
+        } finally {
+            processEngineConfiguration.setEnableSignalBroadcastFanOut(false);
+            processEngineConfiguration.setSignalBroadcastChunkSize(100);
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignal.bpmn20.xml" })
+    public void testSignalBroadcastFanOutIgnoresSubscriptionsCreatedAfterThrow() {
+        processEngineConfiguration.setEnableSignalBroadcastFanOut(true);
+        processEngineConfiguration.setSignalBroadcastChunkSize(2);
+        Date signalTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(signalTime);
+        try {
+            for (int i = 0; i < 3; i++) {
+                runtimeService.startProcessInstanceByKey("catchSignal");
+            }
+            runtimeService.startProcessInstanceByKey("throwSignal");
+            assertEquals(1, managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).count());
+
+            // A subscription created while the broadcast is in progress must not receive the signal
+            processEngineConfiguration.getClock().setCurrentTime(new Date(signalTime.getTime() + 1000));
+            ProcessInstance lateProcessInstance = runtimeService.startProcessInstanceByKey("catchSignal");
+            assertEquals(4, createEventSubscriptionQuery().count());
+
+            int executedJobs = 0;
+            Job job = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult();
+            while (job != null) {
+                managementService.executeJob(job.getId());
+                executedJobs++;
+                job = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult();
+            }
+
+            assertEquals(2, executedJobs);
+            assertEquals(1, createEventSubscriptionQuery().count());
+            assertEquals(lateProcessInstance.getId(), createEventSubscriptionQuery().singleResult().getProcessInstanceId());
+            assertEquals(1, runtimeService.createProcessInstanceQuery().count());
+            assertEquals(lateProcessInstance.getId(), runtimeService.createProcessInstanceQuery().singleResult().getId());
+
+        } finally {
+            processEngineConfiguration.setEnableSignalBroadcastFanOut(false);
+            processEngineConfiguration.setSignalBroadcastChunkSize(100);
+            processEngineConfiguration.getClock().setCurrentTime(new Date());
+        }
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchMultipleSignals.bpmn20.xml",
             "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignal.bpmn20.xml", "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAbortSignal.bpmn20.xml" })
@@ -31,6 +31,7 @@ import org.flowable.engine.delegate.ExecutionListener;
 import org.flowable.engine.delegate.TaskListener;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.persistence.CountingExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -249,6 +250,77 @@ public class MultiInstanceTest extends PluggableFlowableTestCase {
         assertProcessEnded(procId);
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksCompletionCondition.bpmn20.xml" })
+    public void testParallelUserTasksAsyncCompletion() {
+        processEngineConfiguration.setEnableParallelMultiInstanceAsyncCompletion(true);
+        try {
+            String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksCompletionCondition").getId();
+            List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().list();
+            assertEquals(5, tasks.size());
+
+            // Every completed instance schedules a job that aggregates the completed instances
+            taskService.complete(tasks.get(0).getId());
+            taskService.complete(tasks.get(1).getId());
+            assertEquals(2, managementService.createJobQuery().count());
+
+            for (Job job : managementService.createJobQuery().list()) {
+                managementService.executeJob(job.getId());
+            }
+            assertEquals(3, taskService.createTaskQuery().count());
+
+            // Completing the third task satisfies the completion condition once the job is executed
+            taskService.complete(tasks.get(2).getId());
+            assertEquals(3, taskService.createTaskQuery().count());
+
+            Job job = managementService.createJobQuery().singleResult();
+            managementService.executeJob(job.getId());
+            assertProcessEnded(procId);
+
+        } finally {
+            processEngineConfiguration.setEnableParallelMultiInstanceAsyncCompletion(false);
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksCompletionCondition.bpmn20.xml" })
+    public void testParallelUserTasksAsyncCompletionWithExecutionRelationshipCounts() {
+        boolean originalEnableExecutionRelationshipCounts = processEngineConfiguration.getPerformanceSettings().isEnableExecutionRelationshipCounts();
+        processEngineConfiguration.setEnableParallelMultiInstanceAsyncCompletion(true);
+        processEngineConfiguration.setEnableExecutionRelationshipCounts(true);
+        try {
+            String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksCompletionCondition").getId();
+            List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().list();
+            assertEquals(5, tasks.size());
+
+            taskService.complete(tasks.get(0).getId());
+            taskService.complete(tasks.get(1).getId());
+            taskService.complete(tasks.get(2).getId());
+
+            // The jobs are linked to the completed instances, the job count of the multi instance root is never updated
+            List<Job> jobs = managementService.createJobQuery().list();
+            assertEquals(3, jobs.size());
+            for (Job job : jobs) {
+                CountingExecutionEntity execution = (CountingExecutionEntity) runtimeService.createExecutionQuery().executionId(job.getExecutionId()).singleResult();
+                assertFalse(((ExecutionEntity) execution).isMultiInstanceRoot());
+                assertEquals(1, execution.getJobCount());
+            }
+            Execution taskExecution = runtimeService.createExecutionQuery().executionId(tasks.get(0).getExecutionId()).singleResult();
+            ExecutionEntity miRootExecution = (ExecutionEntity) runtimeService.createExecutionQuery().executionId(taskExecution.getParentId()).singleResult();
+            assertTrue(miRootExecution.isMultiInstanceRoot());
+            assertEquals(0, ((CountingExecutionEntity) miRootExecution).getJobCount());
+
+            // The first aggregation satisfies the completion condition, the other jobs are deleted together with their executions
+            managementService.executeJob(jobs.get(0).getId());
+            assertProcessEnded(procId);
+            assertEquals(0, managementService.createJobQuery().count());
+
+        } finally {
+            processEngineConfiguration.setEnableParallelMultiInstanceAsyncCompletion(false);
+            processEngineConfiguration.setEnableExecutionRelationshipCounts(originalEnableExecutionRelationshipCounts);
+        }
+    }
+
     @Test
     @Deployment
     public void testParallelUserTasksBasedOnCollection() {
@@ -13,11 +13,16 @@
 
 package org.flowable.engine.test.bpmn.usertask;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.identitylink.api.IdentityLink;
@@ -422,4 +427,46 @@ public class DynamicUserTaskTest extends PluggableFlowableTestCase {
         assertProcessEnded(processInstance.getId());
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/usertask/DynamicUserTaskTest.assignment.bpmn20.xml" })
+    public void testChangeAssigneeWithProcessDefinitionInfoCacheTimeToLive() throws Exception {
+        ProcessDefinitionInfoCache processDefinitionInfoCache = (ProcessDefinitionInfoCache) processEngineConfiguration.getProcessDefinitionInfoCache();
+        long originalTimeToLive = processDefinitionInfoCache.getTimeToLive();
+        processDefinitionInfoCache.setTimeToLive(60000);
+
+        try {
+            String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("dynamicUserTask").singleResult().getId();
+
+            // a change saved through the engine is used right away
+            ObjectNode infoNode = dynamicBpmnService.changeUserTaskAssignee("task1", "test2");
+            dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+            assertEquals("test2", startProcessAndGetAssignee());
+
+            // a change saved by another engine is used when the cached info has expired
+            byte[] otherInfoJson = processEngineConfiguration.getObjectMapper().writeValueAsBytes(dynamicBpmnService.changeUserTaskAssignee("task1", "test3"));
+            managementService.executeCommand(commandContext -> {
+                ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
+                ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
+                infoEntityManager.updateInfoJson(infoEntity.getId(), otherInfoJson);
+                return null;
+            });
+            assertEquals("test2", startProcessAndGetAssignee());
+
+            processEngineConfiguration.getClock().setCurrentTime(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 61000));
+            assertEquals("test3", startProcessAndGetAssignee());
+
+        } finally {
+            processDefinitionInfoCache.setTimeToLive(originalTimeToLive);
+        }
+    }
+
+    protected String startProcessAndGetAssignee() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("dynamicUserTask");
+        org.flowable.task.api.Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        String assignee = task.getAssignee();
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+        return assignee;
+    }
+
 }
@@ -0,0 +1,160 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchedFlushTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    public void enableBatchedFlush() {
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchedFlushEnabled(true);
+    }
+
+    @AfterEach
+    public void disableBatchedFlush() {
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchedFlushEnabled(false);
+    }
+
+    @Test
+    public void testBatchedVariableUpdatesAndDeletes() {
+        String processDefinitionId = deployOneTaskTestProcess();
+
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            variables.put("var" + i, "value" + i);
+        }
+        ProcessInstance processInstance = runtimeService.startProcessInstanceById(processDefinitionId, variables);
+
+        Map<String, Object> updatedVariables = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            updatedVariables.put("var" + i, "updatedValue" + i);
+        }
+        runtimeService.setVariables(processInstance.getId(), updatedVariables);
+        assertThat(runtimeService.getVariables(processInstance.getId())).isEqualTo(updatedVariables);
+
+        // Updating again verifies the revisions were incremented after the batched update
+        updatedVariables.put("var0", "otherValue");
+        updatedVariables.put("var1", "otherValue");
+        runtimeService.setVariables(processInstance.getId(), updatedVariables);
+        assertThat(runtimeService.getVariables(processInstance.getId())).isEqualTo(updatedVariables);
+
+        runtimeService.removeVariables(processInstance.getId(), Arrays.asList("var0", "var1", "var2", "var3"));
+        assertThat(runtimeService.getVariables(processInstance.getId())).hasSize(6);
+
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    public void testConcurrentUpdateInBatch() {
+        String processDefinitionId = deployOneTaskTestProcess();
+
+        // The batched flush must fail and roll back in the same way as the regular flush
+        for (boolean batchedFlushEnabled : new boolean[] { false, true }) {
+            processEngineConfiguration.getDbSqlSessionFactory().setBatchedFlushEnabled(batchedFlushEnabled);
+            ProcessInstance processInstance = startProcessInstanceWithVariables(processDefinitionId);
+            Map<String, Object> originalVariables = runtimeService.getVariables(processInstance.getId());
+
+            Map<String, Object> updatedVariables = new HashMap<>();
+            for (int i = 0; i < 5; i++) {
+                updatedVariables.put("var" + i, "updatedValue" + i);
+            }
+
+            assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+                runtimeService.getVariableInstances(processInstance.getId());
+                incrementRevisionConcurrently(commandContext, runtimeService.getVariableInstance(processInstance.getId(), "var2").getId());
+                runtimeService.setVariables(processInstance.getId(), updatedVariables);
+                return null;
+            }))
+                    .isInstanceOf(FlowableOptimisticLockingException.class)
+                    .hasMessageContaining("was updated by another transaction concurrently");
+
+            assertThat(runtimeService.getVariables(processInstance.getId())).isEqualTo(originalVariables);
+
+            // The revisions were rolled back as well, so the variables can still be updated
+            runtimeService.setVariables(processInstance.getId(), updatedVariables);
+            assertThat(runtimeService.getVariables(processInstance.getId())).isEqualTo(updatedVariables);
+        }
+    }
+
+    @Test
+    public void testConcurrentDeleteInBatch() {
+        String processDefinitionId = deployOneTaskTestProcess();
+
+        // The batched flush must fail and roll back in the same way as the regular flush
+        for (boolean batchedFlushEnabled : new boolean[] { false, true }) {
+            processEngineConfiguration.getDbSqlSessionFactory().setBatchedFlushEnabled(batchedFlushEnabled);
+            ProcessInstance processInstance = startProcessInstanceWithVariables(processDefinitionId);
+            Map<String, Object> originalVariables = runtimeService.getVariables(processInstance.getId());
+            List<String> variableNames = Arrays.asList("var0", "var1", "var2", "var3");
+
+            assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+                runtimeService.getVariableInstances(processInstance.getId());
+                incrementRevisionConcurrently(commandContext, runtimeService.getVariableInstance(processInstance.getId(), "var2").getId());
+                runtimeService.removeVariables(processInstance.getId(), variableNames);
+                return null;
+            }))
+                    .isInstanceOf(FlowableOptimisticLockingException.class)
+                    .hasMessageContaining("was updated by another transaction concurrently");
+
+            assertThat(runtimeService.getVariables(processInstance.getId())).isEqualTo(originalVariables);
+
+            runtimeService.removeVariables(processInstance.getId(), variableNames);
+            assertThat(runtimeService.getVariables(processInstance.getId())).containsOnlyKeys("var4");
+        }
+    }
+
+    protected ProcessInstance startProcessInstanceWithVariables(String processDefinitionId) {
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            variables.put("var" + i, "value" + i);
+        }
+        return runtimeService.startProcessInstanceById(processDefinitionId, variables);
+    }
+
+    /**
+     * Increments the revision of the variable row on the connection of the command, as a concurrent transaction would do,
+     * while the entity that is flushed afterwards still has the old revision.
+     */
+    protected void incrementRevisionConcurrently(CommandContext commandContext, String variableId) {
+        String tableName = processEngineConfiguration.getDatabaseTablePrefix() + "ACT_RU_VARIABLE";
+        Connection connection = CommandContextUtil.getDbSqlSession(commandContext).getSqlSession().getConnection();
+        try (PreparedStatement statement = connection.prepareStatement("update " + tableName + " set REV_ = REV_ + 1 where ID_ = ?")) {
+            statement.setString(1, variableId);
+            assertThat(statement.executeUpdate()).isEqualTo(1);
+        } catch (SQLException e) {
+            throw new FlowableException("Could not update the revision of variable " + variableId, e);
+        }
+    }
+
+}
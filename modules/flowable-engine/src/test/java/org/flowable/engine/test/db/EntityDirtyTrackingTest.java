@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.SessionFactory;
+import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.common.engine.impl.persistence.cache.DirtyTrackingEntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EntityDirtyTrackingTest extends PluggableFlowableTestCase {
+
+    protected SessionFactory originalEntityCacheFactory;
+
+    @BeforeEach
+    public void enableDirtyTracking() {
+        originalEntityCacheFactory = processEngineConfiguration.getSessionFactories()
+                .put(EntityCache.class, new GenericManagerFactory(EntityCache.class, DirtyTrackingEntityCacheImpl.class));
+    }
+
+    @AfterEach
+    public void disableDirtyTracking() {
+        processEngineConfiguration.getSessionFactories().put(EntityCache.class, originalEntityCacheFactory);
+    }
+
+    @Test
+    public void testUnchangedEntityIsNotDirty() {
+        String processDefinitionId = deployOneTaskTestProcess();
+        ProcessInstance processInstance = runtimeService.startProcessInstanceById(processDefinitionId);
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            CachedEntity cachedEntity = findCachedEntity(CommandContextUtil.getEntityCache(commandContext), execution);
+            assertThat(cachedEntity).isNotNull();
+            assertThat(cachedEntity.isDirtyTracked()).isTrue();
+            assertThat(cachedEntity.hasChanged()).isFalse();
+
+            execution.setName("changed");
+            assertThat(cachedEntity.hasChanged()).isTrue();
+            assertThat(((Map<?, ?>) execution.getOriginalPersistentState()).get("name")).isNull();
+            return null;
+        });
+
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).singleResult().getName())
+                .isEqualTo("changed");
+    }
+
+    @Test
+    public void testChangesAreFlushed() {
+        String processDefinitionId = deployOneTaskTestProcess();
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("var", "value");
+        ProcessInstance processInstance = runtimeService.startProcessInstanceById(processDefinitionId, variables);
+
+        runtimeService.setVariable(processInstance.getId(), "var", "updatedValue");
+        assertThat(runtimeService.getVariable(processInstance.getId(), "var")).isEqualTo("updatedValue");
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setAssignee(task.getId(), "kermit");
+        taskService.setPriority(task.getId(), 10);
+        task = taskService.createTaskQuery().taskId(task.getId()).singleResult();
+        assertThat(task.getAssignee()).isEqualTo("kermit");
+        assertThat(task.getPriority()).isEqualTo(10);
+
+        taskService.complete(task.getId());
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    protected CachedEntity findCachedEntity(EntityCache entityCache, ExecutionEntity execution) {
+        for (CachedEntity cachedEntity : entityCache.findInCacheAsCachedObjects(execution.getClass())) {
+            if (cachedEntity.getEntity() == execution) {
+                return cachedEntity;
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingDbIdGeneratorTest extends PluggableFlowableTestCase {
+
+    protected PrefetchingDbIdGenerator idGenerator;
+
+    @BeforeEach
+    public void createIdGenerator() {
+        idGenerator = new PrefetchingDbIdGenerator();
+        idGenerator.setIdBlockSize(10);
+        idGenerator.setCommandExecutor(processEngineConfiguration.getCommandExecutor());
+        idGenerator.setCommandConfig(processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew());
+    }
+
+    @AfterEach
+    public void shutdownIdGenerator() {
+        idGenerator.shutdown();
+    }
+
+    @Test
+    public void testIdsAreUnique() {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 100; i++) {
+            assertThat(ids.add(idGenerator.getNextId())).isTrue();
+        }
+
+        assertThat(idGenerator.getBlockFetchCount()).isGreaterThanOrEqualTo(10);
+        assertThat(idGenerator.getBlockFetchFailureCount()).isZero();
+    }
+
+    @Test
+    public void testIdsAreUniqueWithConcurrentThreads() throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < 250; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(ids).hasSize(2000);
+    }
+
+}
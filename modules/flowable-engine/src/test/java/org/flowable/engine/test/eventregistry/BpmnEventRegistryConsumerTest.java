@@ -15,10 +15,14 @@ package org.flowable.engine.test.eventregistry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.engine.repository.ProcessDefinition;
@@ -30,6 +34,7 @@ import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRepositoryService;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.impl.BatchingInboundEventProcessor;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.task.api.Task;
 import org.junit.Test;
@@ -73,6 +78,25 @@ public class BpmnEventRegistryConsumerTest extends FlowableTestCase {
         return inboundEventChannelAdapter;
     }
 
+    /**
+     * Triggers the events on separate threads, as the batching inbound event processor waits until the batch of an event is processed.
+     */
+    protected void triggerConcurrently(Runnable... triggers) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(triggers.length);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable trigger : triggers) {
+                futures.add(executorService.submit(trigger));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     @Override
     protected void tearDown() throws Exception {
         getEventRegistry().removeChannelDefinition("test-channel");
@@ -148,6 +172,41 @@ public class BpmnEventRegistryConsumerTest extends FlowableTestCase {
         assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
     }
     
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBoundaryEventListenerWithCorrelationInBatch() throws Exception {
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.clear();
+        variableMap.put("customerIdVar", "gonzo");
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.clear();
+        variableMap.put("customerIdVar", "fozzie");
+        ProcessInstance fozzieProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        BatchingInboundEventProcessor inboundEventProcessor = new BatchingInboundEventProcessor(getEventRegistry(), 10, 500, 100);
+        getEventRegistry().setInboundEventProcessor(inboundEventProcessor);
+        try {
+            triggerConcurrently(
+                () -> inboundEventChannelAdapter.triggerTestEvent("kermit"),
+                () -> inboundEventChannelAdapter.triggerTestEvent("piggy"),
+                () -> inboundEventChannelAdapter.triggerTestEvent("gonzo"),
+                // matches the same subscription as the first event
+                () -> inboundEventChannelAdapter.triggerTestEvent("kermit"));
+
+        } finally {
+            inboundEventProcessor.shutdown();
+            getEventRegistry().setInboundEventProcessor(getEventRegistryEngineConfiguration().getInboundEventProcessor());
+        }
+
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(fozzieProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+    }
+
     @Test
     @Deployment
     public void testBoundaryEventListenerWithPayload() {
@@ -195,6 +254,23 @@ public class BpmnEventRegistryConsumerTest extends FlowableTestCase {
         }
     }
     
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testProcessStartNoCorrelationParameter.bpmn20.xml")
+    public void testProcessStartNoCorrelationParameterInBatch() throws Exception {
+        BatchingInboundEventProcessor inboundEventProcessor = new BatchingInboundEventProcessor(getEventRegistry(), 10, 500, 100);
+        getEventRegistry().setInboundEventProcessor(inboundEventProcessor);
+        try {
+            Runnable trigger = () -> inboundEventChannelAdapter.triggerTestEvent();
+            triggerConcurrently(trigger, trigger, trigger, trigger, trigger);
+
+        } finally {
+            inboundEventProcessor.shutdown();
+            getEventRegistry().setInboundEventProcessor(getEventRegistryEngineConfiguration().getInboundEventProcessor());
+        }
+
+        assertThat(runtimeService.createProcessInstanceQuery().list()).hasSize(5);
+    }
+
     @Test
     @Deployment
     public void testProcessStartSimpleCorrelationParameter() {
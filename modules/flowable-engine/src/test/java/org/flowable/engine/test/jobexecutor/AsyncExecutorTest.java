@@ -12,19 +12,30 @@
  */
 package org.flowable.engine.test.jobexecutor;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.ManagementService;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -84,6 +95,85 @@ public class AsyncExecutorTest {
         }
     }
 
+    @Test
+    public void testTimerWheelExecution() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            processEngine = createProcessEngine(true, null, false, true);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml");
+
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+
+            // Move clock 3 minutes. The timer is not due within the look-ahead window yet
+            addSecondsToCurrentTime(processEngine, 180L);
+            try {
+                waitForAllJobsBeingExecuted(processEngine, 500L);
+                Assert.fail();
+            } catch (FlowableException e) {
+                // Expected
+            }
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().taskName("The Task").count());
+            Assert.assertEquals(1, processEngine.getManagementService().createTimerJobQuery().count());
+
+            // Move clock 3 minutes and 1 second. The timer is claimed and fired from the timer wheel
+            addSecondsToCurrentTime(processEngine, 181);
+            waitForAllJobsBeingExecuted(processEngine);
+
+            Assert.assertEquals(0, processEngine.getTaskService().createTaskQuery().taskName("The Task").count());
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().taskName("Task after timer").count());
+            Assert.assertEquals(0, processEngine.getManagementService().createTimerJobQuery().count());
+            Assert.assertEquals(0, processEngine.getManagementService().createJobQuery().count());
+
+        } finally {
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
+    @Test
+    public void testTimerWheelClaimedTimerCanBeDeleted() throws Exception {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            processEngine = createProcessEngine(true, null, false, true);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml");
+
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+            ManagementService managementService = processEngine.getManagementService();
+            String timerJobId = managementService.createTimerJobQuery().singleResult().getId();
+
+            // Move clock 4.5 minutes. The timer is due within the look-ahead window and is claimed by the timer wheel
+            addSecondsToCurrentTime(processEngine, 270L);
+            long maxWaitTime = System.currentTimeMillis() + 10000L;
+            while (getTimerJobLockOwner(processEngine, timerJobId) == null) {
+                Assert.assertTrue("timer job was not claimed", System.currentTimeMillis() < maxWaitTime);
+                Thread.sleep(50L);
+            }
+
+            // The claim doesn't prevent deleting the timer job
+            managementService.deleteTimerJob(timerJobId);
+            Assert.assertEquals(0, managementService.createTimerJobQuery().count());
+
+            // Move clock past the due date. The deleted timer job isn't fired from the timer wheel
+            addSecondsToCurrentTime(processEngine, 60L);
+            Thread.sleep(500L);
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().taskName("The Task").count());
+            Assert.assertEquals(0, managementService.createJobQuery().count());
+            Assert.assertEquals(0, getAsyncExecutorJobCount(processEngine));
+
+        } finally {
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
     @Test
     public void testAsyncExecutorDisabledOnOneEngine() {
 
@@ -165,6 +255,60 @@ public class AsyncExecutorTest {
 
     }
 
+    @Test
+    public void testAsyncScriptExecutionWithVirtualThreads() throws Exception {
+
+        ProcessEngine processEngine = null;
+
+        try {
+
+            // Deploy
+            processEngine = createProcessEngine(true, null, true);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml");
+
+            // Start process instance. Wait for all jobs to be done
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("asyncScript");
+            waitForAllJobsBeingExecuted(processEngine);
+
+            // Verify if all is as expected
+            Assert.assertEquals(0, processEngine.getManagementService().createJobQuery().count());
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).count());
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().taskName("Task after script").count());
+
+            Assert.assertEquals(1, getAsyncExecutorJobCount(processEngine));
+            CountingAsyncExecutor asyncExecutor = (CountingAsyncExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            Assert.assertNotNull(asyncExecutor.getExecutorService());
+
+            // The job runs on a virtual thread, unless the Java runtime doesn't support them and the executor fell back to a cached thread pool
+            boolean virtualThreadsSupported = !(asyncExecutor.getExecutorService() instanceof ThreadPoolExecutor);
+            Assert.assertEquals(1, asyncExecutor.getExecutingThreads().size());
+            Assert.assertEquals(virtualThreadsSupported, isVirtualThread(asyncExecutor.getExecutingThreads().get(0)));
+
+            // The permit of the executed job is released again
+            waitForRemainingCapacity(asyncExecutor, asyncExecutor.getMaxConcurrentJobs());
+
+            // No more than the maximum number of jobs are executed at the same time
+            CountDownLatch jobsMayFinish = new CountDownLatch(1);
+            for (int i = 0; i < asyncExecutor.getMaxConcurrentJobs(); i++) {
+                asyncExecutor.submitAsyncRunnable(() -> awaitQuietly(jobsMayFinish));
+            }
+            Assert.assertEquals(0, asyncExecutor.getRemainingCapacity());
+            assertThatThrownBy(() -> asyncExecutor.submitAsyncRunnable(() -> {}))
+                    .isInstanceOf(RejectedExecutionException.class);
+
+            jobsMayFinish.countDown();
+            waitForRemainingCapacity(asyncExecutor, asyncExecutor.getMaxConcurrentJobs());
+
+        } finally {
+
+            // Clean up
+            cleanup(processEngine);
+
+        }
+
+    }
+
     @Test
     public void testAsyncFailingScript() {
 
@@ -219,6 +363,38 @@ public class AsyncExecutorTest {
     }
 
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time) {
+        return createProcessEngine(enableAsyncExecutor, time, false);
+    }
+
+    private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time, boolean useVirtualThreads) {
+        return createProcessEngine(enableAsyncExecutor, time, useVirtualThreads, false);
+    }
+
+    private static boolean isVirtualThread(Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false; // Java runtime without virtual threads
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitForRemainingCapacity(AsyncExecutor asyncExecutor, int expectedRemainingCapacity) throws InterruptedException {
+        long maxWaitTime = System.currentTimeMillis() + 10000L; // polling without the JobTestHelper, as it shuts down the async executor
+        while (asyncExecutor.getRemainingCapacity() != expectedRemainingCapacity && System.currentTimeMillis() < maxWaitTime) {
+            Thread.sleep(50L);
+        }
+        Assert.assertEquals(expectedRemainingCapacity, asyncExecutor.getRemainingCapacity());
+    }
+
+    private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time, boolean useVirtualThreads, boolean useTimerWheel) {
         ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
         processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
         processEngineConfiguration.setDatabaseSchemaUpdate("true");
@@ -229,6 +405,10 @@ public class AsyncExecutorTest {
             CountingAsyncExecutor countingAsyncExecutor = new CountingAsyncExecutor();
             countingAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(50); // To avoid waiting too long when a retry happens
             countingAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(50);
+            countingAsyncExecutor.setUseVirtualThreads(useVirtualThreads);
+            countingAsyncExecutor.setMaxConcurrentJobs(5);
+            countingAsyncExecutor.setTimerWheelEnabled(useTimerWheel);
+            countingAsyncExecutor.setTimerWheelTickInMillis(10);
             processEngineConfiguration.setAsyncExecutor(countingAsyncExecutor);
         }
 
@@ -271,6 +451,13 @@ public class AsyncExecutorTest {
         JobTestHelper.waitForJobExecutorToProcessAllJobsAndExecutableTimerJobs(processEngine.getProcessEngineConfiguration(), processEngine.getManagementService(), maxWaitTime, 1000L, false);
     }
 
+    private String getTimerJobLockOwner(ProcessEngine processEngine, String timerJobId) {
+        return processEngine.getManagementService().executeCommand(commandContext -> {
+            TimerJobEntity timerJob = CommandContextUtil.getTimerJobService(commandContext).findTimerJobById(timerJobId);
+            return timerJob.getLockOwner();
+        });
+    }
+
     private int getAsyncExecutorJobCount(ProcessEngine processEngine) {
         AsyncExecutor asyncExecutor = processEngine.getProcessEngineConfiguration().getAsyncExecutor();
         if (asyncExecutor instanceof CountingAsyncExecutor) {
@@ -284,6 +471,7 @@ public class AsyncExecutorTest {
         private static final Logger LOGGER = LoggerFactory.getLogger(CountingAsyncExecutor.class);
 
         private AtomicInteger counter = new AtomicInteger(0);
+        private List<Thread> executingThreads = new CopyOnWriteArrayList<>();
 
         @Override
         public boolean executeAsyncJob(JobInfo job) {
@@ -294,6 +482,18 @@ public class AsyncExecutorTest {
             return success;
         }
 
+        @Override
+        public void submitAsyncRunnable(Runnable runnable) {
+            super.submitAsyncRunnable(() -> {
+                executingThreads.add(Thread.currentThread());
+                runnable.run();
+            });
+        }
+
+        public List<Thread> getExecutingThreads() {
+            return executingThreads;
+        }
+
         public AtomicInteger getCounter() {
             return counter;
         }
@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncJobCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BulkLockJobAcquisitionTest extends JobExecutorTestCase {
+
+    @BeforeEach
+    public void enableBulkLocking() {
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncExecutorBulkLockingEnabled(true);
+    }
+
+    @AfterEach
+    public void disableBulkLocking() {
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncExecutorBulkLockingEnabled(false);
+    }
+
+    @Test
+    public void testBulkLockAsyncJob() {
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        String jobId = commandExecutor.execute(commandContext -> {
+            JobEntity message = createTweetMessage("i'm coding a test");
+            CommandContextUtil.getJobService(commandContext).scheduleAsyncJob(message);
+            return message.getId();
+        });
+
+        AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor));
+        assertThat(acquiredJobs.size()).isEqualTo(1);
+
+        JobInfoEntity acquiredJob = acquiredJobs.getJobs().iterator().next();
+        assertThat(acquiredJob.getId()).isEqualTo(jobId);
+        assertThat(acquiredJob.getLockOwner()).isEqualTo(asyncExecutor.getLockOwner());
+        assertThat(acquiredJob.getLockExpirationTime()).isNotNull();
+
+        // The job is locked now, so it can't be acquired a second time
+        acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor));
+        assertThat(acquiredJobs.size()).isZero();
+
+        commandExecutor.execute(new ExecuteAsyncJobCmd(jobId));
+        assertThat(tweetHandler.getMessages()).containsExactly("i'm coding a test");
+    }
+
+    @Test
+    public void testBulkLockTimerJob() {
+        Date now = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(now);
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        String jobId = commandExecutor.execute(commandContext -> {
+            TimerJobEntity timer = createTweetTimer("i'm coding a test", new Date(now.getTime() + 10000));
+            CommandContextUtil.getTimerJobService(commandContext).scheduleTimerJob(timer);
+            return timer.getId();
+        });
+
+        AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+        assertThat(acquiredJobs.size()).isZero();
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 20000));
+
+        acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+        assertThat(acquiredJobs.size()).isEqualTo(1);
+        TimerJobEntity acquiredJob = acquiredJobs.getJobs().iterator().next();
+        assertThat(acquiredJob.getId()).isEqualTo(jobId);
+        assertThat(acquiredJob.getLockOwner()).isEqualTo(asyncExecutor.getLockOwner());
+
+        acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+        assertThat(acquiredJobs.size()).isZero();
+
+        Job executableJob = managementService.moveTimerToExecutableJob(jobId);
+        commandExecutor.execute(new ExecuteAsyncJobCmd(executableJob.getId()));
+        assertThat(tweetHandler.getMessages()).containsExactly("i'm coding a test");
+    }
+
+}
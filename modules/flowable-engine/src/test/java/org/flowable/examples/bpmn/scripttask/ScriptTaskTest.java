@@ -15,6 +15,7 @@ package org.flowable.examples.bpmn.scripttask;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import groovy.lang.MissingPropertyException;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -43,6 +44,35 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertEquals(pi.getId(), runtimeService.getVariable(pi.getId(), "newProcessVariableName"));
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/examples/bpmn/scripttask/ScriptTaskTest.testSetScriptResultToProcessVariable.bpmn20.xml")
+    public void testCompiledScriptCache() {
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        scriptingEngines.setCompiledScriptCacheSize(10);
+        long misses = scriptingEngines.getCompiledScriptCacheMisses();
+        long hits = scriptingEngines.getCompiledScriptCacheHits();
+        try {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("echo", "hello");
+            variables.put("existingProcessVariableName", "one");
+
+            // Two distinct scripts are compiled, the third script is the same as the first one
+            ProcessInstance pi = runtimeService.startProcessInstanceByKey("setScriptResultToProcessVariable", variables);
+            assertEquals("hello", runtimeService.getVariable(pi.getId(), "existingProcessVariableName"));
+            assertEquals(pi.getId(), runtimeService.getVariable(pi.getId(), "newProcessVariableName"));
+            assertEquals(misses + 2, scriptingEngines.getCompiledScriptCacheMisses());
+            assertEquals(hits + 1, scriptingEngines.getCompiledScriptCacheHits());
+
+            pi = runtimeService.startProcessInstanceByKey("setScriptResultToProcessVariable", variables);
+            assertEquals(pi.getId(), runtimeService.getVariable(pi.getId(), "newProcessVariableName"));
+            assertEquals(misses + 2, scriptingEngines.getCompiledScriptCacheMisses());
+            assertEquals(hits + 4, scriptingEngines.getCompiledScriptCacheHits());
+
+        } finally {
+            scriptingEngines.setCompiledScriptCacheSize(0);
+        }
+    }
+
     @Test
     @Deployment
     public void testFailingScript() {
@@ -13,13 +13,16 @@
 package org.flowable.standalone.history.async;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -34,17 +37,24 @@ import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.ResetExpiredJobsRunnable;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.api.history.HistoricTaskLogEntry;
 import org.flowable.task.api.history.HistoricTaskLogEntryBuilder;
 import org.flowable.task.api.history.HistoricTaskLogEntryType;
+import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 public class AsyncHistoryTest extends CustomConfigurationFlowableTestCase {
     
     private SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
@@ -614,6 +624,86 @@ public class AsyncHistoryTest extends CustomConfigurationFlowableTestCase {
     }
 
 
+    @Test
+    public void testSmileEncodingAndEventCoalescing() throws Exception {
+        deployOneTaskTestProcess();
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        try {
+            jobServiceConfiguration.setAsyncHistorySmileEncodingEnabled(true);
+            processEngineConfiguration.setAsyncHistoryEventCoalescingEnabled(true);
+
+            String processInstanceId = managementService.executeCommand(commandContext -> {
+                String id = runtimeService.startProcessInstanceByKey("oneTaskProcess", CollectionUtil.singletonMap("myVar", "first")).getId();
+                runtimeService.setVariable(id, "myVar", "second");
+                runtimeService.setVariable(id, "myVar", "third");
+                runtimeService.setVariable(id, "tempVar", "temp");
+                runtimeService.removeVariable(id, "tempVar");
+                return id;
+            });
+
+            List<HistoryJob> jobs = managementService.createHistoryJobQuery().list();
+            assertThat(jobs).hasSize(1);
+            byte[] bytes = managementService.executeCommand(commandContext -> ((HistoryJobEntity) jobs.get(0)).getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
+            assertThat(AsyncHistoryJsonUtil.isSmileEncoded(bytes)).isTrue();
+
+            int nrOfVariableEvents = 0;
+            for (JsonNode historyNode : jobServiceConfiguration.getAsyncHistorySmileObjectMapper().readTree(bytes)) {
+                if (historyNode.get(HistoryJsonTransformer.FIELD_NAME_TYPE).asText().startsWith("variable-")) {
+                    nrOfVariableEvents++;
+                }
+            }
+            assertThat(nrOfVariableEvents).isEqualTo(1);
+
+            waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+            List<HistoricVariableInstance> historicVariables = historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).list();
+            assertThat(historicVariables)
+                    .extracting(HistoricVariableInstance::getVariableName, HistoricVariableInstance::getValue)
+                    .containsExactly(tuple("myVar", "third"));
+
+            finishOneTaskProcess(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult());
+
+        } finally {
+            jobServiceConfiguration.setAsyncHistorySmileEncodingEnabled(false);
+            processEngineConfiguration.setAsyncHistoryEventCoalescingEnabled(false);
+        }
+    }
+
+    @Test
+    public void testBatchExecution() {
+        deployOneTaskTestProcess();
+
+        DefaultAsyncHistoryJobExecutor asyncHistoryExecutor = (DefaultAsyncHistoryJobExecutor) processEngineConfiguration.getAsyncHistoryExecutor();
+        int originalMaxAsyncJobsDuePerAcquisition = asyncHistoryExecutor.getMaxAsyncJobsDuePerAcquisition();
+        try {
+            asyncHistoryExecutor.setHistoryJobBatchSize(5);
+            asyncHistoryExecutor.setMaxAsyncJobsDuePerAcquisition(10);
+
+            Set<String> processInstanceIds = new HashSet<>();
+            for (int i = 0; i < 10; i++) {
+                String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+                taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+                processInstanceIds.add(processInstanceId);
+            }
+            assertThat(managementService.createHistoryJobQuery().count()).isEqualTo(20);
+
+            waitForHistoryJobExecutorToProcessAllJobs(10000L, 100L);
+
+            assertThat(managementService.createHistoryJobQuery().count()).isZero();
+            assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceIds(processInstanceIds).finished().count()).isEqualTo(10);
+            for (String processInstanceId : processInstanceIds) {
+                HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+                assertThat(historicTaskInstance.getEndTime()).isNotNull();
+                assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(5);
+            }
+
+        } finally {
+            asyncHistoryExecutor.setHistoryJobBatchSize(1);
+            asyncHistoryExecutor.setMaxAsyncJobsDuePerAcquisition(originalMaxAsyncJobsDuePerAcquisition);
+        }
+    }
+
     protected Task startOneTaskprocess() {
         deployOneTaskTestProcess();
         String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
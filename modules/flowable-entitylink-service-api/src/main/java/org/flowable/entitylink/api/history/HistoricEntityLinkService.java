@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.api.history;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -39,6 +40,8 @@ public interface HistoricEntityLinkService {
     
     void deleteHistoricEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
+    void deleteHistoricEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+    
     void deleteHistoricEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
     
     void deleteHistoricEntityLinksForNonExistingProcessInstances();
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -75,6 +76,11 @@ public class HistoricEntityLinkServiceImpl extends CommonServiceImpl<EntityLinkS
         getHistoricEntityLinkEntityManager().deleteHistoricEntityLinksByScopeIdAndScopeType(scopeId, scopeType);
     }
     
+    @Override
+    public void deleteHistoricEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricEntityLinkEntityManager().deleteHistoricEntityLinksByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+    
     @Override
     public void deleteHistoricEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType) {
         getHistoricEntityLinkEntityManager().deleteHistoricEntityLinksByScopeDefinitionIdAndScopeType(scopeDefinitionId, scopeType);
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -30,6 +31,8 @@ public interface HistoricEntityLinkEntityManager extends EntityManager<HistoricE
 
     void deleteHistoricEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
+    void deleteHistoricEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+    
     void deleteHistoricEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
 
     void deleteHistoricEntityLinksForNonExistingProcessInstances();
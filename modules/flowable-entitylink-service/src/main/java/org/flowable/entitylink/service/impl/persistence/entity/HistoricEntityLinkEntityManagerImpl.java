@@ -13,6 +13,7 @@
 
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
@@ -57,6 +58,11 @@ public class HistoricEntityLinkEntityManagerImpl
         dataManager.deleteHistoricEntityLinksByScopeIdAndType(scopeId, scopeType);
     }
     
+    @Override
+    public void deleteHistoricEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        dataManager.deleteHistoricEntityLinksByScopeIdsAndType(scopeIds, scopeType);
+    }
+    
     @Override
     public void deleteHistoricEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType) {
         dataManager.deleteHistoricEntityLinksByScopeDefinitionIdAndType(scopeDefinitionId, scopeType);
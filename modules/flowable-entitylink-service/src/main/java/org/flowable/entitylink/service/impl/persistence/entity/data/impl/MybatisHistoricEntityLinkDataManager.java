@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -79,6 +80,16 @@ public class MybatisHistoricEntityLinkDataManager extends AbstractDataManager<Hi
         getDbSqlSession().delete("deleteHistoricEntityLinksByScopeIdAndScopeType", parameters, HistoricEntityLinkEntityImpl.class);
     }
     
+    @Override
+    public void deleteHistoricEntityLinksByScopeIdsAndType(Collection<String> scopeIds, String scopeType) {
+        bulkDeleteInBatches("bulkDeleteHistoricEntityLinksByScopeIdsAndScopeType", scopeIds, HistoricEntityLinkEntityImpl.class, batch -> {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("scopeIds", batch);
+            parameters.put("scopeType", scopeType);
+            return parameters;
+        });
+    }
+    
     @Override
     public void deleteHistoricEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType) {
         Map<String, String> parameters = new HashMap<>();
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
 import java.util.Map;
 
 import org.flowable.eventregistry.api.model.InboundChannelDefinitionBuilder;
@@ -111,6 +112,11 @@ public interface EventRegistry {
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send a batch of events to all the registered event consumers, which can handle the events of the batch together.
+     */
+    void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents);
+
     /**
      * Send out an event. The corresponding {@link EventModel} will be used to
      * decide which channel (and pipeline) will be used
@@ -12,10 +12,22 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 /**
  * @author Joram Barrez
  */
 public interface EventRegistryEventBusConsumer {
 
     void eventReceived(EventRegistryEvent event);
+
+    /**
+     * Handles a batch of events, for example to look up the subscriptions of all events with one query.
+     * By default, the events are handled one by one.
+     */
+    default void eventsReceived(Collection<EventRegistryEvent> events) {
+        for (EventRegistryEvent event : events) {
+            eventReceived(event);
+        }
+    }
 }
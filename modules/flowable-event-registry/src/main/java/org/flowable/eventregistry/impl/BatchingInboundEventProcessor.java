@@ -0,0 +1,216 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
+import org.flowable.eventregistry.model.InboundChannelDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.flowable.eventregistry.api.InboundEventProcessor} that collects the received events in micro-batches
+ * and passes every batch at once to the consumers (see {@link EventRegistry#sendEventsToConsumers}), so that they can
+ * look up the event subscriptions of all events of the batch together.
+ * <p>
+ * A batch is handed over when it contains batchSize events, or when batchTimeout milliseconds have passed since its
+ * first event was received. Events are processed on a separate thread, but {@link #eventReceived(String, String)} only
+ * returns once the batch of the event has been processed, and throws the exception when the event or its batch failed.
+ * This way a channel adapter that acknowledges a message after handing it over doesn't lose it when processing fails.
+ * As every caller waits for its own event, batches only fill up when events are received on several threads concurrently
+ * (e.g. a JMS or Kafka listener with a concurrency of about the batch size).
+ * <p>
+ * Every event subscription is handled in its own transaction, so an error of one subscription doesn't fail the event:
+ * such errors are logged by the consumer.
+ */
+public class BatchingInboundEventProcessor extends DefaultInboundEventProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchingInboundEventProcessor.class);
+
+    protected int batchSize;
+    protected long batchTimeout;
+    protected BlockingQueue<ReceivedEvent> queue;
+
+    protected Thread batchThread;
+    protected volatile boolean active;
+
+    public BatchingInboundEventProcessor(EventRegistry eventRegistry, int batchSize, long batchTimeout, int queueSize) {
+        super(eventRegistry);
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+        this.queue = new LinkedBlockingQueue<>(queueSize);
+    }
+
+    @Override
+    public void eventReceived(String channelKey, String event) {
+        ensureStarted();
+
+        ReceivedEvent receivedEvent = new ReceivedEvent(channelKey, event);
+        try {
+            queue.put(receivedEvent);
+            receivedEvent.processed.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for the event of channel " + channelKey + " to be processed", e);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlowableException("Error while processing inbound event for channel " + channelKey, e.getCause());
+        }
+    }
+
+    protected synchronized void ensureStarted() {
+        if (batchThread == null) {
+            active = true;
+            batchThread = new Thread(this::processBatches, "flowable-inbound-event-batch");
+            batchThread.setDaemon(true);
+            batchThread.start();
+        }
+    }
+
+    /**
+     * Stops collecting batches, after processing the events that are already queued.
+     */
+    public synchronized void shutdown() {
+        if (batchThread == null) {
+            return;
+        }
+
+        active = false;
+        try {
+            batchThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for the inbound event batches to be processed");
+        }
+        batchThread = null;
+    }
+
+    protected void processBatches() {
+        while (active || !queue.isEmpty()) {
+            try {
+                List<ReceivedEvent> batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    processBatch(batch);
+                }
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+
+            } catch (Throwable t) {
+                LOGGER.error("Error while processing batch of inbound events", t);
+            }
+        }
+    }
+
+    protected List<ReceivedEvent> collectBatch() throws InterruptedException {
+        List<ReceivedEvent> batch = new ArrayList<>(batchSize);
+
+        ReceivedEvent firstEvent = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (firstEvent == null) {
+            return batch;
+        }
+        batch.add(firstEvent);
+
+        long deadline = System.currentTimeMillis() + batchTimeout;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (batch.size() >= batchSize || remaining <= 0 || !active) {
+                break;
+            }
+
+            ReceivedEvent event = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (event == null) {
+                break;
+            }
+            batch.add(event);
+        }
+
+        return batch;
+    }
+
+    /**
+     * Processes the batch and completes the received events, exceptionally when their pipeline or the consumers failed.
+     */
+    protected void processBatch(List<ReceivedEvent> batch) {
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>();
+        List<ReceivedEvent> sentEvents = new ArrayList<>(batch.size());
+        for (ReceivedEvent receivedEvent : batch) {
+            try {
+                InboundChannelDefinition channelDefinition = eventRegistry.getInboundChannelDefinition(receivedEvent.channelKey);
+                if (channelDefinition == null) {
+                    throw new FlowableException("No channel definition found for key " + receivedEvent.channelKey);
+                }
+
+                InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelDefinition.getInboundEventProcessingPipeline();
+                eventRegistryEvents.addAll(inboundEventProcessingPipeline.run(receivedEvent.channelKey, receivedEvent.event));
+                sentEvents.add(receivedEvent);
+
+            } catch (Throwable t) {
+                receivedEvent.processed.completeExceptionally(t);
+            }
+        }
+
+        try {
+            if (!eventRegistryEvents.isEmpty()) {
+                eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+            }
+
+        } catch (Throwable t) {
+            for (ReceivedEvent receivedEvent : sentEvents) {
+                receivedEvent.processed.completeExceptionally(t);
+            }
+            return;
+        }
+
+        for (ReceivedEvent receivedEvent : sentEvents) {
+            receivedEvent.processed.complete(null);
+        }
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    protected static class ReceivedEvent {
+
+        protected final String channelKey;
+        protected final String event;
+        protected final CompletableFuture<Void> processed = new CompletableFuture<>();
+
+        public ReceivedEvent(String channelKey, String event) {
+            this.channelKey = channelKey;
+            this.event = event;
+        }
+    }
+}
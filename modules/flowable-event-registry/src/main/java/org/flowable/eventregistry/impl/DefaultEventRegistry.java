@@ -13,6 +13,7 @@
 package org.flowable.eventregistry.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -174,6 +175,13 @@ public class DefaultEventRegistry implements EventRegistry {
         }
     }
 
+    @Override
+    public void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        for (EventRegistryEventBusConsumer eventConsumer : eventRegistryEventBusConsumers) {
+            eventConsumer.eventsReceived(eventRegistryEvents);
+        }
+    }
+
     @Override
     public void sendEventOutbound(EventInstance eventInstance) {
         outboundEventProcessor.sendEvent(eventInstance);
@@ -16,7 +16,10 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.HasExpressionManagerEngineConfiguration;
 import org.flowable.common.engine.impl.cfg.BeansConfigurationHelper;
@@ -119,6 +122,34 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected InboundEventProcessor inboundEventProcessor;
     protected OutboundEventProcessor outboundEventProcessor;
 
+    /**
+     * When true, inbound events are collected in micro-batches (see {@link BatchingInboundEventProcessor}) and the engines
+     * look up the event subscriptions of all events of a batch together, instead of per event.
+     */
+    protected boolean enableInboundEventBatching;
+
+    /**
+     * The maximum number of events in a batch.
+     */
+    protected int inboundEventBatchSize = 100;
+
+    /**
+     * The maximum time in milliseconds that an event waits for other events to form a batch.
+     */
+    protected long inboundEventBatchTimeout = 50;
+
+    /**
+     * The maximum number of received events that are waiting to be processed. Receiving events blocks when it's reached.
+     */
+    protected int inboundEventBatchQueueSize = 1000;
+
+    /**
+     * The number of threads that handle the event subscriptions of a batch in parallel. Each event subscription is still
+     * handled in its own transaction, the subscriptions of one process or case instance are handled one after the other.
+     */
+    protected int inboundEventDispatchPoolSize = 4;
+    protected ExecutorService inboundEventDispatchExecutorService;
+
     public static EventRegistryEngineConfiguration createEventRegistryEngineConfigurationFromResourceDefault() {
         return createEventRegistryEngineConfigurationFromResource("flowable.eventregistry.cfg.xml", "eventRegistryEngineConfiguration");
     }
@@ -415,7 +446,17 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
 
     public void initInboundEventProcessor() {
         if (this.inboundEventProcessor == null) {
-            this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry);
+            if (enableInboundEventBatching) {
+                this.inboundEventProcessor = new BatchingInboundEventProcessor(eventRegistry, inboundEventBatchSize, inboundEventBatchTimeout,
+                        inboundEventBatchQueueSize);
+            } else {
+                this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry);
+            }
+        }
+
+        if (enableInboundEventBatching && inboundEventDispatchExecutorService == null && inboundEventDispatchPoolSize > 1) {
+            inboundEventDispatchExecutorService = Executors.newFixedThreadPool(inboundEventDispatchPoolSize,
+                    new BasicThreadFactory.Builder().namingPattern("flowable-inbound-event-dispatch-%d").daemon(true).build());
         }
         this.eventRegistry.setInboundEventProcessor(this.inboundEventProcessor);
     }
@@ -511,6 +552,60 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
 
+    public boolean isEnableInboundEventBatching() {
+        return enableInboundEventBatching;
+    }
+
+    public EventRegistryEngineConfiguration setEnableInboundEventBatching(boolean enableInboundEventBatching) {
+        this.enableInboundEventBatching = enableInboundEventBatching;
+        return this;
+    }
+
+    public int getInboundEventBatchSize() {
+        return inboundEventBatchSize;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchSize(int inboundEventBatchSize) {
+        this.inboundEventBatchSize = inboundEventBatchSize;
+        return this;
+    }
+
+    public long getInboundEventBatchTimeout() {
+        return inboundEventBatchTimeout;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchTimeout(long inboundEventBatchTimeout) {
+        this.inboundEventBatchTimeout = inboundEventBatchTimeout;
+        return this;
+    }
+
+    public int getInboundEventBatchQueueSize() {
+        return inboundEventBatchQueueSize;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchQueueSize(int inboundEventBatchQueueSize) {
+        this.inboundEventBatchQueueSize = inboundEventBatchQueueSize;
+        return this;
+    }
+
+    public int getInboundEventDispatchPoolSize() {
+        return inboundEventDispatchPoolSize;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventDispatchPoolSize(int inboundEventDispatchPoolSize) {
+        this.inboundEventDispatchPoolSize = inboundEventDispatchPoolSize;
+        return this;
+    }
+
+    public ExecutorService getInboundEventDispatchExecutorService() {
+        return inboundEventDispatchExecutorService;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventDispatchExecutorService(ExecutorService inboundEventDispatchExecutorService) {
+        this.inboundEventDispatchExecutorService = inboundEventDispatchExecutorService;
+        return this;
+    }
+
     public int getEventDefinitionCacheLimit() {
         return eventDefinitionCacheLimit;
     }
@@ -626,4 +721,15 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         this.eventJsonConverter = eventJsonConverter;
         return this;
     }
+
+    @Override
+    public void close() {
+        if (inboundEventProcessor instanceof BatchingInboundEventProcessor) {
+            ((BatchingInboundEventProcessor) inboundEventProcessor).shutdown();
+        }
+        if (inboundEventDispatchExecutorService != null) {
+            inboundEventDispatchExecutorService.shutdown();
+        }
+        super.close();
+    }
 }
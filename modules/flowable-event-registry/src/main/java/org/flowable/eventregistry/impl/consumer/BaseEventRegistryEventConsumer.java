@@ -17,9 +17,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.eventregistry.api.EventRegistry;
@@ -28,6 +34,9 @@ import org.flowable.eventregistry.api.EventRegistryEventBusConsumer;
 import org.flowable.eventregistry.api.runtime.EventCorrelationParameterInstance;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.model.EventModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Joram Barrez
@@ -35,6 +44,8 @@ import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventBusConsumer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseEventRegistryEventConsumer.class);
+
     protected AbstractEngineConfiguration engingeConfiguration;
 
     public BaseEventRegistryEventConsumer(AbstractEngineConfiguration engingeConfiguration) {
@@ -50,8 +61,138 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         }
     }
 
+    @Override
+    public void eventsReceived(Collection<EventRegistryEvent> events) {
+        List<EventInstance> eventInstances = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            if (event.getEventObject() instanceof EventInstance) {
+                eventInstances.add((EventInstance) event.getEventObject());
+            }
+        }
+
+        if (!eventInstances.isEmpty()) {
+            eventsReceived(eventInstances);
+        }
+    }
+
     protected abstract void eventReceived(EventInstance eventInstance);
 
+    /**
+     * Handles a batch of events. By default, the events are handled one by one.
+     */
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+        for (EventInstance eventInstance : eventInstances) {
+            eventReceived(eventInstance);
+        }
+    }
+
+    /**
+     * Handles a batch of events: the event subscriptions of all events of the batch are fetched with one query per event definition,
+     * and the subscriptions are handled in parallel. Every subscription is still handled in its own transaction, and the subscriptions
+     * of one instance are handled one after the other.
+     * <p>
+     * When an event matches an element that is already triggered by an earlier event of the batch, it's handled after the batch
+     * on its own, so that it sees the state after the earlier event.
+     */
+    protected <S> void eventsReceived(List<EventInstance> eventInstances, BatchEventSubscriptionHandler<S> batchHandler) {
+        Map<String, List<EventInstance>> eventInstancesByEventDefinitionKey = new LinkedHashMap<>();
+        for (EventInstance eventInstance : eventInstances) {
+            eventInstancesByEventDefinitionKey.computeIfAbsent(eventInstance.getEventModel().getKey(), key -> new ArrayList<>()).add(eventInstance);
+        }
+
+        Map<String, List<Runnable>> tasksByInstance = new LinkedHashMap<>();
+        Set<String> triggeredElementIds = new HashSet<>();
+        List<EventInstance> deferredEventInstances = new ArrayList<>();
+
+        for (List<EventInstance> eventDefinitionEventInstances : eventInstancesByEventDefinitionKey.values()) {
+            List<Collection<String>> eventCorrelationKeys = new ArrayList<>(eventDefinitionEventInstances.size());
+            Set<String> correlationKeys = new HashSet<>();
+            for (EventInstance eventInstance : eventDefinitionEventInstances) {
+                Collection<String> keys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
+                eventCorrelationKeys.add(keys);
+                correlationKeys.addAll(keys);
+            }
+
+            List<S> eventSubscriptions = batchHandler.findEventSubscriptions(eventDefinitionEventInstances.get(0).getEventModel(), correlationKeys);
+
+            for (int i = 0; i < eventDefinitionEventInstances.size(); i++) {
+                EventInstance eventInstance = eventDefinitionEventInstances.get(i);
+                Collection<String> eventInstanceCorrelationKeys = eventCorrelationKeys.get(i);
+                List<S> matchingEventSubscriptions = new ArrayList<>();
+                boolean conflicting = false;
+                for (S eventSubscription : eventSubscriptions) {
+                    String correlationKey = batchHandler.getCorrelationKey(eventSubscription);
+                    if (correlationKey == null || eventInstanceCorrelationKeys.contains(correlationKey)) {
+                        matchingEventSubscriptions.add(eventSubscription);
+                        conflicting |= triggeredElementIds.contains(batchHandler.getTriggeredElementId(eventSubscription));
+                    }
+                }
+
+                if (conflicting) {
+                    deferredEventInstances.add(eventInstance);
+                    continue;
+                }
+
+                for (S eventSubscription : matchingEventSubscriptions) {
+                    String triggeredElementId = batchHandler.getTriggeredElementId(eventSubscription);
+                    if (triggeredElementId != null) {
+                        triggeredElementIds.add(triggeredElementId);
+                    }
+
+                    // instance starts don't share an instance with anything else
+                    String instanceId = batchHandler.getInstanceId(eventSubscription);
+                    String taskGroupKey = instanceId != null ? instanceId : "start-" + tasksByInstance.size();
+                    tasksByInstance.computeIfAbsent(taskGroupKey, key -> new ArrayList<>())
+                            .add(() -> batchHandler.handleEventSubscription(eventSubscription, eventInstance, eventInstanceCorrelationKeys));
+                }
+            }
+        }
+
+        runInParallel(tasksByInstance.values());
+
+        for (EventInstance eventInstance : deferredEventInstances) {
+            eventReceived(eventInstance);
+        }
+    }
+
+    /**
+     * Runs the given groups of tasks on the inbound event dispatch executor service, if there is one, and waits until they're done.
+     * The tasks of one group are run one after the other. An exception of a task is logged and doesn't stop the other tasks.
+     */
+    protected void runInParallel(Collection<List<Runnable>> taskGroups) {
+        ExecutorService executorService = getEventRegistryEngineConfiguration().getInboundEventDispatchExecutorService();
+
+        List<Future<?>> futures = new ArrayList<>(taskGroups.size());
+        for (List<Runnable> taskGroup : taskGroups) {
+            Runnable runnable = () -> {
+                for (Runnable task : taskGroup) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        LOGGER.error("Error while handling event subscription", e);
+                    }
+                }
+            };
+
+            if (executorService != null && taskGroups.size() > 1) {
+                futures.add(executorService.submit(runnable));
+            } else {
+                runnable.run();
+            }
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlowableException("Interrupted while waiting for event subscriptions to be handled", e);
+            } catch (ExecutionException e) {
+                LOGGER.error("Error while handling event subscriptions", e.getCause());
+            }
+        }
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -80,9 +221,41 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         return getEventRegistry().generateKey(data);
     }
 
+    /**
+     * The scope specific part of {@link #eventsReceived(List, BatchEventSubscriptionHandler)}.
+     *
+     * @param <S> the type of the event subscriptions
+     */
+    protected interface BatchEventSubscriptionHandler<S> {
+
+        /**
+         * Finds the event subscriptions of the given event definition that have one of the given correlation keys or no correlation key at all.
+         */
+        List<S> findEventSubscriptions(EventModel eventModel, Collection<String> correlationKeys);
+
+        /**
+         * Returns the correlation key of the event subscription, or null when it doesn't wait for a particular correlation.
+         */
+        String getCorrelationKey(S eventSubscription);
+
+        /**
+         * Returns the id of the element that is triggered by the event subscription, or null when the subscription starts a new instance.
+         */
+        String getTriggeredElementId(S eventSubscription);
+
+        /**
+         * Returns the id of the instance of the event subscription, or null when the subscription starts a new instance.
+         */
+        String getInstanceId(S eventSubscription);
+
+        void handleEventSubscription(S eventSubscription, EventInstance eventInstance, Collection<String> correlationKeys);
+    }
+
     protected EventRegistry getEventRegistry() {
-        EventRegistryEngineConfiguration eventRegistryEngineConfiguration = (EventRegistryEngineConfiguration) 
-                        engingeConfiguration.getEngineConfigurations().get(EngineConfigurationConstants.KEY_EVENT_REGISTRY_CONFIG);
-        return eventRegistryEngineConfiguration.getEventRegistry();
+        return getEventRegistryEngineConfiguration().getEventRegistry();
+    }
+
+    protected EventRegistryEngineConfiguration getEventRegistryEngineConfiguration() {
+        return (EventRegistryEngineConfiguration) engingeConfiguration.getEngineConfigurations().get(EngineConfigurationConstants.KEY_EVENT_REGISTRY_CONFIG);
     }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.eventsubscription.api.EventSubscription;
@@ -50,6 +51,12 @@ public interface EventSubscriptionService {
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByScopeAndEventName(String scopeId, String scopeType, String eventName);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
+
+    /**
+     * Returns at most maxResults signal event subscriptions for the given event name, ordered by id, with an id larger than afterId (if not null)
+     * and created at or before createdBefore (if not null). Used to handle a signal broadcast in chunks.
+     */
+    List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId, String afterId, Date createdBefore, int maxResults);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String eventName, String executionId);
     
@@ -13,12 +13,14 @@
 
 package org.flowable.eventsubscription.service.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.QueryCacheValues;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.query.AbstractQuery;
@@ -50,6 +52,7 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
     protected String configuration;
     protected Collection<String> configurations;
     protected boolean withoutConfiguration;
+    protected boolean includeWithoutConfiguration;
 
     public EventSubscriptionQueryImpl(CommandContext commandContext) {
         super(commandContext);
@@ -211,6 +214,19 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return this;
     }
 
+    /**
+     * Only select event subscriptions that have one of the given configurations or that have no configuration,
+     * so that both can be fetched with one query.
+     */
+    public EventSubscriptionQueryImpl configurationsOrNoConfiguration(Collection<String> configurations) {
+        if (configurations == null) {
+            throw new FlowableIllegalArgumentException("configurations are null");
+        }
+        this.configurations = configurations;
+        this.includeWithoutConfiguration = true;
+        return this;
+    }
+
     @Override
     public EventSubscriptionQuery orderById() {
         return orderBy(EventSubscriptionQueryProperty.ID);
@@ -319,7 +335,28 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return configurations;
     }
 
+    /**
+     * The configurations split into lists of at most {@link AbstractDataManager#MAX_IN_CLAUSE_SIZE} values,
+     * so that every IN clause stays within the limits of the database.
+     */
+    public List<List<String>> getSafeConfigurations() {
+        if (configurations == null) {
+            return null;
+        }
+
+        List<List<String>> safeConfigurations = new ArrayList<>();
+        List<String> configurationList = new ArrayList<>(configurations);
+        for (int i = 0; i < configurationList.size(); i += AbstractDataManager.MAX_IN_CLAUSE_SIZE) {
+            safeConfigurations.add(configurationList.subList(i, Math.min(i + AbstractDataManager.MAX_IN_CLAUSE_SIZE, configurationList.size())));
+        }
+        return safeConfigurations;
+    }
+
     public boolean isWithoutConfiguration() {
         return withoutConfiguration;
     }
+
+    public boolean isIncludeWithoutConfiguration() {
+        return includeWithoutConfiguration;
+    }
 }
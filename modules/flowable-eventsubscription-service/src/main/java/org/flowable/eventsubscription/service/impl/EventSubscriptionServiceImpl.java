@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -89,6 +90,11 @@ public class EventSubscriptionServiceImpl extends CommonServiceImpl<EventSubscri
         return getEventSubscriptionEntityManager().findSignalEventSubscriptionsByEventName(eventName, tenantId);
     }
 
+    @Override
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId, String afterId, Date createdBefore, int maxResults) {
+        return getEventSubscriptionEntityManager().findSignalEventSubscriptionsByEventName(eventName, tenantId, afterId, createdBefore, maxResults);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String eventName, String executionId) {
         return getEventSubscriptionEntityManager().findSignalEventSubscriptionsByNameAndExecution(eventName, executionId);
@@ -14,6 +14,7 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -122,6 +123,11 @@ public class EventSubscriptionEntityManagerImpl
         return dataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
     }
 
+    @Override
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId, String afterId, Date createdBefore, int maxResults) {
+        return dataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId, afterId, createdBefore, maxResults);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName) {
         return dataManager.findSignalEventSubscriptionsByProcessInstanceAndEventName(processInstanceId, eventName);
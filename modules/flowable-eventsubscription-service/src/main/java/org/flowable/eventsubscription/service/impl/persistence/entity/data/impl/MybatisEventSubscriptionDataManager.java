@@ -13,6 +13,7 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -160,6 +161,21 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return toSignalEventSubscriptionEntityList(result);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(final String eventName, final String tenantId, final String afterId, final Date createdBefore, final int maxResults) {
+        final Map<String, Object> params = new HashMap<>();
+        params.put("eventName", eventName);
+        params.put("afterId", afterId);
+        params.put("createdBefore", createdBefore);
+        if (tenantId != null && !tenantId.equals(EventSubscriptionServiceConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+
+        List<EventSubscriptionEntity> result = getDbSqlSession().selectList("selectSignalEventSubscriptionsByEventNameAfterId", params, 0, maxResults);
+        return toSignalEventSubscriptionEntityList(result);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
         final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http;
+
+/**
+ * The outcome of a request that was sent asynchronously, passed to the waiting http task when it's triggered.
+ *
+ * @see HttpActivityExecutor#executeAsync
+ */
+public class AsyncHttpResult {
+
+    protected HttpRequest request;
+    protected HttpResponse response;
+    protected Exception exception;
+
+    public AsyncHttpResult(HttpRequest request, HttpResponse response, Exception exception) {
+        this.request = request;
+        this.response = response;
+        this.exception = exception;
+    }
+
+    public HttpRequest getRequest() {
+        return request;
+    }
+
+    public HttpResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * @return the exception that occurred while sending the request, or null when a response was received
+     */
+    public Exception getException() {
+        return exception;
+    }
+}
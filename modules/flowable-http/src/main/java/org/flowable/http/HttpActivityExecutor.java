@@ -24,6 +24,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Header;
@@ -44,6 +46,9 @@ import org.apache.http.util.EntityUtils;
 import org.flowable.bpmn.model.MapExceptionEntry;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.engine.delegate.BpmnError;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ErrorPropagation;
@@ -72,13 +77,27 @@ public class HttpActivityExecutor {
     public static final String HTTP_TASK_REQUEST_HEADERS_INVALID = "requestHeaders are invalid";
     public static final String HTTP_TASK_REQUEST_FIELD_INVALID = "request fields are invalid";
 
+    // Name of the transient variable that passes the result of an asynchronously sent request to the waiting task
+    public static final String ASYNC_RESULT_VARIABLE_NAME = "__flowableHttpTaskAsyncResult";
+
     protected final Timer timer = new Timer(true);
     protected final HttpClientBuilder clientBuilder;
+    protected final CloseableHttpClient sharedHttpClient;
     protected final ErrorPropagator errorPropagator;
     protected ObjectMapper objectMapper;
 
     public HttpActivityExecutor(HttpClientBuilder clientBuilder, ErrorPropagator errorPropagator, ObjectMapper objectMapper) {
+        this(clientBuilder, null, errorPropagator, objectMapper);
+    }
+
+    /**
+     * @param sharedHttpClient the (pooled) client used for all requests, which is not closed after a request,
+     *                         or null to build a new client from the client builder for every request
+     */
+    public HttpActivityExecutor(HttpClientBuilder clientBuilder, CloseableHttpClient sharedHttpClient, ErrorPropagator errorPropagator,
+            ObjectMapper objectMapper) {
         this.clientBuilder = clientBuilder;
+        this.sharedHttpClient = sharedHttpClient;
         this.errorPropagator = errorPropagator;
         this.objectMapper = objectMapper;
     }
@@ -91,96 +110,187 @@ public class HttpActivityExecutor {
 
         CloseableHttpClient client = null;
         try {
-            client = clientBuilder.build();
+            client = getHttpClient();
 
             HttpResponse response = perform(client, variableContainer, request, flowableHttpRequestHandler, flowableHttpResponseHandler,
                     socketTimeout,
                     connectTimeout,
                     connectionRequestTimeout);
-            // Save response fields
             if (response != null) {
-                // Save response body only by default
-                if (request.isSaveResponse()) {
-                    if (request.isSaveResponseTransient()) {
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseReason", response.getReason());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
-                    } else {
-                        variableContainer.setVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseReason", response.getReason());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
-                    }
-                }
+                handleResponse(request, response, variableContainer, responseVariableName);
+            }
 
-                if (!response.isBodyResponseHandled()) {
-                    String varName = StringUtils.isNotEmpty(responseVariableName) ? responseVariableName : request.getPrefix() + "ResponseBody";
-                    Object varValue = request.isSaveResponseAsJson() && response.getBody() != null ? objectMapper.readTree(response.getBody()) : response.getBody();
-                    if (varValue instanceof MissingNode) {
-                        varValue = null;
-                    }
-                    if (request.isSaveResponseTransient()) {
-                        variableContainer.setTransientVariable(varName, varValue);
-                    } else {
-                        variableContainer.setVariable(varName, varValue);
-                    }
-                }
+        } catch (Exception e) {
+            handleException(e, request, variableContainer, executionId, mapExceptions);
+        } finally {
+            releaseHttpClient(client);
+        }
 
-                // Handle http status codes
-                if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
+    }
 
-                    String code = Integer.toString(response.statusCode);
+    /**
+     * Executes the request without blocking the calling thread. The request handler is invoked directly, the request itself
+     * is sent after the current transaction is committed, on a thread of the given executor service, using the shared http client.
+     * The callback receives the outcome on that thread and is expected to trigger the waiting execution, which then passes the
+     * result to {@link #handleAsyncResult}.
+     *
+     * @return true when the request will be sent, false when the request handler propagated an error or its exception was
+     *         handled, in which case the callback is never invoked
+     */
+    public boolean executeAsync(HttpRequest request, VariableContainer variableContainer, String executionId,
+                                HttpRequestHandler flowableHttpRequestHandler, List<MapExceptionEntry> mapExceptions,
+                                int socketTimeout, int connectTimeout, int connectionRequestTimeout,
+                                ExecutorService executorService, Consumer<AsyncHttpResult> callback) {
+        validate(request);
 
-                    Set<String> handleCodes = request.getHandleCodes();
-                    if (handleCodes != null && !handleCodes.isEmpty()) {
-                        if (handleCodes.contains(code)
-                                || (code.startsWith("5") && handleCodes.contains("5XX"))
-                                || (code.startsWith("4") && handleCodes.contains("4XX"))
-                                || (code.startsWith("3") && handleCodes.contains("3XX"))) {
+        if (sharedHttpClient == null) {
+            throw new FlowableException("Asynchronous execution of http requests requires a shared http client");
+        }
 
-                            errorPropagator.propagateError(variableContainer, code);
-                            return;
-                        }
-                    }
+        try {
+            if (!invokeRequestHandler(sharedHttpClient, variableContainer, request, flowableHttpRequestHandler)) {
+                return false;
+            }
+        } catch (Exception e) {
+            handleException(e, request, variableContainer, executionId, mapExceptions);
+            return false;
+        }
+
+        Runnable sendRequest = () -> {
+            AsyncHttpResult result;
+            try {
+                result = new AsyncHttpResult(request, performRequest(sharedHttpClient, request, socketTimeout, connectTimeout, connectionRequestTimeout), null);
+            } catch (Exception e) {
+                result = new AsyncHttpResult(request, null, e);
+            }
+            callback.accept(result);
+        };
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> executorService.execute(sendRequest));
+        } else {
+            executorService.execute(sendRequest);
+        }
 
-                    Set<String> failCodes = request.getFailCodes();
-                    if (failCodes != null && !failCodes.isEmpty()) {
-                        if (failCodes.contains(code)
-                                || (code.startsWith("5") && failCodes.contains("5XX"))
-                                || (code.startsWith("4") && failCodes.contains("4XX"))
-                                || (code.startsWith("3") && failCodes.contains("3XX"))) {
+        return true;
+    }
 
-                            throw new FlowableException("HTTP" + code);
-                        }
-                    }
-                }
+    /**
+     * Handles the outcome of a request sent with {@link #executeAsync}, in the same way as {@link #execute} handles a response.
+     */
+    public void handleAsyncResult(AsyncHttpResult result, VariableContainer variableContainer, String executionId,
+                                  HttpResponseHandler flowableHttpResponseHandler, String responseVariableName, List<MapExceptionEntry> mapExceptions) {
+        try {
+            if (result.getException() != null) {
+                throw result.getException();
+            }
+
+            HttpResponse response = result.getResponse();
+            if (invokeResponseHandler(variableContainer, response, flowableHttpResponseHandler)) {
+                handleResponse(result.getRequest(), response, variableContainer, responseVariableName);
             }
 
         } catch (Exception e) {
-            if (request.isIgnoreErrors()) {
-                LOGGER.info("Error ignored while processing http task in execution {}", executionId, e);
-                variableContainer.setVariable(request.getPrefix() + "ErrorMessage", e.getMessage());
+            handleException(e, result.getRequest(), variableContainer, executionId, mapExceptions);
+        }
+    }
+
+    protected CloseableHttpClient getHttpClient() {
+        if (sharedHttpClient != null) {
+            return sharedHttpClient;
+        }
+        return clientBuilder.build();
+    }
+
+    protected void releaseHttpClient(CloseableHttpClient client) {
+        if (client == null || client == sharedHttpClient) {
+            return;
+        }
+
+        try {
+            client.close();
+            LOGGER.debug("HTTP client is closed");
+        } catch (Throwable e) {
+            LOGGER.error("Could not close http client", e);
+        }
+    }
+
+    protected void handleResponse(HttpRequest request, HttpResponse response, VariableContainer variableContainer, String responseVariableName) throws IOException {
+        // Save response body only by default
+        if (request.isSaveResponse()) {
+            if (request.isSaveResponseTransient()) {
+                variableContainer.setTransientVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
+                variableContainer.setTransientVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
+                variableContainer.setTransientVariable(request.getPrefix() + "ResponseReason", response.getReason());
+                variableContainer.setTransientVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
             } else {
-                if (!errorPropagator.mapException(e, variableContainer, mapExceptions)) {
-                    if (e instanceof FlowableException) {
-                        throw (FlowableException) e;
-                    } else {
-                        throw new FlowableException("Error occurred while processing http task in execution " + executionId, e);
-                    }
-                }
+                variableContainer.setVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
+                variableContainer.setVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
+                variableContainer.setVariable(request.getPrefix() + "ResponseReason", response.getReason());
+                variableContainer.setVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
             }
-        } finally {
-            try {
-                client.close();
-                LOGGER.debug("HTTP client is closed");
-            } catch (Throwable e) {
-                LOGGER.error("Could not close http client", e);
+        }
+
+        if (!response.isBodyResponseHandled()) {
+            String varName = StringUtils.isNotEmpty(responseVariableName) ? responseVariableName : request.getPrefix() + "ResponseBody";
+            Object varValue = request.isSaveResponseAsJson() && response.getBody() != null ? objectMapper.readTree(response.getBody()) : response.getBody();
+            if (varValue instanceof MissingNode) {
+                varValue = null;
+            }
+            if (request.isSaveResponseTransient()) {
+                variableContainer.setTransientVariable(varName, varValue);
+            } else {
+                variableContainer.setVariable(varName, varValue);
             }
         }
 
+        // Handle http status codes
+        if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
+
+            String code = Integer.toString(response.statusCode);
+
+            Set<String> handleCodes = request.getHandleCodes();
+            if (handleCodes != null && !handleCodes.isEmpty()) {
+                if (handleCodes.contains(code)
+                        || (code.startsWith("5") && handleCodes.contains("5XX"))
+                        || (code.startsWith("4") && handleCodes.contains("4XX"))
+                        || (code.startsWith("3") && handleCodes.contains("3XX"))) {
+
+                    errorPropagator.propagateError(variableContainer, code);
+                    return;
+                }
+            }
+
+            Set<String> failCodes = request.getFailCodes();
+            if (failCodes != null && !failCodes.isEmpty()) {
+                if (failCodes.contains(code)
+                        || (code.startsWith("5") && failCodes.contains("5XX"))
+                        || (code.startsWith("4") && failCodes.contains("4XX"))
+                        || (code.startsWith("3") && failCodes.contains("3XX"))) {
+
+                    throw new FlowableException("HTTP" + code);
+                }
+            }
+        }
     }
 
+    protected void handleException(Exception e, HttpRequest request, VariableContainer variableContainer, String executionId,
+            List<MapExceptionEntry> mapExceptions) {
+
+        if (request.isIgnoreErrors()) {
+            LOGGER.info("Error ignored while processing http task in execution {}", executionId, e);
+            variableContainer.setVariable(request.getPrefix() + "ErrorMessage", e.getMessage());
+        } else {
+            if (!errorPropagator.mapException(e, variableContainer, mapExceptions)) {
+                if (e instanceof FlowableException) {
+                    throw (FlowableException) e;
+                } else {
+                    throw new FlowableException("Error occurred while processing http task in execution " + executionId, e);
+                }
+            }
+        }
+    }
 
     // HttpRequest validation
     public void validate(final HttpRequest request) throws FlowableException {
@@ -208,8 +318,24 @@ public class HttpActivityExecutor {
                                 HttpResponseHandler httpResponseHandler,
                                 int socketTimeout, int connectTimeout, int connectionRequestTimeout) {
 
-        HttpRequestBase request;
-        CloseableHttpResponse response = null;
+        if (!invokeRequestHandler(client, execution, requestInfo, httpRequestHandler)) {
+            return null;
+        }
+
+        HttpResponse responseInfo = performRequest(client, requestInfo, socketTimeout, connectTimeout, connectionRequestTimeout);
+
+        if (!invokeResponseHandler(execution, responseInfo, httpResponseHandler)) {
+            return null;
+        }
+
+        return responseInfo;
+    }
+
+    /**
+     * @return false when the handler threw a {@link BpmnError} that was propagated
+     */
+    protected boolean invokeRequestHandler(CloseableHttpClient client, VariableContainer execution, HttpRequest requestInfo,
+            HttpRequestHandler httpRequestHandler) {
 
         try {
             if (httpRequestHandler != null) {
@@ -218,11 +344,41 @@ public class HttpActivityExecutor {
         } catch (Exception e) {
             if (e instanceof BpmnError) {
                 ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
-                return null;
+                return false;
             }
 
             throw new FlowableException("Exception while invoking HttpRequestHandler: " + e.getMessage(), e);
         }
+        return true;
+    }
+
+    /**
+     * @return false when the handler threw a {@link BpmnError} that was propagated
+     */
+    protected boolean invokeResponseHandler(VariableContainer execution, HttpResponse responseInfo, HttpResponseHandler httpResponseHandler) {
+        try {
+            if (httpResponseHandler != null) {
+                httpResponseHandler.handleHttpResponse(execution, responseInfo);
+            }
+        } catch (Exception e) {
+            if (e instanceof BpmnError) {
+                ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
+                return false;
+            }
+
+            throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
+        }
+        return true;
+    }
+
+    /**
+     * Sends the request and reads the response, without touching any variables, so it can be called outside of a command.
+     */
+    protected HttpResponse performRequest(CloseableHttpClient client, HttpRequest requestInfo,
+            int socketTimeout, int connectTimeout, int connectionRequestTimeout) {
+
+        HttpRequestBase request;
+        CloseableHttpResponse response = null;
 
         try {
             URI uri = ensureUrlIsEncodedAndConvertToUri(new URL(requestInfo.getUrl()));
@@ -283,19 +439,6 @@ public class HttpActivityExecutor {
                 responseInfo.setBody(EntityUtils.toString(response.getEntity()));
             }
 
-            try {
-                if ( httpResponseHandler!= null) {
-                    httpResponseHandler.handleHttpResponse(execution, responseInfo);
-                }
-            } catch (Exception e) {
-                if (e instanceof BpmnError) {
-                    ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
-                    return null;
-                }
-
-                throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
-            }
-
             return responseInfo;
 
         } catch (final ClientProtocolException e) {
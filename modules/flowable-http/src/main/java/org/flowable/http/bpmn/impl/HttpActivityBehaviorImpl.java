@@ -20,14 +20,24 @@ import static org.flowable.http.ExpressionUtils.getStringFromField;
 import static org.flowable.http.ExpressionUtils.getStringSetFromField;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLSession;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.ssl.SSLContextBuilder;
@@ -39,6 +49,7 @@ import org.flowable.bpmn.model.ImplementationType;
 import org.flowable.bpmn.model.MapExceptionEntry;
 import org.flowable.bpmn.model.ServiceTask;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.cfg.HttpClientConfig;
@@ -48,13 +59,19 @@ import org.flowable.engine.impl.bpmn.helper.SkipExpressionUtil;
 import org.flowable.engine.impl.bpmn.parser.FieldDeclaration;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.el.FixedValue;
+import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.http.AsyncHttpResult;
 import org.flowable.http.HttpActivityExecutor;
 import org.flowable.http.HttpRequest;
 import org.flowable.http.bpmn.impl.handler.ClassDelegateHttpHandler;
 import org.flowable.http.bpmn.impl.handler.DelegateExpressionHttpHandler;
 import org.flowable.http.delegate.HttpRequestHandler;
 import org.flowable.http.delegate.HttpResponseHandler;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,6 +88,8 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpActivityBehaviorImpl.class);
 
+    protected static final int ASYNC_TRIGGER_ATTEMPTS = 3;
+
     // HttpRequest method (GET,POST,PUT etc)
     protected Expression requestMethod;
     // HttpRequest URL (http://flowable.org)
@@ -142,10 +161,49 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
             httpClientBuilder.useSystemProperties();
         }
 
-        this.httpActivityExecutor = new HttpActivityExecutor(httpClientBuilder, new ProcessErrorPropagator(),
+        CloseableHttpClient sharedHttpClient = null;
+        if (config.isUseConnectionPool() || config.isAsyncExecution()) {
+            sharedHttpClient = getSharedHttpClient(config, httpClientBuilder);
+        }
+
+        this.httpActivityExecutor = new HttpActivityExecutor(httpClientBuilder, sharedHttpClient, new ProcessErrorPropagator(),
                 CommandContextUtil.getProcessEngineConfiguration().getObjectMapper());
     }
 
+    /**
+     * Returns the pooled http client that is shared by all http tasks of the engine, building it on first use.
+     */
+    protected CloseableHttpClient getSharedHttpClient(HttpClientConfig config, HttpClientBuilder httpClientBuilder) {
+        synchronized (config) {
+            if (config.getHttpClient() == null) {
+                long connectionKeepAlive = config.getConnectionKeepAlive();
+                httpClientBuilder.setMaxConnTotal(config.getMaxConnections());
+                httpClientBuilder.setMaxConnPerRoute(config.getMaxConnectionsPerRoute());
+                httpClientBuilder.setKeepAliveStrategy((response, context) -> {
+                    long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return keepAlive > 0 ? keepAlive : connectionKeepAlive;
+                });
+                httpClientBuilder.evictExpiredConnections();
+                httpClientBuilder.evictIdleConnections(connectionKeepAlive, TimeUnit.MILLISECONDS);
+                config.setHttpClient(httpClientBuilder.build());
+            }
+            return (CloseableHttpClient) config.getHttpClient();
+        }
+    }
+
+    /**
+     * Returns the thread pool that sends the requests of the http tasks in asynchronous execution mode, creating it on first use.
+     */
+    protected ExecutorService getAsyncExecutorService(HttpClientConfig config) {
+        synchronized (config) {
+            if (config.getAsyncExecutorService() == null) {
+                config.setAsyncExecutorService(Executors.newFixedThreadPool(config.getAsyncExecutionPoolSize(),
+                        new BasicThreadFactory.Builder().namingPattern("flowable-http-task-%d").daemon(true).build()));
+            }
+            return config.getAsyncExecutorService();
+        }
+    }
+
     @Override
     public void execute(DelegateExecution execution) {
 
@@ -159,82 +217,212 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
         if (!isSkipExpressionEnabled || !SkipExpressionUtil.shouldSkipFlowElement(skipExpressionText,
                 execution.getCurrentActivityId(), execution, commandContext)) {
 
-            HttpRequest request = new HttpRequest();
+            HttpRequest request = createRequest(execution);
 
-            try {
-                request.setMethod(getStringFromField(requestMethod, execution));
-                request.setUrl(getStringFromField(requestUrl, execution));
-                request.setHeaders(getStringFromField(requestHeaders, execution));
-                request.setBody(getStringFromField(requestBody, execution));
-                request.setBodyEncoding(getStringFromField(requestBodyEncoding, execution));
-                request.setTimeout(getIntFromField(requestTimeout, execution));
-                request.setNoRedirects(getBooleanFromField(disallowRedirects, execution));
-                request.setIgnoreErrors(getBooleanFromField(ignoreException, execution));
-                request.setSaveRequest(getBooleanFromField(saveRequestVariables, execution));
-                request.setSaveResponse(getBooleanFromField(saveResponseParameters, execution));
-                request.setSaveResponseTransient(getBooleanFromField(saveResponseParametersTransient, execution));
-                request.setSaveResponseAsJson(getBooleanFromField(saveResponseVariableAsJson, execution));
-                request.setPrefix(getStringFromField(resultVariablePrefix, execution));
-
-                String failCodes = getStringFromField(failStatusCodes, execution);
-                String handleCodes = getStringFromField(handleStatusCodes, execution);
-
-                if (failCodes != null) {
-                    request.setFailCodes(getStringSetFromField(failCodes));
-                }
-                if (handleCodes != null) {
-                    request.setHandleCodes(getStringSetFromField(handleCodes));
-                }
+            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+            HttpClientConfig httpClientConfig = CommandContextUtil.getProcessEngineConfiguration().getHttpClientConfig();
 
-                if (request.getPrefix() == null) {
-                    request.setPrefix(execution.getCurrentFlowElement().getId());
+            if (httpClientConfig.isAsyncExecution()) {
+                String executionId = execution.getId();
+                boolean waitForResponse = httpActivityExecutor.executeAsync(
+                        request,
+                        execution,
+                        executionId,
+                        createHttpRequestHandler(httpServiceTask.getHttpRequestHandler(), processEngineConfiguration),
+                        mapExceptions,
+                        httpClientConfig.getSocketTimeout(),
+                        httpClientConfig.getConnectTimeout(),
+                        httpClientConfig.getConnectionRequestTimeout(),
+                        getAsyncExecutorService(httpClientConfig),
+                        result -> triggerExecution(processEngineConfiguration, executionId, result));
+
+                if (waitForResponse) {
+                    // the execution waits until it's triggered with the result, see trigger()
+                    return;
                 }
 
-                // Save request fields
-                if (request.isSaveRequest()) {
-                    execution.setVariable(request.getPrefix() + "RequestMethod", request.getMethod());
-                    execution.setVariable(request.getPrefix() + "RequestUrl", request.getUrl());
-                    execution.setVariable(request.getPrefix() + "RequestHeaders", request.getHeaders());
-                    execution.setVariable(request.getPrefix() + "RequestBody", request.getBody());
-                    execution.setVariable(request.getPrefix() + "RequestBodyEncoding", request.getBodyEncoding());
-                    execution.setVariable(request.getPrefix() + "RequestTimeout", request.getTimeout());
-                    execution.setVariable(request.getPrefix() + "DisallowRedirects", request.isNoRedirects());
-                    execution.setVariable(request.getPrefix() + "FailStatusCodes", failCodes);
-                    execution.setVariable(request.getPrefix() + "HandleStatusCodes", handleCodes);
-                    execution.setVariable(request.getPrefix() + "IgnoreException", request.isIgnoreErrors());
-                    execution.setVariable(request.getPrefix() + "SaveRequestVariables", request.isSaveRequest());
-                    execution.setVariable(request.getPrefix() + "SaveResponseParameters", request.isSaveResponse());
-                }
+            } else {
+                executeRequest(request, execution, processEngineConfiguration, httpClientConfig);
+            }
+        }
 
-            } catch (Exception e) {
-                if (e instanceof FlowableException) {
-                    throw (FlowableException) e;
-                } else {
-                    throw new FlowableException(HTTP_TASK_REQUEST_FIELD_INVALID + " in execution " + execution.getId(), e);
-                }
+        leave(execution);
+    }
+
+    protected HttpRequest createRequest(DelegateExecution execution) {
+        HttpRequest request = new HttpRequest();
+
+        try {
+            request.setMethod(getStringFromField(requestMethod, execution));
+            request.setUrl(getStringFromField(requestUrl, execution));
+            request.setHeaders(getStringFromField(requestHeaders, execution));
+            request.setBody(getStringFromField(requestBody, execution));
+            request.setBodyEncoding(getStringFromField(requestBodyEncoding, execution));
+            request.setTimeout(getIntFromField(requestTimeout, execution));
+            request.setNoRedirects(getBooleanFromField(disallowRedirects, execution));
+            request.setIgnoreErrors(getBooleanFromField(ignoreException, execution));
+            request.setSaveRequest(getBooleanFromField(saveRequestVariables, execution));
+            request.setSaveResponse(getBooleanFromField(saveResponseParameters, execution));
+            request.setSaveResponseTransient(getBooleanFromField(saveResponseParametersTransient, execution));
+            request.setSaveResponseAsJson(getBooleanFromField(saveResponseVariableAsJson, execution));
+            request.setPrefix(getStringFromField(resultVariablePrefix, execution));
+
+            String failCodes = getStringFromField(failStatusCodes, execution);
+            String handleCodes = getStringFromField(handleStatusCodes, execution);
+
+            if (failCodes != null) {
+                request.setFailCodes(getStringSetFromField(failCodes));
+            }
+            if (handleCodes != null) {
+                request.setHandleCodes(getStringSetFromField(handleCodes));
             }
 
-            httpActivityExecutor.validate(request);
+            if (request.getPrefix() == null) {
+                request.setPrefix(execution.getCurrentFlowElement().getId());
+            }
 
-            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-            HttpClientConfig httpClientConfig = CommandContextUtil.getProcessEngineConfiguration().getHttpClientConfig();
+            // Save request fields
+            if (request.isSaveRequest()) {
+                execution.setVariable(request.getPrefix() + "RequestMethod", request.getMethod());
+                execution.setVariable(request.getPrefix() + "RequestUrl", request.getUrl());
+                execution.setVariable(request.getPrefix() + "RequestHeaders", request.getHeaders());
+                execution.setVariable(request.getPrefix() + "RequestBody", request.getBody());
+                execution.setVariable(request.getPrefix() + "RequestBodyEncoding", request.getBodyEncoding());
+                execution.setVariable(request.getPrefix() + "RequestTimeout", request.getTimeout());
+                execution.setVariable(request.getPrefix() + "DisallowRedirects", request.isNoRedirects());
+                execution.setVariable(request.getPrefix() + "FailStatusCodes", failCodes);
+                execution.setVariable(request.getPrefix() + "HandleStatusCodes", handleCodes);
+                execution.setVariable(request.getPrefix() + "IgnoreException", request.isIgnoreErrors());
+                execution.setVariable(request.getPrefix() + "SaveRequestVariables", request.isSaveRequest());
+                execution.setVariable(request.getPrefix() + "SaveResponseParameters", request.isSaveResponse());
+            }
+
+        } catch (Exception e) {
+            if (e instanceof FlowableException) {
+                throw (FlowableException) e;
+            } else {
+                throw new FlowableException(HTTP_TASK_REQUEST_FIELD_INVALID + " in execution " + execution.getId(), e);
+            }
+        }
+
+        httpActivityExecutor.validate(request);
+
+        return request;
+    }
+
+    protected void executeRequest(HttpRequest request, DelegateExecution execution, ProcessEngineConfigurationImpl processEngineConfiguration,
+            HttpClientConfig httpClientConfig) {
+
+        httpActivityExecutor.execute(
+                request,
+                execution,
+                execution.getId(),
+                createHttpRequestHandler(httpServiceTask.getHttpRequestHandler(), processEngineConfiguration),
+                createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration),
+                getStringFromField(responseVariableName, execution),
+                mapExceptions,
+                httpClientConfig.getSocketTimeout(),
+                httpClientConfig.getConnectTimeout(),
+                httpClientConfig.getConnectionRequestTimeout());
+    }
 
-            httpActivityExecutor.execute(
-                    request,
-                    execution,
-                    execution.getId(),
-                    createHttpRequestHandler(httpServiceTask.getHttpRequestHandler(), processEngineConfiguration),
-                    createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration),
-                    getStringFromField(responseVariableName, execution),
-                    mapExceptions,
-                    httpClientConfig.getSocketTimeout(),
-                    httpClientConfig.getConnectTimeout(),
-                    httpClientConfig.getConnectionRequestTimeout());
+    @Override
+    public void trigger(DelegateExecution execution, String signalName, Object signalData) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        Object asyncResult = execution.getTransientVariable(HttpActivityExecutor.ASYNC_RESULT_VARIABLE_NAME);
+        if (!(asyncResult instanceof AsyncHttpResult)) {
+            HttpClientConfig httpClientConfig = processEngineConfiguration.getHttpClientConfig();
+            if (!httpClientConfig.isAsyncExecution()) {
+                super.trigger(execution, signalName, signalData);
+                return;
+            }
+
+            // Triggered without a result, e.g. by the retry job of a response that could not be handled: the request is sent again synchronously
+            executeRequest(createRequest(execution), execution, processEngineConfiguration, httpClientConfig);
+            leave(execution);
+            return;
         }
 
+        execution.removeTransientVariable(HttpActivityExecutor.ASYNC_RESULT_VARIABLE_NAME);
+
+        httpActivityExecutor.handleAsyncResult(
+                (AsyncHttpResult) asyncResult,
+                execution,
+                execution.getId(),
+                createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration),
+                getStringFromField(responseVariableName, execution),
+                mapExceptions);
+
         leave(execution);
     }
 
+    /**
+     * Continues the waiting execution with the result of an asynchronously sent request. This is called on a thread of the
+     * asynchronous execution pool, outside of any command. When the trigger fails, a failed job is created for the execution,
+     * so the request is retried with the async job retries and ends up as a dead letter job when all retries fail.
+     */
+    protected void triggerExecution(ProcessEngineConfigurationImpl processEngineConfiguration, String executionId, AsyncHttpResult result) {
+        Map<String, Object> transientVariables = Collections.singletonMap(HttpActivityExecutor.ASYNC_RESULT_VARIABLE_NAME, result);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                processEngineConfiguration.getRuntimeService().trigger(executionId, null, transientVariables);
+                return;
+
+            } catch (FlowableOptimisticLockingException e) {
+                if (attempt >= ASYNC_TRIGGER_ATTEMPTS) {
+                    createFailedTriggerJob(processEngineConfiguration, executionId, e);
+                    return;
+                }
+                LOGGER.debug("Optimistic locking exception while triggering execution {} with the http response, retrying", executionId);
+
+            } catch (RuntimeException e) {
+                createFailedTriggerJob(processEngineConfiguration, executionId, e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Creates an async trigger job for the execution in the same state as a failed async job: a timer job carrying the exception,
+     * due after the failed job wait time. When it's executed, the execution is triggered without a result and sends the request again.
+     */
+    protected void createFailedTriggerJob(ProcessEngineConfigurationImpl processEngineConfiguration, String executionId, Exception exception) {
+        LOGGER.warn("Could not trigger execution {} with the http response, creating a failed job to retry the request", executionId, exception);
+
+        try {
+            processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(executionId);
+                if (execution == null || execution.isEnded()) {
+                    return null;
+                }
+
+                TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+                TimerJobEntity job = timerJobService.createTimerJob();
+                job.setJobType(Job.JOB_TYPE_MESSAGE);
+                job.setJobHandlerType(AsyncTriggerJobHandler.TYPE);
+                job.setExclusive(true);
+                job.setExecutionId(execution.getId());
+                job.setProcessInstanceId(execution.getProcessInstanceId());
+                job.setProcessDefinitionId(execution.getProcessDefinitionId());
+                job.setElementId(execution.getCurrentActivityId());
+                job.setElementName(execution.getCurrentFlowElement() != null ? execution.getCurrentFlowElement().getName() : null);
+                job.setTenantId(execution.getTenantId());
+
+                // the failed trigger counts as the first attempt
+                job.setRetries(Math.max(processEngineConfiguration.getAsyncExecutorNumberOfRetries() - 1, 1));
+                job.setDuedate(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + processEngineConfiguration.getAsyncFailedJobWaitTime() * 1000L));
+                job.setExceptionMessage(exception.getMessage());
+                job.setExceptionStacktrace(ExceptionUtils.getStackTrace(exception));
+
+                timerJobService.insertTimerJob(job);
+                return null;
+            });
+
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not create the failed job for execution {}, the execution keeps waiting", executionId, e);
+        }
+    }
+
     protected HttpRequestHandler createHttpRequestHandler(FlowableHttpRequestHandler handler, ProcessEngineConfigurationImpl processEngineConfiguration) {
         HttpRequestHandler requestHandler = null;
 
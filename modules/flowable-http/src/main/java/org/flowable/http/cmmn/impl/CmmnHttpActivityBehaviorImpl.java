@@ -18,20 +18,30 @@ import static org.flowable.http.ExpressionUtils.getStringSetFromField;
 import static org.flowable.http.HttpActivityExecutor.HTTP_TASK_REQUEST_FIELD_INVALID;
 
 import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLSession;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.flowable.bpmn.model.MapExceptionEntry;
+import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.HttpClientConfig;
-import org.flowable.cmmn.engine.impl.behavior.CoreCmmnActivityBehavior;
+import org.flowable.cmmn.engine.impl.behavior.CoreCmmnTriggerableActivityBehavior;
+import org.flowable.cmmn.engine.impl.job.AsyncTriggerPlanItemInstanceJobHandler;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.model.FlowableHttpRequestHandler;
@@ -39,8 +49,11 @@ import org.flowable.cmmn.model.FlowableHttpResponseHandler;
 import org.flowable.cmmn.model.HttpServiceTask;
 import org.flowable.cmmn.model.ImplementationType;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.http.AsyncHttpResult;
 import org.flowable.http.ExpressionUtils;
 import org.flowable.http.HttpActivityExecutor;
 import org.flowable.http.HttpRequest;
@@ -49,6 +62,9 @@ import org.flowable.http.cmmn.impl.handler.ClassDelegateHttpHandler;
 import org.flowable.http.cmmn.impl.handler.DelegateExpressionHttpHandler;
 import org.flowable.http.delegate.HttpRequestHandler;
 import org.flowable.http.delegate.HttpResponseHandler;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,10 +73,12 @@ import org.slf4j.LoggerFactory;
  *
  * @author martin.grofcik
  */
-public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
+public class CmmnHttpActivityBehaviorImpl extends CoreCmmnTriggerableActivityBehavior {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CmmnHttpActivityBehaviorImpl.class);
 
+    protected static final int ASYNC_TRIGGER_ATTEMPTS = 3;
+
     // HttpRequest method (GET,POST,PUT etc)
     protected Expression requestMethod;
     // HttpRequest URL (http://flowable.org)
@@ -131,13 +149,85 @@ public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
             httpClientBuilder.useSystemProperties();
         }
 
-        this.httpActivityExecutor = new HttpActivityExecutor(httpClientBuilder, new NopErrorPropagator(), 
+        CloseableHttpClient sharedHttpClient = null;
+        if (config.isUseConnectionPool() || config.isAsyncExecution()) {
+            sharedHttpClient = getSharedHttpClient(config, httpClientBuilder);
+        }
+
+        this.httpActivityExecutor = new HttpActivityExecutor(httpClientBuilder, sharedHttpClient, new NopErrorPropagator(), 
                 CommandContextUtil.getCmmnEngineConfiguration().getObjectMapper());
     }
 
+    /**
+     * Returns the pooled http client that is shared by all http tasks of the engine, building it on first use.
+     */
+    protected CloseableHttpClient getSharedHttpClient(HttpClientConfig config, HttpClientBuilder httpClientBuilder) {
+        synchronized (config) {
+            if (config.getHttpClient() == null) {
+                long connectionKeepAlive = config.getConnectionKeepAlive();
+                httpClientBuilder.setMaxConnTotal(config.getMaxConnections());
+                httpClientBuilder.setMaxConnPerRoute(config.getMaxConnectionsPerRoute());
+                httpClientBuilder.setKeepAliveStrategy((response, context) -> {
+                    long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return keepAlive > 0 ? keepAlive : connectionKeepAlive;
+                });
+                httpClientBuilder.evictExpiredConnections();
+                httpClientBuilder.evictIdleConnections(connectionKeepAlive, TimeUnit.MILLISECONDS);
+                config.setHttpClient(httpClientBuilder.build());
+            }
+            return (CloseableHttpClient) config.getHttpClient();
+        }
+    }
+
+    /**
+     * Returns the thread pool that sends the requests of the http tasks in asynchronous execution mode, creating it on first use.
+     */
+    protected ExecutorService getAsyncExecutorService(HttpClientConfig config) {
+        synchronized (config) {
+            if (config.getAsyncExecutorService() == null) {
+                config.setAsyncExecutorService(Executors.newFixedThreadPool(config.getAsyncExecutionPoolSize(),
+                        new BasicThreadFactory.Builder().namingPattern("flowable-cmmn-http-task-%d").daemon(true).build()));
+            }
+            return config.getAsyncExecutorService();
+        }
+    }
+
 
     @Override
     public void execute(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
+        HttpRequest request = createRequest(planItemInstanceEntity);
+        
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
+        HttpClientConfig httpClientConfig = cmmnEngineConfiguration.getHttpClientConfig();
+
+        if (httpClientConfig.isAsyncExecution()) {
+            String planItemInstanceId = planItemInstanceEntity.getId();
+            boolean waitForResponse = httpActivityExecutor.executeAsync(
+                    request,
+                    planItemInstanceEntity,
+                    planItemInstanceId,
+                    createHttpRequestHandler(serviceTask.getHttpRequestHandler(), cmmnEngineConfiguration),
+                    Collections.<MapExceptionEntry>emptyList(),
+                    httpClientConfig.getSocketTimeout(),
+                    httpClientConfig.getConnectTimeout(),
+                    httpClientConfig.getConnectionRequestTimeout(),
+                    getAsyncExecutorService(httpClientConfig),
+                    result -> triggerPlanItemInstance(cmmnEngineConfiguration, planItemInstanceId, result));
+
+            if (waitForResponse) {
+                // the plan item instance stays active until it's triggered with the result, see trigger()
+                return;
+            }
+
+        } else {
+            executeRequest(request, planItemInstanceEntity, cmmnEngineConfiguration, httpClientConfig);
+        }
+
+        CommandContextUtil.getAgenda().planCompletePlanItemInstanceOperation(planItemInstanceEntity);
+
+    }
+
+    protected HttpRequest createRequest(PlanItemInstanceEntity planItemInstanceEntity) {
         HttpRequest request = new HttpRequest();
 
         try {
@@ -194,9 +284,12 @@ public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
         }
 
         httpActivityExecutor.validate(request);
-        
-        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
-        HttpClientConfig httpClientConfig = cmmnEngineConfiguration.getHttpClientConfig();
+
+        return request;
+    }
+
+    protected void executeRequest(HttpRequest request, PlanItemInstanceEntity planItemInstanceEntity, CmmnEngineConfiguration cmmnEngineConfiguration,
+            HttpClientConfig httpClientConfig) {
 
         httpActivityExecutor.execute(
                 request,
@@ -210,9 +303,104 @@ public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
                 httpClientConfig.getConnectTimeout(),
                 httpClientConfig.getConnectionRequestTimeout()
         );
+    }
 
-        CommandContextUtil.getAgenda().planCompletePlanItemInstanceOperation(planItemInstanceEntity);
+    @Override
+    public void trigger(CommandContext commandContext, PlanItemInstanceEntity planItemInstance) {
+        Object asyncResult = planItemInstance.getTransientVariable(HttpActivityExecutor.ASYNC_RESULT_VARIABLE_NAME);
+        if (!(asyncResult instanceof AsyncHttpResult)) {
+            CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+            HttpClientConfig httpClientConfig = cmmnEngineConfiguration.getHttpClientConfig();
+            if (!httpClientConfig.isAsyncExecution()) {
+                throw new FlowableException("Http task " + planItemInstance.getId() + " can only be triggered with the result of its request");
+            }
+
+            // Triggered without a result, e.g. by the retry job of a response that could not be handled: the request is sent again synchronously
+            executeRequest(createRequest(planItemInstance), planItemInstance, cmmnEngineConfiguration, httpClientConfig);
+            CommandContextUtil.getAgenda(commandContext).planCompletePlanItemInstanceOperation(planItemInstance);
+            return;
+        }
+
+        planItemInstance.removeTransientVariable(HttpActivityExecutor.ASYNC_RESULT_VARIABLE_NAME);
 
+        httpActivityExecutor.handleAsyncResult(
+                (AsyncHttpResult) asyncResult,
+                planItemInstance,
+                planItemInstance.getId(),
+                createHttpResponseHandler(serviceTask.getHttpResponseHandler(), CommandContextUtil.getCmmnEngineConfiguration(commandContext)),
+                getStringFromField(responseVariableName, planItemInstance),
+                Collections.<MapExceptionEntry>emptyList());
+
+        CommandContextUtil.getAgenda(commandContext).planCompletePlanItemInstanceOperation(planItemInstance);
+    }
+
+    /**
+     * Continues the waiting plan item instance with the result of an asynchronously sent request. This is called on a thread of the
+     * asynchronous execution pool, outside of any command. When the trigger fails, a failed job is created for the plan item instance,
+     * so the request is retried with the async job retries and ends up as a dead letter job when all retries fail.
+     */
+    protected void triggerPlanItemInstance(CmmnEngineConfiguration cmmnEngineConfiguration, String planItemInstanceId, AsyncHttpResult result) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                cmmnEngineConfiguration.getCmmnRuntimeService().createPlanItemInstanceTransitionBuilder(planItemInstanceId)
+                        .transientVariable(HttpActivityExecutor.ASYNC_RESULT_VARIABLE_NAME, result)
+                        .trigger();
+                return;
+
+            } catch (FlowableOptimisticLockingException e) {
+                if (attempt >= ASYNC_TRIGGER_ATTEMPTS) {
+                    createFailedTriggerJob(cmmnEngineConfiguration, planItemInstanceId, e);
+                    return;
+                }
+                LOGGER.debug("Optimistic locking exception while triggering plan item instance {} with the http response, retrying", planItemInstanceId);
+
+            } catch (RuntimeException e) {
+                createFailedTriggerJob(cmmnEngineConfiguration, planItemInstanceId, e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Creates an async trigger job for the plan item instance in the same state as a failed async job: a timer job carrying the exception,
+     * due after the failed job wait time. When it's executed, the plan item instance is triggered without a result and sends the request again.
+     */
+    protected void createFailedTriggerJob(CmmnEngineConfiguration cmmnEngineConfiguration, String planItemInstanceId, Exception exception) {
+        LOGGER.warn("Could not trigger plan item instance {} with the http response, creating a failed job to retry the request", planItemInstanceId, exception);
+
+        try {
+            cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                PlanItemInstanceEntity planItemInstance = CommandContextUtil.getPlanItemInstanceEntityManager(commandContext).findById(planItemInstanceId);
+                if (planItemInstance == null || !PlanItemInstanceState.ACTIVE.equals(planItemInstance.getState())) {
+                    return null;
+                }
+
+                TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+                TimerJobEntity job = timerJobService.createTimerJob();
+                job.setJobType(Job.JOB_TYPE_MESSAGE);
+                job.setJobHandlerType(AsyncTriggerPlanItemInstanceJobHandler.TYPE);
+                job.setExclusive(true);
+                job.setScopeId(planItemInstance.getCaseInstanceId());
+                job.setSubScopeId(planItemInstance.getId());
+                job.setScopeDefinitionId(planItemInstance.getCaseDefinitionId());
+                job.setScopeType(ScopeTypes.CMMN);
+                job.setElementId(planItemInstance.getElementId());
+                job.setElementName(planItemInstance.getName());
+                job.setTenantId(planItemInstance.getTenantId());
+
+                // the failed trigger counts as the first attempt
+                job.setRetries(Math.max(cmmnEngineConfiguration.getAsyncExecutorNumberOfRetries() - 1, 1));
+                job.setDuedate(new Date(cmmnEngineConfiguration.getClock().getCurrentTime().getTime() + cmmnEngineConfiguration.getAsyncFailedJobWaitTime() * 1000L));
+                job.setExceptionMessage(exception.getMessage());
+                job.setExceptionStacktrace(ExceptionUtils.getStackTrace(exception));
+
+                timerJobService.insertTimerJob(job);
+                return null;
+            });
+
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not create the failed job for plan item instance {}, it stays active", planItemInstanceId, e);
+        }
     }
 
     protected Expression createExpression(String expressionString) {
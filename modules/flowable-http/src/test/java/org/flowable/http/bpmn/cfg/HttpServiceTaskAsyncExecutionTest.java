@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http.bpmn.cfg;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.cfg.HttpClientConfig;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.junit.jupiter.api.Test;
+
+public class HttpServiceTaskAsyncExecutionTest extends HttpServiceTaskCfgTestCase {
+
+    public HttpServiceTaskAsyncExecutionTest() {
+        super("flowable.cfg.xml");
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        HttpClientConfig httpClientConfig = processEngineConfiguration.getHttpClientConfig();
+        httpClientConfig.setUseConnectionPool(true);
+        httpClientConfig.setAsyncExecution(true);
+    }
+
+    @Test
+    @Deployment
+    public void testAsyncExecution() throws Exception {
+        String procId = runtimeService.startProcessInstanceByKey("asyncHttpGet").getId();
+
+        // the process instance is continued when the response is received
+        for (int i = 0; i < 100 && runtimeService.createProcessInstanceQuery().processInstanceId(procId).count() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertProcessEnded(procId);
+
+        List<HistoricVariableInstance> variables = historyService.createHistoricVariableInstanceQuery().processInstanceId(procId).list();
+        assertEquals(1, variables.size());
+        assertEquals("test", variables.get(0).getVariableName());
+        String variableValue = variables.get(0).getValue().toString();
+        assertTrue(variableValue.contains("firstName") && variableValue.contains("John"));
+    }
+
+    @Test
+    @Deployment
+    public void testAsyncExecutionFailure() throws Exception {
+        String procId = runtimeService.startProcessInstanceByKey("asyncHttpGetFailure").getId();
+
+        // the response can't be handled, so a failed job is created that retries the request
+        for (int i = 0; i < 100 && managementService.createTimerJobQuery().processInstanceId(procId).count() == 0; i++) {
+            Thread.sleep(100);
+        }
+        Job timerJob = managementService.createTimerJobQuery().processInstanceId(procId).singleResult();
+        assertNotNull(timerJob);
+        assertTrue(timerJob.getExceptionMessage().contains("HTTP400"));
+        assertEquals(processEngineConfiguration.getAsyncExecutorNumberOfRetries() - 1, timerJob.getRetries());
+        assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(procId).activityId("httpGet").count());
+
+        // every retry sends the request again, until the job is moved to the dead letter jobs
+        while (timerJob != null) {
+            Job job = managementService.moveTimerToExecutableJob(timerJob.getId());
+            try {
+                managementService.executeJob(job.getId());
+                fail("Expected the retried request to fail");
+            } catch (FlowableException e) {
+                // expected
+            }
+            timerJob = managementService.createTimerJobQuery().processInstanceId(procId).singleResult();
+        }
+
+        Job deadLetterJob = managementService.createDeadLetterJobQuery().processInstanceId(procId).singleResult();
+        assertNotNull(deadLetterJob);
+        assertTrue(deadLetterJob.getExceptionMessage().contains("HTTP400"));
+        assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(procId).activityId("httpGet").count());
+
+        managementService.deleteDeadLetterJob(deadLetterJob.getId());
+        runtimeService.deleteProcessInstance(procId, "test");
+    }
+}
@@ -25,11 +25,16 @@ import java.net.SocketTimeoutException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.flowable.cmmn.api.CmmnManagementService;
 import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
+import org.flowable.cmmn.engine.HttpClientConfig;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnRule;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.http.bpmn.HttpServiceTaskTestServer;
+import org.flowable.job.api.Job;
 import org.hamcrest.core.AnyOf;
 import org.hamcrest.core.IsInstanceOf;
 import org.junit.Assert;
@@ -319,6 +324,57 @@ public class CmmnHttpTaskTest {
         assertNull(headerMap.get("Test"));
     }
 
+    @Test
+    public void testAsyncExecutionFailure() throws Exception {
+        HttpClientConfig httpClientConfig = cmmnRule.getCmmnEngineConfiguration().getHttpClientConfig();
+        httpClientConfig.setAsyncExecution(true);
+        // deployed after enabling the asynchronous execution, as the http client is created when the model is parsed
+        String deploymentId = cmmnRule.getCmmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/http/cmmn/CmmnHttpTaskTest.testFailStatusCodes.cmmn")
+                .deploy()
+                .getId();
+
+        try {
+            CaseInstance caseInstance = createCaseInstance();
+            CmmnManagementService managementService = cmmnRule.getCmmnManagementService();
+
+            // the response can't be handled, so a failed job is created that retries the request
+            for (int i = 0; i < 100 && managementService.createTimerJobQuery().caseInstanceId(caseInstance.getId()).count() == 0; i++) {
+                Thread.sleep(100);
+            }
+            Job timerJob = managementService.createTimerJobQuery().caseInstanceId(caseInstance.getId()).singleResult();
+            assertNotNull(timerJob);
+            assertThat(timerJob.getExceptionMessage(), containsString("HTTP400"));
+            assertEquals(cmmnRule.getCmmnEngineConfiguration().getAsyncExecutorNumberOfRetries() - 1, timerJob.getRetries());
+
+            // every retry sends the request again, until the job is moved to the dead letter jobs
+            while (timerJob != null) {
+                Job job = managementService.moveTimerToExecutableJob(timerJob.getId());
+                try {
+                    managementService.executeJob(job.getId());
+                    Assert.fail("Expected the retried request to fail");
+                } catch (FlowableException e) {
+                    // expected
+                }
+                timerJob = managementService.createTimerJobQuery().caseInstanceId(caseInstance.getId()).singleResult();
+            }
+
+            Job deadLetterJob = managementService.createDeadLetterJobQuery().caseInstanceId(caseInstance.getId()).singleResult();
+            assertNotNull(deadLetterJob);
+            assertThat(deadLetterJob.getExceptionMessage(), containsString("HTTP400"));
+
+            PlanItemInstance planItemInstance = cmmnRule.getCmmnRuntimeService().createPlanItemInstanceQuery()
+                    .caseInstanceId(caseInstance.getId())
+                    .planItemInstanceElementId("httpGet")
+                    .singleResult();
+            assertThat(planItemInstance.getState(), is(PlanItemInstanceState.ACTIVE));
+
+        } finally {
+            httpClientConfig.setAsyncExecution(false);
+            cmmnRule.getCmmnRepositoryService().deleteDeployment(deploymentId, true);
+        }
+    }
+
     protected CaseInstance createCaseInstance() {
         return cmmnRule.getCmmnRuntimeService().createCaseInstanceBuilder()
                 .caseDefinitionKey("myCase")
@@ -12,7 +12,9 @@
  */
 package org.flowable.identitylink.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
 
@@ -26,6 +28,8 @@ public interface HistoricIdentityLinkService {
     HistoricIdentityLinkEntity getHistoricIdentityLink(String id);
     
     List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByTaskId(String taskId);
+
+    List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByTaskIds(Set<String> taskIds);
     
     List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByProcessInstanceId(String processInstanceId);
     
@@ -47,6 +51,10 @@ public interface HistoricIdentityLinkService {
     
     void deleteHistoricIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
+    void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricTaskIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     void deleteHistoricProcessIdentityLinksForNonExistingInstances();
     
     void deleteHistoricCaseIdentityLinksForNonExistingInstances();
@@ -14,6 +14,7 @@ package org.flowable.identitylink.service;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 
@@ -27,6 +28,8 @@ public interface IdentityLinkService {
     IdentityLinkEntity getIdentityLink(String id);
     
     List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId);
+
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Set<String> taskIds);
     
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
     
@@ -12,7 +12,9 @@
  */
 package org.flowable.identitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
 import org.flowable.identitylink.service.HistoricIdentityLinkService;
@@ -39,6 +41,11 @@ public class HistoricIdentityLinkServiceImpl extends CommonServiceImpl<IdentityL
     public List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByTaskId(String taskId) {
         return getHistoricIdentityLinkEntityManager().findHistoricIdentityLinksByTaskId(taskId);
     }
+
+    @Override
+    public List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByTaskIds(Set<String> taskIds) {
+        return getHistoricIdentityLinkEntityManager().findHistoricIdentityLinksByTaskIds(taskIds);
+    }
     
     @Override
     public List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByProcessInstanceId(String processInstanceId) {
@@ -90,6 +97,16 @@ public class HistoricIdentityLinkServiceImpl extends CommonServiceImpl<IdentityL
         getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksByScopeIdAndScopeType(scopeId, scopeType);
     }
     
+    @Override
+    public void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricTaskIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricTaskIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+    
     @Override
     public void deleteHistoricProcessIdentityLinksForNonExistingInstances() {
         getHistoricIdentityLinkEntityManager().deleteHistoricProcessIdentityLinksForNonExistingInstances();
@@ -14,6 +14,7 @@ package org.flowable.identitylink.service.impl;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
 import org.flowable.identitylink.service.IdentityLinkService;
@@ -39,6 +40,11 @@ public class IdentityLinkServiceImpl extends CommonServiceImpl<IdentityLinkServi
     public List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId) {
         return getIdentityLinkEntityManager().findIdentityLinksByTaskId(taskId);
     }
+
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Set<String> taskIds) {
+        return getIdentityLinkEntityManager().findIdentityLinksByTaskIds(taskIds);
+    }
     
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
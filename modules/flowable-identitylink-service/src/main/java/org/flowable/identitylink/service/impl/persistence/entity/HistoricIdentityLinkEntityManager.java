@@ -12,7 +12,9 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 
@@ -23,6 +25,8 @@ public interface HistoricIdentityLinkEntityManager extends EntityManager<Histori
 
     List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByTaskId(String taskId);
 
+    List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByTaskIds(Set<String> taskIds);
+
     List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByProcessInstanceId(String processInstanceId);
     
     List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
@@ -37,6 +41,10 @@ public interface HistoricIdentityLinkEntityManager extends EntityManager<Histori
     
     void deleteHistoricIdentityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
     
+    void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricTaskIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     void deleteHistoricProcessIdentityLinksForNonExistingInstances();
     
     void deleteHistoricCaseIdentityLinksForNonExistingInstances();
@@ -13,7 +13,9 @@
 
 package org.flowable.identitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
 import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
@@ -44,6 +46,11 @@ public class HistoricIdentityLinkEntityManagerImpl
         return dataManager.findHistoricIdentityLinksByTaskId(taskId);
     }
 
+    @Override
+    public List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByTaskIds(Set<String> taskIds) {
+        return dataManager.findHistoricIdentityLinksByTaskIds(taskIds);
+    }
+
     @Override
     public List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByProcessInstanceId(String processInstanceId) {
         return dataManager.findHistoricIdentityLinksByProcessInstanceId(processInstanceId);
@@ -87,6 +94,16 @@ public class HistoricIdentityLinkEntityManagerImpl
         dataManager.deleteHistoricIdentityLinksByScopeDefinitionIdAndType(scopeDefinitionId, scopeType);
     }
 
+    @Override
+    public void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricTaskIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteHistoricTaskIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public void deleteHistoricProcessIdentityLinksForNonExistingInstances() {
         dataManager.deleteHistoricProcessIdentityLinksForNonExistingInstances();
@@ -14,6 +14,7 @@ package org.flowable.identitylink.service.impl.persistence.entity;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 
@@ -24,6 +25,8 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
 
     List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId);
 
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Set<String> taskIds);
+
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
     
     List<IdentityLinkEntity> findIdentityLinksByScopeIdAndType(String scopeId, String scopeType);
@@ -16,6 +16,7 @@ package org.flowable.identitylink.service.impl.persistence.entity;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.Objects;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
@@ -62,6 +63,11 @@ public class IdentityLinkEntityManagerImpl
         return dataManager.findIdentityLinksByTaskId(taskId);
     }
 
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Set<String> taskIds) {
+        return dataManager.findIdentityLinksByTaskIds(taskIds);
+    }
+
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
         return dataManager.findIdentityLinksByProcessInstanceId(processInstanceId);
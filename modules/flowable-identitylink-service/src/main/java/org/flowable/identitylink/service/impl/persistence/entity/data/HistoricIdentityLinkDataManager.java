@@ -12,7 +12,9 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
@@ -24,6 +26,8 @@ public interface HistoricIdentityLinkDataManager extends DataManager<HistoricIde
 
     List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByTaskId(String taskId);
 
+    List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByTaskIds(Set<String> taskIds);
+
     List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByProcessInstanceId(String processInstanceId);
 
     List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
@@ -34,6 +38,10 @@ public interface HistoricIdentityLinkDataManager extends DataManager<HistoricIde
     
     void deleteHistoricIdentityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType);
     
+    void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricTaskIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     void deleteHistoricProcessIdentityLinksForNonExistingInstances();
     
     void deleteHistoricCaseIdentityLinksForNonExistingInstances();
@@ -13,6 +13,7 @@
 package org.flowable.identitylink.service.impl.persistence.entity.data;
 
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
@@ -24,6 +25,8 @@ public interface IdentityLinkDataManager extends DataManager<IdentityLinkEntity>
 
     List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId);
 
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Set<String> taskIds);
+
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
 
     List<IdentityLinkEntity> findIdentityLinksByProcessDefinitionId(String processDefinitionId);
@@ -12,8 +12,10 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
@@ -50,6 +52,11 @@ public class MybatisHistoricIdentityLinkDataManager extends AbstractDataManager<
         return getDbSqlSession().selectList("selectHistoricIdentityLinksByTask", taskId);
     }
 
+    @Override
+    public List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByTaskIds(Set<String> taskIds) {
+        return getListInBatches("selectHistoricIdentityLinksByTaskIds", taskIds);
+    }
+
     @Override
     public List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByProcessInstanceId(final String processInstanceId) {
         return getList("selectHistoricIdentityLinksByProcessInstance", processInstanceId, historicIdentityLinksByProcInstMatcher, true);
@@ -87,6 +94,16 @@ public class MybatisHistoricIdentityLinkDataManager extends AbstractDataManager<
         getDbSqlSession().delete("deleteHistoricIdentityLinksByScopeDefinitionIdAndScopeType", parameters, HistoricIdentityLinkEntityImpl.class);
     }
     
+    @Override
+    public void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        bulkDeleteInBatches("bulkDeleteHistoricIdentityLinksByProcessInstanceIds", processInstanceIds, HistoricIdentityLinkEntityImpl.class);
+    }
+    
+    @Override
+    public void deleteHistoricTaskIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        bulkDeleteInBatches("bulkDeleteHistoricTaskIdentityLinksByProcessInstanceIds", processInstanceIds, HistoricIdentityLinkEntityImpl.class);
+    }
+    
     @Override
     public void deleteHistoricProcessIdentityLinksForNonExistingInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricProcessIdentityLinks", null, HistoricIdentityLinkEntityImpl.class);
@@ -14,6 +14,7 @@ package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
 
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -63,6 +64,11 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
         return getList("selectIdentityLinksByTaskId", taskId, identityLinkByProcessInstanceMatcher, true);
     }
 
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Set<String> taskIds) {
+        return getListInBatches("selectIdentityLinksByTaskIds", taskIds);
+    }
+
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.api;
+
+import java.util.List;
+
+/**
+ * Cache for the groups a user is a member of. The groups of a user are fetched internally by the engines,
+ * for example when querying tasks for a candidate user, and looking them up on every query can be expensive
+ * when the identity store is remote (e.g. LDAP).
+ *
+ * Implementations must be thread safe, as a single instance is shared by all engines using the same IDM engine.
+ */
+public interface GroupMembershipCache {
+
+    /**
+     * Returns the cached groups of the given user, or null when nothing (or only an expired entry) is cached for that user.
+     */
+    List<Group> get(String userId);
+
+    /**
+     * Caches the groups of the given user, replacing any previous entry.
+     */
+    void put(String userId, List<Group> groups);
+
+    /**
+     * Removes the cached groups of the given user, for example because one of the memberships of the user changed.
+     */
+    void invalidate(String userId);
+
+    /**
+     * Removes all cached entries.
+     */
+    void clear();
+
+}
@@ -21,4 +21,11 @@ public interface IdmEngineConfigurationApi {
 
     IdmManagementService getIdmManagementService();
 
+    /**
+     * The cache used for the groups of a user, or null when group memberships are not cached.
+     */
+    default GroupMembershipCache getGroupMembershipCache() {
+        return null;
+    }
+
 }
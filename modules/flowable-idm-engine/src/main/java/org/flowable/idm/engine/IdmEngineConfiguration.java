@@ -33,12 +33,14 @@ import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.idm.api.GroupMembershipCache;
 import org.flowable.idm.api.IdmEngineConfigurationApi;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.idm.api.IdmManagementService;
 import org.flowable.idm.api.PasswordEncoder;
 import org.flowable.idm.api.PasswordSalt;
 import org.flowable.idm.api.event.FlowableIdmEventType;
+import org.flowable.idm.engine.impl.DefaultGroupMembershipCache;
 import org.flowable.idm.engine.impl.IdmEngineImpl;
 import org.flowable.idm.engine.impl.IdmIdentityServiceImpl;
 import org.flowable.idm.engine.impl.IdmManagementServiceImpl;
@@ -127,6 +129,21 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
     protected PasswordEncoder passwordEncoder;
     protected PasswordSalt passwordSalt;
 
+    // GROUP MEMBERSHIP CACHE //////////////////////////////////////////
+
+    /**
+     * The maximum number of users for which the groups are cached, see {@link GroupMembershipCache}. A value of zero or less (the default) disables the cache,
+     * unless a custom {@link #groupMembershipCache} is set.
+     */
+    protected int groupMembershipCacheSize = -1;
+
+    /**
+     * The time (in milliseconds) after which the cached groups of a user expire. Default: one hour.
+     */
+    protected long groupMembershipCacheExpirationTime = 3600000L;
+
+    protected GroupMembershipCache groupMembershipCache;
+
     public static IdmEngineConfiguration createIdmEngineConfigurationFromResourceDefault() {
         return createIdmEngineConfigurationFromResource("flowable.idm.cfg.xml", "idmEngineConfiguration");
     }
@@ -198,6 +215,7 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         initDataManagers();
         initEntityManagers();
         initClock();
+        initGroupMembershipCache();
         initEventDispatcher();
     }
 
@@ -225,6 +243,12 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         initService(idmManagementService);
     }
 
+    public void initGroupMembershipCache() {
+        if (groupMembershipCache == null && groupMembershipCacheSize > 0) {
+            groupMembershipCache = new DefaultGroupMembershipCache(groupMembershipCacheSize, groupMembershipCacheExpirationTime, this::getClock);
+        }
+    }
+
     // Data managers
     ///////////////////////////////////////////////////////////
 
@@ -793,6 +817,34 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public int getGroupMembershipCacheSize() {
+        return groupMembershipCacheSize;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCacheSize(int groupMembershipCacheSize) {
+        this.groupMembershipCacheSize = groupMembershipCacheSize;
+        return this;
+    }
+
+    public long getGroupMembershipCacheExpirationTime() {
+        return groupMembershipCacheExpirationTime;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCacheExpirationTime(long groupMembershipCacheExpirationTime) {
+        this.groupMembershipCacheExpirationTime = groupMembershipCacheExpirationTime;
+        return this;
+    }
+
+    @Override
+    public GroupMembershipCache getGroupMembershipCache() {
+        return groupMembershipCache;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCache(GroupMembershipCache groupMembershipCache) {
+        this.groupMembershipCache = groupMembershipCache;
+        return this;
+    }
+
     @Override
     public IdmEngineConfiguration setSessionFactories(Map<Class<?>, SessionFactory> sessionFactories) {
         this.sessionFactories = sessionFactories;
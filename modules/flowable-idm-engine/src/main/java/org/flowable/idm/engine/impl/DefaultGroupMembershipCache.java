@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.api.GroupMembershipCache;
+
+/**
+ * Default {@link GroupMembershipCache}: a bounded LRU cache where every entry expires after a fixed amount of time.
+ * Changes to the groups of a user that do not go through the {@link org.flowable.idm.api.IdmIdentityService} (e.g. done
+ * directly in an LDAP system) will only be visible once the cached entry has expired.
+ *
+ * The cache-event methods ({@link #cacheHit(String)}, {@link #cacheMiss(String)}, ...) do nothing by default and can be
+ * overridden to monitor the cache.
+ */
+public class DefaultGroupMembershipCache implements GroupMembershipCache {
+
+    protected final Supplier<ClockReader> clockReader;
+    protected final Map<String, CacheEntry> cache;
+    protected long expirationTime;
+
+    public DefaultGroupMembershipCache(int cacheSize, long expirationTime, Supplier<ClockReader> clockReader) {
+        this.clockReader = clockReader;
+        this.expirationTime = expirationTime;
+        this.cache = new LinkedHashMap<String, CacheEntry>(cacheSize + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                boolean removeEldest = size() > cacheSize;
+                if (removeEldest) {
+                    cacheEviction(eldest.getKey());
+                }
+                return removeEldest;
+            }
+
+        };
+    }
+
+    @Override
+    public synchronized List<Group> get(String userId) {
+        CacheEntry cacheEntry = cache.get(userId);
+        if (cacheEntry != null) {
+            if (currentTime() - cacheEntry.getTimestamp() < expirationTime) {
+                cacheHit(userId);
+                return cacheEntry.getGroups();
+            }
+
+            cache.remove(userId);
+            cacheExpired(userId);
+            cacheEviction(userId);
+        }
+
+        cacheMiss(userId);
+        return null;
+    }
+
+    @Override
+    public synchronized void put(String userId, List<Group> groups) {
+        cache.put(userId, new CacheEntry(currentTime(), groups));
+    }
+
+    @Override
+    public synchronized void invalidate(String userId) {
+        if (cache.remove(userId) != null) {
+            cacheEviction(userId);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    protected long currentTime() {
+        return clockReader.get().getCurrentTime().getTime();
+    }
+
+    protected void cacheHit(String userId) {
+    }
+
+    protected void cacheMiss(String userId) {
+    }
+
+    protected void cacheEviction(String userId) {
+    }
+
+    protected void cacheExpired(String userId) {
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public void setExpirationTime(long expirationTime) {
+        this.expirationTime = expirationTime;
+    }
+
+    protected static class CacheEntry {
+
+        protected final long timestamp;
+        protected final List<Group> groups;
+
+        public CacheEntry(long timestamp, List<Group> groups) {
+            this.timestamp = timestamp;
+            this.groups = groups;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public List<Group> getGroups() {
+            return groups;
+        }
+
+    }
+
+}
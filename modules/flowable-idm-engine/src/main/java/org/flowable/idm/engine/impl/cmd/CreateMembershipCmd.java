@@ -18,6 +18,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.idm.engine.impl.util.CommandContextUtil;
+import org.flowable.idm.engine.impl.util.GroupMembershipCacheUtil;
 
 /**
  * @author Tom Baeyens
@@ -43,6 +44,8 @@ public class CreateMembershipCmd implements Command<Object>, Serializable {
             throw new FlowableIllegalArgumentException("groupId is null");
         }
         CommandContextUtil.getMembershipEntityManager(commandContext).createMembership(userId, groupId);
+
+        GroupMembershipCacheUtil.invalidateUser(commandContext, userId);
         return null;
     }
 }
@@ -18,6 +18,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.idm.engine.impl.util.CommandContextUtil;
+import org.flowable.idm.engine.impl.util.GroupMembershipCacheUtil;
 
 /**
  * @author Tom Baeyens
@@ -38,6 +39,9 @@ public class DeleteGroupCmd implements Command<Void>, Serializable {
         }
         CommandContextUtil.getGroupEntityManager(commandContext).delete(groupId);
 
+        // the members of the group are not known anymore at this point
+        GroupMembershipCacheUtil.clearAll(commandContext);
+
         return null;
     }
 
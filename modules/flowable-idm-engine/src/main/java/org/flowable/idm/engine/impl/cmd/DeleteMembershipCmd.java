@@ -18,6 +18,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.idm.engine.impl.util.CommandContextUtil;
+import org.flowable.idm.engine.impl.util.GroupMembershipCacheUtil;
 
 /**
  * @author Tom Baeyens
@@ -44,6 +45,8 @@ public class DeleteMembershipCmd implements Command<Void>, Serializable {
 
         CommandContextUtil.getMembershipEntityManager(commandContext).deleteMembership(userId, groupId);
 
+        GroupMembershipCacheUtil.invalidateUser(commandContext, userId);
+
         return null;
     }
 
@@ -18,6 +18,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.idm.engine.impl.util.CommandContextUtil;
+import org.flowable.idm.engine.impl.util.GroupMembershipCacheUtil;
 
 /**
  * @author Tom Baeyens
@@ -38,6 +39,8 @@ public class DeleteUserCmd implements Command<Void>, Serializable {
         }
         CommandContextUtil.getUserEntityManager(commandContext).delete(userId);
 
+        GroupMembershipCacheUtil.invalidateUser(commandContext, userId);
+
         return null;
     }
 }
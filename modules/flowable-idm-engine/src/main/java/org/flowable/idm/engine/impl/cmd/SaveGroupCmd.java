@@ -21,6 +21,7 @@ import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.engine.impl.persistence.entity.GroupEntity;
 import org.flowable.idm.engine.impl.util.CommandContextUtil;
+import org.flowable.idm.engine.impl.util.GroupMembershipCacheUtil;
 
 /**
  * @author Joram Barrez
@@ -53,6 +54,8 @@ public class SaveGroupCmd implements Command<Void>, Serializable {
                 CommandContextUtil.getDbSqlSession(commandContext).update((Entity) group);
             }
 
+            // cached groups would otherwise keep the old name and type
+            GroupMembershipCacheUtil.clearAll(commandContext);
         }
         return null;
     }
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.util;
+
+import java.util.function.Consumer;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.idm.api.GroupMembershipCache;
+
+/**
+ * Invalidates the {@link GroupMembershipCache} of the IDM engine, if there is one, when users, groups or memberships change.
+ * <p>
+ * The cache is invalidated right away and once more when the transaction is committed:
+ * a concurrent query can cache the old data as long as the transaction is open.
+ */
+public class GroupMembershipCacheUtil {
+
+    public static void invalidateUser(CommandContext commandContext, String userId) {
+        invalidate(commandContext, groupMembershipCache -> groupMembershipCache.invalidate(userId));
+    }
+
+    public static void clearAll(CommandContext commandContext) {
+        invalidate(commandContext, GroupMembershipCache::clear);
+    }
+
+    protected static void invalidate(CommandContext commandContext, Consumer<GroupMembershipCache> invalidation) {
+        GroupMembershipCache groupMembershipCache = CommandContextUtil.getIdmEngineConfiguration(commandContext).getGroupMembershipCache();
+        if (groupMembershipCache == null) {
+            return;
+        }
+
+        invalidation.accept(groupMembershipCache);
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, transactionCommandContext -> invalidation.accept(groupMembershipCache));
+        }
+    }
+}
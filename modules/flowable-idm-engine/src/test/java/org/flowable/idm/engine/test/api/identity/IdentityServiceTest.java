@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -33,6 +34,7 @@ import org.flowable.idm.api.Group;
 import org.flowable.idm.api.Picture;
 import org.flowable.idm.api.Token;
 import org.flowable.idm.api.User;
+import org.flowable.idm.engine.impl.DefaultGroupMembershipCache;
 import org.flowable.idm.engine.impl.authentication.ApacheDigester;
 import org.flowable.idm.engine.test.PluggableFlowableIdmTestCase;
 import org.junit.jupiter.api.Test;
@@ -379,6 +381,38 @@ public class IdentityServiceTest extends PluggableFlowableIdmTestCase {
         idmIdentityService.deleteUser("johndoe");
     }
 
+    @Test
+    public void testMembershipChangesInvalidateGroupMembershipCache() {
+        DefaultGroupMembershipCache groupMembershipCache = new DefaultGroupMembershipCache(10, 60000L, idmEngineConfiguration::getClock);
+        idmEngineConfiguration.setGroupMembershipCache(groupMembershipCache);
+        try {
+            Group sales = idmIdentityService.newGroup("sales");
+            idmIdentityService.saveGroup(sales);
+            User johndoe = idmIdentityService.newUser("johndoe");
+            idmIdentityService.saveUser(johndoe);
+
+            groupMembershipCache.put("johndoe", Collections.emptyList());
+            groupMembershipCache.put("kermit", Collections.emptyList());
+            idmIdentityService.createMembership("johndoe", "sales");
+            assertNull(groupMembershipCache.get("johndoe"));
+            assertNotNull(groupMembershipCache.get("kermit"));
+
+            groupMembershipCache.put("johndoe", idmIdentityService.createGroupQuery().groupMember("johndoe").list());
+            idmIdentityService.deleteMembership("johndoe", "sales");
+            assertNull(groupMembershipCache.get("johndoe"));
+
+            groupMembershipCache.put("johndoe", Collections.emptyList());
+            idmIdentityService.deleteGroup("sales");
+            assertEquals(0, groupMembershipCache.size());
+
+            groupMembershipCache.put("johndoe", Collections.emptyList());
+            idmIdentityService.deleteUser("johndoe");
+            assertNull(groupMembershipCache.get("johndoe"));
+        } finally {
+            idmEngineConfiguration.setGroupMembershipCache(null);
+        }
+    }
+
     @Test
     public void testDeleteMembershipWhenUserIsNoMember() {
         Group sales = idmIdentityService.newGroup("sales");
@@ -58,6 +58,8 @@ import org.flowable.job.service.impl.persistence.entity.data.impl.MybatisSuspend
 import org.flowable.job.service.impl.persistence.entity.data.impl.MybatisTimerJobDataManager;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 
 /**
  * This service configuration contains all settings and instances around job execution and management.
@@ -109,6 +111,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected AsyncExecutor asyncExecutor;
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
+    protected boolean asyncExecutorBulkLockingEnabled;
     
     protected String jobExecutionScope;
     protected Map<String, JobHandler> jobHandlers;
@@ -131,6 +134,13 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
     
+    /**
+     * When enabled, async history job data is written using the binary Smile format (with shared field names and short
+     * string values) instead of textual json. Jobs are always read based on the content, so the setting can be changed at any time.
+     */
+    protected boolean asyncHistorySmileEncodingEnabled;
+    protected ObjectMapper asyncHistorySmileObjectMapper;
+    
     public JobServiceConfiguration(String engineName) {
         super(engineName);
     }
@@ -142,6 +152,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         initJobManager();
         initDataManagers();
         initEntityManagers();
+        initAsyncHistorySmileObjectMapper();
     }
 
     @Override
@@ -161,6 +172,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return historyLevel != HistoryLevel.NONE;
     }
 
+    public void initAsyncHistorySmileObjectMapper() {
+        if (asyncHistorySmileObjectMapper == null) {
+            SmileFactory smileFactory = new SmileFactory();
+            smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_NAMES);
+            smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+            asyncHistorySmileObjectMapper = new ObjectMapper(smileFactory);
+        }
+    }
+
     // Job manager ///////////////////////////////////////////////////////////
 
     public void initJobManager() {
@@ -562,6 +582,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isAsyncExecutorBulkLockingEnabled() {
+        return asyncExecutorBulkLockingEnabled;
+    }
+
+    public JobServiceConfiguration setAsyncExecutorBulkLockingEnabled(boolean asyncExecutorBulkLockingEnabled) {
+        this.asyncExecutorBulkLockingEnabled = asyncExecutorBulkLockingEnabled;
+        return this;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
@@ -647,4 +676,20 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
     
+    public boolean isAsyncHistorySmileEncodingEnabled() {
+        return asyncHistorySmileEncodingEnabled;
+    }
+
+    public void setAsyncHistorySmileEncodingEnabled(boolean asyncHistorySmileEncodingEnabled) {
+        this.asyncHistorySmileEncodingEnabled = asyncHistorySmileEncodingEnabled;
+    }
+
+    public ObjectMapper getAsyncHistorySmileObjectMapper() {
+        return asyncHistorySmileObjectMapper;
+    }
+
+    public void setAsyncHistorySmileObjectMapper(ObjectMapper asyncHistorySmileObjectMapper) {
+        this.asyncHistorySmileObjectMapper = asyncHistorySmileObjectMapper;
+    }
+    
 }
@@ -65,6 +65,12 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int resetExpiredJobsInterval = 60 * 1000;
     protected int resetExpiredJobsPageSize = 3;
 
+    // Timer wheel: timer jobs due within the look-ahead window are claimed and fired from a local timing wheel
+    protected boolean timerWheelEnabled;
+    protected int timerWheelLookAheadInMillis = 60 * 1000;
+    protected int timerWheelTickInMillis = 100;
+    protected int timerWheelSize = 64;
+
     // Job queue used when async executor is not yet started and jobs are already added.
     // This is mainly used for testing purpose.
     protected LinkedList<JobInfo> temporaryJobQueue = new LinkedList<>();
@@ -129,7 +135,12 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected void initializeRunnables() {
         if (timerRunnableNeeded && timerJobRunnable == null) {
-            timerJobRunnable = new AcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager());
+            if (timerWheelEnabled) {
+                timerJobRunnable = new AcquireTimerJobsToWheelRunnable(this, jobServiceConfiguration.getJobManager(),
+                        timerWheelLookAheadInMillis, timerWheelTickInMillis, timerWheelSize);
+            } else {
+                timerJobRunnable = new AcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager());
+            }
         }
 
         JobInfoEntityManager<? extends JobInfoEntity> jobEntityManagerToUse = jobEntityManager != null
@@ -315,10 +326,46 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.timerRunnableNeeded = timerRunnableNeeded;
     }
 
+    public boolean isTimerWheelEnabled() {
+        return timerWheelEnabled;
+    }
+
+    public void setTimerWheelEnabled(boolean timerWheelEnabled) {
+        this.timerWheelEnabled = timerWheelEnabled;
+    }
+
+    public int getTimerWheelLookAheadInMillis() {
+        return timerWheelLookAheadInMillis;
+    }
+
+    public void setTimerWheelLookAheadInMillis(int timerWheelLookAheadInMillis) {
+        this.timerWheelLookAheadInMillis = timerWheelLookAheadInMillis;
+    }
+
+    public int getTimerWheelTickInMillis() {
+        return timerWheelTickInMillis;
+    }
+
+    public void setTimerWheelTickInMillis(int timerWheelTickInMillis) {
+        this.timerWheelTickInMillis = timerWheelTickInMillis;
+    }
+
+    public int getTimerWheelSize() {
+        return timerWheelSize;
+    }
+
+    public void setTimerWheelSize(int timerWheelSize) {
+        this.timerWheelSize = timerWheelSize;
+    }
+
     public void setAcquireRunnableThreadName(String acquireRunnableThreadName) {
         this.acquireRunnableThreadName = acquireRunnableThreadName;
     }
 
+    public JobInfoEntityManager<? extends JobInfoEntity> getJobEntityManager() {
+        return jobEntityManager;
+    }
+
     public void setJobEntityManager(JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.jobEntityManager = jobEntityManager;
     }
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Offers the acquired history jobs in batches of {@link DefaultAsyncHistoryJobExecutor#getHistoryJobBatchSize()} jobs,
+ * which are then executed in one transaction.
+ */
+public class AcquireAsyncHistoryJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+    protected final DefaultAsyncHistoryJobExecutor asyncHistoryExecutor;
+
+    public AcquireAsyncHistoryJobsDueRunnable(String name, DefaultAsyncHistoryJobExecutor asyncHistoryExecutor,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        super(name, asyncHistoryExecutor, jobEntityManager);
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+    }
+
+    @Override
+    protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
+        List<JobInfoEntity> jobs = new ArrayList<>(acquiredJobs.getJobs());
+        int batchSize = Math.max(1, asyncHistoryExecutor.getHistoryJobBatchSize());
+
+        List<JobInfoEntity> rejected = new ArrayList<>();
+        for (int i = 0; i < jobs.size(); i += batchSize) {
+            List<JobInfoEntity> batch = jobs.subList(i, Math.min(i + batchSize, jobs.size()));
+            if (batch.size() == 1) {
+                if (!asyncHistoryExecutor.executeAsyncJob(batch.get(0))) {
+                    rejected.add(batch.get(0));
+                }
+            } else {
+                rejected.addAll(asyncHistoryExecutor.executeAsyncHistoryJobBatch(new ArrayList<>(batch)));
+            }
+        }
+        return rejected;
+    }
+
+}
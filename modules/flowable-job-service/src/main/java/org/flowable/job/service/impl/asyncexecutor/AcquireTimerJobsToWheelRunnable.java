@@ -0,0 +1,188 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsForTimerWheelCmd;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timer job acquisition that claims the timer jobs due within a look-ahead window and keeps them in a local {@link TimerJobWheel}.
+ * Every timer job is moved to an executable job when its due time arrives (within one tick of the wheel), instead of up to
+ * one acquisition interval late. Claims that did not fire yet are given back when the acquisition is stopped.
+ * A claimed timer job that is deleted or rescheduled in the meantime is skipped when it's due.
+ * When an executor goes away without giving back its claims, the lock of the timer jobs expires and another executor claims them.
+ */
+public class AcquireTimerJobsToWheelRunnable extends AcquireTimerJobsRunnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AcquireTimerJobsToWheelRunnable.class);
+
+    protected final int lookAheadInMillis;
+    protected final long tickInMillis;
+    protected final int wheelSize;
+
+    protected TimerJobWheel timerJobWheel;
+    protected final Set<String> claimedJobIds = new HashSet<>();
+    protected long nextAcquisitionTime;
+
+    public AcquireTimerJobsToWheelRunnable(AsyncExecutor asyncExecutor, JobManager jobManager, int lookAheadInMillis, long tickInMillis, int wheelSize) {
+        super(asyncExecutor, jobManager);
+        this.lookAheadInMillis = lookAheadInMillis;
+        this.tickInMillis = tickInMillis;
+        this.wheelSize = wheelSize;
+    }
+
+    @Override
+    public synchronized void run() {
+        LOGGER.info("starting to acquire timer jobs for the timer wheel");
+        Thread.currentThread().setName("flowable-" + asyncExecutor.getJobServiceConfiguration().getEngineName() + "-acquire-timer-jobs");
+
+        final CommandExecutor commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
+        timerJobWheel = new TimerJobWheel(tickInMillis, wheelSize, currentTime());
+        nextAcquisitionTime = 0;
+
+        while (!isInterrupted) {
+
+            if (currentTime() >= nextAcquisitionTime) {
+                acquireTimerJobs(commandExecutor);
+            }
+
+            fireDueTimerJobs(commandExecutor);
+
+            millisToWait = nextAcquisitionTime - currentTime();
+            if (!timerJobWheel.isEmpty()) {
+                millisToWait = Math.min(millisToWait, tickInMillis);
+            }
+
+            if (millisToWait > 0) {
+                try {
+                    synchronized (MONITOR) {
+                        if (!isInterrupted) {
+                            isWaiting.set(true);
+                            MONITOR.wait(millisToWait);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("timer job acquisition wait interrupted");
+                    }
+                } finally {
+                    isWaiting.set(false);
+                }
+            }
+        }
+
+        releaseClaimedTimerJobs(commandExecutor);
+
+        LOGGER.info("stopped timer job acquisition for the timer wheel");
+    }
+
+    protected void acquireTimerJobs(CommandExecutor commandExecutor) {
+        try {
+            AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsForTimerWheelCmd(asyncExecutor, lookAheadInMillis));
+            for (TimerJobEntity job : acquiredJobs.getJobs()) {
+                if (claimedJobIds.add(job.getId())) {
+                    timerJobWheel.add(job.getId(), job.getDuedate() != null ? job.getDuedate().getTime() : 0L);
+                }
+            }
+
+            if (acquiredJobs.size() >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+                nextAcquisitionTime = currentTime();
+            } else {
+                nextAcquisitionTime = currentTime() + asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+            }
+
+        } catch (Throwable e) {
+            LOGGER.error("exception during timer job acquisition: {}", e.getMessage(), e);
+            nextAcquisitionTime = currentTime() + asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+        }
+    }
+
+    protected void fireDueTimerJobs(CommandExecutor commandExecutor) {
+        final String claimLockOwner = AcquireTimerJobsForTimerWheelCmd.getClaimLockOwner(asyncExecutor);
+        List<String> dueJobIds = timerJobWheel.advance(currentTime());
+        for (final String jobId : dueJobIds) {
+            claimedJobIds.remove(jobId);
+            try {
+                commandExecutor.execute(new Command<Void>() {
+
+                    @Override
+                    public Void execute(CommandContext commandContext) {
+                        TimerJobEntity timerJob = CommandContextUtil.getTimerJobEntityManager(commandContext).findById(jobId);
+                        // The timer job can be deleted in the meantime, or claimed by another executor after the lock expired
+                        if (timerJob != null && claimLockOwner.equals(timerJob.getLockOwner())) {
+                            jobManager.moveTimerJobToExecutableJob(timerJob);
+                        }
+                        return null;
+                    }
+                });
+
+            } catch (FlowableOptimisticLockingException optimisticLockingException) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Optimistic locking exception while moving claimed timer job {}, it was changed concurrently: {}",
+                            jobId, optimisticLockingException.getMessage());
+                }
+            } catch (Throwable e) {
+                LOGGER.error("exception while moving claimed timer job {} to an executable job: {}", jobId, e.getMessage(), e);
+            }
+        }
+    }
+
+    protected void releaseClaimedTimerJobs(CommandExecutor commandExecutor) {
+        final List<String> jobIds = timerJobWheel.drain();
+        claimedJobIds.clear();
+        if (jobIds.isEmpty()) {
+            return;
+        }
+
+        final String claimLockOwner = AcquireTimerJobsForTimerWheelCmd.getClaimLockOwner(asyncExecutor);
+        try {
+            commandExecutor.execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (String jobId : jobIds) {
+                        TimerJobEntity timerJob = CommandContextUtil.getTimerJobEntityManager(commandContext).findById(jobId);
+                        if (timerJob != null && claimLockOwner.equals(timerJob.getLockOwner())) {
+                            timerJob.setLockOwner(null);
+                            timerJob.setLockExpirationTime(null);
+                        }
+                    }
+                    return null;
+                }
+            });
+
+        } catch (Throwable e) {
+            // The claims are picked up by another executor once their lock expired
+            LOGGER.warn("Could not give back {} claimed timer jobs: {}", jobIds.size(), e.getMessage(), e);
+        }
+    }
+
+    protected long currentTime() {
+        return asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+    }
+
+    public TimerJobWheel getTimerJobWheel() {
+        return timerJobWheel;
+    }
+}
@@ -12,8 +12,21 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+
 public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
     
+    /**
+     * The number of acquired history jobs that are executed together in one transaction.
+     * The default is 1, which executes every history job in its own transaction.
+     * Note that at most maxAsyncJobsDuePerAcquisition jobs are acquired at once.
+     */
+    protected int historyJobBatchSize = 1;
+    
     public DefaultAsyncHistoryJobExecutor() {
         setTimerRunnableNeeded(false);
         setAcquireRunnableThreadName("flowable-acquire-history-jobs");
@@ -29,4 +42,47 @@ public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
         }
     }
 
+    @Override
+    protected void initializeRunnables() {
+        if (historyJobBatchSize > 1 && !isMessageQueueMode && asyncJobsDueRunnable == null) {
+            asyncJobsDueRunnable = new AcquireAsyncHistoryJobsDueRunnable(acquireRunnableThreadName, this, jobEntityManager);
+        }
+        super.initializeRunnables();
+    }
+
+    /**
+     * Executes the given history jobs together in one transaction.
+     * 
+     * @return the jobs that were rejected because the queue is full
+     */
+    public List<? extends JobInfoEntity> executeAsyncHistoryJobBatch(List<? extends JobInfoEntity> jobs) {
+        if (isMessageQueueMode) {
+            return Collections.emptyList();
+        }
+        
+        if (!isActive) {
+            temporaryJobQueue.addAll(jobs);
+            return Collections.emptyList();
+        }
+        
+        try {
+            submitAsyncRunnable(new ExecuteAsyncHistoryJobBatchRunnable(jobs, this));
+            return Collections.emptyList();
+            
+        } catch (RejectedExecutionException e) {
+            for (JobInfoEntity job : jobs) {
+                unacquireJobAfterRejection(job);
+            }
+            return jobs;
+        }
+    }
+
+    public int getHistoryJobBatchSize() {
+        return historyJobBatchSize;
+    }
+
+    public void setHistoryJobBatchSize(int historyJobBatchSize) {
+        this.historyJobBatchSize = historyJobBatchSize;
+    }
+
 }
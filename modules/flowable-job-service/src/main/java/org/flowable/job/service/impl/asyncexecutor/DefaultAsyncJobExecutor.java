@@ -12,10 +12,14 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -113,10 +117,26 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     protected String threadPoolNamingPattern = "flowable-async-job-executor-thread-%d";
 
+    /**
+     * If true, every job is executed on its own virtual thread instead of on a thread of a fixed thread pool.
+     * The number of jobs executing at the same time is then bounded by {@link #maxConcurrentJobs} instead of the pool and queue sizes,
+     * so jobs that block on I/O don't hold on to a platform thread. Virtual threads need Java 21 or later,
+     * on older runtimes a cached thread pool bounded by the same limit is used instead.
+     */
+    protected boolean useVirtualThreads;
+
+    /**
+     * The maximum number of jobs that are executed at the same time when {@link #useVirtualThreads} is enabled.
+     */
+    protected int maxConcurrentJobs = 256;
+
+    /** The permits for executing jobs when {@link #useVirtualThreads} is enabled */
+    protected Semaphore jobExecutionPermits;
+
     @Override
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
         try {
-            executorService.execute(runnable);
+            submitAsyncRunnable(runnable);
             return true;
 
         } catch (RejectedExecutionException e) {
@@ -127,6 +147,38 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    /**
+     * Hands the runnable to the executor service.
+     * Throws a {@link RejectedExecutionException} when the executor service can't accept it,
+     * or when all permits are taken in case virtual threads are used.
+     */
+    protected void submitAsyncRunnable(Runnable runnable) {
+        // The field is cleared when the executor is shut down, while submitted jobs can still be running
+        final Semaphore permits = jobExecutionPermits;
+        if (permits == null) {
+            executorService.execute(runnable);
+            return;
+        }
+
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Maximum number of concurrently executing jobs (" + maxConcurrentJobs + ") reached");
+        }
+
+        try {
+            executorService.execute(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    permits.release();
+                }
+            });
+
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
     protected void unacquireJobAfterRejection(final JobInfo job) {
 
         // When a RejectedExecutionException is caught, this means that the
@@ -176,6 +228,11 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     }
 
     protected void initAsyncJobExecutionThreadPool() {
+        if (useVirtualThreads) {
+            initAsyncJobExecutionVirtualThreads();
+            return;
+        }
+
         if (threadPoolQueue == null) {
             LOGGER.info("Creating thread pool queue of size {}", queueSize);
             threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
@@ -192,6 +249,44 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected void initAsyncJobExecutionVirtualThreads() {
+        if (jobExecutionPermits == null) {
+            LOGGER.info("Executing at most {} jobs concurrently", maxConcurrentJobs);
+            jobExecutionPermits = new Semaphore(maxConcurrentJobs);
+        }
+
+        if (executorService == null) {
+            executorService = createVirtualThreadExecutorService();
+            if (executorService == null) {
+                LOGGER.warn("Virtual threads are not supported by this Java runtime, using a cached thread pool to execute jobs");
+                BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build();
+                executorService = Executors.newCachedThreadPool(threadFactory);
+            }
+        }
+    }
+
+    /**
+     * Creates an executor service that starts a new virtual thread for every job, or returns null when virtual threads aren't available.
+     * Reflection is used, as virtual threads are only available as of Java 21.
+     */
+    protected ExecutorService createVirtualThreadExecutorService() {
+        try {
+            Class<?> threadBuilderClass = Class.forName("java.lang.Thread$Builder");
+            Object threadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            String namePrefix = threadPoolNamingPattern.replace("%d", "");
+            threadBuilder = threadBuilderClass.getMethod("name", String.class, long.class).invoke(threadBuilder, namePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) threadBuilderClass.getMethod("factory").invoke(threadBuilder);
+
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            LOGGER.info("Creating virtual thread executor service");
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+
+        } catch (ReflectiveOperationException e) {
+            LOGGER.debug("Could not create virtual thread executor service", e);
+            return null;
+        }
+    }
+
     protected void stopExecutingAsyncJobs() {
         if (executorService != null) {
 
@@ -210,6 +305,8 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
             executorService = null;
         }
+
+        jobExecutionPermits = null;
     }
 
     /** Starts the acquisition thread */
@@ -339,7 +436,9 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     @Override
     public int getRemainingCapacity() {
-        if (threadPoolQueue != null) {
+        if (jobExecutionPermits != null) {
+            return jobExecutionPermits.availablePermits();
+        } else if (threadPoolQueue != null) {
             return threadPoolQueue.remainingCapacity();
         } else {
             // return plenty of remaining capacity if there's no thread pool queue
@@ -407,6 +506,22 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.executorService = executorService;
     }
 
+    public boolean isUseVirtualThreads() {
+        return useVirtualThreads;
+    }
+
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
     public String getThreadPoolNamingPattern() {
         return threadPoolNamingPattern;
     }
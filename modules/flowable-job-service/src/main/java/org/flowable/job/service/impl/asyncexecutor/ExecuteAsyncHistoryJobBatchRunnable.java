@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncJobCmd;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction, in the order in which they were created.
+ * The historic entities of all jobs are then flushed together, which allows bulk inserts of the entities of the same type.
+ * <p>
+ * When the batch fails (for example because one of the jobs isn't applicable yet), the transaction is rolled back
+ * and every job is executed separately, the same way as when batching is disabled.
+ */
+public class ExecuteAsyncHistoryJobBatchRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncHistoryJobBatchRunnable.class);
+
+    protected List<? extends JobInfoEntity> jobs;
+    protected DefaultAsyncHistoryJobExecutor asyncHistoryExecutor;
+
+    public ExecuteAsyncHistoryJobBatchRunnable(List<? extends JobInfoEntity> jobs, DefaultAsyncHistoryJobExecutor asyncHistoryExecutor) {
+        this.jobs = jobs;
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+    }
+
+    @Override
+    public void run() {
+        List<JobInfoEntity> orderedJobs = new ArrayList<>(jobs);
+        orderedJobs.sort(Comparator.comparing(this::getCreateTime, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        try {
+            asyncHistoryExecutor.getJobServiceConfiguration().getCommandExecutor().execute(commandContext -> {
+                for (JobInfoEntity job : orderedJobs) {
+                    new ExecuteAsyncJobCmd(job.getId(), asyncHistoryExecutor.getJobEntityManager()).execute(commandContext);
+                }
+                return null;
+            });
+
+        } catch (Throwable t) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Could not execute batch of {} history jobs, executing them one by one. Exception message: {}", orderedJobs.size(), t.getMessage());
+            }
+
+            for (JobInfo job : orderedJobs) {
+                asyncHistoryExecutor.createRunnableForJob(job).run();
+            }
+        }
+    }
+
+    protected Date getCreateTime(JobInfoEntity job) {
+        return job instanceof HistoryJobEntity ? ((HistoryJobEntity) job).getCreateTime() : null;
+    }
+
+    public List<? extends JobInfoEntity> getJobs() {
+        return jobs;
+    }
+
+}
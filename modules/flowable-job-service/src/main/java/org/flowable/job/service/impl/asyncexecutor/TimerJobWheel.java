@@ -0,0 +1,198 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel holding the ids of the timer jobs claimed by the timer wheel acquisition, until they are due.
+ *
+ * Every level has a fixed number of buckets, each covering one tick of that level. A timer that is due beyond the range of a level
+ * is put in the next (coarser) level, and moved down to the finer levels when the time of its bucket is reached.
+ * Adding a timer and advancing the time are therefore independent of the number of timers held by the wheel.
+ *
+ * Not thread-safe: only used by the timer job acquisition thread.
+ */
+public class TimerJobWheel {
+
+    protected final TimerJobWheelLevel rootLevel;
+
+    /** Timers that are due within the current tick of the finest level. */
+    protected final List<TimerEntry> currentTickEntries = new ArrayList<>();
+
+    protected int size;
+
+    public TimerJobWheel(long tickInMillis, int wheelSize, long startTime) {
+        this.rootLevel = new TimerJobWheelLevel(tickInMillis, wheelSize, startTime);
+    }
+
+    public void add(String jobId, long dueTime) {
+        TimerEntry entry = new TimerEntry(jobId, dueTime);
+        if (!rootLevel.add(entry)) {
+            currentTickEntries.add(entry);
+        }
+        size++;
+    }
+
+    /**
+     * Advances the wheel to the given time and returns the ids of the timer jobs that are due.
+     */
+    public List<String> advance(long now) {
+        rootLevel.advanceTo(now, currentTickEntries);
+
+        List<String> dueJobIds = new ArrayList<>();
+        Iterator<TimerEntry> iterator = currentTickEntries.iterator();
+        while (iterator.hasNext()) {
+            TimerEntry entry = iterator.next();
+            if (entry.dueTime <= now) {
+                dueJobIds.add(entry.jobId);
+                iterator.remove();
+                size--;
+            }
+        }
+        return dueJobIds;
+    }
+
+    /**
+     * Removes all timers from the wheel and returns their job ids.
+     */
+    public List<String> drain() {
+        List<TimerEntry> entries = new ArrayList<>(currentTickEntries);
+        currentTickEntries.clear();
+        rootLevel.drain(entries);
+        size = 0;
+
+        List<String> jobIds = new ArrayList<>(entries.size());
+        for (TimerEntry entry : entries) {
+            jobIds.add(entry.jobId);
+        }
+        return jobIds;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getTickInMillis() {
+        return rootLevel.tickInMillis;
+    }
+
+    protected static class TimerJobWheelLevel {
+
+        protected final long tickInMillis;
+        protected final int wheelSize;
+        protected final long interval;
+        protected final List<TimerEntry>[] buckets;
+
+        /** Start time of the current bucket, always a multiple of the tick. */
+        protected long currentTime;
+
+        protected TimerJobWheelLevel overflowLevel;
+
+        @SuppressWarnings("unchecked")
+        protected TimerJobWheelLevel(long tickInMillis, int wheelSize, long startTime) {
+            this.tickInMillis = tickInMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickInMillis * wheelSize;
+            this.buckets = new List[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayList<>();
+            }
+            this.currentTime = startTime - (startTime % tickInMillis);
+        }
+
+        /**
+         * Puts the entry in the bucket it belongs to, returns false when it is due within the current tick of this level.
+         */
+        protected boolean add(TimerEntry entry) {
+            if (entry.dueTime < currentTime + tickInMillis) {
+                return false;
+
+            } else if (entry.dueTime < currentTime + interval) {
+                buckets[bucketIndex(entry.dueTime)].add(entry);
+                return true;
+
+            } else {
+                if (overflowLevel == null) {
+                    overflowLevel = new TimerJobWheelLevel(interval, wheelSize, currentTime);
+                }
+                return overflowLevel.add(entry);
+            }
+        }
+
+        /**
+         * Moves the current time of this level to the tick of the given time. The entries of the buckets that were passed are added to the given list,
+         * the entries cascading down from the overflow level are put in the buckets of this level.
+         */
+        protected void advanceTo(long time, List<TimerEntry> reachedEntries) {
+            long targetTime = time - (time % tickInMillis);
+            if (targetTime - currentTime >= interval) {
+                // All buckets were passed
+                for (List<TimerEntry> bucket : buckets) {
+                    reachedEntries.addAll(bucket);
+                    bucket.clear();
+                }
+                currentTime = targetTime;
+
+            } else {
+                while (currentTime < targetTime) {
+                    currentTime += tickInMillis;
+                    List<TimerEntry> bucket = buckets[bucketIndex(currentTime)];
+                    reachedEntries.addAll(bucket);
+                    bucket.clear();
+                }
+            }
+
+            if (overflowLevel != null) {
+                List<TimerEntry> cascadedEntries = new ArrayList<>();
+                overflowLevel.advanceTo(time, cascadedEntries);
+                for (TimerEntry entry : cascadedEntries) {
+                    if (!add(entry)) {
+                        reachedEntries.add(entry);
+                    }
+                }
+            }
+        }
+
+        protected void drain(List<TimerEntry> entries) {
+            for (List<TimerEntry> bucket : buckets) {
+                entries.addAll(bucket);
+                bucket.clear();
+            }
+            if (overflowLevel != null) {
+                overflowLevel.drain(entries);
+            }
+        }
+
+        protected int bucketIndex(long time) {
+            return (int) ((time / tickInMillis) % wheelSize);
+        }
+    }
+
+    protected static class TimerEntry {
+
+        protected final String jobId;
+        protected final long dueTime;
+
+        protected TimerEntry(String jobId, long dueTime) {
+            this.jobId = jobId;
+            this.dueTime = dueTime;
+        }
+    }
+}
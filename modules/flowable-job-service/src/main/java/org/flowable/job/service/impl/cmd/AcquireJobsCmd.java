@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -50,6 +51,10 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
     public AcquiredJobEntities execute(CommandContext commandContext) {
         int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
+        if (CommandContextUtil.getJobServiceConfiguration(commandContext).isAsyncExecutorBulkLockingEnabled()) {
+            return bulkLockJobs(commandContext, maxResults);
+        }
+
         List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, maxResults)); 
         AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
 
@@ -61,11 +66,30 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
         return acquiredJobs;
     }
 
+    /**
+     * Locks the jobs with one conditional bulk update instead of updating every job entity at flush time.
+     * Jobs that were locked concurrently by another executor are skipped, so the acquisition never fails as a whole.
+     */
+    protected AcquiredJobEntities bulkLockJobs(CommandContext commandContext, int maxResults) {
+        List<? extends JobInfoEntity> jobs = jobEntityManager.lockJobsToExecute(new Page(0, maxResults), 
+                asyncExecutor.getLockOwner(), getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis()));
+        
+        AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
+        for (JobInfoEntity job : jobs) {
+            acquiredJobs.addJob(job);
+        }
+        return acquiredJobs;
+    }
+
     protected void lockJob(CommandContext commandContext, JobInfoEntity job, int lockTimeInMillis) {
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
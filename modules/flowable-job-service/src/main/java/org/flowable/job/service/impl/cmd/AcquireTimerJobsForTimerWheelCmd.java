@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+/**
+ * Claims the timer jobs that are due within the look-ahead window of the timer wheel, by locking them with the claim lock owner of the async executor
+ * (see {@link #getClaimLockOwner(AsyncExecutor)}). The lock expires the timer lock time after the end of the look-ahead window,
+ * after which another executor can claim the timer jobs again.
+ * <p>
+ * Contrary to a regular lock, a claim doesn't mean the timer job is being executed: a claimed timer job can still be deleted,
+ * in which case it's simply not found anymore when it's due.
+ */
+public class AcquireTimerJobsForTimerWheelCmd implements Command<AcquiredTimerJobEntities> {
+
+    public static final String CLAIM_LOCK_OWNER_PREFIX = "timer-wheel-";
+
+    protected final AsyncExecutor asyncExecutor;
+    protected final int lookAheadInMillis;
+
+    public AcquireTimerJobsForTimerWheelCmd(AsyncExecutor asyncExecutor, int lookAheadInMillis) {
+        this.asyncExecutor = asyncExecutor;
+        this.lookAheadInMillis = lookAheadInMillis;
+    }
+
+    @Override
+    public AcquiredTimerJobEntities execute(CommandContext commandContext) {
+        long now = CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime().getTime();
+        Date dueBefore = new Date(now + lookAheadInMillis);
+        Date lockExpirationTime = new Date(now + lookAheadInMillis + asyncExecutor.getTimerLockTimeInMillis());
+
+        List<TimerJobEntity> timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext)
+                .lockTimerJobsDueBefore(new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()), dueBefore, getClaimLockOwner(asyncExecutor), lockExpirationTime);
+
+        AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
+        for (TimerJobEntity job : timerJobs) {
+            acquiredJobs.addJob(job);
+        }
+        return acquiredJobs;
+    }
+
+    public static String getClaimLockOwner(AsyncExecutor asyncExecutor) {
+        return CLAIM_LOCK_OWNER_PREFIX + asyncExecutor.getLockOwner();
+    }
+
+    public static boolean isClaimedByTimerWheel(TimerJobEntity timerJob) {
+        return timerJob.getLockOwner() != null && timerJob.getLockOwner().startsWith(CLAIM_LOCK_OWNER_PREFIX);
+    }
+
+}
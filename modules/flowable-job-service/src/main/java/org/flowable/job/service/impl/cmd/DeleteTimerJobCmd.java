@@ -77,7 +77,8 @@ public class DeleteTimerJobCmd implements Command<Object>, Serializable {
         // We need to check if the job was locked, ie acquired by the job acquisition thread
         // This happens if the job was already acquired, but not yet executed.
         // In that case, we can't allow to delete the job.
-        if (job.getLockOwner() != null) {
+        // A claim of the timer wheel only means the timer job isn't due yet, so it doesn't prevent the delete.
+        if (job.getLockOwner() != null && !AcquireTimerJobsForTimerWheelCmd.isClaimedByTimerWheel(job)) {
             throw new FlowableException("Cannot delete timer job when the job is being executed. Try again later.");
         }
         return job;
@@ -15,6 +15,8 @@ package org.flowable.job.service.impl.history.async;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
@@ -42,12 +44,12 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
 
     @Override
     public void execute(HistoryJobEntity job, String configuration, CommandContext commandContext) {
-        ObjectMapper objectMapper = CommandContextUtil.getJobServiceConfiguration(commandContext).getObjectMapper();
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
             try {
 
                 byte[] bytes = getJobBytes(job);
-                JsonNode historyNode = objectMapper.readTree(bytes);
+                JsonNode historyNode = getObjectMapper(jobServiceConfiguration, bytes).readTree(bytes);
                 if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
                     ArrayNode arrayNode = (ArrayNode) historyNode;
                     for (JsonNode jsonNode : arrayNode) {
@@ -73,6 +75,13 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         }
     }
 
+    protected ObjectMapper getObjectMapper(JobServiceConfiguration jobServiceConfiguration, byte[] bytes) {
+        if (AsyncHistoryJsonUtil.isSmileEncoded(bytes)) {
+            return jobServiceConfiguration.getAsyncHistorySmileObjectMapper();
+        }
+        return jobServiceConfiguration.getObjectMapper();
+    }
+
     protected byte[] getJobBytes(HistoryJobEntity job) {
         return job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
     }
@@ -25,6 +25,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -175,5 +176,37 @@ public class AsyncHistorySession implements Session {
             jobData.get(type).add(data);
         }
         
+        /**
+         * Returns the first data of the given type for which the given field has the given value, or null if there is no such data.
+         */
+        public ObjectNode findJobData(String type, String fieldName, String value) {
+            List<ObjectNode> dataList = jobData.get(type);
+            if (dataList != null && value != null) {
+                for (ObjectNode data : dataList) {
+                    if (value.equals(AsyncHistoryJsonUtil.getStringFromJson(data, fieldName))) {
+                        return data;
+                    }
+                }
+            }
+            return null;
+        }
+        
+        /**
+         * Removes all data of the given type for which the given field has the given value.
+         * 
+         * @return true if at least one data element was removed
+         */
+        public boolean removeJobData(String type, String fieldName, String value) {
+            List<ObjectNode> dataList = jobData.get(type);
+            if (dataList != null && value != null) {
+                boolean removed = dataList.removeIf(data -> value.equals(AsyncHistoryJsonUtil.getStringFromJson(data, fieldName)));
+                if (dataList.isEmpty()) {
+                    jobData.remove(type);
+                }
+                return removed;
+            }
+            return false;
+        }
+        
     }
 }
@@ -27,6 +27,7 @@ import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -80,7 +81,9 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
 
     protected void addJsonToJob(CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration, HistoryJobEntity jobEntity, JsonNode rootObjectNode, boolean applyCompression) {
         try {
-            byte[] bytes = jobServiceConfiguration.getObjectMapper().writeValueAsBytes(rootObjectNode);
+            ObjectMapper objectMapper = jobServiceConfiguration.isAsyncHistorySmileEncodingEnabled()
+                    ? jobServiceConfiguration.getAsyncHistorySmileObjectMapper() : jobServiceConfiguration.getObjectMapper();
+            byte[] bytes = objectMapper.writeValueAsBytes(rootObjectNode);
             if (applyCompression) {
                 bytes = compress(bytes);
             }
@@ -20,7 +20,9 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.HistoryJobQueryImpl;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
 import org.flowable.job.service.impl.util.CommandContextUtil;
@@ -92,10 +94,13 @@ public class AsyncHistoryJobMessageReceiver {
     }
     
     protected JsonNode getHistoryJobData(CommandContext commandContext, HistoryJobEntity job) {
-        ObjectMapper objectMapper = CommandContextUtil.getJobServiceConfiguration(commandContext).getObjectMapper();
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
             try {
-                return objectMapper.readTree(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
+                byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
+                ObjectMapper objectMapper = AsyncHistoryJsonUtil.isSmileEncoded(bytes)
+                        ? jobServiceConfiguration.getAsyncHistorySmileObjectMapper() : jobServiceConfiguration.getObjectMapper();
+                return objectMapper.readTree(bytes);
             } catch (IOException e) {
                 throw new FlowableException("Could not deserialize json for history job data", e);
             }
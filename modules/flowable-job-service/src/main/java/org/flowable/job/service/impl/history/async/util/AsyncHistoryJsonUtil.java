@@ -22,6 +22,7 @@ import org.flowable.job.service.impl.history.async.AsyncHistoryDateUtil;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
 
 /**
  * @author Joram Barrez
@@ -153,4 +154,14 @@ public class AsyncHistoryJsonUtil {
         return null;
     }
 
+    /**
+     * Data written in the Smile format always starts with the Smile header, which can't be the start of a json document.
+     */
+    public static boolean isSmileEncoded(byte[] bytes) {
+        return bytes != null && bytes.length >= 3
+                && bytes[0] == SmileConstants.HEADER_BYTE_1
+                && bytes[1] == SmileConstants.HEADER_BYTE_2
+                && bytes[2] == SmileConstants.HEADER_BYTE_3;
+    }
+
 }
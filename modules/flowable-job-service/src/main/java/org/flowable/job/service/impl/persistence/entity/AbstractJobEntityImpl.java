@@ -95,6 +95,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setCreateTime(Date createTime) {
+        markDirty();
         this.createTime = createTime;
     }
 
@@ -105,6 +106,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setDuedate(Date duedate) {
+        markDirty();
         this.duedate = duedate;
     }
 
@@ -125,6 +127,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setRetries(int retries) {
+        markDirty();
         this.retries = retries;
     }
 
@@ -155,6 +158,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty();
         this.processDefinitionId = processDefinitionId;
     }
     
@@ -165,6 +169,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setElementId(String elementId) {
+        markDirty();
         this.elementId = elementId;
     }
 
@@ -175,6 +180,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setElementName(String elementName) {
+        markDirty();
         this.elementName = elementName;
     }
 
@@ -255,6 +261,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setJobHandlerType(String jobHandlerType) {
+        markDirty();
         this.jobHandlerType = jobHandlerType;
     }
 
@@ -280,6 +287,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setCustomValues(String customValues) {
+        markDirty();
         if(customValuesByteArrayRef == null) {
             customValuesByteArrayRef = new JobByteArrayRef();
         }
@@ -313,6 +321,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setExceptionStacktrace(String exception) {
+        markDirty();
         if (exceptionByteArrayRef == null) {
             exceptionByteArrayRef = new JobByteArrayRef();
         }
@@ -327,6 +336,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setExceptionMessage(String exceptionMessage) {
+        markDirty();
         this.exceptionMessage = StringUtils.abbreviate(exceptionMessage, JobInfo.MAX_EXCEPTION_MESSAGE_LENGTH);
     }
 
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 
@@ -27,7 +28,7 @@ import org.flowable.job.service.JobServiceConfiguration;
  * @author Joram Barrez
  * @author Tijs Rademakers
  */
-public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements HistoryJobEntity, Serializable {
+public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements HistoryJobEntity, Serializable, DirtyTrackedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -83,6 +84,7 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setRetries(int retries) {
+        markDirty();
         this.retries = retries;
     }
 
@@ -93,6 +95,7 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setJobHandlerType(String jobHandlerType) {
+        markDirty();
         this.jobHandlerType = jobHandlerType;
     }
 
@@ -113,6 +116,7 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setCustomValues(String customValues) {
+        markDirty();
         if (customValuesByteArrayRef == null) {
             customValuesByteArrayRef = new JobByteArrayRef();
         }
@@ -126,6 +130,7 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setCustomValuesByteArrayRef(JobByteArrayRef customValuesByteArrayRef) {
+        markDirty();
         this.customValuesByteArrayRef = customValuesByteArrayRef;
     }
 
@@ -141,11 +146,13 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setAdvancedJobHandlerConfigurationByteArrayRef(JobByteArrayRef configurationByteArrayRef) {
+        markDirty();
          this.advancedJobHandlerConfigurationByteArrayRef = configurationByteArrayRef;
     }
 
     @Override
     public void setAdvancedJobHandlerConfiguration(String jobHandlerConfiguration) {
+        markDirty();
         if (advancedJobHandlerConfigurationByteArrayRef == null) {
             advancedJobHandlerConfigurationByteArrayRef = new JobByteArrayRef();
         }
@@ -154,6 +161,7 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setAdvancedJobHandlerConfigurationBytes(byte[] bytes) {
+        markDirty();
         if (advancedJobHandlerConfigurationByteArrayRef == null) {
             advancedJobHandlerConfigurationByteArrayRef = new JobByteArrayRef();
         }
@@ -162,6 +170,7 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setExceptionByteArrayRef(JobByteArrayRef exceptionByteArrayRef) {
+        markDirty();
         this.exceptionByteArrayRef = exceptionByteArrayRef;
     }
 
@@ -177,6 +186,7 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setExceptionStacktrace(String exception) {
+        markDirty();
         if (exceptionByteArrayRef == null) {
             exceptionByteArrayRef = new JobByteArrayRef();
         }
@@ -190,6 +200,7 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setExceptionMessage(String exceptionMessage) {
+        markDirty();
         this.exceptionMessage = StringUtils.abbreviate(exceptionMessage, JobInfo.MAX_EXCEPTION_MESSAGE_LENGTH);
     }
 
@@ -220,6 +231,7 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setLockOwner(String claimedBy) {
+        markDirty();
         this.lockOwner = claimedBy;
     }
 
@@ -230,6 +242,7 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setLockExpirationTime(Date claimedUntil) {
+        markDirty();
         this.lockExpirationTime = claimedUntil;
     }
 
@@ -240,6 +253,7 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty();
         this.scopeType = scopeType;
     }
 
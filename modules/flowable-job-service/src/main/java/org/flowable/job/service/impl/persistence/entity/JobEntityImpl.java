@@ -15,13 +15,15 @@ package org.flowable.job.service.impl.persistence.entity;
 import java.util.Date;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
+
 /**
  * Job entity.
  *
  * @author Joram Barrez
  * @author Tijs Rademakers
  */
-public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
+public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity, DirtyTrackedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -47,6 +49,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
 
     @Override
     public void setLockOwner(String claimedBy) {
+        markDirty();
         this.lockOwner = claimedBy;
     }
 
@@ -57,6 +60,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
 
     @Override
     public void setLockExpirationTime(Date claimedUntil) {
+        markDirty();
         this.lockExpirationTime = claimedUntil;
     }
 
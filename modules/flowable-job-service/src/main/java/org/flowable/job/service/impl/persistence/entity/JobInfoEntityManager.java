@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -26,6 +27,14 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     List<T> findJobsToExecute(Page page);
 
+    /**
+     * Locks the {@link JobEntity} instances that are eligible to be executed with one conditional bulk update and returns the jobs that were locked for the given lock owner.
+     * 
+     * Contrary to {@link #findJobsToExecute(Page)} followed by an update per job, jobs that were concurrently locked by another executor are simply skipped
+     * instead of causing an optimistic locking exception for the whole acquisition.
+     */
+    List<T> lockJobsToExecute(Page page, String lockOwner, Date lockExpirationTime);
+
     /**
      * Returns all {@link JobEntity} instances related to on ExecutionEntity.
      */
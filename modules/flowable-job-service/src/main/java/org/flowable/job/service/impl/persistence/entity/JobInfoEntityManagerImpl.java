@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -37,6 +38,11 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity, DM exten
         return dataManager.findJobsToExecute(page);
     }
 
+    @Override
+    public List<T> lockJobsToExecute(Page page, String lockOwner, Date lockExpirationTime) {
+        return dataManager.lockJobsToExecute(page, lockOwner, lockExpirationTime);
+    }
+
     @Override
     public List<T> findJobsByExecutionId(String executionId) {
         return dataManager.findJobsByExecutionId(executionId);
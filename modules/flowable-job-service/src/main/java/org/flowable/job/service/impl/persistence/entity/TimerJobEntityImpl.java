@@ -15,12 +15,14 @@ package org.flowable.job.service.impl.persistence.entity;
 import java.util.Date;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
+
 /**
  * TimerJob entity, necessary for persistence.
  *
  * @author Tijs Rademakers
  */
-public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJobEntity {
+public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJobEntity, DirtyTrackedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -46,6 +48,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
 
     @Override
     public void setLockOwner(String claimedBy) {
+        markDirty();
         this.lockOwner = claimedBy;
     }
 
@@ -56,6 +59,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
 
     @Override
     public void setLockExpirationTime(Date claimedUntil) {
+        markDirty();
         this.lockExpirationTime = claimedUntil;
     }
 
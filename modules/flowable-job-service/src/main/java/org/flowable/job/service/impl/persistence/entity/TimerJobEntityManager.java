@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -40,6 +41,19 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    /**
+     * Locks the {@link TimerJobEntity} instances that are eligible to execute with one conditional bulk update and returns the timer jobs that were locked for the given lock owner.
+     * Timer jobs that were concurrently locked by another executor are skipped instead of causing an optimistic locking exception.
+     */
+    List<TimerJobEntity> lockTimerJobsToExecute(Page page, String lockOwner, Date lockExpirationTime);
+
+    /**
+     * Locks the {@link TimerJobEntity} instances that are due before the given date, ordered by due date, and returns the timer jobs that were locked for the given lock owner.
+     * Contrary to {@link #lockTimerJobsToExecute(Page, String, Date)}, timer jobs of which the lock has expired are locked again,
+     * so the timer jobs claimed by an executor that went away are picked up by another one.
+     */
+    List<TimerJobEntity> lockTimerJobsDueBefore(Page page, Date dueBefore, String lockOwner, Date lockExpirationTime);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
@@ -65,6 +65,16 @@ public class TimerJobEntityManagerImpl
         return dataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<TimerJobEntity> lockTimerJobsToExecute(Page page, String lockOwner, Date lockExpirationTime) {
+        return dataManager.lockTimerJobsToExecute(page, lockOwner, lockExpirationTime);
+    }
+
+    @Override
+    public List<TimerJobEntity> lockTimerJobsDueBefore(Page page, Date dueBefore, String lockOwner, Date lockExpirationTime) {
+        return dataManager.lockTimerJobsDueBefore(page, dueBefore, lockOwner, lockExpirationTime);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return dataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
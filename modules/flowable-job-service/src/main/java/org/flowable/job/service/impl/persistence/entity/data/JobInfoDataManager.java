@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -22,6 +23,8 @@ public interface JobInfoDataManager<T extends JobInfoEntity> extends DataManager
 
     List<T> findJobsToExecute(Page page);
 
+    List<T> lockJobsToExecute(Page page, String lockOwner, Date lockExpirationTime);
+
     List<T> findJobsByExecutionId(final String executionId);
 
     List<T> findJobsByProcessInstanceId(final String processInstanceId);
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -66,6 +68,38 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoryJobEntity> lockJobsToExecute(Page page, String lockOwner, Date lockExpirationTime) {
+        ListQueryParameterObject params = new ListQueryParameterObject();
+        params.setParameter(jobServiceConfiguration.getHistoryJobExecutionScope());
+        params.setFirstResult(page.getFirstResult());
+        params.setMaxResults(page.getMaxResults());
+        params.setOrderByColumns("CREATE_TIME_ ASC");
+
+        // The candidates are not put in the entity cache: the locked jobs are fetched again after the bulk update
+        List<HistoryJobEntity> candidateJobs = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectHistoryJobsToExecute", params);
+        if (candidateJobs.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> jobIds = new ArrayList<>(candidateJobs.size());
+        for (HistoryJobEntity candidateJob : candidateJobs) {
+            jobIds.add(candidateJob.getId());
+        }
+
+        Map<String, Object> lockParams = new HashMap<>();
+        lockParams.put("jobIds", jobIds);
+        lockParams.put("lockOwner", lockOwner);
+        lockParams.put("lockExpirationTime", lockExpirationTime);
+        int lockedJobCount = getDbSqlSession().update("bulkLockHistoryJobs", lockParams);
+        if (lockedJobCount == 0) {
+            return Collections.emptyList();
+        }
+
+        return getDbSqlSession().selectList("selectHistoryJobsByIdsAndLockOwner", lockParams);
+    }
+
     @Override
     public List<HistoryJobEntity> findJobsByExecutionId(final String executionId) {
         return getDbSqlSession().selectList("selectHistoryJobsByExecutionId", executionId);
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +22,7 @@ import java.util.Map;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -66,6 +69,36 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsToExecute", params, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> lockJobsToExecute(Page page, String lockOwner, Date lockExpirationTime) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+
+        // The candidates are not put in the entity cache: the locked jobs are fetched again after the bulk update
+        List<JobEntity> candidateJobs = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectJobsToExecute",
+                new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults()));
+        if (candidateJobs.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> jobIds = new ArrayList<>(candidateJobs.size());
+        for (JobEntity candidateJob : candidateJobs) {
+            jobIds.add(candidateJob.getId());
+        }
+
+        Map<String, Object> lockParams = new HashMap<>();
+        lockParams.put("jobIds", jobIds);
+        lockParams.put("lockOwner", lockOwner);
+        lockParams.put("lockExpirationTime", lockExpirationTime);
+        int lockedJobCount = getDbSqlSession().update("bulkLockJobs", lockParams);
+        if (lockedJobCount == 0) {
+            return Collections.emptyList();
+        }
+
+        return getDbSqlSession().selectList("selectJobsByIdsAndLockOwner", lockParams);
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(final String executionId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
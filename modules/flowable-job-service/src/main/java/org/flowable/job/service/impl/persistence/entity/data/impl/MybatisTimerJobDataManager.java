@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +22,7 @@ import java.util.Map;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -82,6 +85,72 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> lockTimerJobsToExecute(Page page, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+        params.put("now", jobServiceConfiguration.getClock().getCurrentTime());
+
+        // The candidates are not put in the entity cache: the locked timer jobs are fetched again after the bulk update
+        List<TimerJobEntity> candidateJobs = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectTimerJobsToExecute",
+                new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults()));
+        if (candidateJobs.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> jobIds = new ArrayList<>(candidateJobs.size());
+        for (TimerJobEntity candidateJob : candidateJobs) {
+            jobIds.add(candidateJob.getId());
+        }
+
+        Map<String, Object> lockParams = new HashMap<>();
+        lockParams.put("jobIds", jobIds);
+        lockParams.put("lockOwner", lockOwner);
+        lockParams.put("lockExpirationTime", lockExpirationTime);
+        int lockedJobCount = getDbSqlSession().update("bulkLockTimerJobs", lockParams);
+        if (lockedJobCount == 0) {
+            return Collections.emptyList();
+        }
+
+        return getDbSqlSession().selectList("selectTimerJobsByIdsAndLockOwner", lockParams);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> lockTimerJobsDueBefore(Page page, Date dueBefore, String lockOwner, Date lockExpirationTime) {
+        Date now = jobServiceConfiguration.getClock().getCurrentTime();
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+        params.put("dueBefore", dueBefore);
+        params.put("now", now);
+
+        ListQueryParameterObject parameterObject = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
+        parameterObject.setOrderByColumns("RES.DUEDATE_ asc");
+        List<TimerJobEntity> candidateJobs = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectTimerJobsDueBefore", parameterObject);
+        if (candidateJobs.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> jobIds = new ArrayList<>(candidateJobs.size());
+        for (TimerJobEntity candidateJob : candidateJobs) {
+            jobIds.add(candidateJob.getId());
+        }
+
+        Map<String, Object> lockParams = new HashMap<>();
+        lockParams.put("jobIds", jobIds);
+        lockParams.put("lockOwner", lockOwner);
+        lockParams.put("lockExpirationTime", lockExpirationTime);
+        lockParams.put("now", now);
+        int lockedJobCount = getDbSqlSession().update("bulkLockUnlockedOrExpiredTimerJobs", lockParams);
+        if (lockedJobCount == 0) {
+            return Collections.emptyList();
+        }
+
+        return getDbSqlSession().selectList("selectTimerJobsByIdsAndLockOwner", lockParams);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
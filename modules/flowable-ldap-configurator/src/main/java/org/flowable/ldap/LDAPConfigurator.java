@@ -59,8 +59,13 @@ public class LDAPConfigurator extends IdmEngineConfigurator {
         
         super.configure(engineConfiguration);
         
-        getIdmEngineConfiguration(engineConfiguration)
-                .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache));
+        // The group cache of the LDAP configuration takes precedence over the one of the IDM engine,
+        // so the task queries and the LDAP group queries share the same cache
+        IdmEngineConfiguration idmEngineConfiguration = getIdmEngineConfiguration(engineConfiguration);
+        if (ldapGroupCache != null) {
+            idmEngineConfiguration.setGroupMembershipCache(ldapGroupCache);
+        }
+        idmEngineConfiguration.setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, idmEngineConfiguration.getGroupMembershipCache()));
     }
 
     // Getters and Setters //////////////////////////////////////////////////
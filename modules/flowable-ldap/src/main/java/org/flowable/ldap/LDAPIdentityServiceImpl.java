@@ -23,6 +23,7 @@ import javax.naming.directory.SearchResult;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.idm.api.Group;
+import org.flowable.idm.api.GroupMembershipCache;
 import org.flowable.idm.api.GroupQuery;
 import org.flowable.idm.api.NativeGroupQuery;
 import org.flowable.idm.api.NativeUserQuery;
@@ -42,11 +43,11 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
     private static final Logger LOGGER = LoggerFactory.getLogger(LDAPIdentityServiceImpl.class);
 
     protected LDAPConfiguration ldapConfigurator;
-    protected LDAPGroupCache ldapGroupCache;
+    protected GroupMembershipCache groupMembershipCache;
 
-    public LDAPIdentityServiceImpl(LDAPConfiguration ldapConfigurator, LDAPGroupCache ldapGroupCache) {
+    public LDAPIdentityServiceImpl(LDAPConfiguration ldapConfigurator, GroupMembershipCache groupMembershipCache) {
         this.ldapConfigurator = ldapConfigurator;
-        this.ldapGroupCache = ldapGroupCache;
+        this.groupMembershipCache = groupMembershipCache;
     }
 
     @Override
@@ -56,7 +57,7 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
 
     @Override
     public GroupQuery createGroupQuery() {
-        return new LDAPGroupQueryImpl(ldapConfigurator, ldapGroupCache);
+        return new LDAPGroupQueryImpl(ldapConfigurator, groupMembershipCache);
     }
 
     @Override
@@ -205,11 +206,27 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
         return searchControls;
     }
 
+    public GroupMembershipCache getGroupMembershipCache() {
+        return groupMembershipCache;
+    }
+
+    public void setGroupMembershipCache(GroupMembershipCache groupMembershipCache) {
+        this.groupMembershipCache = groupMembershipCache;
+    }
+
+    /**
+     * @deprecated use {@link #getGroupMembershipCache()}
+     */
+    @Deprecated
     public LDAPGroupCache getLdapGroupCache() {
-        return ldapGroupCache;
+        return groupMembershipCache instanceof LDAPGroupCache ? (LDAPGroupCache) groupMembershipCache : null;
     }
 
+    /**
+     * @deprecated use {@link #setGroupMembershipCache(GroupMembershipCache)}
+     */
+    @Deprecated
     public void setLdapGroupCache(LDAPGroupCache ldapGroupCache) {
-        this.ldapGroupCache = ldapGroupCache;
+        this.groupMembershipCache = ldapGroupCache;
     }
 }
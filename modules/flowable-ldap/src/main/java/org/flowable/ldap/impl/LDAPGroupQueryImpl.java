@@ -24,12 +24,12 @@ import javax.naming.directory.SearchResult;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.idm.api.Group;
+import org.flowable.idm.api.GroupMembershipCache;
 import org.flowable.idm.engine.impl.GroupQueryImpl;
 import org.flowable.idm.engine.impl.persistence.entity.GroupEntity;
 import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
 import org.flowable.ldap.LDAPCallBack;
 import org.flowable.ldap.LDAPConfiguration;
-import org.flowable.ldap.LDAPGroupCache;
 import org.flowable.ldap.LDAPTemplate;
 
 public class LDAPGroupQueryImpl extends GroupQueryImpl {
@@ -37,11 +37,11 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
     private static final long serialVersionUID = 1L;
 
     protected LDAPConfiguration ldapConfigurator;
-    protected LDAPGroupCache ldapGroupCache;
+    protected GroupMembershipCache groupMembershipCache;
 
-    public LDAPGroupQueryImpl(LDAPConfiguration ldapConfigurator, LDAPGroupCache ldapGroupCache) {
+    public LDAPGroupQueryImpl(LDAPConfiguration ldapConfigurator, GroupMembershipCache groupMembershipCache) {
         this.ldapConfigurator = ldapConfigurator;
-        this.ldapGroupCache = ldapGroupCache;
+        this.groupMembershipCache = groupMembershipCache;
     }
 
     @Override
@@ -67,8 +67,8 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
     protected List<Group> findGroupsByUser(String userId) {
 
         // First try the cache (if one is defined)
-        if (ldapGroupCache != null) {
-            List<Group> groups = ldapGroupCache.get(userId);
+        if (groupMembershipCache != null) {
+            List<Group> groups = groupMembershipCache.get(userId);
             if (groups != null) {
                 return groups;
             }
@@ -78,8 +78,8 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
         List<Group> groups = executeGroupQuery(searchExpression);
 
         // Cache results for later
-        if (ldapGroupCache != null) {
-            ldapGroupCache.add(userId, groups);
+        if (groupMembershipCache != null) {
+            groupMembershipCache.put(userId, groups);
         }
 
         return groups;
@@ -15,10 +15,8 @@ package org.flowable.osgi.blueprint;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
 import org.flowable.common.engine.impl.javax.el.ArrayELResolver;
-import org.flowable.common.engine.impl.javax.el.BeanELResolver;
 import org.flowable.common.engine.impl.javax.el.CompositeELResolver;
 import org.flowable.common.engine.impl.javax.el.CouldNotResolvePropertyELResolver;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
@@ -62,14 +60,14 @@ public class ProcessEngineFactoryWithELResolver extends ProcessEngineFactory {
         }
 
         @Override
-        protected ELResolver createElResolver(VariableContainer variableContainer) {
+        protected ELResolver createCompositeElResolver(ELResolver variableElResolver) {
             CompositeELResolver compositeElResolver = new CompositeELResolver();
-            compositeElResolver.add(createVariableElResolver(variableContainer));
+            compositeElResolver.add(variableElResolver);
             if (blueprintContextELResolver != null) {
                 compositeElResolver.add(blueprintContextELResolver);
             }
             compositeElResolver.add(blueprintELResolver);
-            compositeElResolver.add(new BeanELResolver());
+            compositeElResolver.add(createBeanElResolver());
             compositeElResolver.add(new ArrayELResolver());
             compositeElResolver.add(new ListELResolver());
             compositeElResolver.add(new MapELResolver());
@@ -236,6 +236,18 @@ public class ProcessInstanceCollectionResourceTest extends BaseSpringRestTestCas
         assertResultsExactlyPresentInDataResponse(url, nowPlus1InstanceId, nowInstanceId, nowMinus1InstanceId);
     }
 
+    /**
+     * Test that the 'after' cursor is rejected, as the process instance query does not support keyset pagination.
+     */
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceResourceTest.process-one.bpmn20.xml" })
+    public void testGetProcessInstancesAfterNotSupported() throws Exception {
+        String id = runtimeService.startProcessInstanceByKey("processOne", "myBusinessKey").getId();
+
+        String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_COLLECTION) + "?after=" + id;
+        closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_BAD_REQUEST));
+    }
+
     /**
      * Test getting a list of process instance, using all tenant filters.
      */
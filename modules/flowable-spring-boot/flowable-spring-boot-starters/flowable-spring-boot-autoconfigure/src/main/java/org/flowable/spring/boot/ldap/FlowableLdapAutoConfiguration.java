@@ -84,8 +84,17 @@ public class FlowableLdapAutoConfiguration {
 
     @Bean
     public EngineConfigurationConfigurer<SpringIdmEngineConfiguration> ldapIdmEngineConfigurer(LDAPConfiguration ldapConfiguration) {
-        return idmEngineConfiguration -> idmEngineConfiguration
-            .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, createCache(idmEngineConfiguration, ldapConfiguration)));
+        return idmEngineConfiguration -> {
+            LDAPGroupCache ldapGroupCache = createCache(idmEngineConfiguration, ldapConfiguration);
+            if (ldapGroupCache != null) {
+                // Shared with the task queries, which also look up the groups of candidate users
+                idmEngineConfiguration.setGroupMembershipCache(ldapGroupCache);
+            } else {
+                // The engine is not initialized yet, make sure a configured membership cache exists already
+                idmEngineConfiguration.initGroupMembershipCache();
+            }
+            idmEngineConfiguration.setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, idmEngineConfiguration.getGroupMembershipCache()));
+        };
     }
 
     // We need a custom AuthenticationProvider for the LDAP Support
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -80,12 +81,16 @@ public interface HistoricTaskService {
 
     void deleteHistoricTaskLogEntriesForTaskId(String taskId);
     
+    void deleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds);
+    
     void deleteHistoricTaskLogEntriesForNonExistingProcessInstances();
     
     void deleteHistoricTaskLogEntriesForNonExistingCaseInstances();
     
     void deleteHistoricTaskInstances(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
+    void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteHistoricTaskInstancesForNonExistingProcessInstances();
     
     void deleteHistoricTaskInstancesForNonExistingCaseInstances();
@@ -67,6 +67,7 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
     
     protected boolean enableTaskRelationshipCounts;
     protected boolean enableLocalization;
+    protected boolean enableBatchedRelatedEntityFetching;
     
     protected TaskQueryInterceptor taskQueryInterceptor;
     protected HistoricTaskQueryInterceptor historicTaskQueryInterceptor;
@@ -285,6 +286,15 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isEnableBatchedRelatedEntityFetching() {
+        return enableBatchedRelatedEntityFetching;
+    }
+
+    public TaskServiceConfiguration setEnableBatchedRelatedEntityFetching(boolean enableBatchedRelatedEntityFetching) {
+        this.enableBatchedRelatedEntityFetching = enableBatchedRelatedEntityFetching;
+        return this;
+    }
+
     public boolean isEnableHistoricTaskLogging() {
         return enableHistoricTaskLogging;
     }
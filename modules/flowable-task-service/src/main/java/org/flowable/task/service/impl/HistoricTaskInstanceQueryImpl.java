@@ -27,12 +27,11 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
-import org.flowable.idm.api.Group;
-import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.api.history.HistoricTaskInstanceQuery;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+import org.flowable.task.service.impl.util.CandidateGroupsUtil;
 import org.flowable.task.service.impl.util.CommandContextUtil;
 import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
@@ -149,6 +148,11 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         this.databaseType = databaseType;
     }
 
+    @Override
+    public List<HistoricTaskInstance> listPageAfter(Object lastSortValue, String lastId, int maxResults) {
+        return executeListPageAfter(lastSortValue, lastId, maxResults);
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -1691,15 +1695,7 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     }
 
     protected Collection<String> getGroupsForCandidateUser(String candidateUser) {
-        Collection<String> groupIds = new ArrayList<>();
-        IdmIdentityService idmIdentityService = CommandContextUtil.getTaskServiceConfiguration().getIdmIdentityService();
-        if (idmIdentityService != null) {
-            List<Group> groups = idmIdentityService.createGroupQuery().groupMember(candidateUser).list();
-            for (Group group : groups) {
-                groupIds.add(group.getId());
-            }
-        }
-        return groupIds;
+        return CandidateGroupsUtil.getGroupIdsForUser(candidateUser, CommandContextUtil.getTaskServiceConfiguration().getIdmIdentityService());
     }
 
     @Override
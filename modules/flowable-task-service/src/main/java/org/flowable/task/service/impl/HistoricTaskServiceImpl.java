@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -195,6 +196,13 @@ public class HistoricTaskServiceImpl extends CommonServiceImpl<TaskServiceConfig
         }
     }
     
+    @Override
+    public void deleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        if (this.configuration.isEnableHistoricTaskLogging()) {
+            getHistoricTaskLogEntryEntityManager().deleteHistoricTaskLogEntriesForProcessInstanceIds(processInstanceIds);
+        }
+    }
+    
     @Override
     public void deleteHistoricTaskLogEntriesForNonExistingProcessInstances() {
         if (this.configuration.isEnableHistoricTaskLogging()) {
@@ -214,6 +222,11 @@ public class HistoricTaskServiceImpl extends CommonServiceImpl<TaskServiceConfig
         getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstances(historicTaskInstanceQuery);
     }
     
+    @Override
+    public void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+    }
+    
     @Override
     public void deleteHistoricTaskInstancesForNonExistingProcessInstances() {
         getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesForNonExistingProcessInstances();
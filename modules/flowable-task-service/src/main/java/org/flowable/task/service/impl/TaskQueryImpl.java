@@ -26,14 +26,13 @@ import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
-import org.flowable.idm.api.Group;
 import org.flowable.idm.api.IdmEngineConfigurationApi;
-import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.api.DelegationState;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskQuery;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.task.service.impl.util.CandidateGroupsUtil;
 import org.flowable.task.service.impl.util.CommandContextUtil;
 import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
@@ -1509,18 +1508,11 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     }
 
     protected Collection<String> getGroupsForCandidateUser(String candidateUser) {
-        Collection<String> groupIds = new ArrayList<>();
         IdmEngineConfigurationApi idmEngineConfiguration = CommandContextUtil.getIdmEngineConfiguration();
         if (idmEngineConfiguration != null) {
-            IdmIdentityService idmIdentityService = idmEngineConfiguration.getIdmIdentityService();
-            if (idmIdentityService != null) {
-                List<Group> groups = idmIdentityService.createGroupQuery().groupMember(candidateUser).list();
-                for (Group group : groups) {
-                    groupIds.add(group.getId());
-                }
-            }
+            return CandidateGroupsUtil.getGroupIdsForUser(candidateUser, idmEngineConfiguration.getIdmIdentityService());
         }
-        return groupIds;
+        return new ArrayList<>();
     }
 
     @Override
@@ -2074,6 +2066,12 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return super.listPage(firstResult, maxResults);
     }
 
+    @Override
+    public List<Task> listPageAfter(Object lastSortValue, String lastId, int maxResults) {
+        cachedCandidateGroups = null;
+        return executeListPageAfter(lastSortValue, lastId, maxResults);
+    }
+
     @Override
     public long count() {
         cachedCandidateGroups = null;
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +43,8 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
     
     void deleteHistoricTaskInstances(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
+    void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteHistoricTaskInstancesForNonExistingProcessInstances();
     
     void deleteHistoricTaskInstancesForNonExistingCaseInstances();
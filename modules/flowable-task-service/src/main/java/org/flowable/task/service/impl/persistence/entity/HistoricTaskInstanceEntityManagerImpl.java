@@ -13,14 +13,22 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
 import org.flowable.task.service.impl.persistence.entity.data.HistoricTaskInstanceDataManager;
+import org.flowable.task.service.impl.util.CommandContextUtil;
+import org.flowable.variable.service.HistoricVariableService;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInitializingList;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 
 /**
  * @author Tom Baeyens
@@ -70,11 +78,73 @@ public class HistoricTaskInstanceEntityManagerImpl
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
         if (serviceConfiguration.isHistoryEnabled()) {
+            if (serviceConfiguration.isEnableBatchedRelatedEntityFetching()) {
+                List<HistoricTaskInstance> historicTasks = dataManager.findHistoricTaskInstancesByQueryCriteria(historicTaskInstanceQuery);
+                fetchRelatedEntities(historicTasks, historicTaskInstanceQuery);
+                return historicTasks;
+            }
             return dataManager.findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(historicTaskInstanceQuery);
         }
         return Collections.EMPTY_LIST;
     }
 
+    /**
+     * Loads the historic variables and identity links requested by the query for the given page of historic tasks with batched queries
+     * and adds them to the query variables and query identity links of the historic tasks.
+     */
+    protected void fetchRelatedEntities(List<HistoricTaskInstance> historicTasks, HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
+        if (historicTasks.isEmpty()) {
+            return;
+        }
+
+        boolean includeVariables = historicTaskInstanceQuery.isIncludeTaskLocalVariables() || historicTaskInstanceQuery.isIncludeProcessVariables();
+        Map<String, HistoricTaskInstanceEntityImpl> historicTasksById = new HashMap<>();
+        Map<String, List<HistoricTaskInstanceEntityImpl>> historicTasksByProcessInstanceId = new HashMap<>();
+        for (HistoricTaskInstance historicTask : historicTasks) {
+            HistoricTaskInstanceEntityImpl historicTaskEntity = (HistoricTaskInstanceEntityImpl) historicTask;
+            historicTasksById.put(historicTaskEntity.getId(), historicTaskEntity);
+            if (historicTaskEntity.getProcessInstanceId() != null) {
+                historicTasksByProcessInstanceId.computeIfAbsent(historicTaskEntity.getProcessInstanceId(), key -> new ArrayList<>()).add(historicTaskEntity);
+            }
+            if (includeVariables) {
+                historicTaskEntity.setQueryVariables(new HistoricVariableInitializingList());
+            }
+            if (historicTaskInstanceQuery.isIncludeIdentityLinks()) {
+                historicTaskEntity.setQueryIdentityLinks(new ArrayList<>());
+            }
+        }
+
+        HistoricVariableService historicVariableService = CommandContextUtil.getVariableServiceConfiguration().getHistoricVariableService();
+        if (historicTaskInstanceQuery.isIncludeTaskLocalVariables()) {
+            for (HistoricVariableInstanceEntity variable : historicVariableService.findHistoricVariableInstancesByTaskIds(historicTasksById.keySet())) {
+                HistoricTaskInstanceEntityImpl historicTaskEntity = historicTasksById.get(variable.getTaskId());
+                if (historicTaskEntity != null) {
+                    historicTaskEntity.getQueryVariables().add(variable);
+                }
+            }
+        }
+
+        if (historicTaskInstanceQuery.isIncludeProcessVariables() && !historicTasksByProcessInstanceId.isEmpty()) {
+            for (HistoricVariableInstanceEntity variable : historicVariableService.findHistoricVariableInstancesByExecutionIds(historicTasksByProcessInstanceId.keySet())) {
+                List<HistoricTaskInstanceEntityImpl> processInstanceTasks = historicTasksByProcessInstanceId.get(variable.getExecutionId());
+                if (processInstanceTasks != null) {
+                    for (HistoricTaskInstanceEntityImpl historicTaskEntity : processInstanceTasks) {
+                        historicTaskEntity.getQueryVariables().add(variable);
+                    }
+                }
+            }
+        }
+
+        if (historicTaskInstanceQuery.isIncludeIdentityLinks()) {
+            for (HistoricIdentityLinkEntity identityLink : CommandContextUtil.getHistoricIdentityLinkService().findHistoricIdentityLinksByTaskIds(historicTasksById.keySet())) {
+                HistoricTaskInstanceEntityImpl historicTaskEntity = historicTasksById.get(identityLink.getTaskId());
+                if (historicTaskEntity != null) {
+                    historicTaskEntity.getQueryIdentityLinks().add(identityLink);
+                }
+            }
+        }
+    }
+
     @Override
     public List<HistoricTaskInstance> findHistoricTaskInstancesByNativeQuery(Map<String, Object> parameterMap) {
         return dataManager.findHistoricTaskInstancesByNativeQuery(parameterMap);
@@ -90,6 +160,11 @@ public class HistoricTaskInstanceEntityManagerImpl
         dataManager.deleteHistoricTaskInstances(historicTaskInstanceQuery);
     }
     
+    @Override
+    public void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+    }
+    
     @Override
     public void deleteHistoricTaskInstancesForNonExistingProcessInstances() {
         dataManager.deleteHistoricTaskInstancesForNonExistingProcessInstances();
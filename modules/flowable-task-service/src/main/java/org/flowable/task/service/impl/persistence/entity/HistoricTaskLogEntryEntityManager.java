@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -43,6 +44,8 @@ public interface HistoricTaskLogEntryEntityManager extends EntityManager<Histori
 
     void deleteHistoricTaskLogEntriesForTaskId(String taskId);
     
+    void deleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteHistoricTaskLogEntriesForNonExistingProcessInstances();
     
     void deleteHistoricTaskLogEntriesForNonExistingCaseInstances();
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -71,6 +72,11 @@ public class HistoricTaskLogEntryEntityManagerImpl
         getDataManager().deleteHistoricTaskLogEntriesByTaskId(taskId);
     }
     
+    @Override
+    public void deleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDataManager().deleteHistoricTaskLogEntriesForProcessInstanceIds(processInstanceIds);
+    }
+    
     @Override
     public void deleteHistoricTaskLogEntriesForNonExistingProcessInstances() {
         getDataManager().deleteHistoricTaskLogEntriesForNonExistingProcessInstances();
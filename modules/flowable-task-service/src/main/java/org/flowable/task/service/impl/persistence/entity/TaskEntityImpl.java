@@ -28,6 +28,7 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
@@ -50,7 +51,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity implements TaskEntity, CountingTaskEntity, Serializable {
+public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity implements TaskEntity, CountingTaskEntity, Serializable, DirtyTrackedEntity {
 
     public static final String DELETE_REASON_COMPLETED = "completed";
     public static final String DELETE_REASON_DELETED = "deleted";
@@ -191,6 +192,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void forceUpdate() {
+        markDirty();
         this.forcedUpdate = true;
     }
 
@@ -271,17 +273,20 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setName(String taskName) {
+        markDirty();
         this.name = taskName;
     }
 
     @Override
     public void setDescription(String description) {
+        markDirty();
         this.description = description;
     }
 
     @Override
     public void setAssignee(String assignee) {
         this.originalAssignee = this.assignee;
+        markDirty();
         this.assignee = assignee;
         assigneeUpdatedCount++;
     }
@@ -293,6 +298,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
             taskAssignmentManager.changeAssignee(this, assignee);
         } else {
             this.originalAssignee = this.assignee;
+            markDirty();
             this.assignee = assignee;
             assigneeUpdatedCount++;
         }
@@ -300,6 +306,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setOwner(String owner) {
+        markDirty();
         this.owner = owner;
     }
     
@@ -309,22 +316,26 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
         if (taskAssignmentManager != null) {
             taskAssignmentManager.changeOwner(this, owner);
         } else {
+            markDirty();
             this.owner = owner;
         }
     }
 
     @Override
     public void setDueDate(Date dueDate) {
+        markDirty();
         this.dueDate = dueDate;
     }
 
     @Override
     public void setPriority(int priority) {
+        markDirty();
         this.priority = priority;
     }
 
     @Override
     public void setCategory(String category) {
+        markDirty();
         this.category = category;
     }
 
@@ -372,6 +383,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setParentTaskId(String parentTaskId) {
+        markDirty();
         this.parentTaskId = parentTaskId;
     }
 
@@ -382,6 +394,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setFormKey(String formKey) {
+        markDirty();
         this.formKey = formKey;
     }
 
@@ -468,6 +481,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setCreateTime(Date createTime) {
+        markDirty();
         this.createTime = createTime;
     }
 
@@ -488,6 +502,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty();
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -498,6 +513,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setTaskDefinitionId(String taskDefinitionId) {
+        markDirty();
         this.taskDefinitionId = taskDefinitionId;
     }
 
@@ -508,6 +524,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty();
         this.scopeId = scopeId;
     }
 
@@ -518,6 +535,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty();
         this.subScopeId = subScopeId;
     }
 
@@ -528,6 +546,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty();
         this.scopeType = scopeType;
     }
 
@@ -538,11 +557,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setScopeDefinitionId(String scopeDefinitionId) {
+        markDirty();
         this.scopeDefinitionId = scopeDefinitionId;
     }
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
+        markDirty();
         this.propagatedStageInstanceId = propagatedStageInstanceId;
     }
 
@@ -572,6 +593,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setTaskDefinitionKey(String taskDefinitionKey) {
+        markDirty();
         this.taskDefinitionKey = taskDefinitionKey;
     }
 
@@ -597,11 +619,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setExecutionId(String executionId) {
+        markDirty();
         this.executionId = executionId;
     }
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        markDirty();
         this.processInstanceId = processInstanceId;
     }
 
@@ -671,6 +695,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setDelegationState(DelegationState delegationState) {
+        markDirty();
         this.delegationState = delegationState;
     }
 
@@ -679,6 +704,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     }
 
     public void setDelegationStateString(String delegationStateString) {
+        markDirty();
         this.delegationState = (delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
     }
 
@@ -720,6 +746,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        markDirty();
         this.suspensionState = suspensionState;
     }
 
@@ -798,6 +825,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setClaimTime(Date claimTime) {
+        markDirty();
         this.claimTime = claimTime;
     }
 
@@ -813,11 +841,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markDirty();
         this.isCountEnabled = isCountEnabled;
     }
 
     @Override
     public void setVariableCount(int variableCount) {
+        markDirty();
         this.variableCount = variableCount;
     }
 
@@ -828,6 +858,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        markDirty();
         this.identityLinkCount = identityLinkCount;
     }
 
@@ -843,6 +874,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setSubTaskCount(int subTaskCount) {
+        markDirty();
         this.subTaskCount = subTaskCount;
     }
     
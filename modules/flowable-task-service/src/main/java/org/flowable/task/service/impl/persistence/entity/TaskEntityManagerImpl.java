@@ -13,7 +13,9 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -21,6 +23,7 @@ import java.util.Objects;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.identitylink.service.IdentityLinkService;
+import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskBuilder;
 import org.flowable.task.api.TaskInfo;
@@ -34,6 +37,10 @@ import org.flowable.task.service.impl.persistence.CountingTaskEntity;
 import org.flowable.task.service.impl.persistence.entity.data.TaskDataManager;
 import org.flowable.task.service.impl.util.CommandContextUtil;
 
+import org.flowable.variable.service.VariableService;
+import org.flowable.variable.service.impl.persistence.entity.VariableInitializingList;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
@@ -176,9 +183,71 @@ public class TaskEntityManagerImpl
 
     @Override
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
+        if (serviceConfiguration.isEnableBatchedRelatedEntityFetching()) {
+            List<Task> tasks = dataManager.findTasksByQueryCriteria(taskQuery);
+            fetchRelatedEntities(tasks, taskQuery);
+            return tasks;
+        }
         return dataManager.findTasksWithRelatedEntitiesByQueryCriteria(taskQuery);
     }
 
+    /**
+     * Loads the variables and identity links requested by the query for the given page of tasks with batched queries
+     * and adds them to the query variables and query identity links of the tasks.
+     */
+    protected void fetchRelatedEntities(List<Task> tasks, TaskQueryImpl taskQuery) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        boolean includeVariables = taskQuery.isIncludeTaskLocalVariables() || taskQuery.isIncludeProcessVariables();
+        Map<String, TaskEntityImpl> tasksById = new HashMap<>();
+        Map<String, List<TaskEntityImpl>> tasksByProcessInstanceId = new HashMap<>();
+        for (Task task : tasks) {
+            TaskEntityImpl taskEntity = (TaskEntityImpl) task;
+            tasksById.put(taskEntity.getId(), taskEntity);
+            if (taskEntity.getProcessInstanceId() != null) {
+                tasksByProcessInstanceId.computeIfAbsent(taskEntity.getProcessInstanceId(), key -> new ArrayList<>()).add(taskEntity);
+            }
+            if (includeVariables) {
+                taskEntity.setQueryVariables(new VariableInitializingList());
+            }
+            if (taskQuery.isIncludeIdentityLinks()) {
+                taskEntity.setQueryIdentityLinks(new ArrayList<>());
+            }
+        }
+
+        VariableService variableService = CommandContextUtil.getVariableServiceConfiguration().getVariableService();
+        if (taskQuery.isIncludeTaskLocalVariables()) {
+            for (VariableInstanceEntity variable : variableService.findVariableInstancesByTaskIds(tasksById.keySet())) {
+                TaskEntityImpl taskEntity = tasksById.get(variable.getTaskId());
+                if (taskEntity != null) {
+                    taskEntity.getQueryVariables().add(variable);
+                }
+            }
+        }
+
+        if (taskQuery.isIncludeProcessVariables() && !tasksByProcessInstanceId.isEmpty()) {
+            for (VariableInstanceEntity variable : variableService.findVariableInstancesByExecutionIds(tasksByProcessInstanceId.keySet())) {
+                List<TaskEntityImpl> processInstanceTasks = tasksByProcessInstanceId.get(variable.getExecutionId());
+                if (processInstanceTasks != null) {
+                    for (TaskEntityImpl taskEntity : processInstanceTasks) {
+                        taskEntity.getQueryVariables().add(variable);
+                    }
+                }
+            }
+        }
+
+        if (taskQuery.isIncludeIdentityLinks()) {
+            for (IdentityLinkEntity identityLink : getIdentityLinkService().findIdentityLinksByTaskIds(tasksById.keySet())) {
+                TaskEntityImpl taskEntity = tasksById.get(identityLink.getTaskId());
+                if (taskEntity != null) {
+                    taskEntity.getQueryIdentityLinks().add(identityLink);
+                }
+            }
+        }
+    }
+
     @Override
     public long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery) {
         return dataManager.findTaskCountByQueryCriteria(taskQuery);
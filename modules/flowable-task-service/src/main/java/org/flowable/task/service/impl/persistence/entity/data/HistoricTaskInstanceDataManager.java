@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +45,8 @@ public interface HistoricTaskInstanceDataManager extends DataManager<HistoricTas
 
     void deleteHistoricTaskInstances(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
     
+    void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteHistoricTaskInstancesForNonExistingProcessInstances();
     
     void deleteHistoricTaskInstancesForNonExistingCaseInstances();
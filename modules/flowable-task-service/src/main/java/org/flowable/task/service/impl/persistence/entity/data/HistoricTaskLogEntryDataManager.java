@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +42,8 @@ public interface HistoricTaskLogEntryDataManager extends DataManager<HistoricTas
 
     void deleteHistoricTaskLogEntriesByTaskId(String taskId);
     
+    void deleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteHistoricTaskLogEntriesForNonExistingProcessInstances();
     
     void deleteHistoricTaskLogEntriesForNonExistingCaseInstances();
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -71,6 +72,11 @@ public class MyBatisHistoricTaskLogEntryDataManager extends AbstractDataManager<
         getDbSqlSession().delete("deleteHistoricTaskLogEntriesByTaskId", taskId, HistoricTaskLogEntryEntityImpl.class);
     }
 
+    @Override
+    public void deleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        bulkDeleteInBatches("bulkDeleteHistoricTaskLogEntriesForProcessInstanceIds", processInstanceIds, HistoricTaskLogEntryEntityImpl.class);
+    }
+    
     @Override
     public void deleteHistoricTaskLogEntriesForNonExistingProcessInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricTaskLogEntriesForNonExistingProcessInstances", null, HistoricTaskLogEntryEntityImpl.class);
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -121,6 +122,11 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         getDbSqlSession().delete("bulkDeleteHistoricTaskInstances", historicTaskInstanceQuery, HistoricTaskInstanceEntityImpl.class);
     }
 
+    @Override
+    public void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        bulkDeleteInBatches("bulkDeleteHistoricTaskInstancesForProcessInstanceIds", processInstanceIds, HistoricTaskInstanceEntityImpl.class);
+    }
+    
     @Override
     public void deleteHistoricTaskInstancesForNonExistingProcessInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricTaskInstancesForNonExistingProcessInstances", null, HistoricTaskInstanceEntityImpl.class);
@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.task.service.impl.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.flowable.idm.api.Group;
+import org.flowable.idm.api.GroupMembershipCache;
+import org.flowable.idm.api.IdmEngineConfigurationApi;
+import org.flowable.idm.api.IdmIdentityService;
+
+/**
+ * Resolves the groups of a candidate user for the task queries, going through the {@link GroupMembershipCache}
+ * of the IDM engine when one is configured.
+ */
+public class CandidateGroupsUtil {
+
+    public static Collection<String> getGroupIdsForUser(String userId, IdmIdentityService idmIdentityService) {
+        Collection<String> groupIds = new ArrayList<>();
+        if (idmIdentityService == null) {
+            return groupIds;
+        }
+
+        GroupMembershipCache groupMembershipCache = getGroupMembershipCache();
+        List<Group> groups = groupMembershipCache != null ? groupMembershipCache.get(userId) : null;
+        if (groups == null) {
+            groups = idmIdentityService.createGroupQuery().groupMember(userId).list();
+            if (groupMembershipCache != null) {
+                groupMembershipCache.put(userId, groups);
+            }
+        }
+
+        for (Group group : groups) {
+            groupIds.add(group.getId());
+        }
+        return groupIds;
+    }
+
+    protected static GroupMembershipCache getGroupMembershipCache() {
+        IdmEngineConfigurationApi idmEngineConfiguration = CommandContextUtil.getIdmEngineConfiguration();
+        return idmEngineConfiguration != null ? idmEngineConfiguration.getGroupMembershipCache() : null;
+    }
+
+}
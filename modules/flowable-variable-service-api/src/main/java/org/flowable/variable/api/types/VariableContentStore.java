@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.api.types;
+
+import java.io.InputStream;
+
+/**
+ * Store for the content of streamed variables (variables with an {@link InputStream} value), used to keep large content out of the
+ * engine database. The engine only keeps the id returned by {@link #createContent(String, InputStream)} and reads the content back
+ * when the value of the variable is requested.
+ *
+ * Content is never updated in place: a new value of a variable gets new content. Content is deleted after the transaction that
+ * deleted its last reference has been committed, where the history of a variable (historic variable instance and, with full history,
+ * historic variable updates) keeps referencing its content. Variables and history removed with bulk deletes (e.g. when the history of
+ * many process instances is deleted at once) do not delete their content, so implementations that need to reclaim space should be
+ * able to clean up content that is no longer referenced.
+ */
+public interface VariableContentStore {
+
+    /**
+     * Stores the given content, reading the stream until its end, and returns the id to retrieve it.
+     * The stream is not closed by the store.
+     */
+    String createContent(String variableName, InputStream content);
+
+    /**
+     * Opens a new stream on the content with the given id. The caller is responsible for closing the stream.
+     */
+    InputStream getContent(String contentId);
+
+    /**
+     * Deletes the content with the given id, if it still exists.
+     */
+    void deleteContent(String contentId);
+
+}
@@ -12,8 +12,10 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
@@ -34,6 +36,12 @@ public interface HistoricVariableService {
     
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl query);
     
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Set<String> taskIds);
+    
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Set<String> executionIds);
+    
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType);
+    
     void insertHistoricVariableInstance(HistoricVariableInstanceEntity variable);
     
     HistoricVariableInstanceEntity createAndInsert(VariableInstanceEntity variable, Date createTime);
@@ -48,6 +56,8 @@ public interface HistoricVariableService {
     
     void deleteHistoricVariableInstancesByTaskId(String taskId);
     
+    void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     void deleteHistoricVariableInstancesForNonExistingProcessInstances();
     
     void deleteHistoricVariableInstancesForNonExistingCaseInstances();
@@ -47,6 +47,8 @@ public interface VariableService {
 
     List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType);
 
+    List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType);
+
     VariableInstanceEntity findVariableInstanceByScopeIdAndScopeTypeAndName(String scopeId, String scopeType, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByScopeIdAndScopeTypeAndNames(String scopeId, String scopeType, Collection<String> variableNames);
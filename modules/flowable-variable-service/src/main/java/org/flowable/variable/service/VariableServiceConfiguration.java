@@ -74,6 +74,14 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
      * By default true for backwards compatibility.
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * When true, the byte arrays of all variables loaded together for a variable scope (e.g. an execution or a task) are fetched with one select,
+     * the first time the bytes of one of them are needed, instead of with one select per variable.
+     *
+     * By default false, as it also loads the byte arrays of the variables of the scope that are never read.
+     */
+    protected boolean byteArrayBatchLoadingEnabled;
     
     public VariableServiceConfiguration(String engineName) {
         super(engineName);
@@ -236,4 +244,13 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
     public void setSerializableVariableTypeTrackDeserializedObjects(boolean serializableVariableTypeTrackDeserializedObjects) {
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
+
+    public boolean isByteArrayBatchLoadingEnabled() {
+        return byteArrayBatchLoadingEnabled;
+    }
+
+    public VariableServiceConfiguration setByteArrayBatchLoadingEnabled(boolean byteArrayBatchLoadingEnabled) {
+        this.byteArrayBatchLoadingEnabled = byteArrayBatchLoadingEnabled;
+        return this;
+    }
 }
@@ -14,6 +14,7 @@ package org.flowable.variable.service.history;
 
 import java.util.Date;
 
+import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 public interface InternalHistoryVariableManager {
@@ -33,4 +34,16 @@ public interface InternalHistoryVariableManager {
      */
     void recordVariableRemoved(VariableInstanceEntity variable, Date removeTime);
 
+    /**
+     * Returns whether a historic variable instance is kept for the given (runtime or historic) variable,
+     * taking the history level of its process or case definition into account.
+     */
+    boolean isHistoricVariableInstanceRecorded(ValueFields variable);
+
+    /**
+     * Returns whether every value of the given (runtime or historic) variable is kept as a historic variable update,
+     * taking the history level of its process or case definition into account.
+     */
+    boolean isHistoricVariableUpdateRecorded(ValueFields variable);
+
 }
@@ -12,8 +12,10 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
@@ -45,6 +47,21 @@ public class HistoricVariableServiceImpl extends CommonServiceImpl<VariableServi
         return getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByQueryCriteria(query);
     }
     
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Set<String> taskIds) {
+        return getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByTaskIds(taskIds);
+    }
+    
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Set<String> executionIds) {
+        return getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByExecutionIds(executionIds);
+    }
+    
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType) {
+        return getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+    
     @Override
     public HistoricVariableInstanceEntity createHistoricVariableInstance() {
         return getHistoricVariableInstanceEntityManager().create();
@@ -107,6 +124,11 @@ public class HistoricVariableServiceImpl extends CommonServiceImpl<VariableServi
         getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesByTaskId(taskId);
     }
     
+    @Override
+    public void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+    }
+    
     @Override
     public void deleteHistoricVariableInstancesForNonExistingProcessInstances() {
         getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesForNonExistingProcessInstances();
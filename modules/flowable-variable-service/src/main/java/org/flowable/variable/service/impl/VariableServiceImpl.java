@@ -83,6 +83,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().findVariableInstanceByScopeIdAndScopeType(scopeId, scopeType);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType) {
+        return getVariableInstanceEntityManager().findVariableInstancesByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByScopeIdAndScopeTypeAndName(String scopeId, String scopeType, String variableName) {
         return getVariableInstanceEntityManager().findVariableInstanceByScopeIdAndScopeTypeAndName(scopeId, scopeType, variableName);
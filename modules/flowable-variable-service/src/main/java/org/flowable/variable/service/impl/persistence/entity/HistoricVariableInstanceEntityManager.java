@@ -12,8 +12,10 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -31,6 +33,12 @@ public interface HistoricVariableInstanceEntityManager extends EntityManager<His
 
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery);
 
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Set<String> taskIds);
+
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Set<String> executionIds);
+
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType);
+
     HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId);
     
     List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByScopeIdAndScopeType(String subScopeId, String scopeType);
@@ -47,6 +55,8 @@ public interface HistoricVariableInstanceEntityManager extends EntityManager<His
 
     void deleteHistoricVariableInstanceByProcessInstanceId(String historicProcessInstanceId);
 
+    void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteHistoricVariableInstancesForNonExistingProcessInstances();
     
     void deleteHistoricVariableInstancesForNonExistingCaseInstances();
@@ -13,8 +13,10 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.history.HistoryLevel;
@@ -23,6 +25,7 @@ import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.HistoricVariableInstanceDataManager;
+import org.flowable.variable.service.impl.types.InputStreamType;
 
 /**
  * @author Christian Lipphardt (camunda)
@@ -82,6 +85,9 @@ public class HistoricVariableInstanceEntityManagerImpl
         if (entity.getByteArrayRef() != null) {
             entity.getByteArrayRef().delete();
         }
+        if (entity.getVariableType() instanceof InputStreamType) {
+            ((InputStreamType) entity.getVariableType()).deleteHistoricVariableContent(entity);
+        }
     }
 
     @Override
@@ -104,6 +110,21 @@ public class HistoricVariableInstanceEntityManagerImpl
         return dataManager.findHistoricVariableInstancesByQueryCriteria(historicProcessVariableQuery);
     }
 
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Set<String> taskIds) {
+        return dataManager.findHistoricVariableInstancesByTaskIds(taskIds);
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Set<String> executionIds) {
+        return dataManager.findHistoricVariableInstancesByExecutionIds(executionIds);
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType) {
+        return dataManager.findHistoricVariableInstancesByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     @Override
     public HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId) {
         return dataManager.findHistoricVariableInstanceByVariableInstanceId(variableInstanceId);
@@ -129,6 +150,13 @@ public class HistoricVariableInstanceEntityManagerImpl
         }
     }
     
+    @Override
+    public void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        if (serviceConfiguration.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            dataManager.deleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+        }
+    }
+    
     @Override
     public void deleteHistoricVariableInstancesForNonExistingProcessInstances() {
         if (serviceConfiguration.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -26,6 +27,11 @@ public interface VariableByteArrayEntityManager extends EntityManager<VariableBy
      */
     List<VariableByteArrayEntity> findAll();
 
+    /**
+     * Returns the {@link VariableByteArrayEntity} instances with the given ids, fetched with as few selects as possible.
+     */
+    List<VariableByteArrayEntity> findByteArraysByIds(Collection<String> byteArrayIds);
+
     /**
      * Deletes the {@link VariableByteArrayEntity} with the given id from the database. Important: this operation will NOT do any optimistic locking, to avoid loading the bytes in memory. So use this method
      * only in conjunction with an entity that has optimistic locking!.
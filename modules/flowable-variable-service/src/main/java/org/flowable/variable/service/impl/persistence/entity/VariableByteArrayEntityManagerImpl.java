@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
@@ -36,6 +37,11 @@ public class VariableByteArrayEntityManagerImpl
         return dataManager.findAll();
     }
 
+    @Override
+    public List<VariableByteArrayEntity> findByteArraysByIds(Collection<String> byteArrayIds) {
+        return dataManager.findByteArraysByIds(byteArrayIds);
+    }
+
     @Override
     public void deleteByteArrayById(String byteArrayEntityId) {
         dataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
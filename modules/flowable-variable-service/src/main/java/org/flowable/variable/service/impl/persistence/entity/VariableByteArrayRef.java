@@ -13,6 +13,9 @@
 package org.flowable.variable.service.impl.persistence.entity;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.flowable.variable.service.impl.util.CommandContextUtil;
 
@@ -32,6 +35,9 @@ public class VariableByteArrayRef implements Serializable {
     private VariableByteArrayEntity entity;
     protected boolean deleted;
 
+    // refs whose byte arrays are fetched together with this one, see loadInBatch
+    private transient Collection<VariableByteArrayRef> batch;
+
     public VariableByteArrayRef() {
     }
 
@@ -96,8 +102,42 @@ public class VariableByteArrayRef implements Serializable {
 
     private void ensureInitialized() {
         if (id != null && entity == null) {
-            entity = CommandContextUtil.getByteArrayEntityManager().findById(id);
-            name = entity.getName();
+            if (batch != null) {
+                initializeBatch();
+            }
+            if (entity == null) {
+                entity = CommandContextUtil.getByteArrayEntityManager().findById(id);
+                name = entity.getName();
+            }
+        }
+    }
+
+    /**
+     * Groups the given refs, so that the first one of them that needs its {@link VariableByteArrayEntity} fetches
+     * the byte arrays of all refs in the group that are not loaded yet, instead of doing one select per ref.
+     * Nothing is fetched until the bytes of one of the refs are actually needed.
+     */
+    public static void loadInBatch(Collection<VariableByteArrayRef> refs) {
+        if (refs.size() > 1) {
+            for (VariableByteArrayRef ref : refs) {
+                ref.batch = refs;
+            }
+        }
+    }
+
+    private void initializeBatch() {
+        Map<String, VariableByteArrayRef> refsToLoad = new HashMap<>();
+        for (VariableByteArrayRef ref : batch) {
+            ref.batch = null;
+            if (ref.id != null && ref.entity == null && !ref.deleted) {
+                refsToLoad.put(ref.id, ref);
+            }
+        }
+
+        for (VariableByteArrayEntity byteArrayEntity : CommandContextUtil.getByteArrayEntityManager().findByteArraysByIds(refsToLoad.keySet())) {
+            VariableByteArrayRef ref = refsToLoad.get(byteArrayEntity.getId());
+            ref.entity = byteArrayEntity;
+            ref.name = byteArrayEntity.getName();
         }
     }
 
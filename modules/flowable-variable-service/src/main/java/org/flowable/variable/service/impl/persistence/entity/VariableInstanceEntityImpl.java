@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
@@ -25,7 +26,7 @@ import org.flowable.variable.api.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable, DirtyTrackedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -81,11 +82,13 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void forceUpdate() {
+        markDirty();
         forcedUpdate = true;
     }
     
     @Override
     public void setExecutionId(String executionId) {
+        markDirty();
         this.executionId = executionId;
     }
 
@@ -109,6 +112,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setBytes(byte[] bytes) {
+        markDirty();
         ensureByteArrayRefInitialized();
         byteArrayRef.setValue("var-" + name, bytes);
     }
@@ -145,6 +149,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setName(String name) {
+        markDirty();
         this.name = name;
     }
 
@@ -176,6 +181,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setType(VariableType type) {
+        markDirty();
         this.type = type;
     }
 
@@ -211,6 +217,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty();
         this.scopeId = scopeId;
     }
     
@@ -221,6 +228,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty();
         this.subScopeId = subScopeId;
     }
 
@@ -231,6 +239,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty();
         this.scopeType = scopeType;
     }
 
@@ -241,6 +250,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setLongValue(Long longValue) {
+        markDirty();
         this.longValue = longValue;
     }
 
@@ -251,6 +261,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setDoubleValue(Double doubleValue) {
+        markDirty();
         this.doubleValue = doubleValue;
     }
 
@@ -261,6 +272,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue(String textValue) {
+        markDirty();
         this.textValue = textValue;
     }
 
@@ -271,6 +283,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue2(String textValue2) {
+        markDirty();
         this.textValue2 = textValue2;
     }
 
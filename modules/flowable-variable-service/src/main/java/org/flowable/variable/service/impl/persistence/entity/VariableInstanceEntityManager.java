@@ -54,6 +54,8 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> names);
     
     List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType);
+
+    List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType);
     
     VariableInstanceEntity findVariableInstanceByScopeIdAndScopeTypeAndName(String scopeId, String scopeType, String variableName);
     
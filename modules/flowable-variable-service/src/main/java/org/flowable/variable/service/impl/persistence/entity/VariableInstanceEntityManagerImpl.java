@@ -21,6 +21,7 @@ import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineE
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.persistence.entity.data.VariableInstanceDataManager;
+import org.flowable.variable.service.impl.types.InputStreamType;
 
 /**
  * @author Tom Baeyens
@@ -95,6 +96,11 @@ public class VariableInstanceEntityManagerImpl
     public List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType) {
         return dataManager.findVariableInstanceByScopeIdAndScopeType(scopeId, scopeType);
     }
+
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType) {
+        return dataManager.findVariableInstancesByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
     
     @Override
     public VariableInstanceEntity findVariableInstanceByScopeIdAndScopeTypeAndName(String scopeId, String scopeType, String variableName) {
@@ -128,6 +134,9 @@ public class VariableInstanceEntityManagerImpl
         if (byteArrayRef != null) {
             byteArrayRef.delete();
         }
+        if (entity.getType() instanceof InputStreamType) {
+            ((InputStreamType) entity.getType()).deleteVariableContent(entity);
+        }
         entity.setDeleted(true);
     }
 
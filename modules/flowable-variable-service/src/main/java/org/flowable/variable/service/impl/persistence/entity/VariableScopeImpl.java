@@ -81,6 +81,16 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             for (VariableInstanceEntity variableInstance : variableInstancesList) {
                 variableInstances.put(variableInstance.getName(), variableInstance);
             }
+
+            if (CommandContextUtil.getVariableServiceConfiguration().isByteArrayBatchLoadingEnabled()) {
+                List<VariableByteArrayRef> byteArrayRefs = new ArrayList<>();
+                for (VariableInstanceEntity variableInstance : variableInstancesList) {
+                    if (variableInstance.getByteArrayRef() != null && variableInstance.getByteArrayRef().getId() != null) {
+                        byteArrayRefs.add(variableInstance.getByteArrayRef());
+                    }
+                }
+                VariableByteArrayRef.loadInBatch(byteArrayRefs);
+            }
         }
     }
 
@@ -12,7 +12,9 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -33,6 +35,12 @@ public interface HistoricVariableInstanceDataManager extends DataManager<Histori
 
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery);
 
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Set<String> taskIds);
+
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Set<String> executionIds);
+
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType);
+
     HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId);
     
     List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByScopeIdAndScopeType(String scopeId, String scopeType);
@@ -43,6 +51,8 @@ public interface HistoricVariableInstanceDataManager extends DataManager<Histori
 
     long findHistoricVariableInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
+    void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteHistoricVariableInstancesForNonExistingProcessInstances();
     
     void deleteHistoricVariableInstancesForNonExistingCaseInstances();
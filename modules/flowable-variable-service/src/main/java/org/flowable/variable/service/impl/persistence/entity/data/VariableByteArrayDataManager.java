@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -24,6 +25,8 @@ public interface VariableByteArrayDataManager extends DataManager<VariableByteAr
 
     List<VariableByteArrayEntity> findAll();
 
+    List<VariableByteArrayEntity> findByteArraysByIds(Collection<String> byteArrayIds);
+
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
 
 }
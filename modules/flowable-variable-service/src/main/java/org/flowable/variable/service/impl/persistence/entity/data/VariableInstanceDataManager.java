@@ -41,6 +41,8 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> names);
     
     List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType);
+
+    List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType);
     
     VariableInstanceEntity findVariableInstanceByScopeIdAndScopeTypeAndName(String scopeId, String scopeType, String variableName);
     
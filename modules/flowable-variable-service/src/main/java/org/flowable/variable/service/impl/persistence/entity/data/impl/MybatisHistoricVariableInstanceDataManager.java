@@ -12,9 +12,11 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
@@ -22,6 +24,7 @@ import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntityImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntityImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.HistoricVariableInstanceDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.HistoricVariableInstanceByProcInstMatcher;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.HistoricVariableInstanceByScopeIdAndScopeTypeMatcher;
@@ -81,6 +84,26 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         return getDbSqlSession().selectList("selectHistoricVariableInstanceByQueryCriteria", historicProcessVariableQuery);
     }
 
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Set<String> taskIds) {
+        return getListInBatches("selectHistoricVariableInstancesByTaskIds", taskIds);
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Set<String> executionIds) {
+        return getListInBatches("selectHistoricVariableInstancesByExecutionIds", executionIds);
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType) {
+        return getListInBatches("selectHistoricVariableInstancesByScopeIdsAndScopeType", scopeIds, batch -> {
+            Map<String, Object> params = new HashMap<>(2);
+            params.put("scopeIds", batch);
+            params.put("scopeType", scopeType);
+            return params;
+        });
+    }
+
     @Override
     public HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId) {
         return (HistoricVariableInstanceEntity) getDbSqlSession().selectOne("selectHistoricVariableInstanceByVariableInstanceId", variableInstanceId);
@@ -113,6 +136,13 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         return (Long) getDbSqlSession().selectOne("selectHistoricVariableInstanceCountByNativeQuery", parameterMap);
     }
     
+    @Override
+    public void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        // the byte arrays are deleted first, as they are found through the historic variables
+        bulkDeleteInBatches("bulkDeleteHistoricVariableByteArraysByProcessInstanceIds", processInstanceIds, VariableByteArrayEntityImpl.class);
+        bulkDeleteInBatches("bulkDeleteHistoricVariableInstancesByProcessInstanceIds", processInstanceIds, HistoricVariableInstanceEntityImpl.class);
+    }
+    
     @Override
     public void deleteHistoricVariableInstancesForNonExistingProcessInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesForNonExistingProcessInstances", null, HistoricVariableInstanceEntity.class);
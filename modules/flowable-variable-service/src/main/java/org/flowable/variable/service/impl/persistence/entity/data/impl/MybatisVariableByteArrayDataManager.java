@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
@@ -40,6 +41,11 @@ public class MybatisVariableByteArrayDataManager extends AbstractDataManager<Var
         return getDbSqlSession().selectList("selectVariableByteArrays");
     }
 
+    @Override
+    public List<VariableByteArrayEntity> findByteArraysByIds(Collection<String> byteArrayIds) {
+        return getListInBatches("selectVariableByteArraysByIds", byteArrayIds);
+    }
+
     @Override
     public void deleteByteArrayNoRevisionCheck(String byteArrayEntityId) {
         getDbSqlSession().delete("deleteVariableByteArrayNoRevisionCheck", byteArrayEntityId, VariableByteArrayEntityImpl.class);
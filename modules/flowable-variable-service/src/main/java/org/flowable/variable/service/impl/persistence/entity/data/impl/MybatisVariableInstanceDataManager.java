@@ -77,9 +77,8 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<VariableInstanceEntity> findVariableInstancesByTaskIds(Set<String> taskIds) {
-        return getDbSqlSession().selectList("selectVariablesByTaskIds", taskIds);
+        return getListInBatches("selectVariablesByTaskIds", taskIds);
     }
 
     @Override
@@ -88,9 +87,8 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds) {
-        return getDbSqlSession().selectList("selectVariablesByExecutionIds", executionIds);
+        return getListInBatches("selectVariablesByExecutionIds", executionIds);
     }
 
     @Override
@@ -134,6 +132,16 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         params.put("scopeType", scopeType);
         return getList("selectVariableInstancesByScopeIdAndScopeType", params, variableInstanceByScopeIdAndScopeTypeMatcher, true); 
     }
+
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeType(Set<String> scopeIds, String scopeType) {
+        return getListInBatches("selectVariableInstancesByScopeIdsAndScopeType", scopeIds, batch -> {
+            Map<String, Object> params = new HashMap<>(2);
+            params.put("scopeIds", batch);
+            params.put("scopeType", scopeType);
+            return params;
+        });
+    }
     
     @Override
     public VariableInstanceEntity findVariableInstanceByScopeIdAndScopeTypeAndName(String scopeId, String scopeType, String variableName) {
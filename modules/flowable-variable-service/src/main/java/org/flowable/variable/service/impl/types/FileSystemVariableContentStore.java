@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.variable.api.types.VariableContentStore;
+
+/**
+ * {@link VariableContentStore} that keeps every content in its own file in a root folder.
+ * Content is streamed from and to the files, it is never held in memory as a whole.
+ */
+public class FileSystemVariableContentStore implements VariableContentStore {
+
+    protected final Path rootFolder;
+
+    public FileSystemVariableContentStore(Path rootFolder) {
+        this.rootFolder = rootFolder;
+        try {
+            Files.createDirectories(rootFolder);
+        } catch (IOException e) {
+            throw new FlowableException("Could not create variable content folder " + rootFolder, e);
+        }
+    }
+
+    @Override
+    public String createContent(String variableName, InputStream content) {
+        String contentId = UUID.randomUUID().toString();
+        try {
+            Files.copy(content, rootFolder.resolve(contentId));
+        } catch (IOException e) {
+            throw new FlowableException("Could not store the content of variable '" + variableName + "'", e);
+        }
+        return contentId;
+    }
+
+    @Override
+    public InputStream getContent(String contentId) {
+        try {
+            return Files.newInputStream(rootFolder.resolve(contentId));
+        } catch (NoSuchFileException e) {
+            throw new FlowableObjectNotFoundException("No variable content found with id " + contentId, InputStream.class, e);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read variable content " + contentId, e);
+        }
+    }
+
+    @Override
+    public void deleteContent(String contentId) {
+        try {
+            Files.deleteIfExists(rootFolder.resolve(contentId));
+        } catch (IOException e) {
+            throw new FlowableException("Could not delete variable content " + contentId, e);
+        }
+    }
+
+    public Path getRootFolder() {
+        return rootFolder;
+    }
+
+}
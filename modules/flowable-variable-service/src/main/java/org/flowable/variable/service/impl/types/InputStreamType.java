@@ -0,0 +1,226 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableContentStore;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.history.InternalHistoryVariableManager;
+import org.flowable.variable.service.impl.util.CommandContextUtil;
+
+/**
+ * Variable type for {@link InputStream} values.
+ *
+ * When a {@link VariableContentStore} is configured, the stream is written to that store and only the id of the content is kept
+ * in the text field of the variable. Reading the variable returns a stream that only opens the stored content on its first read,
+ * so the content is neither fetched before it is actually consumed nor held in memory as a whole. Without a content store, the content is kept in a byte array,
+ * like for the {@link ByteArrayType}.
+ *
+ * Every read of the value returns a new stream, which has to be closed by the caller.
+ *
+ * Stored content is deleted together with the last entity referencing it. When historic variable updates are recorded for a variable,
+ * each of them owns the content of its value. Otherwise, replaced content is deleted right away and the current content is deleted
+ * with the historic variable instance, or with the runtime variable when no historic variable instance is kept.
+ * Content is never deleted by bulk deletes of variables or history (see {@link VariableContentStore}).
+ */
+public class InputStreamType implements VariableType {
+
+    public static final String TYPE_NAME = "stream";
+
+    private static final long serialVersionUID = 1L;
+
+    protected final VariableContentStore contentStore;
+
+    public InputStreamType() {
+        this(null);
+    }
+
+    public InputStreamType(VariableContentStore contentStore) {
+        this.contentStore = contentStore;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isCachable() {
+        // a stream can only be consumed once
+        return false;
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        return value instanceof InputStream;
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        String contentId = valueFields.getTextValue();
+        if (contentId != null) {
+            if (contentStore == null) {
+                throw new FlowableException("Variable '" + valueFields.getName() + "' references stored content, but no variable content store is configured");
+            }
+            return new LazyContentInputStream(contentStore, contentId);
+        }
+
+        byte[] bytes = valueFields.getBytes();
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        InputStream inputStream = (InputStream) value;
+        if (contentStore == null) {
+            valueFields.setBytes(inputStream != null ? IoUtil.readInputStream(inputStream, valueFields.getName()) : null);
+            return;
+        }
+
+        String previousContentId = valueFields.getTextValue();
+        String contentId = inputStream != null ? contentStore.createContent(valueFields.getName(), inputStream) : null;
+        valueFields.setTextValue(contentId);
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (contentId != null && transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, commandContext -> contentStore.deleteContent(contentId));
+        }
+
+        // a historic variable update still references the previous content
+        if (previousContentId != null && !isHistoricVariableUpdateRecorded(valueFields)) {
+            deleteContentAfterCommit(previousContentId);
+        }
+    }
+
+    /**
+     * Deletes the stored content of a deleted runtime variable, unless it is still referenced by the history of the variable.
+     */
+    public void deleteVariableContent(ValueFields variable) {
+        if (!isHistoricVariableInstanceRecorded(variable) && !isHistoricVariableUpdateRecorded(variable)) {
+            deleteContent(variable);
+        }
+    }
+
+    /**
+     * Deletes the stored content of a deleted historic variable instance, unless it is owned by a historic variable update.
+     */
+    public void deleteHistoricVariableContent(ValueFields historicVariable) {
+        if (!isHistoricVariableUpdateRecorded(historicVariable)) {
+            deleteContent(historicVariable);
+        }
+    }
+
+    /**
+     * Deletes the stored content of a deleted historic variable update.
+     */
+    public void deleteHistoricVariableUpdateContent(ValueFields historicVariableUpdate) {
+        deleteContent(historicVariableUpdate);
+    }
+
+    protected void deleteContent(ValueFields valueFields) {
+        String contentId = valueFields.getTextValue();
+        if (contentStore != null && contentId != null) {
+            deleteContentAfterCommit(contentId);
+        }
+    }
+
+    protected boolean isHistoricVariableInstanceRecorded(ValueFields valueFields) {
+        VariableServiceConfiguration variableServiceConfiguration = CommandContextUtil.getVariableServiceConfiguration();
+        InternalHistoryVariableManager historyVariableManager = variableServiceConfiguration.getInternalHistoryVariableManager();
+        if (historyVariableManager != null) {
+            return historyVariableManager.isHistoricVariableInstanceRecorded(valueFields);
+        }
+        return variableServiceConfiguration.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY);
+    }
+
+    protected boolean isHistoricVariableUpdateRecorded(ValueFields valueFields) {
+        VariableServiceConfiguration variableServiceConfiguration = CommandContextUtil.getVariableServiceConfiguration();
+        InternalHistoryVariableManager historyVariableManager = variableServiceConfiguration.getInternalHistoryVariableManager();
+        if (historyVariableManager != null) {
+            return historyVariableManager.isHistoricVariableUpdateRecorded(valueFields);
+        }
+        return variableServiceConfiguration.isHistoryLevelAtLeast(HistoryLevel.FULL);
+    }
+
+    protected void deleteContentAfterCommit(String contentId) {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> contentStore.deleteContent(contentId));
+        } else {
+            contentStore.deleteContent(contentId);
+        }
+    }
+
+    public VariableContentStore getContentStore() {
+        return contentStore;
+    }
+
+    protected static class LazyContentInputStream extends InputStream {
+
+        protected final VariableContentStore contentStore;
+        protected final String contentId;
+        protected InputStream content;
+
+        public LazyContentInputStream(VariableContentStore contentStore, String contentId) {
+            this.contentStore = contentStore;
+            this.contentId = contentId;
+        }
+
+        protected InputStream getContent() {
+            if (content == null) {
+                content = contentStore.getContent(contentId);
+            }
+            return content;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return getContent().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return getContent().read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return getContent().skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return content != null ? content.available() : 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (content != null) {
+                content.close();
+            }
+        }
+
+    }
+
+}